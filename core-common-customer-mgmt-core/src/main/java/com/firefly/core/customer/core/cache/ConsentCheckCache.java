@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.cache;
+
+import com.firefly.core.customer.models.entities.Consent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory cache of the consents each party currently grants, answering consent checks
+ * without touching the database.
+ * <p>
+ * Consent types and channels are numbered as they are first seen, and the granted (consent
+ * type, channel) pairs of a party are kept as a small sorted array of packed longs, the
+ * consent type in the high and the channel in the low 32 bits. Consents
+ * without a channel grant every channel. An entry stops being used when the earliest future
+ * revocation among its consents is reached. Local writes invalidate the party once they commit;
+ * the time to live bounds how long writes made on other nodes can go unnoticed.
+ * <p>
+ * Consents read from the database before an invalidation may only be cached after it if they
+ * are still current, so callers take a {@link #stamp()} before reading and pass it when loading;
+ * the entry is discarded if any invalidation happened in between.
+ */
+@Component
+public class ConsentCheckCache {
+
+    private static final int ANY_CHANNEL = 0;
+
+    private final Cache<UUID, GrantedConsents> cache;
+    private final Map<UUID, Integer> consentTypes = new ConcurrentHashMap<>();
+    private final Map<String, Integer> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger consentTypeCount = new AtomicInteger();
+    private final AtomicInteger channelCount = new AtomicInteger();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ConsentCheckCache(
+            @Value("${firefly.customer.consent.cache.max-size:1000000}") long maxSize,
+            @Value("${firefly.customer.consent.cache.ttl:PT30S}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Checks a consent against the cached consents of a party.
+     *
+     * @param partyId the unique identifier of the party
+     * @param consentTypeId the consent type to check
+     * @param channel the channel to check, or {@code null} to require a consent without a channel
+     * @return whether the consent is granted, or {@code null} if the party is not cached
+     */
+    public Boolean check(UUID partyId, UUID consentTypeId, String channel) {
+        GrantedConsents granted = cache.getIfPresent(partyId);
+        if (granted == null || System.currentTimeMillis() >= granted.validUntil()) {
+            return null;
+        }
+        return isGranted(granted, consentTypeId, channel);
+    }
+
+    /**
+     * Returns the current invalidation stamp, to be taken before reading consents from the database.
+     */
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * Caches the consents of a party, unless an invalidation happened since the stamp was taken,
+     * and checks a consent against them.
+     *
+     * @param partyId the unique identifier of the party
+     * @param consents the current consents of the party, one for each consent type and channel
+     * @param consentTypeId the consent type to check
+     * @param channel the channel to check, or {@code null} to require a consent without a channel
+     * @param stamp the stamp taken before the consents were read
+     * @return whether the consent is granted
+     */
+    public boolean load(UUID partyId, List<Consent> consents, UUID consentTypeId, String channel, long stamp) {
+        LocalDateTime now = LocalDateTime.now();
+        long[] keys = new long[consents.size()];
+        int size = 0;
+        long validUntil = Long.MAX_VALUE;
+        for (Consent consent : consents) {
+            if (!Boolean.TRUE.equals(consent.getGranted())
+                    || (consent.getRevokedAt() != null && !consent.getRevokedAt().isAfter(now))) {
+                continue;
+            }
+            if (consent.getRevokedAt() != null) {
+                validUntil = Math.min(validUntil,
+                        consent.getRevokedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            }
+            keys[size++] = key(consentTypes.computeIfAbsent(consent.getConsentTypeId(), ignored -> consentTypeCount.incrementAndGet()),
+                    channelOrdinal(consent.getChannel(), true));
+        }
+        long[] sorted = Arrays.copyOf(keys, size);
+        Arrays.sort(sorted);
+        GrantedConsents granted = new GrantedConsents(sorted, validUntil);
+        cache.put(partyId, granted);
+        // Checked after the put, so an invalidation racing with it either is seen here or removes the entry itself
+        if (invalidations.get() != stamp) {
+            cache.invalidate(partyId);
+        }
+        return isGranted(granted, consentTypeId, channel);
+    }
+
+    /**
+     * Drops the cached consents of a party.
+     */
+    public void invalidate(UUID partyId) {
+        invalidations.incrementAndGet();
+        cache.invalidate(partyId);
+    }
+
+    private boolean isGranted(GrantedConsents granted, UUID consentTypeId, String channel) {
+        Integer type = consentTypes.get(consentTypeId);
+        if (type == null || granted.keys().length == 0) {
+            return false;
+        }
+        if (Arrays.binarySearch(granted.keys(), key(type, ANY_CHANNEL)) >= 0) {
+            return true;
+        }
+        int ordinal = channelOrdinal(channel, false);
+        return ordinal > ANY_CHANNEL && Arrays.binarySearch(granted.keys(), key(type, ordinal)) >= 0;
+    }
+
+    private int channelOrdinal(String channel, boolean register) {
+        if (channel == null || channel.isBlank()) {
+            return ANY_CHANNEL;
+        }
+        String normalized = channel.trim().toLowerCase(Locale.ROOT);
+        Integer ordinal = register
+                ? channels.computeIfAbsent(normalized, ignored -> channelCount.incrementAndGet())
+                : channels.get(normalized);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    private static long key(int consentType, int channel) {
+        return (long) consentType << Integer.SIZE | channel;
+    }
+
+    private record GrantedConsents(long[] keys, long validUntil) {
+    }
+}
\ No newline at end of file
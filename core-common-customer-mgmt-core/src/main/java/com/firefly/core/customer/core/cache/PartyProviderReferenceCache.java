@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory cache in front of the (provider name, external reference) to party resolution.
+ * <p>
+ * Resolved references are cached as positive entries and unknown references as negative
+ * entries. Negative entries use a much shorter time to live so that a reference created on
+ * another node becomes resolvable quickly. Writes invalidate the affected keys once they commit,
+ * on this node directly and on the others through {@link PartyProviderReferenceListener}.
+ * <p>
+ * A resolution read from the database before an invalidation may only be cached after it if it
+ * is still current, so callers take a {@link #stamp()} before reading and pass it when caching;
+ * the entry is discarded if any invalidation happened in between.
+ */
+@Component
+public class PartyProviderReferenceCache {
+
+    private final Cache<Key, Entry> positive;
+    private final Cache<Key, Entry> negative;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PartyProviderReferenceCache(
+            @Value("${firefly.customer.party-provider.cache.max-size:100000}") long maxSize,
+            @Value("${firefly.customer.party-provider.cache.positive-ttl:PT10M}") Duration positiveTtl,
+            @Value("${firefly.customer.party-provider.cache.negative-ttl:PT30S}") Duration negativeTtl) {
+        this.positive = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(positiveTtl)
+                .build();
+        this.negative = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(negativeTtl)
+                .build();
+    }
+
+    /**
+     * Looks up a cached resolution.
+     *
+     * @param providerName the name of the external provider
+     * @param externalReference the reference of the party in the external provider
+     * @return the cached entry, or {@code null} if the reference has not been cached
+     */
+    public Entry lookup(String providerName, String externalReference) {
+        Key key = new Key(providerName, externalReference);
+        Entry entry = positive.getIfPresent(key);
+        return entry != null ? entry : negative.getIfPresent(key);
+    }
+
+    /**
+     * Returns the current invalidation stamp, to be taken before reading a resolution from the database.
+     */
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * Caches a reference that resolves to the given party, unless an invalidation happened since the stamp was taken.
+     */
+    public void putResolved(String providerName, String externalReference, UUID partyId, long stamp) {
+        Key key = new Key(providerName, externalReference);
+        negative.invalidate(key);
+        positive.put(key, new Entry(partyId));
+        // Checked after the put, so an invalidation racing with it either is seen here or removes the entry itself
+        if (invalidations.get() != stamp) {
+            positive.invalidate(key);
+        }
+    }
+
+    /**
+     * Caches a reference that does not resolve to any party, unless an invalidation happened since the stamp was taken.
+     */
+    public void putUnresolved(String providerName, String externalReference, long stamp) {
+        Key key = new Key(providerName, externalReference);
+        negative.put(key, Entry.UNRESOLVED);
+        if (invalidations.get() != stamp) {
+            negative.invalidate(key);
+        }
+    }
+
+    /**
+     * Removes any cached resolution of the given reference.
+     */
+    public void invalidate(String providerName, String externalReference) {
+        invalidations.incrementAndGet();
+        Key key = new Key(providerName, externalReference);
+        positive.invalidate(key);
+        negative.invalidate(key);
+    }
+
+    /**
+     * Removes all cached resolutions, for when invalidations from other nodes may have been missed.
+     */
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        positive.invalidateAll();
+        negative.invalidateAll();
+    }
+
+    private record Key(String providerName, String externalReference) {
+    }
+
+    /**
+     * A cached resolution; a {@code null} party ID denotes a cached miss.
+     */
+    public record Entry(UUID partyId) {
+
+        static final Entry UNRESOLVED = new Entry(null);
+
+        public boolean resolved() {
+            return partyId != null;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.cache;
+
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * Evicts party provider references changed on any node from the local {@link PartyProviderReferenceCache}.
+ * <p>
+ * Every party provider write sends a PostgreSQL notification on {@link #CHANNEL} with the affected
+ * reference. Notifications are only delivered once the sending transaction commits, so evicting on
+ * receipt cannot race with the write. The listener holds one connection; whenever it (re)starts
+ * listening the whole cache is cleared, as notifications sent while it was not listening are lost.
+ */
+@Slf4j
+@Component
+public class PartyProviderReferenceListener {
+
+    public static final String CHANNEL = "party_provider_reference";
+    // Separates the provider name from the external reference in a notification payload
+    public static final char SEPARATOR = '\u001F';
+
+    private final ConnectionFactory connectionFactory;
+    private final PartyProviderReferenceCache referenceCache;
+    private volatile Disposable listener;
+
+    public PartyProviderReferenceListener(ConnectionFactory connectionFactory, PartyProviderReferenceCache referenceCache) {
+        this.connectionFactory = connectionFactory;
+        this.referenceCache = referenceCache;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        listener = Flux.usingWhen(connectionFactory.create(), this::listen, Connection::close)
+                .doOnError(error -> log.warn("Lost the party provider reference notification connection, reconnecting", error))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe(this::evict);
+    }
+
+    @PreDestroy
+    public void stop() {
+        Disposable current = listener;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    private Flux<Notification> listen(Connection connection) {
+        PostgresqlConnection postgres = unwrap(connection);
+        Mono<Notification> subscribe = postgres.createStatement("LISTEN " + CHANNEL)
+                .execute()
+                .flatMap(PostgresqlResult::getRowsUpdated)
+                .then(Mono.fromRunnable(referenceCache::invalidateAll));
+        // Notifications are subscribed to before LISTEN is issued, so none sent after it are missed
+        return postgres.getNotifications()
+                .mergeWith(subscribe)
+                .concatWith(Flux.error(new IllegalStateException("Party provider reference notifications ended")));
+    }
+
+    private void evict(Notification notification) {
+        String payload = notification.getParameter();
+        int separator = payload == null ? -1 : payload.indexOf(SEPARATOR);
+        if (separator < 0) {
+            log.warn("Ignoring malformed party provider reference notification: {}", payload);
+            return;
+        }
+        referenceCache.invalidate(payload.substring(0, separator), payload.substring(separator + 1));
+    }
+
+    private static PostgresqlConnection unwrap(Connection connection) {
+        Object candidate = connection;
+        while (!(candidate instanceof PostgresqlConnection) && candidate instanceof Wrapped<?> wrapped) {
+            candidate = wrapped.unwrap();
+        }
+        if (candidate instanceof PostgresqlConnection postgres) {
+            return postgres;
+        }
+        throw new IllegalStateException("Party provider reference notifications require a PostgreSQL connection");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.consent;
+
+import com.firefly.core.customer.core.graph.UuidIntMap;
+import com.firefly.core.customer.models.entities.Consent;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of the parties currently granting each consent, used to evaluate campaign
+ * audiences in bulk.
+ * <p>
+ * Parties are numbered densely as they are first seen. For each consent type and channel the
+ * parties granting it are kept in a {@link PartyBitmap}, and so are the parties of each tenant,
+ * so an audience is a union and an intersection of compressed bitmaps. Consents without a
+ * channel grant every channel, as in the consent check. Consents revoked in the future are
+ * queued so the party can be re-read once the revocation takes effect.
+ * <p>
+ * Thread-safe: lookups share a read lock, changes take the write lock.
+ */
+final class ConsentAudienceIndex {
+
+    private static final int ANY_CHANNEL = 0;
+    private static final int CHANNEL_BITS = 16;
+    private static final int[] NO_GRANTS = new int[0];
+
+    /**
+     * A consent of a party that stops being granted at a future point in time.
+     */
+    record Revocation(LocalDateTime revokedAt, UUID partyId) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final UuidIntMap partyOrdinals = new UuidIntMap(1024);
+    private long[] partyMsb = new long[1024];
+    private long[] partyLsb = new long[1024];
+    private int[][] partyGrants = new int[1024][];
+    private int partyCount;
+
+    private final Map<UUID, Integer> consentTypes = new HashMap<>();
+    private final Map<String, Integer> channels = new HashMap<>();
+    private final Map<Integer, PartyBitmap> grants = new HashMap<>();
+    private final Map<UUID, PartyBitmap> tenants = new HashMap<>();
+    private final PriorityQueue<Revocation> revocations =
+            new PriorityQueue<>((first, second) -> first.revokedAt().compareTo(second.revokedAt()));
+
+    /**
+     * Records the tenant of a party.
+     */
+    void register(UUID partyId, UUID tenantId) {
+        lock.writeLock().lock();
+        try {
+            int ordinal = partyOrdinal(partyId);
+            if (tenantId != null) {
+                tenants.computeIfAbsent(tenantId, ignored -> new PartyBitmap()).add(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean isRegistered(UUID partyId) {
+        lock.readLock().lock();
+        try {
+            return partyOrdinals.get(partyId) != UuidIntMap.MISSING;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the consents a party grants.
+     *
+     * @param partyId the unique identifier of the party
+     * @param consents the current consents of the party, one for each consent type and channel
+     * @param now the point in time to evaluate revocations at
+     */
+    void put(UUID partyId, List<Consent> consents, LocalDateTime now) {
+        lock.writeLock().lock();
+        try {
+            int ordinal = partyOrdinal(partyId);
+            for (int key : partyGrants[ordinal]) {
+                PartyBitmap parties = grants.get(key);
+                parties.remove(ordinal);
+                if (parties.cardinality() == 0) {
+                    grants.remove(key);
+                }
+            }
+            int[] keys = new int[consents.size()];
+            int size = 0;
+            for (Consent consent : consents) {
+                if (!Boolean.TRUE.equals(consent.getGranted())
+                        || (consent.getRevokedAt() != null && !consent.getRevokedAt().isAfter(now))) {
+                    continue;
+                }
+                if (consent.getRevokedAt() != null) {
+                    revocations.add(new Revocation(consent.getRevokedAt(), partyId));
+                }
+                int key = key(consentType(consent.getConsentTypeId(), true), channelOrdinal(consent.getChannel(), true));
+                grants.computeIfAbsent(key, ignored -> new PartyBitmap()).add(ordinal);
+                keys[size++] = key;
+            }
+            partyGrants[ordinal] = size == 0 ? NO_GRANTS : Arrays.copyOf(keys, size);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Takes the revocations that have taken effect by a point in time off the queue.
+     *
+     * @return the parties to re-read, possibly with repetitions
+     */
+    List<UUID> takeRevoked(LocalDateTime now) {
+        lock.writeLock().lock();
+        try {
+            List<UUID> partyIds = new ArrayList<>();
+            while (!revocations.isEmpty() && !revocations.peek().revokedAt().isAfter(now)) {
+                partyIds.add(revocations.poll().partyId());
+            }
+            return partyIds;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the parties granting a consent type on a channel.
+     *
+     * @param consentTypeId the consent type
+     * @param channel the channel, or {@code null} to require a consent without a channel
+     * @return a new bitmap of the ordinals of those parties
+     */
+    PartyBitmap audience(UUID consentTypeId, String channel) {
+        lock.readLock().lock();
+        try {
+            PartyBitmap audience = new PartyBitmap();
+            int type = consentType(consentTypeId, false);
+            if (type < 0) {
+                return audience;
+            }
+            PartyBitmap anyChannel = grants.get(key(type, ANY_CHANNEL));
+            if (anyChannel != null) {
+                audience = audience.or(anyChannel);
+            }
+            int ordinal = channelOrdinal(channel, false);
+            PartyBitmap onChannel = ordinal > ANY_CHANNEL ? grants.get(key(type, ordinal)) : null;
+            return onChannel != null ? audience.or(onChannel) : audience;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Restricts an audience to the parties of a tenant.
+     *
+     * @return a new bitmap of the ordinals of the parties of the tenant in the audience
+     */
+    PartyBitmap ofTenant(PartyBitmap audience, UUID tenantId) {
+        lock.readLock().lock();
+        try {
+            PartyBitmap parties = tenants.get(tenantId);
+            return parties != null ? audience.and(parties) : new PartyBitmap();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Selects the candidates that are in an audience. Unknown parties grant nothing and are
+     * left out.
+     *
+     * @return the selected parties, in ordinal order
+     */
+    List<UUID> select(PartyBitmap audience, List<UUID> candidates) {
+        lock.readLock().lock();
+        try {
+            PartyBitmap known = new PartyBitmap();
+            for (UUID partyId : candidates) {
+                int ordinal = partyOrdinals.get(partyId);
+                if (ordinal != UuidIntMap.MISSING) {
+                    known.add(ordinal);
+                }
+            }
+            int[] selected = known.and(audience).toArray();
+            return toPartyIds(selected, 0, selected.length);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Translates a range of party ordinals back to party ids.
+     */
+    List<UUID> partyIds(int[] ordinals, int from, int to) {
+        lock.readLock().lock();
+        try {
+            return toPartyIds(ordinals, from, Math.min(to, ordinals.length));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int partyCount() {
+        lock.readLock().lock();
+        try {
+            return partyCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<UUID> toPartyIds(int[] ordinals, int from, int to) {
+        List<UUID> partyIds = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            partyIds.add(new UUID(partyMsb[ordinals[i]], partyLsb[ordinals[i]]));
+        }
+        return partyIds;
+    }
+
+    private int partyOrdinal(UUID partyId) {
+        int ordinal = partyOrdinals.get(partyId);
+        if (ordinal != UuidIntMap.MISSING) {
+            return ordinal;
+        }
+        if (partyCount == partyGrants.length) {
+            int capacity = partyCount * 2;
+            partyMsb = Arrays.copyOf(partyMsb, capacity);
+            partyLsb = Arrays.copyOf(partyLsb, capacity);
+            partyGrants = Arrays.copyOf(partyGrants, capacity);
+        }
+        ordinal = partyCount++;
+        partyOrdinals.put(partyId, ordinal);
+        partyMsb[ordinal] = partyId.getMostSignificantBits();
+        partyLsb[ordinal] = partyId.getLeastSignificantBits();
+        partyGrants[ordinal] = NO_GRANTS;
+        return ordinal;
+    }
+
+    private int consentType(UUID consentTypeId, boolean register) {
+        Integer ordinal = register
+                ? consentTypes.computeIfAbsent(consentTypeId, ignored -> consentTypes.size() + 1)
+                : consentTypes.get(consentTypeId);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    private int channelOrdinal(String channel, boolean register) {
+        if (channel == null || channel.isBlank()) {
+            return ANY_CHANNEL;
+        }
+        String normalized = channel.trim().toLowerCase(Locale.ROOT);
+        Integer ordinal = register
+                ? channels.computeIfAbsent(normalized, ignored -> channels.size() + 1)
+                : channels.get(normalized);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    private static int key(int consentType, int channel) {
+        return consentType << CHANNEL_BITS | channel;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.consent;
+
+import com.firefly.core.customer.core.index.RebuildableIndexer;
+import com.firefly.core.customer.models.entities.Consent;
+import com.firefly.core.customer.models.repositories.ConsentRepository;
+import com.firefly.core.customer.models.repositories.PartyRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maintains the in-memory {@link ConsentAudienceIndex} and evaluates campaign audiences against it.
+ * <p>
+ * The index is built from the party and consent tables once the application is ready and rebuilt
+ * on a fixed interval. In between, the consent write paths refresh the parties they changed, and
+ * parties whose consents are revoked at a future point in time are refreshed once that point has
+ * passed.
+ */
+@Slf4j
+@Component
+public class ConsentAudienceIndexer extends RebuildableIndexer<ConsentAudienceIndex> {
+
+    static final int CHUNK_SIZE = 10_000;
+
+    private final ConsentRepository consentRepository;
+    private final PartyRepository partyRepository;
+    private final Duration revocationCheck;
+    private volatile Disposable revoker;
+
+    public ConsentAudienceIndexer(
+            ConsentRepository consentRepository,
+            PartyRepository partyRepository,
+            @Value("${firefly.customer.consent.audience.rebuild-interval:PT15M}") Duration rebuildInterval,
+            @Value("${firefly.customer.consent.audience.revocation-check:PT1M}") Duration revocationCheck) {
+        super("consent audience index", rebuildInterval, new ConsentAudienceIndex());
+        this.consentRepository = consentRepository;
+        this.partyRepository = partyRepository;
+        this.revocationCheck = revocationCheck;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        startRebuilding();
+        revoker = Flux.interval(revocationCheck, revocationCheck, Schedulers.boundedElastic())
+                .concatMap(i -> refresh(index().takeRevoked(LocalDateTime.now()))
+                        .onErrorResume(error -> {
+                            log.error("Failed to apply revoked consents to the consent audience index", error);
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopRebuilding();
+        Disposable current = revoker;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    /**
+     * Selects the parties of a stream that grant a consent type on a channel. The candidates are
+     * evaluated in chunks, so the stream can be arbitrarily long.
+     *
+     * @param consentTypeId the consent type
+     * @param channel the channel, or {@code null} to require a consent without a channel
+     * @param candidates the parties to evaluate
+     * @return a Flux of the eligible candidates, in index order within each chunk
+     */
+    public Flux<UUID> select(UUID consentTypeId, String channel, Flux<UUID> candidates) {
+        return Flux.defer(() -> {
+            ConsentAudienceIndex current = index();
+            PartyBitmap audience = current.audience(consentTypeId, channel);
+            return candidates.buffer(CHUNK_SIZE)
+                    .concatMapIterable(chunk -> current.select(audience, chunk));
+        });
+    }
+
+    /**
+     * Lists the parties of a tenant that grant a consent type on a channel.
+     *
+     * @param tenantId the tenant
+     * @param consentTypeId the consent type
+     * @param channel the channel, or {@code null} to require a consent without a channel
+     * @return a Flux of the eligible parties, in index order
+     */
+    public Flux<UUID> tenantAudience(UUID tenantId, UUID consentTypeId, String channel) {
+        return Flux.defer(() -> {
+            ConsentAudienceIndex current = index();
+            int[] ordinals = current.ofTenant(current.audience(consentTypeId, channel), tenantId).toArray();
+            return Flux.range(0, (ordinals.length + CHUNK_SIZE - 1) / CHUNK_SIZE)
+                    .concatMapIterable(chunk -> current.partyIds(ordinals, chunk * CHUNK_SIZE, (chunk + 1) * CHUNK_SIZE));
+        });
+    }
+
+    @Override
+    protected Mono<ConsentAudienceIndex> build(ConsentAudienceIndex previous) {
+        ConsentAudienceIndex built = new ConsentAudienceIndex();
+        return partyRepository.findAll()
+                .doOnNext(party -> built.register(party.getPartyId(), party.getTenantId()))
+                .thenMany(consentRepository.streamOrderedByParty())
+                .bufferUntilChanged(Consent::getPartyId)
+                .doOnNext(consents -> built.put(consents.get(0).getPartyId(), consents, LocalDateTime.now()))
+                .then(Mono.just(built));
+    }
+
+    @Override
+    protected int size(ConsentAudienceIndex index) {
+        return index.partyCount();
+    }
+
+    @Override
+    protected Mono<Void> reread(UUID[] partyIds) {
+        return Flux.fromArray(partyIds)
+                .concatMap(this::rereadParty)
+                .then();
+    }
+
+    private Mono<Void> rereadParty(UUID partyId) {
+        return consentRepository.findByPartyId(partyId)
+                .collectList()
+                .flatMap(consents -> index().isRegistered(partyId)
+                        ? Mono.fromRunnable(() -> put(partyId, null, consents))
+                        : partyRepository.findById(partyId)
+                                .doOnNext(party -> put(partyId, party.getTenantId(), consents))
+                                .then());
+    }
+
+    private void put(UUID partyId, UUID tenantId, List<Consent> consents) {
+        apply(new UUID[]{partyId}, current -> {
+            if (tenantId != null) {
+                current.register(partyId, tenantId);
+            }
+            current.put(partyId, consents, LocalDateTime.now());
+        });
+    }
+}
\ No newline at end of file
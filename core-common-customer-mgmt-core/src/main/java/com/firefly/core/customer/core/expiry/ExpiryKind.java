@@ -0,0 +1,28 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.expiry;
+
+/**
+ * The kinds of records the expiry sweeper brings in line with their end dates.
+ */
+public enum ExpiryKind {
+    PARTY_RELATIONSHIP,
+    PARTY_GROUP_MEMBERSHIP,
+    POLITICALLY_EXPOSED_PERSON,
+    IDENTITY_DOCUMENT
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.expiry;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published after the expiry sweeper has handled a record whose end date passed: a relationship
+ * or group membership made inactive, a PEP record no longer flagged as PEP, or an identity
+ * document past its expiry date.
+ *
+ * @param kind the kind of record that expired
+ * @param recordId the unique identifier of the record
+ * @param partyId the party the record belongs to; the from party for relationships
+ * @param expiredAt the end date of the record
+ */
+public record TemporalExpiryEvent(ExpiryKind kind, UUID recordId, UUID partyId, LocalDateTime expiredAt) {
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.expiry;
+
+import com.firefly.core.customer.core.services.TemporalExpiryService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Continuously expires relationships, group memberships, PEP records and identity documents
+ * whose end dates have passed.
+ * <p>
+ * Every interval, each kind of record is swept in batches of a bounded size, with a pause
+ * between batches, until a batch comes back short. Events are published once the transaction
+ * of their batch has committed. Sweeps on several nodes skip each other's rows instead of
+ * waiting on them, so every node can run the sweeper.
+ */
+@Slf4j
+@Component
+public class TemporalExpirySweeper {
+
+    private final TemporalExpiryService expiryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration interval;
+    private final Duration batchPause;
+    private final int batchSize;
+    private volatile Disposable sweeper;
+
+    public TemporalExpirySweeper(
+            TemporalExpiryService expiryService,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${firefly.customer.expiry.interval:PT1M}") Duration interval,
+            @Value("${firefly.customer.expiry.batch-pause:PT0.1S}") Duration batchPause,
+            @Value("${firefly.customer.expiry.batch-size:500}") int batchSize) {
+        this.expiryService = expiryService;
+        this.eventPublisher = eventPublisher;
+        this.interval = interval;
+        this.batchPause = batchPause;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        sweeper = Flux.interval(interval, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> Flux.fromArray(ExpiryKind.values())
+                        .concatMap(this::sweep), 1)
+                .subscribe(null, error -> log.error("Expiry sweeper stopped", error));
+    }
+
+    @PreDestroy
+    public void stop() {
+        Disposable current = sweeper;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    /**
+     * Expires records of one kind in batches until none are left.
+     *
+     * @return a Mono emitting the number of records expired
+     */
+    Mono<Long> sweep(ExpiryKind kind) {
+        return Mono.defer(() -> expiryService.expireBatch(kind, batchSize).collectList())
+                .doOnNext(events -> events.forEach(eventPublisher::publishEvent))
+                .map(List::size)
+                .repeatWhen(completed -> completed.delayElements(batchPause))
+                .takeUntil(expired -> expired < batchSize)
+                .reduce(0L, Long::sum)
+                .doOnNext(expired -> {
+                    if (expired > 0) {
+                        log.info("Expired {} records of kind {}", expired, kind);
+                    }
+                })
+                .onErrorResume(error -> {
+                    log.error("Failed to expire records of kind {}", kind, error);
+                    return Mono.just(0L);
+                });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.graph;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Union-find over parties, computing the connected components of the relationship graph in a
+ * single pass over its relationships. Union by size with path halving keeps the pass effectively
+ * linear. Parties are kept as primitive arrays indexed by a dense ordinal.
+ * <p>
+ * Each component is identified by its smallest party id, so that two passes over the same
+ * relationships label the components identically whatever order they were read in.
+ * Not thread-safe.
+ */
+final class PartyComponents {
+
+    private final UuidIntMap ordinals;
+    private long[] msb;
+    private long[] lsb;
+    private int[] parent;
+    private int[] size;
+    private int count;
+    private int[] smallest;
+
+    PartyComponents(int expectedParties) {
+        int capacity = Math.max(16, expectedParties);
+        ordinals = new UuidIntMap(capacity);
+        msb = new long[capacity];
+        lsb = new long[capacity];
+        parent = new int[capacity];
+        size = new int[capacity];
+    }
+
+    /**
+     * Records that two parties are connected.
+     */
+    void union(UUID firstPartyId, UUID secondPartyId) {
+        int first = find(ordinal(firstPartyId));
+        int second = find(ordinal(secondPartyId));
+        if (first == second) {
+            return;
+        }
+        if (size[first] < size[second]) {
+            int swap = first;
+            first = second;
+            second = swap;
+        }
+        parent[second] = first;
+        size[first] += size[second];
+        smallest = null;
+    }
+
+    int partyCount() {
+        return count;
+    }
+
+    UUID partyId(int ordinal) {
+        return new UUID(msb[ordinal], lsb[ordinal]);
+    }
+
+    /**
+     * Returns the id of the component of the party with the given ordinal, which is the smallest
+     * party id in the component.
+     */
+    UUID componentId(int ordinal) {
+        if (smallest == null) {
+            computeSmallest();
+        }
+        int member = smallest[find(ordinal)];
+        return new UUID(msb[member], lsb[member]);
+    }
+
+    private void computeSmallest() {
+        int[] result = new int[count];
+        Arrays.fill(result, -1);
+        for (int ordinal = 0; ordinal < count; ordinal++) {
+            int root = find(ordinal);
+            if (result[root] < 0 || isBefore(ordinal, result[root])) {
+                result[root] = ordinal;
+            }
+        }
+        smallest = result;
+    }
+
+    private boolean isBefore(int first, int second) {
+        int byMsb = Long.compareUnsigned(msb[first], msb[second]);
+        return byMsb < 0 || (byMsb == 0 && Long.compareUnsigned(lsb[first], lsb[second]) < 0);
+    }
+
+    private int ordinal(UUID partyId) {
+        int ordinal = ordinals.get(partyId);
+        if (ordinal != UuidIntMap.MISSING) {
+            return ordinal;
+        }
+        if (count == parent.length) {
+            int capacity = count * 2;
+            msb = Arrays.copyOf(msb, capacity);
+            lsb = Arrays.copyOf(lsb, capacity);
+            parent = Arrays.copyOf(parent, capacity);
+            size = Arrays.copyOf(size, capacity);
+        }
+        ordinal = count++;
+        ordinals.put(partyId, ordinal);
+        msb[ordinal] = partyId.getMostSignificantBits();
+        lsb[ordinal] = partyId.getLeastSignificantBits();
+        parent[ordinal] = ordinal;
+        size[ordinal] = 1;
+        smallest = null;
+        return ordinal;
+    }
+
+    private int find(int ordinal) {
+        while (parent[ordinal] != ordinal) {
+            parent[ordinal] = parent[parent[ordinal]];
+            ordinal = parent[ordinal];
+        }
+        return ordinal;
+    }
+}
\ No newline at end of file
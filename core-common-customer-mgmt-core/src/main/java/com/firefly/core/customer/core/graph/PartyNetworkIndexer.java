@@ -0,0 +1,218 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.graph;
+
+import com.firefly.core.customer.models.entities.PartyRelationship;
+import com.firefly.core.customer.models.repositories.PartyNetworkComponentRepository;
+import com.firefly.core.customer.models.repositories.PartyRelationshipRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Maintains the assignment of parties to the connected components of the relationship graph.
+ * <p>
+ * Until a build has completed, every node periodically tries to start one; the database lets
+ * one node build at a time and hands the build to another node once its heartbeat stops. A
+ * build writes the result of a union-find pass over the current relationships in batches.
+ * Links and unlinks made meanwhile are recorded by the database and replayed over the result
+ * before the build is marked complete, the remainder while writers are blocked.
+ * <p>
+ * From then on the relationship write paths call {@link #apply(PartyRelationship, PartyRelationship)}
+ * from within their own reactive chain, so components are joined in the same transaction as
+ * the change. Unlinks only queue a split check, which the same periodic task runs in batches,
+ * as finding out whether a component fell apart walks all of it. Each change locks only the
+ * components it touches.
+ */
+@Slf4j
+@Component
+public class PartyNetworkIndexer {
+
+    private final PartyNetworkComponentRepository repository;
+    private final PartyRelationshipRepository relationshipRepository;
+    private final int batchSize;
+    private final int splitBatchSize;
+    private final Duration interval;
+    private final Duration expireAfter;
+    private final Counter completed;
+    private final Counter failed;
+    private volatile Disposable maintenance;
+
+    public PartyNetworkIndexer(
+            PartyNetworkComponentRepository repository,
+            PartyRelationshipRepository relationshipRepository,
+            MeterRegistry meterRegistry,
+            @Value("${firefly.customer.party-network.batch-size:1000}") int batchSize,
+            @Value("${firefly.customer.party-network.split-batch-size:100}") int splitBatchSize,
+            @Value("${firefly.customer.party-network.interval:PT5S}") Duration interval,
+            @Value("${firefly.customer.party-network.expire-after:PT10M}") Duration expireAfter) {
+        this.repository = repository;
+        this.relationshipRepository = relationshipRepository;
+        this.batchSize = Math.max(1, batchSize);
+        this.splitBatchSize = Math.max(1, splitBatchSize);
+        this.interval = interval;
+        this.expireAfter = expireAfter;
+        this.completed = Counter.builder("customer.party-network.build.completed")
+                .description("Party network component builds completed")
+                .register(meterRegistry);
+        this.failed = Counter.builder("customer.party-network.build.failed")
+                .description("Party network component builds that failed and were abandoned")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        maintenance = Flux.interval(Duration.ZERO, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> maintain()
+                        .onErrorResume(error -> {
+                            log.warn("Failed to maintain the party network components", error);
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        // A build cut short here stops touching its heartbeat and is taken over by another node
+        Disposable current = maintenance;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    /**
+     * Runs the queued split checks once a build has completed, or tries to start one otherwise.
+     */
+    Mono<Void> maintain() {
+        return repository.isBuilt()
+                .flatMap(built -> built
+                        ? runSplits()
+                        : repository.beginBuild(expireAfter.toSeconds())
+                                .filter(Boolean::booleanValue)
+                                .flatMap(started -> build()));
+    }
+
+    /**
+     * Runs split checks until a pass finds less than a full batch.
+     */
+    private Mono<Void> runSplits() {
+        return repository.runSplits(splitBatchSize)
+                .expand(ran -> ran < splitBatchSize ? Mono.empty() : repository.runSplits(splitBatchSize))
+                .then();
+    }
+
+    /**
+     * Computes the components of all current relationships, writes them out, replays the
+     * changes made meanwhile and marks the build complete. A failed build is abandoned so
+     * that the next attempt starts over.
+     */
+    Mono<Void> build() {
+        log.info("Building party network components");
+        PartyComponents components = new PartyComponents(1024);
+        return relationshipRepository.findAll()
+                .filter(PartyRelationshipGraphIndexer::isCurrent)
+                .doOnNext(relationship -> components.union(relationship.getFromPartyId(), relationship.getToPartyId()))
+                .then(Mono.defer(() -> Flux.range(0, (components.partyCount() + batchSize - 1) / batchSize)
+                        .concatMap(batch -> {
+                            int from = batch * batchSize;
+                            int to = Math.min(from + batchSize, components.partyCount());
+                            UUID[] partyIds = new UUID[to - from];
+                            UUID[] componentIds = new UUID[to - from];
+                            for (int ordinal = from; ordinal < to; ordinal++) {
+                                partyIds[ordinal - from] = components.partyId(ordinal);
+                                componentIds[ordinal - from] = components.componentId(ordinal);
+                            }
+                            return repository.fillComponents(partyIds, componentIds);
+                        })
+                        .reduce(0, Integer::sum)))
+                .flatMap(assigned -> catchUp()
+                        .then(repository.finishBuild())
+                        .doOnSuccess(ignored -> {
+                            completed.increment();
+                            log.info("Assigned {} parties to network components", assigned);
+                        }))
+                .onErrorResume(error -> {
+                    failed.increment();
+                    log.error("Failed to build the party network components", error);
+                    return repository.abortBuild();
+                });
+    }
+
+    /**
+     * Replays recorded changes until a pass finds less than a full batch, leaving only a
+     * small remainder for the finish, which blocks writers while it runs.
+     */
+    private Mono<Void> catchUp() {
+        return repository.catchUpBuild(batchSize)
+                .expand(replayed -> replayed < batchSize ? Mono.empty() : repository.catchUpBuild(batchSize))
+                .then();
+    }
+
+    /**
+     * Brings the components in line with a relationship write. Either side may be {@code null}
+     * for a create or a delete. A split check is queued where the previous version of the
+     * relationship stopped connecting its parties, then the components are joined where the new
+     * one connects them.
+     *
+     * @param before the relationship before the write, or {@code null} if it was created
+     * @param after the relationship after the write, or {@code null} if it was deleted
+     * @return a Mono that completes when the components have been updated
+     */
+    public Mono<Void> apply(PartyRelationship before, PartyRelationship after) {
+        boolean wasLinked = before != null && PartyRelationshipGraphIndexer.isCurrent(before);
+        boolean isLinked = after != null && PartyRelationshipGraphIndexer.isCurrent(after);
+        boolean sameEnds = wasLinked && isLinked
+                && Objects.equals(before.getFromPartyId(), after.getFromPartyId())
+                && Objects.equals(before.getToPartyId(), after.getToPartyId());
+        if (sameEnds) {
+            return Mono.empty();
+        }
+        Mono<Void> unlink = wasLinked
+                ? repository.unlink(before.getFromPartyId(), before.getToPartyId())
+                : Mono.empty();
+        Mono<Void> link = isLinked
+                ? repository.link(after.getFromPartyId(), after.getToPartyId())
+                : Mono.empty();
+        return unlink.then(link);
+    }
+
+    /**
+     * Queues a split check where a relationship stopped connecting its parties because its end
+     * date passed. {@link #apply(PartyRelationship, PartyRelationship)} cannot tell this from the
+     * relationship alone, as it no longer counts as current before or after.
+     *
+     * @param relationship the relationship that expired
+     * @return a Mono that completes when the split check has been queued
+     */
+    public Mono<Void> expire(PartyRelationship relationship) {
+        return repository.unlink(relationship.getFromPartyId(), relationship.getToPartyId());
+    }
+}
\ No newline at end of file
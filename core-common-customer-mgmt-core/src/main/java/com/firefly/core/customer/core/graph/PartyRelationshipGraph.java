@@ -0,0 +1,570 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Compact in-memory index of the party relationship graph, answering connectivity questions
+ * in microseconds without touching the database.
+ * <p>
+ * Parties are mapped to dense int ordinals and the adjacency is stored in compressed sparse
+ * row (CSR) form: {@code offsets[p]..offsets[p + 1]} delimits the neighbours of ordinal
+ * {@code p} in {@code neighbours}. Relationships are treated as undirected connections.
+ * <p>
+ * Writes update a primitive edge table under a lock and mark the graph dirty; {@link #publish()}
+ * makes them visible through a new immutable snapshot, so readers never lock and always see a
+ * consistent graph. A snapshot shares the CSR arrays of the last compaction and overlays the
+ * adjacency of the parties changed since, so publishing costs in proportion to the changes.
+ * Once the changes since the last compaction outgrow a fraction of the graph, the next publish
+ * compacts the edge table into new CSR arrays with a counting sort instead. Callers decide how
+ * often to publish.
+ * <p>
+ * While a bulk load is running, relationships written through {@link #putRelationship} and
+ * {@link #removeRelationship} take precedence over the possibly older loaded ones.
+ */
+public final class PartyRelationshipGraph {
+
+    private static final int NO_PARTY = -1;
+    private static final int REMOVED = -2;
+    private static final int MIN_COMPACTION_CHANGES = 4096;
+
+    private final Object lock = new Object();
+
+    // Writer state, guarded by lock
+    private final UuidIntMap partyOrdinals = new UuidIntMap(1024);
+    private long[] partyMsb = new long[1024];
+    private long[] partyLsb = new long[1024];
+    private int partyCount;
+
+    private final UuidIntMap relationshipSlots = new UuidIntMap(1024);
+    private int[] edgeFrom = new int[1024];
+    private int[] edgeTo = new int[1024];
+    private int edgeSlotCount;
+    private int[] freeSlots = new int[64];
+    private int freeSlotCount;
+    private int relationshipCount;
+    private boolean dirty;
+
+    // Current adjacency of the parties changed since the last compaction, dropped once the
+    // changes outgrow the compaction threshold since the next publish compacts anyway
+    private final Map<Integer, Adjacency> changedAdjacency = new HashMap<>();
+    private final Set<Integer> changedSincePublish = new HashSet<>();
+    private int changesSinceCompaction;
+    private boolean compactionDue;
+
+    // Relationships written while a bulk load is running
+    private UuidIntMap writtenDuringLoad;
+
+    private Snapshot compacted = Snapshot.EMPTY;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * Adds a relationship, or moves it if its parties changed.
+     */
+    public void putRelationship(UUID relationshipId, UUID fromPartyId, UUID toPartyId) {
+        synchronized (lock) {
+            recordWriteDuringLoad(relationshipId);
+            put(relationshipId, fromPartyId, toPartyId);
+        }
+    }
+
+    /**
+     * Removes a relationship; unknown relationships are ignored.
+     */
+    public void removeRelationship(UUID relationshipId) {
+        synchronized (lock) {
+            recordWriteDuringLoad(relationshipId);
+            int slot = relationshipSlots.get(relationshipId);
+            if (slot < 0) {
+                return;
+            }
+            unlink(edgeFrom[slot], edgeTo[slot]);
+            relationshipSlots.put(relationshipId, REMOVED);
+            edgeFrom[slot] = NO_PARTY;
+            edgeTo[slot] = NO_PARTY;
+            if (freeSlotCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+            }
+            freeSlots[freeSlotCount++] = slot;
+            relationshipCount--;
+            dirty = true;
+        }
+    }
+
+    /**
+     * Starts a bulk load. Until {@link #endLoad()}, relationships written through
+     * {@link #putRelationship} or {@link #removeRelationship} are remembered and later loaded
+     * rows for them are ignored, since they may predate the write.
+     */
+    public void beginLoad() {
+        synchronized (lock) {
+            writtenDuringLoad = new UuidIntMap(64);
+        }
+    }
+
+    /**
+     * Adds a relationship read by the bulk load, unless it was written since the load began.
+     *
+     * @return {@code true} if the relationship was added
+     */
+    public boolean loadRelationship(UUID relationshipId, UUID fromPartyId, UUID toPartyId) {
+        synchronized (lock) {
+            if (writtenDuringLoad != null && writtenDuringLoad.get(relationshipId) != UuidIntMap.MISSING) {
+                return false;
+            }
+            put(relationshipId, fromPartyId, toPartyId);
+            return true;
+        }
+    }
+
+    /**
+     * Ends the bulk load.
+     */
+    public void endLoad() {
+        synchronized (lock) {
+            writtenDuringLoad = null;
+        }
+    }
+
+    /**
+     * Makes all writes so far visible to queries.
+     *
+     * @return {@code true} if there were unpublished writes
+     */
+    public boolean publish() {
+        synchronized (lock) {
+            if (!dirty) {
+                return false;
+            }
+            if (compactionDue) {
+                compact();
+            } else {
+                publishOverlay();
+            }
+            dirty = false;
+            return true;
+        }
+    }
+
+    /**
+     * Finds a shortest chain of relationships between two parties using a bidirectional
+     * breadth-first search over the published graph.
+     *
+     * @param fromPartyId the party to start from
+     * @param toPartyId the party to reach
+     * @param maxHops the maximum number of relationships in the chain
+     * @return the parties along the path including both ends, or an empty list if the
+     *         parties are not connected within {@code maxHops}
+     */
+    public List<UUID> shortestPath(UUID fromPartyId, UUID toPartyId, int maxHops) {
+        return snapshot.shortestPath(fromPartyId, toPartyId, maxHops);
+    }
+
+    /**
+     * Lists the parties reachable from a party within a number of hops, nearest first.
+     *
+     * @param partyId the party to start from
+     * @param hops the maximum number of relationships to follow
+     * @param limit the maximum number of parties to return
+     * @return the reachable parties, excluding the starting party
+     */
+    public List<UUID> neighborhood(UUID partyId, int hops, int limit) {
+        return snapshot.neighborhood(partyId, hops, limit);
+    }
+
+    /**
+     * Returns the number of relationships in the published graph.
+     */
+    public int relationshipCount() {
+        return snapshot.relationshipCount;
+    }
+
+    private void recordWriteDuringLoad(UUID relationshipId) {
+        if (writtenDuringLoad != null) {
+            writtenDuringLoad.put(relationshipId, 0);
+        }
+    }
+
+    private void put(UUID relationshipId, UUID fromPartyId, UUID toPartyId) {
+        int from = ordinalOf(fromPartyId);
+        int to = ordinalOf(toPartyId);
+        int slot = relationshipSlots.get(relationshipId);
+        if (slot >= 0) {
+            if (edgeFrom[slot] == from && edgeTo[slot] == to) {
+                return;
+            }
+            unlink(edgeFrom[slot], edgeTo[slot]);
+        } else {
+            slot = freeSlotCount > 0 ? freeSlots[--freeSlotCount] : nextEdgeSlot();
+            relationshipSlots.put(relationshipId, slot);
+            relationshipCount++;
+        }
+        edgeFrom[slot] = from;
+        edgeTo[slot] = to;
+        link(from, to);
+        dirty = true;
+    }
+
+    private void link(int from, int to) {
+        if (countChange()) {
+            adjacencyOf(from).add(to);
+            adjacencyOf(to).add(from);
+        }
+    }
+
+    private void unlink(int from, int to) {
+        if (countChange()) {
+            adjacencyOf(from).removeOne(to);
+            adjacencyOf(to).removeOne(from);
+        }
+    }
+
+    /**
+     * Counts a change since the last compaction.
+     *
+     * @return {@code false} once a compaction is due and the overlay is no longer maintained
+     */
+    private boolean countChange() {
+        if (compactionDue) {
+            return false;
+        }
+        if (++changesSinceCompaction > Math.max(MIN_COMPACTION_CHANGES, relationshipCount / 8)) {
+            compactionDue = true;
+            changedAdjacency.clear();
+            changedSincePublish.clear();
+            return false;
+        }
+        return true;
+    }
+
+    private Adjacency adjacencyOf(int ordinal) {
+        changedSincePublish.add(ordinal);
+        return changedAdjacency.computeIfAbsent(ordinal, compacted::adjacencyCopy);
+    }
+
+    private void publishOverlay() {
+        Map<Integer, int[]> patches = new HashMap<>(snapshot.patches);
+        for (Integer ordinal : changedSincePublish) {
+            patches.put(ordinal, changedAdjacency.get(ordinal).toArray());
+        }
+        changedSincePublish.clear();
+        int basePartyCount = compacted.basePartyCount;
+        UuidIntMap addedOrdinals = new UuidIntMap(partyCount - basePartyCount);
+        for (int ordinal = basePartyCount; ordinal < partyCount; ordinal++) {
+            addedOrdinals.put(new UUID(partyMsb[ordinal], partyLsb[ordinal]), ordinal);
+        }
+        snapshot = new Snapshot(compacted.ordinals, compacted.partyMsb, compacted.partyLsb,
+                compacted.offsets, compacted.neighbours, addedOrdinals,
+                Arrays.copyOfRange(partyMsb, basePartyCount, partyCount),
+                Arrays.copyOfRange(partyLsb, basePartyCount, partyCount),
+                patches, relationshipCount);
+    }
+
+    private void compact() {
+        int[] offsets = new int[partyCount + 1];
+        for (int slot = 0; slot < edgeSlotCount; slot++) {
+            if (edgeFrom[slot] != NO_PARTY) {
+                offsets[edgeFrom[slot] + 1]++;
+                offsets[edgeTo[slot] + 1]++;
+            }
+        }
+        for (int p = 0; p < partyCount; p++) {
+            offsets[p + 1] += offsets[p];
+        }
+        int[] neighbours = new int[offsets[partyCount]];
+        int[] cursor = Arrays.copyOf(offsets, partyCount);
+        for (int slot = 0; slot < edgeSlotCount; slot++) {
+            int from = edgeFrom[slot];
+            if (from != NO_PARTY) {
+                int to = edgeTo[slot];
+                neighbours[cursor[from]++] = to;
+                neighbours[cursor[to]++] = from;
+            }
+        }
+        compacted = new Snapshot(partyOrdinals.copy(), Arrays.copyOf(partyMsb, partyCount),
+                Arrays.copyOf(partyLsb, partyCount), offsets, neighbours, null, null, null,
+                Map.of(), relationshipCount);
+        snapshot = compacted;
+        changedAdjacency.clear();
+        changedSincePublish.clear();
+        changesSinceCompaction = 0;
+        compactionDue = false;
+    }
+
+    private int ordinalOf(UUID partyId) {
+        int ordinal = partyOrdinals.get(partyId);
+        if (ordinal >= 0) {
+            return ordinal;
+        }
+        if (partyCount == partyMsb.length) {
+            partyMsb = Arrays.copyOf(partyMsb, partyCount * 2);
+            partyLsb = Arrays.copyOf(partyLsb, partyCount * 2);
+        }
+        ordinal = partyCount++;
+        partyMsb[ordinal] = partyId.getMostSignificantBits();
+        partyLsb[ordinal] = partyId.getLeastSignificantBits();
+        partyOrdinals.put(partyId, ordinal);
+        return ordinal;
+    }
+
+    private int nextEdgeSlot() {
+        if (edgeSlotCount == edgeFrom.length) {
+            edgeFrom = Arrays.copyOf(edgeFrom, edgeSlotCount * 2);
+            edgeTo = Arrays.copyOf(edgeTo, edgeSlotCount * 2);
+        }
+        return edgeSlotCount++;
+    }
+
+    /**
+     * Growable list of the neighbours of one party, kept by the writer for changed parties.
+     */
+    private static final class Adjacency {
+
+        private int[] items;
+        private int size;
+
+        Adjacency(int[] items) {
+            this.items = items.length == 0 ? new int[4] : items;
+            this.size = items.length;
+        }
+
+        void add(int ordinal) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = ordinal;
+        }
+
+        void removeOne(int ordinal) {
+            for (int i = 0; i < size; i++) {
+                if (items[i] == ordinal) {
+                    items[i] = items[--size];
+                    return;
+                }
+            }
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(items, size);
+        }
+    }
+
+    /**
+     * Immutable view of the graph at the time it was published: the CSR arrays of the last
+     * compaction, the parties added since, and the full adjacency of the parties changed since.
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new UuidIntMap(16), new long[0], new long[0],
+                new int[1], new int[0], null, null, null, Map.of(), 0);
+
+        private final UuidIntMap ordinals;
+        private final long[] partyMsb;
+        private final long[] partyLsb;
+        private final int[] offsets;
+        private final int[] neighbours;
+        private final int basePartyCount;
+        private final UuidIntMap addedOrdinals;
+        private final long[] addedMsb;
+        private final long[] addedLsb;
+        private final Map<Integer, int[]> patches;
+        private final int relationshipCount;
+
+        Snapshot(UuidIntMap ordinals, long[] partyMsb, long[] partyLsb, int[] offsets, int[] neighbours,
+                 UuidIntMap addedOrdinals, long[] addedMsb, long[] addedLsb, Map<Integer, int[]> patches,
+                 int relationshipCount) {
+            this.ordinals = ordinals;
+            this.partyMsb = partyMsb;
+            this.partyLsb = partyLsb;
+            this.offsets = offsets;
+            this.neighbours = neighbours;
+            this.basePartyCount = partyMsb.length;
+            this.addedOrdinals = addedOrdinals;
+            this.addedMsb = addedMsb;
+            this.addedLsb = addedLsb;
+            this.patches = patches;
+            this.relationshipCount = relationshipCount;
+        }
+
+        /**
+         * Copies the compacted adjacency of a party, as the starting point for changing it.
+         */
+        Adjacency adjacencyCopy(int ordinal) {
+            return ordinal < basePartyCount
+                    ? new Adjacency(Arrays.copyOfRange(neighbours, offsets[ordinal], offsets[ordinal + 1]))
+                    : new Adjacency(new int[0]);
+        }
+
+        List<UUID> shortestPath(UUID fromPartyId, UUID toPartyId, int maxHops) {
+            int source = ordinalOf(fromPartyId);
+            int target = ordinalOf(toPartyId);
+            if (source < 0 || target < 0) {
+                return Collections.emptyList();
+            }
+            if (source == target) {
+                return List.of(fromPartyId);
+            }
+            // Each side records the parent of every visited ordinal; the roots are their own parent
+            IntIntMap forwardParents = new IntIntMap(64);
+            IntIntMap backwardParents = new IntIntMap(64);
+            forwardParents.putIfAbsent(source, source);
+            backwardParents.putIfAbsent(target, target);
+            int[] forward = {source};
+            int[] backward = {target};
+            int forwardSize = 1;
+            int backwardSize = 1;
+            for (int hops = 0; hops < maxHops && forwardSize > 0 && backwardSize > 0; hops++) {
+                boolean expandForward = frontierCost(forward, forwardSize) <= frontierCost(backward, backwardSize);
+                int[] frontier = expandForward ? forward : backward;
+                int frontierSize = expandForward ? forwardSize : backwardSize;
+                IntIntMap parents = expandForward ? forwardParents : backwardParents;
+                IntIntMap otherParents = expandForward ? backwardParents : forwardParents;
+
+                int[] next = new int[Math.max(16, frontierSize)];
+                int nextSize = 0;
+                for (int i = 0; i < frontierSize; i++) {
+                    int node = frontier[i];
+                    int[] patch = patchOf(node);
+                    int[] adjacency = patch != null ? patch : neighbours;
+                    for (int e = start(node, patch), end = end(node, patch); e < end; e++) {
+                        int neighbour = adjacency[e];
+                        if (!parents.putIfAbsent(neighbour, node)) {
+                            continue;
+                        }
+                        if (otherParents.containsKey(neighbour)) {
+                            return path(neighbour, forwardParents, backwardParents);
+                        }
+                        if (nextSize == next.length) {
+                            next = Arrays.copyOf(next, nextSize * 2);
+                        }
+                        next[nextSize++] = neighbour;
+                    }
+                }
+                if (expandForward) {
+                    forward = next;
+                    forwardSize = nextSize;
+                } else {
+                    backward = next;
+                    backwardSize = nextSize;
+                }
+            }
+            return Collections.emptyList();
+        }
+
+        List<UUID> neighborhood(UUID partyId, int hops, int limit) {
+            int start = ordinalOf(partyId);
+            if (start < 0 || limit <= 0) {
+                return Collections.emptyList();
+            }
+            List<UUID> reached = new ArrayList<>();
+            IntIntMap visited = new IntIntMap(64);
+            visited.putIfAbsent(start, 0);
+            int[] frontier = {start};
+            int frontierSize = 1;
+            for (int depth = 1; depth <= hops && frontierSize > 0; depth++) {
+                int[] next = new int[Math.max(16, frontierSize)];
+                int nextSize = 0;
+                for (int i = 0; i < frontierSize; i++) {
+                    int node = frontier[i];
+                    int[] patch = patchOf(node);
+                    int[] adjacency = patch != null ? patch : neighbours;
+                    for (int e = start(node, patch), end = end(node, patch); e < end; e++) {
+                        int neighbour = adjacency[e];
+                        if (!visited.putIfAbsent(neighbour, depth)) {
+                            continue;
+                        }
+                        reached.add(partyId(neighbour));
+                        if (reached.size() == limit) {
+                            return reached;
+                        }
+                        if (nextSize == next.length) {
+                            next = Arrays.copyOf(next, nextSize * 2);
+                        }
+                        next[nextSize++] = neighbour;
+                    }
+                }
+                frontier = next;
+                frontierSize = nextSize;
+            }
+            return reached;
+        }
+
+        /**
+         * Number of adjacency entries a frontier would scan, used to expand the cheaper side first.
+         */
+        private long frontierCost(int[] frontier, int size) {
+            long cost = 0;
+            for (int i = 0; i < size; i++) {
+                int[] patch = patchOf(frontier[i]);
+                cost += end(frontier[i], patch) - start(frontier[i], patch);
+            }
+            return cost;
+        }
+
+        private int[] patchOf(int node) {
+            return patches.isEmpty() ? null : patches.get(node);
+        }
+
+        private int start(int node, int[] patch) {
+            return patch != null || node >= basePartyCount ? 0 : offsets[node];
+        }
+
+        private int end(int node, int[] patch) {
+            if (patch != null) {
+                return patch.length;
+            }
+            return node >= basePartyCount ? 0 : offsets[node + 1];
+        }
+
+        private int ordinalOf(UUID partyId) {
+            int ordinal = ordinals.get(partyId);
+            return ordinal < 0 && addedOrdinals != null ? addedOrdinals.get(partyId) : ordinal;
+        }
+
+        private List<UUID> path(int meeting, IntIntMap forwardParents, IntIntMap backwardParents) {
+            List<UUID> path = new ArrayList<>();
+            for (int node = meeting; ; node = forwardParents.get(node)) {
+                path.add(partyId(node));
+                if (forwardParents.get(node) == node) {
+                    break;
+                }
+            }
+            Collections.reverse(path);
+            for (int node = meeting; backwardParents.get(node) != node; ) {
+                node = backwardParents.get(node);
+                path.add(partyId(node));
+            }
+            return path;
+        }
+
+        private UUID partyId(int ordinal) {
+            return ordinal < basePartyCount
+                    ? new UUID(partyMsb[ordinal], partyLsb[ordinal])
+                    : new UUID(addedMsb[ordinal - basePartyCount], addedLsb[ordinal - basePartyCount]);
+        }
+    }
+}
\ No newline at end of file
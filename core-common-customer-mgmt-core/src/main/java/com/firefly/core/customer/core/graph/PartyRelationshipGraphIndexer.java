@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.graph;
+
+import com.firefly.core.customer.core.index.RebuildableIndexer;
+import com.firefly.core.customer.models.entities.PartyRelationship;
+import com.firefly.core.customer.models.repositories.PartyRelationshipRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Maintains the in-memory party relationship graph.
+ * <p>
+ * The graph is rebuilt from the database on a fixed interval, which picks up relationships
+ * written on other nodes, and in between the relationship write paths refresh the relationships
+ * they changed once their transaction has committed, so rolled back writes never reach it. The
+ * graph is keyed by relationship rather than by party, so refreshes re-read relationships by id.
+ * Only active relationships that have not ended are indexed. Writes become visible to queries at
+ * the next publish, which runs on a fixed interval.
+ * <p>
+ * Every publish first drops the relationships whose end date has passed. Each node does this
+ * from the end dates it indexed, so relationships expire on every node at the same time
+ * whichever node runs the expiry sweep.
+ */
+@Slf4j
+@Component
+public class PartyRelationshipGraphIndexer extends RebuildableIndexer<PartyRelationshipGraphIndexer.IndexedGraph> {
+
+    private final PartyRelationshipRepository repository;
+    private final Duration publishInterval;
+    private volatile Disposable publisher;
+
+    public PartyRelationshipGraphIndexer(
+            PartyRelationshipRepository repository,
+            @Value("${firefly.customer.relationship-graph.publish-interval:PT1S}") Duration publishInterval,
+            @Value("${firefly.customer.relationship-graph.rebuild-interval:PT15M}") Duration rebuildInterval) {
+        super("party relationship graph", rebuildInterval, new IndexedGraph());
+        this.repository = repository;
+        this.publishInterval = publishInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        startRebuilding();
+        publisher = Flux.interval(publishInterval)
+                .subscribe(tick -> publish());
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopRebuilding();
+        Disposable current = publisher;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    /**
+     * @see PartyRelationshipGraph#shortestPath(UUID, UUID, int)
+     */
+    public List<UUID> shortestPath(UUID fromPartyId, UUID toPartyId, int maxHops) {
+        return index().graph.shortestPath(fromPartyId, toPartyId, maxHops);
+    }
+
+    /**
+     * @see PartyRelationshipGraph#neighborhood(UUID, int, int)
+     */
+    public List<UUID> neighborhood(UUID partyId, int hops, int limit) {
+        return index().graph.neighborhood(partyId, hops, limit);
+    }
+
+    /**
+     * Drops the relationships that ended since the last publish, then publishes.
+     */
+    void publish() {
+        IndexedGraph current = index();
+        // Taken with the lock refreshes are applied under, so the end dates change together with the graph
+        synchronized (this) {
+            current.expire(LocalDateTime.now());
+        }
+        current.graph.publish();
+    }
+
+    @Override
+    protected Mono<IndexedGraph> build(IndexedGraph previous) {
+        IndexedGraph built = new IndexedGraph();
+        return repository.findAll()
+                .filter(PartyRelationshipGraphIndexer::isCurrent)
+                .doOnNext(built::put)
+                .then(Mono.fromCallable(() -> {
+                    built.expire(LocalDateTime.now());
+                    built.graph.publish();
+                    return built;
+                }));
+    }
+
+    @Override
+    protected int size(IndexedGraph index) {
+        return index.graph.relationshipCount();
+    }
+
+    @Override
+    protected Mono<Void> reread(UUID[] relationshipIds) {
+        return repository.findAllById(Arrays.asList(relationshipIds))
+                .collectMap(PartyRelationship::getPartyRelationshipId)
+                .doOnNext(relationships -> apply(relationshipIds, current -> {
+                    for (UUID relationshipId : relationshipIds) {
+                        PartyRelationship relationship = relationships.get(relationshipId);
+                        if (relationship != null && isCurrent(relationship)) {
+                            current.put(relationship);
+                        } else {
+                            current.remove(relationshipId);
+                        }
+                    }
+                }))
+                .then();
+    }
+
+    static boolean isCurrent(PartyRelationship relationship) {
+        return Boolean.TRUE.equals(relationship.getActive())
+                && (relationship.getEndDate() == null || relationship.getEndDate().isAfter(LocalDateTime.now()));
+    }
+
+    /**
+     * The graph together with the end dates of the relationships it indexes. Not thread-safe.
+     */
+    static final class IndexedGraph {
+
+        private final PartyRelationshipGraph graph = new PartyRelationshipGraph();
+        // End dates of the indexed relationships, and the same ordered by end date
+        private final Map<UUID, LocalDateTime> endDates = new HashMap<>();
+        private final PriorityQueue<Ending> endings = new PriorityQueue<>(Comparator.comparing(Ending::endDate));
+
+        void put(PartyRelationship relationship) {
+            graph.putRelationship(relationship.getPartyRelationshipId(),
+                    relationship.getFromPartyId(), relationship.getToPartyId());
+            trackEnd(relationship.getPartyRelationshipId(), relationship.getEndDate());
+        }
+
+        void remove(UUID relationshipId) {
+            graph.removeRelationship(relationshipId);
+            trackEnd(relationshipId, null);
+        }
+
+        void expire(LocalDateTime now) {
+            for (Ending ending = endings.peek(); ending != null && !ending.endDate().isAfter(now); ending = endings.peek()) {
+                endings.poll();
+                // Skip endings superseded by a later write to the relationship
+                if (endDates.remove(ending.relationshipId(), ending.endDate())) {
+                    graph.removeRelationship(ending.relationshipId());
+                }
+            }
+        }
+
+        private void trackEnd(UUID relationshipId, LocalDateTime endDate) {
+            if (endDate == null) {
+                endDates.remove(relationshipId);
+            } else if (!endDate.equals(endDates.put(relationshipId, endDate))) {
+                endings.add(new Ending(relationshipId, endDate));
+            }
+        }
+    }
+
+    private record Ending(UUID relationshipId, LocalDateTime endDate) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,497 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.graph;
+
+import com.firefly.core.customer.interfaces.enums.SharedAttributeKind;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory bipartite index between normalized attribute values and the parties they were
+ * recorded for, used to find parties that share contact details or identity documents.
+ * <p>
+ * Values are kept only as 64-bit hashes of their kind and normalized text, and parties,
+ * values and the records linking them as dense ordinals in primitive arrays. Each record is
+ * an entry on two doubly linked lists threaded through those arrays: the parties of its value
+ * and the values of its party. Adding or removing a record is therefore O(1), and fan-out is
+ * walked without allocating per entry.
+ * <p>
+ * Thread-safe: lookups share a read lock, changes take the write lock.
+ */
+final class SharedAttributeIndex {
+
+    /**
+     * A value of a party that is also recorded for other parties.
+     *
+     * @param kind the kind of attribute
+     * @param partyIds the other parties, up to the requested limit
+     * @param truncated whether more parties share the value than were returned
+     */
+    record Link(SharedAttributeKind kind, List<UUID> partyIds, boolean truncated) {
+    }
+
+    /**
+     * A group of parties connected through shared values.
+     *
+     * @param partyIds the parties in the group
+     * @param kinds the kinds of attribute that connect them
+     * @param sharedValues the number of distinct values shared within the group
+     */
+    record Cluster(List<UUID> partyIds, Set<SharedAttributeKind> kinds, int sharedValues) {
+    }
+
+    private static final int NONE = -1;
+    private static final int REMOVED = -2;
+    private static final SharedAttributeKind[] KINDS = SharedAttributeKind.values();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final UuidIntMap partyOrdinals = new UuidIntMap(1024);
+    private long[] partyMsb = new long[1024];
+    private long[] partyLsb = new long[1024];
+    private int[] partyHead = new int[1024];
+    private int partyCount;
+
+    private final LongIntMap valueOrdinals = new LongIntMap(1024);
+    private byte[] valueKind = new byte[1024];
+    private int[] valueHead = new int[1024];
+    private int valueCount;
+
+    private final UuidIntMap recordEntries = new UuidIntMap(1024);
+    private int[] entryValue = new int[1024];
+    private int[] entryParty = new int[1024];
+    private int[] entryNextInValue = new int[1024];
+    private int[] entryPrevInValue = new int[1024];
+    private int[] entryNextOfParty = new int[1024];
+    private int[] entryPrevOfParty = new int[1024];
+    private long[] entryRecordMsb = new long[1024];
+    private long[] entryRecordLsb = new long[1024];
+    private int entryCount;
+    private int freeEntry = NONE;
+    private int recordCount;
+
+    private UuidIntMap writtenDuringLoad;
+
+    /**
+     * Indexes the value of a record, replacing what the record held before. A {@code null}
+     * value only removes the record.
+     *
+     * @param recordId the unique identifier of the contact or document record
+     * @param partyId the party the record belongs to
+     * @param kind the kind of attribute
+     * @param value the normalized value, or {@code null}
+     * @param limit the maximum number of other parties to report
+     * @return the other parties now sharing the value, or {@code null} if there are none
+     */
+    Link put(UUID recordId, UUID partyId, SharedAttributeKind kind, String value, int limit) {
+        lock.writeLock().lock();
+        try {
+            if (writtenDuringLoad != null) {
+                writtenDuringLoad.put(recordId, 0);
+            }
+            return add(recordId, partyId, kind, value, limit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a record from the index, if present.
+     */
+    void remove(UUID recordId) {
+        lock.writeLock().lock();
+        try {
+            if (writtenDuringLoad != null) {
+                writtenDuringLoad.put(recordId, 0);
+            }
+            removeRecord(recordId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every record of a party, if any.
+     */
+    void removeParty(UUID partyId) {
+        lock.writeLock().lock();
+        try {
+            int party = partyOrdinals.get(partyId);
+            if (party == UuidIntMap.MISSING) {
+                return;
+            }
+            while (partyHead[party] != NONE) {
+                int entry = partyHead[party];
+                UUID recordId = new UUID(entryRecordMsb[entry], entryRecordLsb[entry]);
+                if (writtenDuringLoad != null) {
+                    writtenDuringLoad.put(recordId, 0);
+                }
+                removeRecord(recordId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Starts a bulk load. Until {@link #endLoad()}, records written through {@link #put} or
+     * {@link #remove} are remembered and later loaded rows for them are ignored, since they
+     * may predate the write.
+     */
+    void beginLoad() {
+        lock.writeLock().lock();
+        try {
+            writtenDuringLoad = new UuidIntMap(64);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes a record read by the bulk load, unless it was written since the load began.
+     */
+    void load(UUID recordId, UUID partyId, SharedAttributeKind kind, String value) {
+        lock.writeLock().lock();
+        try {
+            if (writtenDuringLoad != null && writtenDuringLoad.get(recordId) != UuidIntMap.MISSING) {
+                return;
+            }
+            add(recordId, partyId, kind, value, 0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ends the bulk load.
+     */
+    void endLoad() {
+        lock.writeLock().lock();
+        try {
+            writtenDuringLoad = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Lists the values of a party that are also recorded for other parties.
+     *
+     * @param partyId the unique identifier of the party
+     * @param limit the maximum number of other parties to report per value
+     * @return one link per shared value
+     */
+    List<Link> linksOf(UUID partyId, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Link> links = new ArrayList<>();
+            int partyOrdinal = partyOrdinals.get(partyId);
+            if (partyOrdinal == UuidIntMap.MISSING) {
+                return links;
+            }
+            IntIntMap seenValues = new IntIntMap(16);
+            for (int entry = partyHead[partyOrdinal]; entry != NONE; entry = entryNextOfParty[entry]) {
+                if (seenValues.putIfAbsent(entryValue[entry], 0)) {
+                    Link link = linkOf(entryValue[entry], partyOrdinal, limit);
+                    if (link != null) {
+                        links.add(link);
+                    }
+                }
+            }
+            return links;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Groups parties that are connected, directly or through other parties, by shared values.
+     * Values shared by more than {@code maxFanOut} parties, such as a switchboard number or a
+     * registered agent's address, connect too many unrelated parties and are ignored.
+     *
+     * @param minSize the minimum number of parties in a reported cluster
+     * @param maxFanOut the maximum number of parties a value may be shared by to connect them
+     * @param limit the maximum number of clusters to report
+     * @return the largest clusters, largest first
+     */
+    List<Cluster> clusters(int minSize, int maxFanOut, int limit) {
+        lock.readLock().lock();
+        try {
+            int[] parent = new int[partyCount];
+            int[] size = new int[partyCount];
+            for (int party = 0; party < partyCount; party++) {
+                parent[party] = party;
+                size[party] = 1;
+            }
+            int[] stamp = new int[partyCount];
+            Arrays.fill(stamp, NONE);
+            int[] valueFirstParty = new int[valueCount];
+            for (int value = 0; value < valueCount; value++) {
+                valueFirstParty[value] = NONE;
+                int distinct = 0;
+                for (int entry = valueHead[value]; entry != NONE && distinct <= maxFanOut; entry = entryNextInValue[entry]) {
+                    if (stamp[entryParty[entry]] != value) {
+                        stamp[entryParty[entry]] = value;
+                        distinct++;
+                    }
+                }
+                if (distinct < 2 || distinct > maxFanOut) {
+                    continue;
+                }
+                int first = entryParty[valueHead[value]];
+                valueFirstParty[value] = first;
+                for (int entry = entryNextInValue[valueHead[value]]; entry != NONE; entry = entryNextInValue[entry]) {
+                    union(parent, size, first, entryParty[entry]);
+                }
+            }
+
+            int[] sharedValues = new int[partyCount];
+            int[] kindMask = new int[partyCount];
+            for (int value = 0; value < valueCount; value++) {
+                if (valueFirstParty[value] != NONE) {
+                    int root = find(parent, valueFirstParty[value]);
+                    sharedValues[root]++;
+                    kindMask[root] |= 1 << valueKind[value];
+                }
+            }
+            List<Integer> roots = new ArrayList<>();
+            for (int party = 0; party < partyCount; party++) {
+                if (parent[party] == party && sharedValues[party] > 0 && size[party] >= minSize) {
+                    roots.add(party);
+                }
+            }
+            roots.sort((first, second) -> Integer.compare(size[second], size[first]));
+            List<Integer> reported = roots.subList(0, Math.min(limit, roots.size()));
+
+            IntIntMap clusterOfRoot = new IntIntMap(reported.size());
+            List<List<UUID>> members = new ArrayList<>(reported.size());
+            for (int root : reported) {
+                clusterOfRoot.putIfAbsent(root, members.size());
+                members.add(new ArrayList<>(size[root]));
+            }
+            for (int party = 0; party < partyCount && !reported.isEmpty(); party++) {
+                int cluster = clusterOfRoot.get(find(parent, party));
+                if (cluster >= 0) {
+                    members.get(cluster).add(new UUID(partyMsb[party], partyLsb[party]));
+                }
+            }
+            List<Cluster> clusters = new ArrayList<>(reported.size());
+            for (int i = 0; i < reported.size(); i++) {
+                int root = reported.get(i);
+                Set<SharedAttributeKind> kinds = EnumSet.noneOf(SharedAttributeKind.class);
+                for (SharedAttributeKind kind : KINDS) {
+                    if ((kindMask[root] & (1 << kind.ordinal())) != 0) {
+                        kinds.add(kind);
+                    }
+                }
+                clusters.add(new Cluster(members.get(i), kinds, sharedValues[root]));
+            }
+            return clusters;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int recordCount() {
+        lock.readLock().lock();
+        try {
+            return recordCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Link add(UUID recordId, UUID partyId, SharedAttributeKind kind, String value, int limit) {
+        removeRecord(recordId);
+        if (value == null || partyId == null) {
+            return null;
+        }
+        int valueOrdinal = valueOrdinal(kind, value);
+        int partyOrdinal = partyOrdinal(partyId);
+        int entry = allocateEntry();
+        entryValue[entry] = valueOrdinal;
+        entryParty[entry] = partyOrdinal;
+        entryRecordMsb[entry] = recordId.getMostSignificantBits();
+        entryRecordLsb[entry] = recordId.getLeastSignificantBits();
+        entryPrevInValue[entry] = NONE;
+        entryNextInValue[entry] = valueHead[valueOrdinal];
+        if (valueHead[valueOrdinal] != NONE) {
+            entryPrevInValue[valueHead[valueOrdinal]] = entry;
+        }
+        valueHead[valueOrdinal] = entry;
+        entryPrevOfParty[entry] = NONE;
+        entryNextOfParty[entry] = partyHead[partyOrdinal];
+        if (partyHead[partyOrdinal] != NONE) {
+            entryPrevOfParty[partyHead[partyOrdinal]] = entry;
+        }
+        partyHead[partyOrdinal] = entry;
+        recordEntries.put(recordId, entry);
+        recordCount++;
+        return limit > 0 ? linkOf(valueOrdinal, partyOrdinal, limit) : null;
+    }
+
+    private Link linkOf(int valueOrdinal, int partyOrdinal, int limit) {
+        List<UUID> partyIds = new ArrayList<>();
+        IntIntMap seenParties = new IntIntMap(16);
+        seenParties.putIfAbsent(partyOrdinal, 0);
+        boolean truncated = false;
+        for (int entry = valueHead[valueOrdinal]; entry != NONE; entry = entryNextInValue[entry]) {
+            int other = entryParty[entry];
+            if (seenParties.putIfAbsent(other, 0)) {
+                if (partyIds.size() == limit) {
+                    truncated = true;
+                    break;
+                }
+                partyIds.add(new UUID(partyMsb[other], partyLsb[other]));
+            }
+        }
+        return partyIds.isEmpty() ? null : new Link(KINDS[valueKind[valueOrdinal]], partyIds, truncated);
+    }
+
+    private void removeRecord(UUID recordId) {
+        int entry = recordEntries.get(recordId);
+        if (entry < 0) {
+            return;
+        }
+        int value = entryValue[entry];
+        if (entryPrevInValue[entry] != NONE) {
+            entryNextInValue[entryPrevInValue[entry]] = entryNextInValue[entry];
+        } else {
+            valueHead[value] = entryNextInValue[entry];
+        }
+        if (entryNextInValue[entry] != NONE) {
+            entryPrevInValue[entryNextInValue[entry]] = entryPrevInValue[entry];
+        }
+        int party = entryParty[entry];
+        if (entryPrevOfParty[entry] != NONE) {
+            entryNextOfParty[entryPrevOfParty[entry]] = entryNextOfParty[entry];
+        } else {
+            partyHead[party] = entryNextOfParty[entry];
+        }
+        if (entryNextOfParty[entry] != NONE) {
+            entryPrevOfParty[entryNextOfParty[entry]] = entryPrevOfParty[entry];
+        }
+        entryNextInValue[entry] = freeEntry;
+        freeEntry = entry;
+        recordEntries.put(recordId, REMOVED);
+        recordCount--;
+    }
+
+    private int allocateEntry() {
+        if (freeEntry != NONE) {
+            int entry = freeEntry;
+            freeEntry = entryNextInValue[entry];
+            return entry;
+        }
+        if (entryCount == entryValue.length) {
+            int capacity = entryCount * 2;
+            entryValue = Arrays.copyOf(entryValue, capacity);
+            entryParty = Arrays.copyOf(entryParty, capacity);
+            entryNextInValue = Arrays.copyOf(entryNextInValue, capacity);
+            entryPrevInValue = Arrays.copyOf(entryPrevInValue, capacity);
+            entryNextOfParty = Arrays.copyOf(entryNextOfParty, capacity);
+            entryPrevOfParty = Arrays.copyOf(entryPrevOfParty, capacity);
+            entryRecordMsb = Arrays.copyOf(entryRecordMsb, capacity);
+            entryRecordLsb = Arrays.copyOf(entryRecordLsb, capacity);
+        }
+        return entryCount++;
+    }
+
+    private int partyOrdinal(UUID partyId) {
+        int ordinal = partyOrdinals.get(partyId);
+        if (ordinal != UuidIntMap.MISSING) {
+            return ordinal;
+        }
+        if (partyCount == partyHead.length) {
+            int capacity = partyCount * 2;
+            partyMsb = Arrays.copyOf(partyMsb, capacity);
+            partyLsb = Arrays.copyOf(partyLsb, capacity);
+            partyHead = Arrays.copyOf(partyHead, capacity);
+        }
+        ordinal = partyCount++;
+        partyOrdinals.put(partyId, ordinal);
+        partyMsb[ordinal] = partyId.getMostSignificantBits();
+        partyLsb[ordinal] = partyId.getLeastSignificantBits();
+        partyHead[ordinal] = NONE;
+        return ordinal;
+    }
+
+    private int valueOrdinal(SharedAttributeKind kind, String value) {
+        long key = keyOf(kind, value);
+        int ordinal = valueOrdinals.get(key);
+        if (ordinal != LongIntMap.MISSING) {
+            return ordinal;
+        }
+        if (valueCount == valueHead.length) {
+            int capacity = valueCount * 2;
+            valueKind = Arrays.copyOf(valueKind, capacity);
+            valueHead = Arrays.copyOf(valueHead, capacity);
+        }
+        ordinal = valueCount++;
+        valueOrdinals.put(key, ordinal);
+        valueKind[ordinal] = (byte) kind.ordinal();
+        valueHead[ordinal] = NONE;
+        return ordinal;
+    }
+
+    /**
+     * 64-bit FNV-1a over the kind and the characters of the value, finished with the
+     * MurmurHash3 mixer. Distinct values collide with negligible probability at any book size.
+     */
+    static long keyOf(SharedAttributeKind kind, String value) {
+        long hash = 0xCBF29CE484222325L ^ kind.ordinal();
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private static int find(int[] parent, int party) {
+        while (parent[party] != party) {
+            parent[party] = parent[parent[party]];
+            party = parent[party];
+        }
+        return party;
+    }
+
+    private static void union(int[] parent, int[] size, int first, int second) {
+        int firstRoot = find(parent, first);
+        int secondRoot = find(parent, second);
+        if (firstRoot == secondRoot) {
+            return;
+        }
+        if (size[firstRoot] < size[secondRoot]) {
+            int swap = firstRoot;
+            firstRoot = secondRoot;
+            secondRoot = swap;
+        }
+        parent[secondRoot] = firstRoot;
+        size[firstRoot] += size[secondRoot];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.graph;
+
+import com.firefly.core.customer.core.index.RebuildableIndexer;
+import com.firefly.core.customer.core.transaction.AfterCommit;
+import com.firefly.core.customer.interfaces.dtos.SharedAttributeClusterDTO;
+import com.firefly.core.customer.interfaces.dtos.SharedAttributeLinkDTO;
+import com.firefly.core.customer.interfaces.enums.SharedAttributeKind;
+import com.firefly.core.customer.models.entities.Address;
+import com.firefly.core.customer.models.entities.EmailContact;
+import com.firefly.core.customer.models.entities.IdentityDocument;
+import com.firefly.core.customer.models.entities.PhoneContact;
+import com.firefly.core.customer.models.repositories.AddressRepository;
+import com.firefly.core.customer.models.repositories.EmailContactRepository;
+import com.firefly.core.customer.models.repositories.IdentityDocumentRepository;
+import com.firefly.core.customer.models.repositories.PhoneContactRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Maintains the in-memory index of contact details and identity documents shared between parties.
+ * <p>
+ * The index is rebuilt from the e-mail, phone, address and identity document tables on a fixed
+ * interval, which picks up rows written on other nodes, and in between it is kept up to date by
+ * their write paths once their writes commit. Party deletes re-read the party, which drops the
+ * rows removed by the cascade. When a write gives a party a value that other parties already
+ * have, a {@link SharedAttributeLinkEvent} is published.
+ */
+@Slf4j
+@Component
+public class SharedAttributeIndexer extends RebuildableIndexer<SharedAttributeIndex> {
+
+    private final EmailContactRepository emailContactRepository;
+    private final PhoneContactRepository phoneContactRepository;
+    private final AddressRepository addressRepository;
+    private final IdentityDocumentRepository identityDocumentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxFanOut;
+
+    public SharedAttributeIndexer(
+            EmailContactRepository emailContactRepository,
+            PhoneContactRepository phoneContactRepository,
+            AddressRepository addressRepository,
+            IdentityDocumentRepository identityDocumentRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${firefly.customer.shared-attributes.max-fan-out:1000}") int maxFanOut,
+            @Value("${firefly.customer.shared-attributes.rebuild-interval:PT15M}") Duration rebuildInterval) {
+        super("shared attribute index", rebuildInterval, new SharedAttributeIndex());
+        this.emailContactRepository = emailContactRepository;
+        this.phoneContactRepository = phoneContactRepository;
+        this.addressRepository = addressRepository;
+        this.identityDocumentRepository = identityDocumentRepository;
+        this.eventPublisher = eventPublisher;
+        this.maxFanOut = Math.max(2, maxFanOut);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        startRebuilding();
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopRebuilding();
+    }
+
+    /**
+     * Indexes a created or updated e-mail contact once the current transaction commits.
+     */
+    public Mono<Void> index(EmailContact email) {
+        return check(email.getEmailContactId(), email.getPartyId(), SharedAttributeKind.EMAIL,
+                SharedAttributeKeys.email(email.getEmail()));
+    }
+
+    /**
+     * Indexes a created or updated phone contact once the current transaction commits.
+     */
+    public Mono<Void> index(PhoneContact phone) {
+        return check(phone.getPhoneContactId(), phone.getPartyId(), SharedAttributeKind.PHONE,
+                SharedAttributeKeys.phone(phone.getPhoneNumber()));
+    }
+
+    /**
+     * Indexes a created or updated address once the current transaction commits.
+     */
+    public Mono<Void> index(Address address) {
+        return check(address.getAddressId(), address.getPartyId(), SharedAttributeKind.ADDRESS,
+                SharedAttributeKeys.address(address));
+    }
+
+    /**
+     * Indexes a created or updated identity document once the current transaction commits.
+     */
+    public Mono<Void> index(IdentityDocument document) {
+        return check(document.getIdentityDocumentId(), document.getPartyId(), SharedAttributeKind.IDENTITY_DOCUMENT,
+                SharedAttributeKeys.identityDocument(document));
+    }
+
+    /**
+     * Drops a deleted contact or document record of a party once the current transaction commits.
+     */
+    public Mono<Void> remove(UUID partyId, UUID recordId) {
+        return AfterCommit.run(() -> apply(new UUID[]{partyId}, current -> current.remove(recordId)));
+    }
+
+    /**
+     * Lists the values of a party that other parties share, with up to {@code limit} of those parties each.
+     */
+    public List<SharedAttributeLinkDTO> linksOf(UUID partyId, int limit) {
+        return index().linksOf(partyId, limit).stream()
+                .map(link -> SharedAttributeLinkDTO.builder()
+                        .kind(link.kind())
+                        .partyIds(link.partyIds())
+                        .truncated(link.truncated())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Reports the largest groups of parties connected by shared values, ignoring values shared
+     * by more parties than the configured fan-out.
+     */
+    public List<SharedAttributeClusterDTO> clusters(int minSize, int limit) {
+        return index().clusters(minSize, maxFanOut, limit).stream()
+                .map(cluster -> SharedAttributeClusterDTO.builder()
+                        .size(cluster.partyIds().size())
+                        .partyIds(cluster.partyIds())
+                        .kinds(cluster.kinds())
+                        .sharedValues(cluster.sharedValues())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    protected Mono<SharedAttributeIndex> build(SharedAttributeIndex previous) {
+        SharedAttributeIndex built = new SharedAttributeIndex();
+        return records(emailContactRepository.findAll(), phoneContactRepository.findAll(),
+                        addressRepository.findAll(), identityDocumentRepository.findAll())
+                .doOnNext(record -> built.load(record.recordId(), record.partyId(), record.kind(), record.value()))
+                .then(Mono.just(built));
+    }
+
+    @Override
+    protected int size(SharedAttributeIndex index) {
+        return index.recordCount();
+    }
+
+    @Override
+    protected Mono<Void> reread(UUID[] partyIds) {
+        List<UUID> ids = Arrays.asList(partyIds);
+        return records(emailContactRepository.findByPartyIdIn(ids), phoneContactRepository.findByPartyIdIn(ids),
+                        addressRepository.findByPartyIdIn(ids), identityDocumentRepository.findByPartyIdIn(ids))
+                .collectList()
+                .doOnNext(records -> apply(partyIds, current -> {
+                    for (UUID partyId : partyIds) {
+                        current.removeParty(partyId);
+                    }
+                    for (SharedAttributeRecord record : records) {
+                        current.load(record.recordId(), record.partyId(), record.kind(), record.value());
+                    }
+                }))
+                .then();
+    }
+
+    private Mono<Void> check(UUID recordId, UUID partyId, SharedAttributeKind kind, String value) {
+        return AfterCommit.run(() -> {
+            AtomicReference<SharedAttributeIndex.Link> shared = new AtomicReference<>();
+            apply(new UUID[]{partyId}, current -> shared.set(current.put(recordId, partyId, kind, value, maxFanOut)));
+            SharedAttributeIndex.Link link = shared.get();
+            if (link != null) {
+                log.debug("{} of party {} is shared with {} other parties", kind, partyId, link.partyIds().size());
+                eventPublisher.publishEvent(new SharedAttributeLinkEvent(partyId, recordId, kind,
+                        link.partyIds(), link.truncated()));
+            }
+        });
+    }
+
+    private static Flux<SharedAttributeRecord> records(Flux<EmailContact> emails, Flux<PhoneContact> phones,
+                                                       Flux<Address> addresses, Flux<IdentityDocument> documents) {
+        return Flux.concat(
+                emails.map(email -> new SharedAttributeRecord(email.getEmailContactId(), email.getPartyId(),
+                        SharedAttributeKind.EMAIL, SharedAttributeKeys.email(email.getEmail()))),
+                phones.map(phone -> new SharedAttributeRecord(phone.getPhoneContactId(), phone.getPartyId(),
+                        SharedAttributeKind.PHONE, SharedAttributeKeys.phone(phone.getPhoneNumber()))),
+                addresses.map(address -> new SharedAttributeRecord(address.getAddressId(), address.getPartyId(),
+                        SharedAttributeKind.ADDRESS, SharedAttributeKeys.address(address))),
+                documents.map(document -> new SharedAttributeRecord(document.getIdentityDocumentId(), document.getPartyId(),
+                        SharedAttributeKind.IDENTITY_DOCUMENT, SharedAttributeKeys.identityDocument(document))));
+    }
+
+    private record SharedAttributeRecord(UUID recordId, UUID partyId, SharedAttributeKind kind, String value) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.graph;
+
+import com.firefly.core.customer.core.search.SearchText;
+import com.firefly.core.customer.models.entities.Address;
+import com.firefly.core.customer.models.entities.IdentityDocument;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes contact and identity attributes so that values recorded with different
+ * formatting for different parties compare equal in the shared attribute index.
+ * Every method returns {@code null} for a value too incomplete to link parties on.
+ */
+public final class SharedAttributeKeys {
+
+    private static final Pattern NON_DIGIT = Pattern.compile("\\D");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MIN_PHONE_DIGITS = 7;
+
+    private SharedAttributeKeys() {
+    }
+
+    /**
+     * Lower-cases an e-mail address and drops any "+tag" suffix of its local part.
+     */
+    public static String email(String email) {
+        if (email == null) {
+            return null;
+        }
+        String normalized = email.trim().toLowerCase(Locale.ROOT);
+        int at = normalized.lastIndexOf('@');
+        if (at <= 0 || at == normalized.length() - 1) {
+            return null;
+        }
+        String local = normalized.substring(0, at);
+        int tag = local.indexOf('+');
+        if (tag > 0) {
+            local = local.substring(0, tag);
+        }
+        return local + normalized.substring(at);
+    }
+
+    /**
+     * Reduces a phone number to its digits, dropping a leading international "00" prefix.
+     */
+    public static String phone(String phoneNumber) {
+        if (phoneNumber == null) {
+            return null;
+        }
+        String digits = NON_DIGIT.matcher(phoneNumber).replaceAll("");
+        if (digits.startsWith("00")) {
+            digits = digits.substring(2);
+        }
+        return digits.length() >= MIN_PHONE_DIGITS ? digits : null;
+    }
+
+    /**
+     * Combines the street lines, postal code (or city when there is none) and country of an
+     * address, ignoring case, accents, punctuation and spacing.
+     */
+    public static String address(Address address) {
+        String line1 = words(address.getLine1());
+        String locality = words(address.getPostalCode() != null ? address.getPostalCode() : address.getCity());
+        if (line1.isEmpty() || locality.isEmpty()) {
+            return null;
+        }
+        return line1 + '|' + words(address.getLine2()) + '|' + locality + '|' + address.getCountryId();
+    }
+
+    /**
+     * Combines the document number, ignoring case, spacing and separators, with the document
+     * type and issuing country.
+     */
+    public static String identityDocument(IdentityDocument document) {
+        String number = NON_ALPHANUMERIC.matcher(SearchText.normalize(document.getDocumentNumber())).replaceAll("");
+        if (number.isEmpty()) {
+            return null;
+        }
+        return number + '|' + document.getIdentityDocumentTypeId() + '|' + document.getIssuingCountryId();
+    }
+
+    private static String words(String text) {
+        return NON_ALPHANUMERIC.matcher(SearchText.normalize(text)).replaceAll(" ").trim();
+    }
+}
\ No newline at end of file
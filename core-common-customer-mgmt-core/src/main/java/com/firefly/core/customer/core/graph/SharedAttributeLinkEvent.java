@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.graph;
+
+import com.firefly.core.customer.interfaces.enums.SharedAttributeKind;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published when a contact or identity document written for a party carries a value that is
+ * already recorded for other parties, so that fraud checks can react as the record is created.
+ *
+ * @param partyId the party the record was written for
+ * @param recordId the unique identifier of the contact or document record
+ * @param kind the kind of attribute that is shared
+ * @param linkedPartyIds the other parties sharing the value, up to the configured fan-out
+ * @param truncated whether more parties share the value than are listed
+ */
+public record SharedAttributeLinkEvent(UUID partyId, UUID recordId, SharedAttributeKind kind,
+                                       List<UUID> linkedPartyIds, boolean truncated) {
+}
\ No newline at end of file
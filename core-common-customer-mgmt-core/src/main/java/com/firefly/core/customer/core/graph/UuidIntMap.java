@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.graph;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Open-addressing hash map from UUID to non-negative int, storing keys as two primitive
+ * long arrays so that no UUID or Integer objects are retained.
+ * <p>
+ * Not thread-safe. Entries can only be added or overwritten, which is all the graph needs.
+ */
+public final class UuidIntMap {
+
+    public static final int MISSING = -1;
+
+    private long[] msb;
+    private long[] lsb;
+    private int[] values;
+    private int size;
+
+    public UuidIntMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        msb = new long[capacity];
+        lsb = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, MISSING);
+    }
+
+    private UuidIntMap(UuidIntMap source) {
+        msb = source.msb.clone();
+        lsb = source.lsb.clone();
+        values = source.values.clone();
+        size = source.size;
+    }
+
+    public int get(UUID key) {
+        return get(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    int get(long keyMsb, long keyLsb) {
+        int mask = values.length - 1;
+        for (int slot = hash(keyMsb, keyLsb) & mask; ; slot = (slot + 1) & mask) {
+            if (values[slot] == MISSING) {
+                return MISSING;
+            }
+            if (msb[slot] == keyMsb && lsb[slot] == keyLsb) {
+                return values[slot];
+            }
+        }
+    }
+
+    public void put(UUID key, int value) {
+        if ((size + 1) * 2 > values.length) {
+            resize(values.length * 2);
+        }
+        long keyMsb = key.getMostSignificantBits();
+        long keyLsb = key.getLeastSignificantBits();
+        int mask = values.length - 1;
+        int slot = hash(keyMsb, keyLsb) & mask;
+        while (values[slot] != MISSING && (msb[slot] != keyMsb || lsb[slot] != keyLsb)) {
+            slot = (slot + 1) & mask;
+        }
+        if (values[slot] == MISSING) {
+            size++;
+        }
+        msb[slot] = keyMsb;
+        lsb[slot] = keyLsb;
+        values[slot] = value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    UuidIntMap copy() {
+        return new UuidIntMap(this);
+    }
+
+    private void resize(int capacity) {
+        long[] oldMsb = msb;
+        long[] oldLsb = lsb;
+        int[] oldValues = values;
+        msb = new long[capacity];
+        lsb = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, MISSING);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != MISSING) {
+                int slot = hash(oldMsb[i], oldLsb[i]) & mask;
+                while (values[slot] != MISSING) {
+                    slot = (slot + 1) & mask;
+                }
+                msb[slot] = oldMsb[i];
+                lsb[slot] = oldLsb[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int hash(long keyMsb, long keyLsb) {
+        long h = keyMsb * 0x9E3779B97F4A7C15L ^ keyLsb;
+        h ^= h >>> 32;
+        h *= 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 29));
+    }
+}
\ No newline at end of file
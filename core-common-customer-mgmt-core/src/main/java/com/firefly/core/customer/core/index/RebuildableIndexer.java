@@ -0,0 +1,180 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.index;
+
+import com.firefly.core.customer.core.transaction.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Base class of the in-memory indexes over parties that are rebuilt from the database on a fixed
+ * interval and refreshed party by party in between.
+ * <p>
+ * The rebuild picks up writes made on other nodes. Writes made on this node refresh the parties
+ * they changed once their transaction has committed. A rebuild may read a party before such a
+ * write and publish its index after it, so parties refreshed while a rebuild is running are
+ * refreshed again once the rebuilt index has been published.
+ * <p>
+ * Indexes keyed by other rows than parties, like the relationship graph, pass the ids of those
+ * rows wherever parties are mentioned here.
+ *
+ * @param <I> the type of the index
+ */
+@Slf4j
+public abstract class RebuildableIndexer<I> {
+
+    private final String name;
+    private final Duration rebuildInterval;
+    private volatile I index;
+    // The parties changed during the running rebuild, or null when none is running
+    private Set<UUID> changedDuringRebuild;
+    private volatile Disposable rebuilder;
+
+    /**
+     * @param name the name of the index, for logging
+     * @param rebuildInterval the interval between rebuilds
+     * @param initial the index to serve until the first rebuild completes, or {@code null} for none
+     */
+    protected RebuildableIndexer(String name, Duration rebuildInterval, I initial) {
+        this.name = name;
+        this.rebuildInterval = rebuildInterval;
+        this.index = initial;
+    }
+
+    /**
+     * Re-reads parties once the current transaction has committed.
+     *
+     * @param partyIds the parties whose rows changed
+     * @return a Mono that completes once the refresh has been registered
+     */
+    public Mono<Void> refreshAfterCommit(Collection<UUID> partyIds) {
+        return AfterCommit.run(() -> refresh(partyIds)
+                .subscribe(null, error -> log.error("Failed to refresh the {} for parties {}", name, partyIds, error)));
+    }
+
+    /**
+     * Re-reads parties from the database.
+     *
+     * @param partyIds the parties whose rows changed
+     * @return a Mono that completes when the index has been updated
+     */
+    public Mono<Void> refresh(Collection<UUID> partyIds) {
+        UUID[] ids = partyIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new))
+                .toArray(UUID[]::new);
+        if (ids.length == 0) {
+            return Mono.empty();
+        }
+        return reread(ids);
+    }
+
+    /**
+     * The index currently served, or {@code null} if there is none yet.
+     */
+    protected I index() {
+        return index;
+    }
+
+    protected void startRebuilding() {
+        rebuilder = Flux.interval(Duration.ZERO, rebuildInterval, Schedulers.boundedElastic())
+                .concatMap(i -> rebuild()
+                        .onErrorResume(error -> {
+                            log.error("Failed to build the {}", name, error);
+                            return Mono.empty();
+                        }))
+                .subscribe(size -> log.info("Built the {} with {} entries", name, size));
+    }
+
+    protected void stopRebuilding() {
+        Disposable current = rebuilder;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    /**
+     * Builds a new index from the database.
+     *
+     * @param previous the index currently served, or {@code null} if there is none yet
+     * @return a Mono of the built index
+     */
+    protected abstract Mono<I> build(I previous);
+
+    /**
+     * Counts the entries of an index, for logging.
+     */
+    protected abstract int size(I index);
+
+    /**
+     * Reads the rows of parties and applies them through {@link #apply(UUID[], Consumer)}.
+     *
+     * @param partyIds the distinct parties to read
+     * @return a Mono that completes when the index has been updated
+     */
+    protected abstract Mono<Void> reread(UUID[] partyIds);
+
+    /**
+     * Applies re-read rows to the current index, if there is one, and records the parties as
+     * changed during the running rebuild.
+     */
+    protected final synchronized void apply(UUID[] partyIds, Consumer<I> update) {
+        I current = index;
+        if (current != null) {
+            update.accept(current);
+        }
+        if (changedDuringRebuild != null) {
+            Collections.addAll(changedDuringRebuild, partyIds);
+        }
+    }
+
+    private Mono<Integer> rebuild() {
+        synchronized (this) {
+            changedDuringRebuild = ConcurrentHashMap.newKeySet();
+        }
+        return build(index)
+                .flatMap(built -> {
+                    Set<UUID> changed;
+                    synchronized (this) {
+                        index = built;
+                        changed = changedDuringRebuild;
+                        changedDuringRebuild = null;
+                    }
+                    return refresh(changed).thenReturn(size(built));
+                })
+                .doOnError(error -> {
+                    synchronized (this) {
+                        changedDuringRebuild = null;
+                    }
+                });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.kyc;
+
+import com.firefly.core.customer.models.repositories.KycReviewScheduleRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the KYC review schedule of every party in line with its risk.
+ * <p>
+ * High-risk parties (flagged as PEP), medium-risk parties (organizations) and low-risk parties
+ * are reviewed at their own configured intervals, and no later than the first expiry of one of
+ * their identity documents. Parties with screening hits pending review are high risk too. The
+ * party, PEP and identity document write paths, the screening hit recorder and the expiry sweep
+ * of PEP records reschedule the parties they changed in the same transaction, so a failed
+ * reschedule rolls back the write and nothing is left stale. Once the application is ready,
+ * parties without a schedule yet are scheduled in batches.
+ */
+@Slf4j
+@Component
+public class KycReviewScheduler {
+
+    private final KycReviewScheduleRepository repository;
+    private final int highRiskMonths;
+    private final int mediumRiskMonths;
+    private final int lowRiskMonths;
+    private final int batchSize;
+    private volatile Disposable backfill;
+
+    public KycReviewScheduler(
+            KycReviewScheduleRepository repository,
+            @Value("${firefly.customer.kyc.high-risk-review-months:12}") int highRiskMonths,
+            @Value("${firefly.customer.kyc.medium-risk-review-months:36}") int mediumRiskMonths,
+            @Value("${firefly.customer.kyc.low-risk-review-months:60}") int lowRiskMonths,
+            @Value("${firefly.customer.kyc.batch-size:1000}") int batchSize) {
+        this.repository = repository;
+        this.highRiskMonths = highRiskMonths;
+        this.mediumRiskMonths = mediumRiskMonths;
+        this.lowRiskMonths = lowRiskMonths;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        backfill = repository.streamUnscheduledPartyIds()
+                .buffer(batchSize)
+                .concatMap(partyIds -> schedule(partyIds.toArray(UUID[]::new)))
+                .reduce(0L, Long::sum)
+                .subscribe(scheduled -> {
+                    if (scheduled > 0) {
+                        log.info("Scheduled the KYC reviews of {} parties", scheduled);
+                    }
+                }, error -> log.error("Failed to schedule the KYC reviews of unscheduled parties", error));
+    }
+
+    @PreDestroy
+    public void stop() {
+        Disposable current = backfill;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    /**
+     * Recomputes the KYC review schedules of parties after a write. Called from within the
+     * write's own reactive chain, so the schedule is updated in the same transaction.
+     *
+     * @param partyIds the parties whose party, PEP, identity document or screening hit records changed
+     * @return a Mono that completes when the schedules have been updated
+     */
+    public Mono<Void> reschedule(Collection<UUID> partyIds) {
+        UUID[] ids = partyIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new))
+                .toArray(UUID[]::new);
+        if (ids.length == 0) {
+            return Mono.empty();
+        }
+        return schedule(ids).then();
+    }
+
+    private Mono<Long> schedule(UUID[] partyIds) {
+        return repository.schedule(partyIds, highRiskMonths, mediumRiskMonths, lowRiskMonths)
+                .map(Integer::longValue);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.mappers;
+
+import com.firefly.core.customer.interfaces.dtos.ConsentHistoryDTO;
+import com.firefly.core.customer.models.entities.ConsentHistory;
+import org.mapstruct.Mapper;
+
+/**
+ * MapStruct mapper for converting ConsentHistory entities to ConsentHistoryDTO.
+ */
+@Mapper(componentModel = "spring")
+public interface ConsentHistoryMapper {
+
+    /**
+     * Converts ConsentHistory entity to ConsentHistoryDTO.
+     *
+     * @param consentHistory the ConsentHistory entity to convert
+     * @return the converted ConsentHistoryDTO
+     */
+    ConsentHistoryDTO toDTO(ConsentHistory consentHistory);
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.mappers;
+
+import com.firefly.core.customer.interfaces.dtos.KycReviewDTO;
+import com.firefly.core.customer.models.entities.KycReviewSchedule;
+import org.mapstruct.Mapper;
+
+/**
+ * MapStruct mapper for converting KycReviewSchedule entities to KycReviewDTO.
+ */
+@Mapper(componentModel = "spring")
+public interface KycReviewMapper {
+
+    /**
+     * Converts KycReviewSchedule entity to KycReviewDTO.
+     *
+     * @param kycReviewSchedule the KycReviewSchedule entity to convert
+     * @return the converted KycReviewDTO
+     */
+    KycReviewDTO toDTO(KycReviewSchedule kycReviewSchedule);
+}
\ No newline at end of file
@@ -46,9 +46,11 @@ public interface LegalEntityMapper {
      * @param legalEntityDTO the LegalEntityDTO to convert
      * @return the converted LegalEntity entity
      */
+    @Mapping(target = "legalNamePhonetic", ignore = true)
     LegalEntity toEntity(LegalEntityDTO legalEntityDTO);
 
     @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "legalNamePhonetic", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntityFromDto(LegalEntityDTO dto, @MappingTarget LegalEntity entity);
 }
\ No newline at end of file
@@ -44,9 +44,15 @@ public interface NaturalPersonMapper {
      * @param naturalPersonDTO the NaturalPersonDTO to convert
      * @return the converted NaturalPerson entity
      */
+    @Mapping(target = "givenNamePhonetic", ignore = true)
+    @Mapping(target = "familyName1Phonetic", ignore = true)
+    @Mapping(target = "familyName2Phonetic", ignore = true)
     NaturalPerson toEntity(NaturalPersonDTO naturalPersonDTO);
 
     @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "givenNamePhonetic", ignore = true)
+    @Mapping(target = "familyName1Phonetic", ignore = true)
+    @Mapping(target = "familyName2Phonetic", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntityFromDto(NaturalPersonDTO dto, @MappingTarget NaturalPerson entity);
 
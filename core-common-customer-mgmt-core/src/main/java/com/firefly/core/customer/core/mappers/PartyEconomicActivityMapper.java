@@ -17,8 +17,10 @@
 
 package com.firefly.core.customer.core.mappers;
 
+import com.firefly.core.customer.interfaces.dtos.EconomicActivityTurnoverDTO;
 import com.firefly.core.customer.interfaces.dtos.PartyEconomicActivityDTO;
 import com.firefly.core.customer.models.entities.PartyEconomicActivity;
+import com.firefly.core.customer.models.projections.EconomicActivityTurnover;
 import org.mapstruct.Mapper;
 import org.mapstruct.factory.Mappers;
 
@@ -45,4 +47,12 @@ public interface PartyEconomicActivityMapper {
      * @return the converted PartyEconomicActivity entity
      */
     PartyEconomicActivity toEntity(PartyEconomicActivityDTO partyEconomicActivityDTO);
+
+    /**
+     * Converts an EconomicActivityTurnover projection to EconomicActivityTurnoverDTO.
+     *
+     * @param economicActivityTurnover the EconomicActivityTurnover projection to convert
+     * @return the converted EconomicActivityTurnoverDTO
+     */
+    EconomicActivityTurnoverDTO toTurnoverDTO(EconomicActivityTurnover economicActivityTurnover);
 }
\ No newline at end of file
@@ -18,7 +18,9 @@
 package com.firefly.core.customer.core.mappers;
 
 import com.firefly.core.customer.interfaces.dtos.PartyGroupMembershipDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyGroupMembershipResultDTO;
 import com.firefly.core.customer.models.entities.PartyGroupMembership;
+import com.firefly.core.customer.models.projections.PartyGroupMembershipResult;
 import org.mapstruct.Mapper;
 import org.mapstruct.factory.Mappers;
 
@@ -45,4 +47,12 @@ public interface PartyGroupMembershipMapper {
      * @return the converted PartyGroupMembership entity
      */
     PartyGroupMembership toEntity(PartyGroupMembershipDTO partyGroupMembershipDTO);
+
+    /**
+     * Converts a PartyGroupMembershipResult projection to PartyGroupMembershipResultDTO.
+     *
+     * @param partyGroupMembershipResult the outcome of a bulk membership operation for one party
+     * @return the converted PartyGroupMembershipResultDTO
+     */
+    PartyGroupMembershipResultDTO toResultDTO(PartyGroupMembershipResult partyGroupMembershipResult);
 }
\ No newline at end of file
@@ -18,7 +18,11 @@
 package com.firefly.core.customer.core.mappers;
 
 import com.firefly.core.customer.interfaces.dtos.PartyRelationshipDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyRelationshipEdgeDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyRelationshipSummaryDTO;
 import com.firefly.core.customer.models.entities.PartyRelationship;
+import com.firefly.core.customer.models.projections.PartyRelationshipEdge;
+import com.firefly.core.customer.models.projections.PartyRelationshipSummary;
 import org.mapstruct.Mapper;
 import org.mapstruct.factory.Mappers;
 
@@ -45,4 +49,20 @@ public interface PartyRelationshipMapper {
      * @return the converted PartyRelationship entity
      */
     PartyRelationship toEntity(PartyRelationshipDTO partyRelationshipDTO);
+
+    /**
+     * Converts a traversed PartyRelationshipEdge projection to PartyRelationshipEdgeDTO.
+     *
+     * @param partyRelationshipEdge the traversed relationship to convert
+     * @return the converted PartyRelationshipEdgeDTO
+     */
+    PartyRelationshipEdgeDTO toEdgeDTO(PartyRelationshipEdge partyRelationshipEdge);
+
+    /**
+     * Converts a PartyRelationshipSummary projection to PartyRelationshipSummaryDTO.
+     *
+     * @param partyRelationshipSummary the relationship summary to convert
+     * @return the converted PartyRelationshipSummaryDTO
+     */
+    PartyRelationshipSummaryDTO toSummaryDTO(PartyRelationshipSummary partyRelationshipSummary);
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.mappers;
+
+import com.firefly.core.customer.interfaces.dtos.PartySearchResultDTO;
+import com.firefly.core.customer.models.projections.PartySearchHit;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * MapStruct mapper for converting party search projections into PartySearchResultDTO.
+ */
+@Mapper(componentModel = "spring")
+public interface PartySearchMapper {
+
+    PartySearchMapper INSTANCE = Mappers.getMapper(PartySearchMapper.class);
+
+    /**
+     * Converts a PartySearchHit projection to PartySearchResultDTO.
+     *
+     * @param partySearchHit the PartySearchHit projection to convert
+     * @return the converted PartySearchResultDTO
+     */
+    PartySearchResultDTO toDTO(PartySearchHit partySearchHit);
+}
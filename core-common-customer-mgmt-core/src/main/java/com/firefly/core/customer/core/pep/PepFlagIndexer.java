@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.pep;
+
+import com.firefly.core.customer.core.expiry.ExpiryKind;
+import com.firefly.core.customer.core.expiry.TemporalExpiryEvent;
+import com.firefly.core.customer.core.index.RebuildableIndexer;
+import com.firefly.core.customer.models.repositories.PoliticallyExposedPersonRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the in-memory set of parties flagged as PEP, so that payment-time checks never
+ * touch the database.
+ * <p>
+ * A party is flagged when at least one of its PEP records is. The set is built from the
+ * database once the application is ready and rebuilt on a fixed interval. In between, the PEP
+ * write paths and the expiry sweeper refresh the parties they changed. Screening hits only
+ * flag a party once a reviewer confirms them through the PEP write paths.
+ * Until the first build completes, lookups are answered from the database.
+ */
+@Slf4j
+@Component
+public class PepFlagIndexer extends RebuildableIndexer<PepFlagSet> {
+
+    private final PoliticallyExposedPersonRepository repository;
+
+    public PepFlagIndexer(
+            PoliticallyExposedPersonRepository repository,
+            @Value("${firefly.customer.pep-flags.rebuild-interval:PT15M}") Duration rebuildInterval) {
+        super("PEP flag set", rebuildInterval, null);
+        this.repository = repository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        startRebuilding();
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopRebuilding();
+    }
+
+    @EventListener
+    public void onExpiry(TemporalExpiryEvent event) {
+        if (event.kind() == ExpiryKind.POLITICALLY_EXPOSED_PERSON) {
+            refresh(Arrays.asList(event.partyId()))
+                    .subscribe(null, error -> log.error("Failed to refresh the PEP flag of party {}",
+                            event.partyId(), error));
+        }
+    }
+
+    /**
+     * Tells whether a party is flagged as PEP.
+     */
+    public Mono<Boolean> isPep(UUID partyId) {
+        PepFlagSet current = index();
+        if (current != null) {
+            return Mono.just(current.contains(partyId));
+        }
+        return repository.findPepPartyIds(new UUID[]{partyId}).hasElements();
+    }
+
+    /**
+     * Selects the parties of a batch that are flagged as PEP.
+     */
+    public Mono<Set<UUID>> selectPeps(Collection<UUID> partyIds) {
+        PepFlagSet current = index();
+        if (current != null) {
+            Set<UUID> peps = new HashSet<>();
+            for (UUID partyId : partyIds) {
+                if (current.contains(partyId)) {
+                    peps.add(partyId);
+                }
+            }
+            return Mono.just(peps);
+        }
+        return repository.findPepPartyIds(partyIds.toArray(UUID[]::new))
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    protected Mono<PepFlagSet> build(PepFlagSet previous) {
+        PepFlagSet built = new PepFlagSet(previous == null ? 1024 : previous.size());
+        return repository.streamPepPartyIds()
+                .doOnNext(built::add)
+                .then(Mono.just(built));
+    }
+
+    @Override
+    protected int size(PepFlagSet index) {
+        return index.size();
+    }
+
+    @Override
+    protected Mono<Void> reread(UUID[] partyIds) {
+        return repository.findPepPartyIds(partyIds)
+                .collect(Collectors.toSet())
+                .doOnNext(peps -> apply(partyIds, current -> {
+                    for (UUID partyId : partyIds) {
+                        if (peps.contains(partyId)) {
+                            current.add(partyId);
+                        } else {
+                            current.remove(partyId);
+                        }
+                    }
+                }))
+                .then();
+    }
+}
\ No newline at end of file
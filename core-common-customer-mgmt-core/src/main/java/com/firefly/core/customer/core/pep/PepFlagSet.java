@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.pep;
+
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Open-addressing hash set of the parties flagged as PEP, storing each UUID as two primitive
+ * longs so that no UUID objects are retained.
+ * <p>
+ * Lookups are optimistic and take no lock unless they race with a write; writes are serialized.
+ * Removals shift the following entries of the probe sequence back, so the table never fills up
+ * with tombstones.
+ */
+final class PepFlagSet {
+
+    private final StampedLock lock = new StampedLock();
+    private Table table;
+    private int size;
+
+    PepFlagSet(int expectedSize) {
+        table = new Table(Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1);
+    }
+
+    boolean contains(UUID partyId) {
+        long msb = partyId.getMostSignificantBits();
+        long lsb = partyId.getLeastSignificantBits();
+        long stamp = lock.tryOptimisticRead();
+        boolean found = table.contains(msb, lsb);
+        if (lock.validate(stamp)) {
+            return found;
+        }
+        stamp = lock.readLock();
+        try {
+            return table.contains(msb, lsb);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    void add(UUID partyId) {
+        long stamp = lock.writeLock();
+        try {
+            if ((size + 1) * 2 > table.used.length) {
+                table = table.resize(table.used.length * 2);
+            }
+            if (table.add(partyId.getMostSignificantBits(), partyId.getLeastSignificantBits())) {
+                size++;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    void remove(UUID partyId) {
+        long stamp = lock.writeLock();
+        try {
+            if (table.remove(partyId.getMostSignificantBits(), partyId.getLeastSignificantBits())) {
+                size--;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static final class Table {
+
+        final long[] msb;
+        final long[] lsb;
+        final boolean[] used;
+
+        Table(int capacity) {
+            msb = new long[capacity];
+            lsb = new long[capacity];
+            used = new boolean[capacity];
+        }
+
+        boolean contains(long keyMsb, long keyLsb) {
+            int mask = used.length - 1;
+            // Bounded, since an optimistic read may see the table while it is being written
+            for (int i = 0, slot = hash(keyMsb, keyLsb) & mask; i < used.length; i++, slot = (slot + 1) & mask) {
+                if (!used[slot]) {
+                    return false;
+                }
+                if (msb[slot] == keyMsb && lsb[slot] == keyLsb) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean add(long keyMsb, long keyLsb) {
+            int mask = used.length - 1;
+            int slot = hash(keyMsb, keyLsb) & mask;
+            while (used[slot]) {
+                if (msb[slot] == keyMsb && lsb[slot] == keyLsb) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            msb[slot] = keyMsb;
+            lsb[slot] = keyLsb;
+            used[slot] = true;
+            return true;
+        }
+
+        boolean remove(long keyMsb, long keyLsb) {
+            int mask = used.length - 1;
+            int slot = hash(keyMsb, keyLsb) & mask;
+            while (used[slot] && (msb[slot] != keyMsb || lsb[slot] != keyLsb)) {
+                slot = (slot + 1) & mask;
+            }
+            if (!used[slot]) {
+                return false;
+            }
+            int hole = slot;
+            for (int next = (hole + 1) & mask; used[next]; next = (next + 1) & mask) {
+                int home = hash(msb[next], lsb[next]) & mask;
+                // Move the entry into the hole unless its home slot lies cyclically in (hole, next]
+                boolean reachable = hole <= next ? hole < home && home <= next : hole < home || home <= next;
+                if (!reachable) {
+                    msb[hole] = msb[next];
+                    lsb[hole] = lsb[next];
+                    hole = next;
+                }
+            }
+            used[hole] = false;
+            return true;
+        }
+
+        Table resize(int capacity) {
+            Table resized = new Table(capacity);
+            for (int i = 0; i < used.length; i++) {
+                if (used[i]) {
+                    resized.add(msb[i], lsb[i]);
+                }
+            }
+            return resized;
+        }
+    }
+
+    private static int hash(long keyMsb, long keyLsb) {
+        long h = keyMsb * 0x9E3779B97F4A7C15L ^ keyLsb;
+        h ^= h >>> 32;
+        h *= 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 29));
+    }
+}
\ No newline at end of file
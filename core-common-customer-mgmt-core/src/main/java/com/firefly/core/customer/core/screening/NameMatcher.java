@@ -0,0 +1,189 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.screening;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Aho-Corasick automaton finding every occurrence of a set of names in a text in a single pass,
+ * whatever the number of names.
+ * <p>
+ * The trie is stored in flat arrays: the children of each state are a sorted run of labels and
+ * targets, looked up by binary search, except those of the root, which are a direct table over
+ * all chars. Each state has a failure link to the state for its longest proper suffix in the
+ * trie, and an output link to the nearest state on that chain where a name ends. Names that are
+ * spelled the same share their end state and are chained through {@code nextName}.
+ * <p>
+ * Immutable once built, so it can be shared between threads.
+ */
+final class NameMatcher {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    private static final int[] NO_MATCHES = new int[0];
+
+    private final int[] rootNext = new int[Character.MAX_VALUE + 1];
+    private final int[] childStart;
+    private final char[] childLabels;
+    private final int[] childTargets;
+    private final int[] fail;
+    private final int[] firstName;
+    private final int[] outputLink;
+    private final int[] nextName;
+
+    /**
+     * Compiles the automaton.
+     *
+     * @param names the names to find; a match reports the position of the name in this list
+     */
+    NameMatcher(List<String> names) {
+        // Build the trie with children as linked lists, numbering states in creation order
+        int capacity = 1;
+        for (String name : names) {
+            capacity += name.length();
+        }
+        char[] label = new char[capacity];
+        int[] firstChild = new int[capacity];
+        int[] sibling = new int[capacity];
+        int[] ends = new int[capacity];
+        Arrays.fill(firstChild, NONE);
+        Arrays.fill(ends, NONE);
+        nextName = new int[names.size()];
+        int states = 1;
+        for (int index = 0; index < names.size(); index++) {
+            String name = names.get(index);
+            int state = ROOT;
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                int child = firstChild[state];
+                while (child != NONE && label[child] != c) {
+                    child = sibling[child];
+                }
+                if (child == NONE) {
+                    child = states++;
+                    label[child] = c;
+                    sibling[child] = firstChild[state];
+                    firstChild[state] = child;
+                }
+                state = child;
+            }
+            nextName[index] = ends[state];
+            ends[state] = index;
+        }
+
+        // Freeze the children into sorted runs
+        childStart = new int[states + 1];
+        childLabels = new char[states - 1];
+        childTargets = new int[states - 1];
+        int offset = 0;
+        for (int state = 0; state < states; state++) {
+            childStart[state] = offset;
+            for (int child = firstChild[state]; child != NONE; child = sibling[child]) {
+                int position = offset++;
+                while (position > childStart[state] && childLabels[position - 1] > label[child]) {
+                    childLabels[position] = childLabels[position - 1];
+                    childTargets[position] = childTargets[position - 1];
+                    position--;
+                }
+                childLabels[position] = label[child];
+                childTargets[position] = child;
+            }
+        }
+        childStart[states] = offset;
+        Arrays.fill(rootNext, NONE);
+        for (int i = childStart[ROOT]; i < childStart[ROOT + 1]; i++) {
+            rootNext[childLabels[i]] = childTargets[i];
+        }
+
+        // Link failures breadth first, so the failure of a state is linked before its children
+        firstName = Arrays.copyOf(ends, states);
+        fail = new int[states];
+        outputLink = new int[states];
+        outputLink[ROOT] = NONE;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(ROOT);
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = childStart[state]; i < childStart[state + 1]; i++) {
+                int child = childTargets[i];
+                if (state == ROOT) {
+                    fail[child] = ROOT;
+                } else {
+                    int fallback = fail[state];
+                    int next;
+                    while ((next = step(fallback, childLabels[i])) == NONE && fallback != ROOT) {
+                        fallback = fail[fallback];
+                    }
+                    fail[child] = next == NONE ? ROOT : next;
+                }
+                outputLink[child] = firstName[fail[child]] != NONE ? fail[child] : outputLink[fail[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Finds the names occurring in a text.
+     *
+     * @param text the text to scan
+     * @return the positions of the names found, once per occurrence, in order of their end in the text
+     */
+    int[] match(String text) {
+        int[] matches = NO_MATCHES;
+        int count = 0;
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = step(state, c)) == NONE && state != ROOT) {
+                state = fail[state];
+            }
+            state = next == NONE ? ROOT : next;
+            for (int output = firstName[state] != NONE ? state : outputLink[state]; output != NONE; output = outputLink[output]) {
+                for (int name = firstName[output]; name != NONE; name = nextName[name]) {
+                    if (count == matches.length) {
+                        matches = Arrays.copyOf(matches, Math.max(4, count * 2));
+                    }
+                    matches[count++] = name;
+                }
+            }
+        }
+        return count == matches.length ? matches : Arrays.copyOf(matches, count);
+    }
+
+    private int step(int state, char c) {
+        if (state == ROOT) {
+            return rootNext[c];
+        }
+        int from = childStart[state];
+        int to = childStart[state + 1] - 1;
+        while (from <= to) {
+            int middle = (from + to) >>> 1;
+            if (childLabels[middle] < c) {
+                from = middle + 1;
+            } else if (childLabels[middle] > c) {
+                to = middle - 1;
+            } else {
+                return childTargets[middle];
+            }
+        }
+        return NONE;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.screening;
+
+import com.firefly.core.customer.interfaces.dtos.ScreeningRunDTO;
+import com.firefly.core.customer.interfaces.enums.PartyKind;
+import com.firefly.core.customer.interfaces.enums.ScreeningRunStatus;
+import com.firefly.core.customer.models.repositories.LegalEntityRepository;
+import com.firefly.core.customer.models.repositories.NaturalPersonRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rescreens every natural person and legal entity against the PEP and sanctions lists, for
+ * instance after the lists have been updated.
+ * <p>
+ * Names are streamed from the database and matched on all cores; hits are recorded as PEP
+ * records pending review, in batches of a bounded number of parties. A party keeps one record per
+ * list entry, so a rescreen only records hits that are new and can be repeated at any time, and
+ * it removes the unconfirmed hits that are no longer found. Only one rescreen runs at a time.
+ */
+@Slf4j
+@Component
+public class PartyRescreener {
+
+    private final ScreeningHitRecorder hitRecorder;
+    private final NaturalPersonRepository naturalPersonRepository;
+    private final LegalEntityRepository legalEntityRepository;
+    private final int batchSize;
+    private Run lastRun;
+    private Disposable rescreen;
+
+    public PartyRescreener(
+            ScreeningHitRecorder hitRecorder,
+            NaturalPersonRepository naturalPersonRepository,
+            LegalEntityRepository legalEntityRepository,
+            @Value("${firefly.customer.screening.batch-size:1000}") int batchSize) {
+        this.hitRecorder = hitRecorder;
+        this.naturalPersonRepository = naturalPersonRepository;
+        this.legalEntityRepository = legalEntityRepository;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Starts a rescreen in the background, unless one is already running.
+     *
+     * @return the progress of the rescreen started or of the one already running
+     */
+    public synchronized ScreeningRunDTO start() {
+        if (lastRun != null && lastRun.finishedAt == null) {
+            return lastRun.toDTO();
+        }
+        Run run = new Run();
+        lastRun = run;
+        rescreen = rescreen(run)
+                .subscribe(null, error -> log.error("Party rescreen failed", error));
+        return run.toDTO();
+    }
+
+    /**
+     * @return the progress of the last rescreen started, or {@code null} if none was
+     */
+    public synchronized ScreeningRunDTO lastRun() {
+        return lastRun == null ? null : lastRun.toDTO();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (rescreen != null) {
+            rescreen.dispose();
+        }
+    }
+
+    private Mono<Void> rescreen(Run run) {
+        Flux<ScreeningCandidate> candidates = Flux.merge(
+                naturalPersonRepository.streamScreeningNames()
+                        .map(name -> ScreeningCandidate.of(PartyKind.INDIVIDUAL, name)),
+                legalEntityRepository.streamScreeningNames()
+                        .map(name -> ScreeningCandidate.of(PartyKind.ORGANIZATION, name)));
+        return candidates
+                .doOnNext(candidate -> run.screened.incrementAndGet())
+                .parallel()
+                .runOn(Schedulers.parallel())
+                .map(hitRecorder::screen)
+                .sequential()
+                .doOnNext(screening -> run.hitsFound.addAndGet(screening.hits().size()))
+                .buffer(batchSize)
+                .concatMap(hitRecorder::record)
+                .doOnNext(run.hitsRecorded::addAndGet)
+                .then()
+                .doOnSuccess(done -> {
+                    run.finish(null);
+                    log.info("Rescreened {} parties, recorded {} of {} hits", run.screened.get(),
+                            run.hitsRecorded.get(), run.hitsFound.get());
+                })
+                .doOnError(error -> run.finish(error.toString()));
+    }
+
+    private static final class Run {
+
+        final LocalDateTime startedAt = LocalDateTime.now();
+        final AtomicLong screened = new AtomicLong();
+        final AtomicLong hitsFound = new AtomicLong();
+        final AtomicLong hitsRecorded = new AtomicLong();
+        volatile LocalDateTime finishedAt;
+        volatile String failureReason;
+
+        void finish(String failure) {
+            failureReason = failure;
+            finishedAt = LocalDateTime.now();
+        }
+
+        ScreeningRunDTO toDTO() {
+            LocalDateTime finished = finishedAt;
+            ScreeningRunStatus status = finished == null ? ScreeningRunStatus.RUNNING
+                    : failureReason == null ? ScreeningRunStatus.COMPLETED : ScreeningRunStatus.FAILED;
+            return ScreeningRunDTO.builder()
+                    .status(status)
+                    .startedAt(startedAt)
+                    .finishedAt(finished)
+                    .partiesScreened(screened.get())
+                    .hitsFound(hitsFound.get())
+                    .hitsRecorded(hitsRecorded.get())
+                    .failureReason(failureReason)
+                    .build();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.screening;
+
+import com.firefly.core.customer.core.transaction.AfterCommit;
+import com.firefly.core.customer.interfaces.enums.PartyKind;
+import com.firefly.core.customer.models.entities.PartyScreeningBacklog;
+import com.firefly.core.customer.models.repositories.LegalEntityRepository;
+import com.firefly.core.customer.models.repositories.NaturalPersonRepository;
+import com.firefly.core.customer.models.repositories.PartyScreeningBacklogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Screens natural persons and legal entities shortly after their names are written, without
+ * making the write wait for it.
+ * <p>
+ * The write paths add the party to the screening backlog table in their own transaction, and
+ * submit its names to a bounded in-memory queue once that transaction has committed. A single
+ * consumer takes them in micro-batches of up to the configured size, or whatever arrived within
+ * the configured wait, screens each batch on the parallel scheduler, records its hits in a
+ * single statement and removes the batch from the backlog before it asks for the next batch.
+ * When the queue is full, submissions are dropped and counted rather than blocking the write.
+ * Parties left in the backlog for longer than the configured retry delay, because they were
+ * dropped, their batch failed or the node stopped before screening them, are claimed back from
+ * the database and screened by the same consumer. Claiming skips rows locked by other nodes and
+ * pushes each claimed row back by a delay that doubles with every attempt, so nodes do not
+ * screen the same rows and a failing batch does not hold up the rest of the backlog.
+ * <p>
+ * Queue depth, dropped submissions, retried parties, hits recorded and the latency from
+ * submission to recorded hits are published as metrics.
+ */
+@Slf4j
+@Component
+public class PartyScreeningQueue {
+
+    private final ScreeningHitRecorder hitRecorder;
+    private final PartyScreeningBacklogRepository backlogRepository;
+    private final NaturalPersonRepository naturalPersonRepository;
+    private final LegalEntityRepository legalEntityRepository;
+    private final ArrayBlockingQueue<Submission> queue;
+    private final Sinks.Many<Submission> sink;
+    private final int maxBatchSize;
+    private final Duration maxBatchWait;
+    private final Duration retryAfter;
+    private final Timer latency;
+    private final Counter dropped;
+    private final Counter retried;
+    private final Counter hitsRecorded;
+    private volatile Disposable consumer;
+
+    public PartyScreeningQueue(
+            ScreeningHitRecorder hitRecorder,
+            PartyScreeningBacklogRepository backlogRepository,
+            NaturalPersonRepository naturalPersonRepository,
+            LegalEntityRepository legalEntityRepository,
+            MeterRegistry meterRegistry,
+            @Value("${firefly.customer.screening.queue.capacity:10000}") int capacity,
+            @Value("${firefly.customer.screening.queue.max-batch-size:500}") int maxBatchSize,
+            @Value("${firefly.customer.screening.queue.max-batch-wait:PT0.2S}") Duration maxBatchWait,
+            @Value("${firefly.customer.screening.queue.retry-after:PT1M}") Duration retryAfter) {
+        this.hitRecorder = hitRecorder;
+        this.backlogRepository = backlogRepository;
+        this.naturalPersonRepository = naturalPersonRepository;
+        this.legalEntityRepository = legalEntityRepository;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.sink = Sinks.many().unicast().onBackpressureBuffer(queue);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxBatchWait = maxBatchWait;
+        this.retryAfter = retryAfter;
+        meterRegistry.gauge("customer.screening.queue.depth", queue, ArrayBlockingQueue::size);
+        this.latency = Timer.builder("customer.screening.latency")
+                .description("Time from a name being written to its screening hits being recorded")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.dropped = Counter.builder("customer.screening.queue.dropped")
+                .description("Screening submissions dropped because the queue was full")
+                .register(meterRegistry);
+        this.retried = Counter.builder("customer.screening.backlog.retried")
+                .description("Parties screened from the backlog after their submission was not processed in time")
+                .register(meterRegistry);
+        this.hitsRecorded = Counter.builder("customer.screening.hits.recorded")
+                .description("Screening hits recorded from written names")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Flux<List<Submission>> backlog = Flux.interval(retryAfter, retryAfter)
+                .onBackpressureDrop()
+                .concatMap(i -> dueBacklog()
+                        .onErrorResume(error -> {
+                            log.error("Failed to claim the screening backlog", error);
+                            return Mono.empty();
+                        }), 1);
+        consumer = Flux.merge(sink.asFlux().bufferTimeout(maxBatchSize, maxBatchWait, true), backlog)
+                .concatMap(this::screen, 1)
+                .subscribe(null, error -> log.error("Screening queue stopped", error));
+    }
+
+    @PreDestroy
+    public void stop() {
+        Disposable current = consumer;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    /**
+     * Adds a party to the screening backlog within the caller's transaction, and submits its
+     * names for screening once that transaction has committed. Never blocks.
+     *
+     * @return a Mono that completes once the party is in the backlog
+     */
+    public Mono<Void> enqueue(ScreeningCandidate candidate) {
+        if (candidate.partyId() == null) {
+            return Mono.empty();
+        }
+        return backlogRepository.enqueue(candidate.partyId(), retryAfter.toSeconds())
+                .flatMap(ticket -> AfterCommit.run(() -> submit(new Submission(candidate, ticket, System.nanoTime()))));
+    }
+
+    /**
+     * Enqueues the names of a party for screening if they differ from the names it had before.
+     *
+     * @return a Mono that completes once the party is in the backlog, or at once if its names did not change
+     */
+    public Mono<Void> enqueueIfChanged(ScreeningCandidate before, ScreeningCandidate after) {
+        if (!Objects.equals(before.name(), after.name())
+                || !Objects.equals(before.alternateName(), after.alternateName())) {
+            return enqueue(after);
+        }
+        return Mono.empty();
+    }
+
+    private void submit(Submission submission) {
+        Sinks.EmitResult result;
+        while ((result = sink.tryEmitNext(submission)) == Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+            Thread.onSpinWait();
+        }
+        if (result.isFailure()) {
+            dropped.increment();
+            log.debug("Left the screening of party {} in the backlog: {}", submission.candidate().partyId(), result);
+        }
+    }
+
+    /**
+     * Claims the parties due in the backlog, with their current names. Parties
+     * whose names are gone are screened without names, which removes their unconfirmed hits.
+     */
+    private Mono<List<Submission>> dueBacklog() {
+        return backlogRepository.claimDue(retryAfter.toSeconds(), maxBatchSize)
+                .collectList()
+                .filter(claimed -> !claimed.isEmpty())
+                .flatMap(claimed -> {
+                    UUID[] partyIds = claimed.stream().map(PartyScreeningBacklog::getPartyId).toArray(UUID[]::new);
+                    return Flux.merge(
+                                    naturalPersonRepository.findScreeningNames(partyIds)
+                                            .map(name -> ScreeningCandidate.of(PartyKind.INDIVIDUAL, name)),
+                                    legalEntityRepository.findScreeningNames(partyIds)
+                                            .map(name -> ScreeningCandidate.of(PartyKind.ORGANIZATION, name)))
+                            .collectMap(ScreeningCandidate::partyId)
+                            .map(candidates -> {
+                                List<Submission> batch = new ArrayList<>(claimed.size());
+                                for (PartyScreeningBacklog row : claimed) {
+                                    ScreeningCandidate candidate = candidates.getOrDefault(row.getPartyId(),
+                                            new ScreeningCandidate(null, row.getPartyId(), null, null));
+                                    batch.add(new Submission(candidate, row.getTicket(), Submission.UNTIMED));
+                                }
+                                retried.increment(batch.size());
+                                return batch;
+                            });
+                });
+    }
+
+    private Mono<Void> screen(List<Submission> batch) {
+        // Only the latest names of a party submitted several times in a burst are screened
+        Map<UUID, Submission> latest = new LinkedHashMap<>();
+        for (Submission submission : batch) {
+            latest.put(submission.candidate().partyId(), submission);
+        }
+        UUID[] partyIds = latest.keySet().toArray(UUID[]::new);
+        Long[] tickets = latest.values().stream().map(Submission::ticket).toArray(Long[]::new);
+        return Mono.fromCallable(() -> {
+                    List<ScreeningHitRecorder.PartyScreening> screenings = new ArrayList<>(latest.size());
+                    for (Submission submission : latest.values()) {
+                        screenings.add(hitRecorder.screen(submission.candidate()));
+                    }
+                    return screenings;
+                })
+                .subscribeOn(Schedulers.parallel())
+                // Recorded even without hits, so hits under names the parties no longer have are removed
+                .flatMap(hitRecorder::record)
+                .doOnNext(recorded -> hitsRecorded.increment(recorded))
+                .flatMap(recorded -> backlogRepository.complete(partyIds, tickets))
+                .doOnSuccess(completed -> {
+                    long now = System.nanoTime();
+                    for (Submission submission : batch) {
+                        if (submission.submittedAt() != Submission.UNTIMED) {
+                            latency.record(now - submission.submittedAt(), TimeUnit.NANOSECONDS);
+                        }
+                    }
+                })
+                .onErrorResume(error -> {
+                    log.error("Failed to screen a batch of {} parties, leaving them in the backlog", latest.size(), error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private record Submission(ScreeningCandidate candidate, long ticket, long submittedAt) {
+
+        // Parties read back from the backlog have no submission to time
+        static final long UNTIMED = Long.MIN_VALUE;
+    }
+}
\ No newline at end of file
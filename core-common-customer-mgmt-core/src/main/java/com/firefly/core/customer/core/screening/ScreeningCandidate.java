@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.screening;
+
+import com.firefly.core.customer.interfaces.enums.PartyKind;
+import com.firefly.core.customer.models.entities.LegalEntity;
+import com.firefly.core.customer.models.entities.NaturalPerson;
+import com.firefly.core.customer.models.projections.PartyScreeningName;
+
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * The names a party is screened under. For natural persons the alternate name omits the middle
+ * name; for legal entities it is the trade name.
+ *
+ * @param kind the kind of party, which decides the list entries that apply
+ * @param partyId the unique identifier of the party
+ * @param name the full name of the party
+ * @param alternateName the alternate name of the party, or {@code null}
+ */
+public record ScreeningCandidate(PartyKind kind, UUID partyId, String name, String alternateName) {
+
+    public static ScreeningCandidate of(NaturalPerson naturalPerson) {
+        return new ScreeningCandidate(PartyKind.INDIVIDUAL, naturalPerson.getPartyId(),
+                join(naturalPerson.getGivenName(), naturalPerson.getMiddleName(),
+                        naturalPerson.getFamilyName1(), naturalPerson.getFamilyName2()),
+                join(naturalPerson.getGivenName(), naturalPerson.getFamilyName1(), naturalPerson.getFamilyName2()));
+    }
+
+    public static ScreeningCandidate of(LegalEntity legalEntity) {
+        return new ScreeningCandidate(PartyKind.ORGANIZATION, legalEntity.getPartyId(),
+                legalEntity.getLegalName(), legalEntity.getTradeName());
+    }
+
+    public static ScreeningCandidate of(PartyKind kind, PartyScreeningName screeningName) {
+        return new ScreeningCandidate(kind, screeningName.getPartyId(), screeningName.getName(),
+                screeningName.getAlternateName());
+    }
+
+    private static String join(String... parts) {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (String part : parts) {
+            if (part != null) {
+                joiner.add(part);
+            }
+        }
+        return joiner.toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.screening;
+
+import com.firefly.core.customer.core.search.SearchText;
+import com.firefly.core.customer.interfaces.enums.PartyKind;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-process screening of party names against PEP and sanctions lists loaded from local files.
+ * <p>
+ * Each list file is UTF-8 text with one entry per line and tab-separated fields: the entry id,
+ * its category (such as {@code PEP} or {@code SANCTIONS}), whom it applies to ({@code P} for
+ * natural persons, {@code E} for legal entities, {@code *} for both) and one or more names.
+ * Blank lines and lines starting with {@code #} are ignored.
+ * <p>
+ * Names are lower-cased, stripped of diacritics and reduced to words separated by single spaces,
+ * and all listed names are compiled into one {@link NameMatcher}. A party is hit by an entry when
+ * one of the entry's names occurs as a whole sequence of words in one of the party's names.
+ * Names shorter than the configured minimum, and single-word names of natural persons, would hit
+ * too many parties and are left out. The compiled lists are immutable and replaced as a whole, so
+ * screening never blocks.
+ */
+@Slf4j
+@Component
+public class ScreeningEngine {
+
+    /**
+     * A list entry one of a party's names matched.
+     *
+     * @param entryId the id of the list entry
+     * @param category the category of the list entry
+     * @param listedName the name of the entry that matched
+     */
+    public record Hit(String entryId, String category, String listedName) {
+
+        public boolean pep() {
+            return "PEP".equalsIgnoreCase(category);
+        }
+    }
+
+    private static final byte NOBODY = 0;
+    private static final byte PERSONS = 1;
+    private static final byte ENTITIES = 2;
+    private static final byte ANYONE = PERSONS | ENTITIES;
+    private static final List<Hit> NO_HITS = List.of();
+    // The length of the column the list entry of a hit is recorded in
+    private static final int MAX_ENTRY_ID_LENGTH = 100;
+
+    private final List<String> listFiles;
+    private final int minNameLength;
+    private volatile CompiledLists lists = CompiledLists.EMPTY;
+
+    public ScreeningEngine(
+            @Value("${firefly.customer.screening.list-files:}") List<String> listFiles,
+            @Value("${firefly.customer.screening.min-name-length:6}") int minNameLength) {
+        this.listFiles = listFiles;
+        this.minNameLength = Math.max(1, minNameLength);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<String> names = new ArrayList<>();
+        List<String> entryIds = new ArrayList<>();
+        List<String> categories = new ArrayList<>();
+        List<Byte> targets = new ArrayList<>();
+        int skipped = 0;
+        for (String listFile : listFiles) {
+            if (listFile.isBlank()) {
+                continue;
+            }
+            try (BufferedReader reader = Files.newBufferedReader(Path.of(listFile.trim()), StandardCharsets.UTF_8)) {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    if (line.isBlank() || line.startsWith("#")) {
+                        continue;
+                    }
+                    String[] fields = line.split("\t");
+                    byte target = fields.length < 4 ? NOBODY : target(fields[2].trim());
+                    if (target == NOBODY || fields[0].isBlank() || fields[0].trim().length() > MAX_ENTRY_ID_LENGTH) {
+                        skipped++;
+                        continue;
+                    }
+                    for (int i = 3; i < fields.length; i++) {
+                        String name = canonical(fields[i]);
+                        if (isSpecificEnough(name, target)) {
+                            names.add(name);
+                            entryIds.add(fields[0].trim());
+                            categories.add(fields[1].trim());
+                            targets.add(target);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                log.error("Failed to read screening list {}, keeping the lists loaded before", listFile, e);
+                return;
+            }
+        }
+        byte[] targetArray = new byte[targets.size()];
+        for (int i = 0; i < targetArray.length; i++) {
+            targetArray[i] = targets.get(i);
+        }
+        lists = new CompiledLists(new NameMatcher(names), names.toArray(String[]::new),
+                entryIds.toArray(String[]::new), categories.toArray(String[]::new), targetArray);
+        log.info("Loaded {} names from the screening lists, skipped {} malformed lines", names.size(), skipped);
+    }
+
+    /**
+     * Screens the names of a party.
+     *
+     * @param kind the kind of party, which decides the list entries that apply
+     * @param names the names of the party; {@code null} names are ignored
+     * @return the list entries hit, each once
+     */
+    public List<Hit> screen(PartyKind kind, String... names) {
+        CompiledLists current = lists;
+        byte target = kind == PartyKind.ORGANIZATION ? ENTITIES : PERSONS;
+        List<Hit> hits = NO_HITS;
+        for (String name : names) {
+            if (name == null || name.isBlank()) {
+                continue;
+            }
+            for (int match : current.matcher().match(canonical(name))) {
+                if ((current.targets()[match] & target) == 0 || contains(hits, current.entryIds()[match])) {
+                    continue;
+                }
+                if (hits == NO_HITS) {
+                    hits = new ArrayList<>(2);
+                }
+                hits.add(new Hit(current.entryIds()[match], current.categories()[match],
+                        current.names()[match].trim()));
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Normalizes a name to lower-case words without diacritics, separated and surrounded by
+     * single spaces, so that matches can only start and end at word boundaries.
+     */
+    static String canonical(String name) {
+        String normalized = SearchText.normalize(name);
+        StringBuilder canonical = new StringBuilder(normalized.length() + 2).append(' ');
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                canonical.append(c);
+            } else if (canonical.charAt(canonical.length() - 1) != ' ') {
+                canonical.append(' ');
+            }
+        }
+        if (canonical.charAt(canonical.length() - 1) != ' ') {
+            canonical.append(' ');
+        }
+        return canonical.toString();
+    }
+
+    private static byte target(String code) {
+        switch (code) {
+            case "P":
+                return PERSONS;
+            case "E":
+                return ENTITIES;
+            case "*":
+                return ANYONE;
+            default:
+                return NOBODY;
+        }
+    }
+
+    private boolean isSpecificEnough(String name, byte target) {
+        int letters = name.length() - 2;
+        boolean singleWord = name.indexOf(' ', 1) == name.length() - 1;
+        return letters >= minNameLength && !(singleWord && (target & PERSONS) != 0);
+    }
+
+    private static boolean contains(List<Hit> hits, String entryId) {
+        for (Hit hit : hits) {
+            if (hit.entryId().equals(entryId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record CompiledLists(NameMatcher matcher, String[] names, String[] entryIds, String[] categories,
+                                 byte[] targets) {
+
+        static final CompiledLists EMPTY = new CompiledLists(new NameMatcher(List.of()), new String[0],
+                new String[0], new String[0], new byte[0]);
+    }
+}
\ No newline at end of file
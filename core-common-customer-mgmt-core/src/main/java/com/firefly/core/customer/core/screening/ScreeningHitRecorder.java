@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.screening;
+
+import com.firefly.core.customer.core.kyc.KycReviewScheduler;
+import com.firefly.core.customer.models.projections.ScreeningHitChange;
+import com.firefly.core.customer.models.repositories.PoliticallyExposedPersonRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Screens parties with the {@link ScreeningEngine} and records their hits as PEP records pending
+ * review. A party keeps one record per list entry, so recording the same hit again changes
+ * nothing, and the records of hits that are no longer found are removed unless a reviewer
+ * confirmed them. Hits do not flag a party as PEP until they are confirmed, but a party with
+ * hits pending review is reviewed as high risk, so the KYC review schedules of the parties whose
+ * hits changed are recomputed in the same transaction.
+ */
+@Component
+public class ScreeningHitRecorder {
+
+    /**
+     * The list entries hit by a screened party, possibly none.
+     */
+    public record PartyScreening(UUID partyId, List<ScreeningEngine.Hit> hits) {
+    }
+
+    private static final int MAX_CATEGORY_LENGTH = 100;
+    private static final int MAX_NOTES_LENGTH = 1000;
+
+    private final ScreeningEngine screeningEngine;
+    private final PoliticallyExposedPersonRepository pepRepository;
+    private final KycReviewScheduler kycReviewScheduler;
+
+    public ScreeningHitRecorder(ScreeningEngine screeningEngine, PoliticallyExposedPersonRepository pepRepository,
+                                KycReviewScheduler kycReviewScheduler) {
+        this.screeningEngine = screeningEngine;
+        this.pepRepository = pepRepository;
+        this.kycReviewScheduler = kycReviewScheduler;
+    }
+
+    /**
+     * Screens the names of a party.
+     *
+     * @return the list entries the party hits, each once
+     */
+    PartyScreening screen(ScreeningCandidate candidate) {
+        return new PartyScreening(candidate.partyId(),
+                screeningEngine.screen(candidate.kind(), candidate.name(), candidate.alternateName()));
+    }
+
+    /**
+     * Records the hits of a batch of screened parties in a single statement, and removes the
+     * unconfirmed hits of those parties that were not found again.
+     *
+     * @return a Mono emitting the number of hits that were not recorded before
+     */
+    @Transactional
+    public Mono<Integer> record(List<PartyScreening> batch) {
+        UUID[] screenedPartyIds = new UUID[batch.size()];
+        List<UUID> partyIds = new ArrayList<>();
+        List<String> categories = new ArrayList<>();
+        List<String> notes = new ArrayList<>();
+        List<String> entryIds = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            PartyScreening screening = batch.get(i);
+            screenedPartyIds[i] = screening.partyId();
+            for (ScreeningEngine.Hit hit : screening.hits()) {
+                partyIds.add(screening.partyId());
+                categories.add(truncate(hit.category(), MAX_CATEGORY_LENGTH));
+                notes.add(truncate("Screening hit on " + (hit.pep() ? "PEP" : "sanctions") + " list entry "
+                        + hit.entryId() + ": " + hit.listedName(), MAX_NOTES_LENGTH));
+                entryIds.add(hit.entryId());
+            }
+        }
+        return pepRepository.recordScreeningHits(screenedPartyIds, partyIds.toArray(UUID[]::new),
+                        categories.toArray(String[]::new), notes.toArray(String[]::new), entryIds.toArray(String[]::new))
+                .collectList()
+                .flatMap(changes -> kycReviewScheduler.reschedule(changes.stream().map(ScreeningHitChange::getPartyId).toList())
+                        .thenReturn((int) changes.stream().filter(ScreeningHitChange::getRecorded).count()));
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,439 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process, per-tenant prefix index over normalized party names.
+ * <p>
+ * Each tenant keeps an immutable base of name keys sorted in a {@code String[]} with the owning
+ * party IDs stored as two {@code long[]} halves, plus a small sorted delta of recent writes.
+ * Parties written since the base was built are masked by a tombstone set; once the delta grows
+ * beyond the compaction threshold it is merged into a fresh base in a single linear pass.
+ * Compaction is held off while a bulk load is running, as the load needs the tombstones to drop
+ * the stale names it read for parties written meanwhile.
+ * Readers never lock: they work on a volatile snapshot of the tenant state.
+ * <p>
+ * Every name is indexed once per word suffix (up to {@value #MAX_WORD_SUFFIXES}), so that
+ * typing "smi" finds "John Smith".
+ */
+public class PartyNameTypeaheadIndex {
+
+    static final int MAX_WORD_SUFFIXES = 4;
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final char KEY_UPPER_BOUND = '\uffff';
+
+    private final int compactionThreshold;
+    private final Map<UUID, TenantIndex> tenants = new ConcurrentHashMap<>();
+    private final AtomicInteger loadsInFlight = new AtomicInteger();
+
+    public PartyNameTypeaheadIndex(int compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Replaces the indexed names of a party.
+     *
+     * @param tenantId the tenant of the party
+     * @param partyId the unique identifier of the party
+     * @param names the display names of the party; {@code null} entries are ignored
+     */
+    public void put(UUID tenantId, UUID partyId, String... names) {
+        tenants.computeIfAbsent(tenantId, id -> new TenantIndex())
+                .put(partyId, keysFor(names));
+    }
+
+    /**
+     * Removes every indexed name of a party.
+     */
+    public void remove(UUID tenantId, UUID partyId) {
+        TenantIndex tenant = tenants.get(tenantId);
+        if (tenant != null) {
+            tenant.remove(partyId);
+        }
+    }
+
+    /**
+     * Removes every indexed name of a party, whatever its tenant, for when the tenant is not known.
+     */
+    public void remove(UUID partyId) {
+        for (TenantIndex tenant : tenants.values()) {
+            tenant.remove(partyId);
+        }
+    }
+
+    /**
+     * Returns the parties of a tenant with a name key starting with the given prefix,
+     * in key order and without duplicates.
+     *
+     * @param tenantId the tenant to search
+     * @param prefix the typed prefix, normalized like the indexed names
+     * @param limit the maximum number of parties to return
+     * @return the matching party IDs
+     */
+    public List<UUID> suggest(UUID tenantId, String prefix, int limit) {
+        TenantIndex tenant = tenants.get(tenantId);
+        String normalized = normalizeName(prefix);
+        if (tenant == null || normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        return tenant.suggest(normalized, limit);
+    }
+
+    /**
+     * Returns the number of name keys indexed for a tenant, including masked ones not yet compacted.
+     */
+    public int size(UUID tenantId) {
+        TenantIndex tenant = tenants.get(tenantId);
+        return tenant == null ? 0 : tenant.state.size();
+    }
+
+    /**
+     * Returns the number of name keys indexed over all tenants, including masked ones not yet compacted.
+     */
+    public int size() {
+        int size = 0;
+        for (TenantIndex tenant : tenants.values()) {
+            size += tenant.state.size();
+        }
+        return size;
+    }
+
+    /**
+     * Starts a bulk load that replaces the base of every tenant it touches. The loader must be
+     * either committed or aborted, as compaction is held off until then.
+     */
+    public Loader newLoader() {
+        return new Loader();
+    }
+
+    static List<String> keysFor(String... names) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String name : names) {
+            String normalized = normalizeName(name);
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            String[] words = normalized.split(" ");
+            for (int i = 0, offset = 0; i < words.length && i < MAX_WORD_SUFFIXES; i++) {
+                keys.add(normalized.substring(offset));
+                offset += words[i].length() + 1;
+            }
+        }
+        return new ArrayList<>(keys);
+    }
+
+    static String normalizeName(String name) {
+        return SearchText.normalize(name).replaceAll("\\s+", " ");
+    }
+
+    private static String keyOf(String deltaKey) {
+        return deltaKey.substring(0, deltaKey.indexOf(KEY_SEPARATOR));
+    }
+
+    /**
+     * Accumulates names for a bulk load; {@link #commit()} swaps them in as the new tenant bases.
+     * Writes applied to the index while the load was running are preserved.
+     */
+    public final class Loader {
+
+        private final Map<UUID, BaseBuilder> builders = new HashMap<>();
+        private boolean finished;
+
+        private Loader() {
+            loadsInFlight.incrementAndGet();
+        }
+
+        public void add(UUID tenantId, UUID partyId, String... names) {
+            BaseBuilder builder = builders.computeIfAbsent(tenantId, id -> new BaseBuilder());
+            for (String key : keysFor(names)) {
+                builder.add(key, partyId);
+            }
+        }
+
+        public void commit() {
+            if (finished) {
+                return;
+            }
+            builders.forEach((tenantId, builder) -> tenants
+                    .computeIfAbsent(tenantId, id -> new TenantIndex())
+                    .replaceBase(builder.build()));
+            finish();
+        }
+
+        /**
+         * Discards the names loaded so far, leaving the index as it was apart from the writes applied meanwhile.
+         */
+        public void abort() {
+            if (!finished) {
+                finish();
+            }
+        }
+
+        private void finish() {
+            finished = true;
+            builders.clear();
+            loadsInFlight.decrementAndGet();
+        }
+    }
+
+    private final class TenantIndex {
+
+        private volatile State state = State.empty();
+
+        synchronized void put(UUID partyId, List<String> keys) {
+            State current = state;
+            current.tombstones.add(partyId);
+            current.removeDelta(partyId);
+            current.addDelta(partyId, keys);
+            if (current.deltaSize > compactionThreshold && loadsInFlight.get() == 0) {
+                state = current.compact();
+            }
+        }
+
+        synchronized void remove(UUID partyId) {
+            State current = state;
+            current.tombstones.add(partyId);
+            current.removeDelta(partyId);
+        }
+
+        synchronized void replaceBase(Base loaded) {
+            State current = state;
+            Base filtered = loaded.without(current.tombstones);
+            state = new State(filtered, current.delta, ConcurrentHashMap.newKeySet(), current.deltaKeys, current.deltaSize)
+                    .compact();
+        }
+
+        List<UUID> suggest(String prefix, int limit) {
+            State snapshot = state;
+            Set<UUID> result = new LinkedHashSet<>();
+            Base base = snapshot.base;
+            int i = base.lowerBound(prefix);
+            Iterator<Map.Entry<String, UUID>> delta = snapshot.delta
+                    .subMap(prefix, prefix + KEY_UPPER_BOUND)
+                    .entrySet()
+                    .iterator();
+            Map.Entry<String, UUID> next = delta.hasNext() ? delta.next() : null;
+            while (result.size() < limit) {
+                boolean baseMatches = i < base.keys.length && base.keys[i].startsWith(prefix);
+                if (!baseMatches && next == null) {
+                    break;
+                }
+                if (baseMatches && (next == null || base.keys[i].compareTo(keyOf(next.getKey())) <= 0)) {
+                    UUID partyId = base.partyId(i++);
+                    if (!snapshot.tombstones.contains(partyId)) {
+                        result.add(partyId);
+                    }
+                } else {
+                    result.add(next.getValue());
+                    next = delta.hasNext() ? delta.next() : null;
+                }
+            }
+            return new ArrayList<>(result);
+        }
+    }
+
+    private static final class State {
+
+        final Base base;
+        final ConcurrentNavigableMap<String, UUID> delta;
+        final Set<UUID> tombstones;
+        final Map<UUID, List<String>> deltaKeys;
+        int deltaSize;
+
+        State(Base base, ConcurrentNavigableMap<String, UUID> delta, Set<UUID> tombstones,
+              Map<UUID, List<String>> deltaKeys, int deltaSize) {
+            this.base = base;
+            this.delta = delta;
+            this.tombstones = tombstones;
+            this.deltaKeys = deltaKeys;
+            this.deltaSize = deltaSize;
+        }
+
+        static State empty() {
+            return new State(Base.EMPTY, new ConcurrentSkipListMap<>(), ConcurrentHashMap.newKeySet(), new HashMap<>(), 0);
+        }
+
+        int size() {
+            return base.keys.length + deltaSize;
+        }
+
+        void addDelta(UUID partyId, List<String> keys) {
+            List<String> deltaKeysOfParty = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                String deltaKey = key + KEY_SEPARATOR + partyId;
+                delta.put(deltaKey, partyId);
+                deltaKeysOfParty.add(deltaKey);
+            }
+            deltaKeys.put(partyId, deltaKeysOfParty);
+            deltaSize += deltaKeysOfParty.size();
+        }
+
+        void removeDelta(UUID partyId) {
+            List<String> previous = deltaKeys.remove(partyId);
+            if (previous != null) {
+                previous.forEach(delta::remove);
+                deltaSize -= previous.size();
+            }
+        }
+
+        /**
+         * Merges the unmasked base entries with the delta into a new base in one linear pass.
+         */
+        State compact() {
+            BaseBuilder merged = new BaseBuilder(base.keys.length + deltaSize);
+            Iterator<Map.Entry<String, UUID>> deltaEntries = delta.entrySet().iterator();
+            Map.Entry<String, UUID> next = deltaEntries.hasNext() ? deltaEntries.next() : null;
+            int i = 0;
+            while (i < base.keys.length || next != null) {
+                if (i < base.keys.length && (next == null || base.keys[i].compareTo(keyOf(next.getKey())) <= 0)) {
+                    UUID partyId = base.partyId(i);
+                    if (!tombstones.contains(partyId)) {
+                        merged.add(base.keys[i], partyId);
+                    }
+                    i++;
+                } else {
+                    merged.add(keyOf(next.getKey()), next.getValue());
+                    next = deltaEntries.hasNext() ? deltaEntries.next() : null;
+                }
+            }
+            return new State(merged.buildSorted(), new ConcurrentSkipListMap<>(), ConcurrentHashMap.newKeySet(), new HashMap<>(), 0);
+        }
+    }
+
+    private static final class Base {
+
+        static final Base EMPTY = new Base(new String[0], new long[0], new long[0]);
+
+        final String[] keys;
+        final long[] mostSignificantBits;
+        final long[] leastSignificantBits;
+
+        Base(String[] keys, long[] mostSignificantBits, long[] leastSignificantBits) {
+            this.keys = keys;
+            this.mostSignificantBits = mostSignificantBits;
+            this.leastSignificantBits = leastSignificantBits;
+        }
+
+        UUID partyId(int index) {
+            return new UUID(mostSignificantBits[index], leastSignificantBits[index]);
+        }
+
+        int lowerBound(String prefix) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        Base without(Set<UUID> masked) {
+            if (masked.isEmpty()) {
+                return this;
+            }
+            BaseBuilder builder = new BaseBuilder(keys.length);
+            for (int i = 0; i < keys.length; i++) {
+                UUID partyId = partyId(i);
+                if (!masked.contains(partyId)) {
+                    builder.add(keys[i], partyId);
+                }
+            }
+            return builder.buildSorted();
+        }
+    }
+
+    private static final class BaseBuilder {
+
+        private String[] keys;
+        private long[] mostSignificantBits;
+        private long[] leastSignificantBits;
+        private int size;
+
+        BaseBuilder() {
+            this(1024);
+        }
+
+        BaseBuilder(int capacity) {
+            keys = new String[Math.max(capacity, 16)];
+            mostSignificantBits = new long[keys.length];
+            leastSignificantBits = new long[keys.length];
+        }
+
+        void add(String key, UUID partyId) {
+            if (size == keys.length) {
+                int capacity = keys.length + (keys.length >> 1);
+                keys = Arrays.copyOf(keys, capacity);
+                mostSignificantBits = Arrays.copyOf(mostSignificantBits, capacity);
+                leastSignificantBits = Arrays.copyOf(leastSignificantBits, capacity);
+            }
+            keys[size] = key;
+            mostSignificantBits[size] = partyId.getMostSignificantBits();
+            leastSignificantBits[size] = partyId.getLeastSignificantBits();
+            size++;
+        }
+
+        /**
+         * Builds a base from entries added in key order.
+         */
+        Base buildSorted() {
+            return new Base(Arrays.copyOf(keys, size),
+                    Arrays.copyOf(mostSignificantBits, size),
+                    Arrays.copyOf(leastSignificantBits, size));
+        }
+
+        /**
+         * Builds a base from entries added in any order.
+         */
+        Base build() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparing(index -> keys[index]));
+            String[] sortedKeys = new String[size];
+            long[] sortedMostSignificantBits = new long[size];
+            long[] sortedLeastSignificantBits = new long[size];
+            for (int i = 0; i < size; i++) {
+                sortedKeys[i] = keys[order[i]];
+                sortedMostSignificantBits[i] = mostSignificantBits[order[i]];
+                sortedLeastSignificantBits[i] = leastSignificantBits[order[i]];
+            }
+            return new Base(sortedKeys, sortedMostSignificantBits, sortedLeastSignificantBits);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.customer.core.search;
+
+import com.firefly.core.customer.models.repositories.PartySearchDocumentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rebuilds the party search documents without taking search offline.
+ * <p>
+ * The documents are written to a shadow table in throttled batches while searches keep
+ * reading the live table. Parties refreshed during the build are recorded by the database
+ * and replayed into the shadow table until the backlog is small; the remainder is replayed
+ * while the live table is locked against writes, and the shadow table is then swapped in
+ * within the same transaction. Every batch runs in its own short transaction.
+ * <p>
+ * Each batch also touches a heartbeat. Every node periodically expires a rebuild whose
+ * heartbeat stopped, so that a node dying mid-way does not leave the change log growing
+ * and block later rebuilds. Outcomes are logged and counted.
+ */
+@Slf4j
+@Component
+public class PartySearchIndexRebuilder {
+
+    /** Lowest UUID in PostgreSQL ordering, used to start walking the party table. */
+    private static final UUID FIRST_PARTY_ID = new UUID(0L, 0L);
+
+    private final PartySearchDocumentRepository repository;
+    private final int batchSize;
+    private final int catchUpBatchSize;
+    private final Duration pause;
+    private final Duration expireAfter;
+    private final Duration expiryCheckInterval;
+    private final Counter completed;
+    private final Counter failed;
+    private final Counter expired;
+    private volatile Disposable running;
+    private volatile Disposable expiryCheck;
+
+    public PartySearchIndexRebuilder(
+            PartySearchDocumentRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${firefly.customer.search-rebuild.batch-size:500}") int batchSize,
+            @Value("${firefly.customer.search-rebuild.catch-up-batch-size:1000}") int catchUpBatchSize,
+            @Value("${firefly.customer.search-rebuild.pause:PT0.2S}") Duration pause,
+            @Value("${firefly.customer.search-rebuild.expire-after:PT10M}") Duration expireAfter,
+            @Value("${firefly.customer.search-rebuild.expiry-check-interval:PT1M}") Duration expiryCheckInterval) {
+        this.repository = repository;
+        this.batchSize = batchSize;
+        this.catchUpBatchSize = catchUpBatchSize;
+        this.pause = pause;
+        this.expireAfter = expireAfter;
+        this.expiryCheckInterval = expiryCheckInterval;
+        this.completed = Counter.builder("customer.search.rebuild.completed")
+                .description("Search document rebuilds swapped in")
+                .register(meterRegistry);
+        this.failed = Counter.builder("customer.search.rebuild.failed")
+                .description("Search document rebuilds that failed and were abandoned")
+                .register(meterRegistry);
+        this.expired = Counter.builder("customer.search.rebuild.expired")
+                .description("Search document rebuilds abandoned because their heartbeat stopped")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startExpiryCheck() {
+        expiryCheck = Flux.interval(expiryCheckInterval)
+                .concatMap(tick -> repository.expireRebuild(expireAfter.toSeconds())
+                        .onErrorResume(error -> {
+                            log.warn("Failed to check for an abandoned search document rebuild", error);
+                            return Mono.just(false);
+                        }))
+                .filter(Boolean::booleanValue)
+                .subscribe(ignored -> {
+                    expired.increment();
+                    log.warn("Expired an abandoned party search document rebuild");
+                });
+    }
+
+    @PreDestroy
+    public void stop() {
+        Disposable current = expiryCheck;
+        if (current != null) {
+            current.dispose();
+        }
+        // A rebuild cut short here stops touching its heartbeat and is expired by another node
+        Disposable rebuild = running;
+        if (rebuild != null) {
+            rebuild.dispose();
+        }
+    }
+
+    /**
+     * Starts a rebuild in the background.
+     *
+     * @return a Mono emitting {@code true} if the rebuild was started, or {@code false}
+     *         if another rebuild is already running
+     */
+    public Mono<Boolean> start() {
+        return repository.beginRebuild(expireAfter.toSeconds())
+                .doOnNext(started -> {
+                    if (started) {
+                        running = rebuild().subscribe(null,
+                                error -> log.error("Failed to abandon party search document rebuild", error));
+                    }
+                });
+    }
+
+    /**
+     * Abandons a running rebuild, for instance one left behind by a node that crashed mid-way.
+     */
+    public Mono<Void> abort() {
+        return repository.abortRebuild();
+    }
+
+    Mono<Void> rebuild() {
+        log.info("Rebuilding party search documents");
+        return fillBatch(FIRST_PARTY_ID)
+                .expand(lastPartyId -> Mono.delay(pause).then(fillBatch(lastPartyId)))
+                .then(repository.indexShadow())
+                .then(catchUp())
+                .then(repository.swapShadow())
+                .doOnSuccess(ignored -> {
+                    completed.increment();
+                    log.info("Rebuilt party search documents");
+                })
+                .onErrorResume(error -> {
+                    failed.increment();
+                    log.error("Failed to rebuild party search documents", error);
+                    return repository.abortRebuild();
+                });
+    }
+
+    /**
+     * Fills the shadow table with the next batch of parties.
+     *
+     * @return a Mono emitting the last party of the batch, or empty when all parties are done
+     */
+    private Mono<UUID> fillBatch(UUID afterPartyId) {
+        return repository.findPartyIdsAfter(afterPartyId, batchSize)
+                .collectList()
+                .filter(partyIds -> !partyIds.isEmpty())
+                .flatMap(partyIds -> repository.fillShadow(partyIds.toArray(UUID[]::new))
+                        .thenReturn(last(partyIds)));
+    }
+
+    /**
+     * Replays recorded changes until a pass finds less than a full batch, leaving only a
+     * small remainder for the swap, which blocks writers while it runs.
+     */
+    private Mono<Void> catchUp() {
+        return repository.catchUpShadow(catchUpBatchSize)
+                .expand(replayed -> replayed < catchUpBatchSize
+                        ? Mono.empty()
+                        : Mono.delay(pause).then(repository.catchUpShadow(catchUpBatchSize)))
+                .then();
+    }
+
+    private static UUID last(List<UUID> partyIds) {
+        return partyIds.get(partyIds.size() - 1);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.search;
+
+import com.firefly.core.customer.models.repositories.PartySearchDocumentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Keeps the party search documents in step with the service write paths.
+ * <p>
+ * Services call {@link #refresh(UUID)} from within their own reactive chain so that the
+ * document is rebuilt in the same transaction as the change that made it stale.
+ */
+@Component
+@RequiredArgsConstructor
+public class PartySearchIndexer {
+
+    private final PartySearchDocumentRepository repository;
+
+    /**
+     * Rebuilds the search document of a party.
+     *
+     * @param partyId the unique identifier of the party, ignored if {@code null}
+     * @return a Mono that completes when the document has been refreshed
+     */
+    public Mono<Void> refresh(UUID partyId) {
+        return refreshAndGetTenant(partyId).then();
+    }
+
+    /**
+     * Rebuilds the search document of a party and emits the tenant of the party, which the refresh
+     * reads anyway, for callers that also maintain per-tenant structures.
+     *
+     * @param partyId the unique identifier of the party, ignored if {@code null}
+     * @return a Mono emitting the tenant of the party, or empty if the party does not exist
+     */
+    public Mono<UUID> refreshAndGetTenant(UUID partyId) {
+        if (partyId == null) {
+            return Mono.empty();
+        }
+        return repository.refreshDocument(partyId);
+    }
+}
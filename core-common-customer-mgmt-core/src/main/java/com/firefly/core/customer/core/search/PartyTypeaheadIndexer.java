@@ -0,0 +1,163 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.search;
+
+import com.firefly.core.customer.core.index.RebuildableIndexer;
+import com.firefly.core.customer.core.transaction.AfterCommit;
+import com.firefly.core.customer.models.entities.LegalEntity;
+import com.firefly.core.customer.models.entities.NaturalPerson;
+import com.firefly.core.customer.models.projections.PartyNameEntry;
+import com.firefly.core.customer.models.repositories.PartyRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maintains the in-memory typeahead index of party names.
+ * <p>
+ * The index is rebuilt from the database on a fixed interval, which picks up names written on
+ * other nodes, and in between it is kept up to date by the natural person, legal entity and
+ * party write paths, once their writes commit. The write paths pass the tenant of the party
+ * along, as read by the search document refresh. Suggestions are served from memory only and
+ * never touch the database.
+ */
+@Slf4j
+@Component
+public class PartyTypeaheadIndexer extends RebuildableIndexer<PartyNameTypeaheadIndex> {
+
+    private final PartyRepository partyRepository;
+    private final int compactionThreshold;
+
+    public PartyTypeaheadIndexer(
+            PartyRepository partyRepository,
+            @Value("${firefly.customer.typeahead.compaction-threshold:10000}") int compactionThreshold,
+            @Value("${firefly.customer.typeahead.rebuild-interval:PT15M}") Duration rebuildInterval) {
+        super("typeahead index", rebuildInterval, new PartyNameTypeaheadIndex(compactionThreshold));
+        this.partyRepository = partyRepository;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        startRebuilding();
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopRebuilding();
+    }
+
+    /**
+     * Indexes the names of a natural person of the given tenant.
+     */
+    public Mono<Void> index(UUID tenantId, NaturalPerson naturalPerson) {
+        return put(tenantId, naturalPerson.getPartyId(),
+                String.join(" ", nonNull(naturalPerson.getGivenName(), naturalPerson.getMiddleName(),
+                        naturalPerson.getFamilyName1(), naturalPerson.getFamilyName2())),
+                String.join(" ", nonNull(naturalPerson.getGivenName(),
+                        naturalPerson.getFamilyName1(), naturalPerson.getFamilyName2())));
+    }
+
+    /**
+     * Indexes the legal and trade names of a legal entity of the given tenant.
+     */
+    public Mono<Void> index(UUID tenantId, LegalEntity legalEntity) {
+        return put(tenantId, legalEntity.getPartyId(), legalEntity.getLegalName(), legalEntity.getTradeName());
+    }
+
+    /**
+     * Removes every indexed name of a party of the given tenant.
+     */
+    public Mono<Void> remove(UUID tenantId, UUID partyId) {
+        if (tenantId == null || partyId == null) {
+            return Mono.empty();
+        }
+        return AfterCommit.run(() -> apply(new UUID[]{partyId}, current -> current.remove(tenantId, partyId)));
+    }
+
+    /**
+     * Returns the parties of a tenant whose name has a word starting with the given prefix.
+     */
+    public List<UUID> suggest(UUID tenantId, String prefix, int limit) {
+        return index().suggest(tenantId, prefix, limit);
+    }
+
+    @Override
+    protected Mono<PartyNameTypeaheadIndex> build(PartyNameTypeaheadIndex previous) {
+        PartyNameTypeaheadIndex built = new PartyNameTypeaheadIndex(compactionThreshold);
+        PartyNameTypeaheadIndex.Loader loader = built.newLoader();
+        return partyRepository.streamPartyNames()
+                .doOnNext(entry -> loader.add(entry.getTenantId(), entry.getPartyId(), entry.getName(), entry.getAlternateName()))
+                .then(Mono.fromCallable(() -> {
+                    loader.commit();
+                    return built;
+                }))
+                .doOnError(error -> loader.abort());
+    }
+
+    @Override
+    protected int size(PartyNameTypeaheadIndex index) {
+        return index.size();
+    }
+
+    @Override
+    protected Mono<Void> reread(UUID[] partyIds) {
+        return partyRepository.findPartyNames(partyIds)
+                .collectMultimap(PartyNameEntry::getPartyId)
+                .doOnNext(entries -> apply(partyIds, current -> {
+                    for (UUID partyId : partyIds) {
+                        Collection<PartyNameEntry> names = entries.get(partyId);
+                        if (names == null) {
+                            current.remove(partyId);
+                            continue;
+                        }
+                        List<String> all = new ArrayList<>();
+                        for (PartyNameEntry name : names) {
+                            all.add(name.getName());
+                            all.add(name.getAlternateName());
+                        }
+                        current.put(names.iterator().next().getTenantId(), partyId, all.toArray(String[]::new));
+                    }
+                }))
+                .then();
+    }
+
+    private Mono<Void> put(UUID tenantId, UUID partyId, String... names) {
+        if (tenantId == null || partyId == null) {
+            return Mono.empty();
+        }
+        return AfterCommit.run(() -> apply(new UUID[]{partyId}, current -> current.put(tenantId, partyId, names)));
+    }
+
+    private static List<String> nonNull(String... parts) {
+        return Arrays.stream(parts)
+                .filter(part -> part != null && !part.isBlank())
+                .toList();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.customer.core.search;
+
+import com.firefly.core.customer.models.repositories.LegalEntityRepository;
+import com.firefly.core.customer.models.repositories.NaturalPersonRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * Computes the phonetic name keys of rows written before the keys existed.
+ * <p>
+ * Runs once the application is ready, in bounded batches so that it neither holds a
+ * long transaction nor floods the connection pool. New and updated rows get their keys
+ * on write, so the backfill converges and becomes a no-op on later startups. The search
+ * document of each backfilled party is refreshed so that phonetic search finds it.
+ */
+@Slf4j
+@Component
+public class PhoneticKeyBackfill {
+
+    private static final int UPDATE_CONCURRENCY = 4;
+
+    private final NaturalPersonRepository naturalPersonRepository;
+    private final LegalEntityRepository legalEntityRepository;
+    private final PartySearchIndexer searchIndexer;
+    private final int batchSize;
+
+    public PhoneticKeyBackfill(
+            NaturalPersonRepository naturalPersonRepository,
+            LegalEntityRepository legalEntityRepository,
+            PartySearchIndexer searchIndexer,
+            @Value("${firefly.customer.phonetic-keys.backfill-batch-size:500}") int batchSize) {
+        this.naturalPersonRepository = naturalPersonRepository;
+        this.legalEntityRepository = legalEntityRepository;
+        this.searchIndexer = searchIndexer;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        drain(this::backfillNaturalPersons)
+                .concatWith(drain(this::backfillLegalEntities))
+                .reduce(0L, Long::sum)
+                .subscribe(
+                        count -> log.info("Backfilled phonetic name keys of {} rows", count),
+                        error -> log.error("Failed to backfill phonetic name keys", error));
+    }
+
+    Mono<Long> backfillNaturalPersons() {
+        return naturalPersonRepository.findWithoutPhoneticKeys(batchSize)
+                .map(PhoneticKeys::apply)
+                .flatMap(naturalPerson -> naturalPersonRepository.updatePhoneticKeys(
+                        naturalPerson.getNaturalPersonId(),
+                        naturalPerson.getGivenNamePhonetic(),
+                        naturalPerson.getFamilyName1Phonetic(),
+                        naturalPerson.getFamilyName2Phonetic())
+                        .then(searchIndexer.refresh(naturalPerson.getPartyId()))
+                        .thenReturn(naturalPerson), UPDATE_CONCURRENCY)
+                .count();
+    }
+
+    Mono<Long> backfillLegalEntities() {
+        return legalEntityRepository.findWithoutPhoneticKeys(batchSize)
+                .map(PhoneticKeys::apply)
+                .flatMap(legalEntity -> legalEntityRepository.updatePhoneticKeys(
+                        legalEntity.getLegalEntityId(),
+                        legalEntity.getLegalNamePhonetic())
+                        .then(searchIndexer.refresh(legalEntity.getPartyId()))
+                        .thenReturn(legalEntity), UPDATE_CONCURRENCY)
+                .count();
+    }
+
+    /**
+     * Repeats a batch until it processes no rows and sums the processed row counts.
+     */
+    private static Mono<Long> drain(Supplier<Mono<Long>> batch) {
+        return Mono.defer(batch)
+                .expand(count -> count > 0 ? Mono.defer(batch) : Mono.empty())
+                .reduce(0L, Long::sum);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.customer.core.search;
+
+import com.firefly.core.customer.models.entities.LegalEntity;
+import com.firefly.core.customer.models.entities.NaturalPerson;
+import org.apache.commons.codec.language.DoubleMetaphone;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Computes the Double Metaphone keys stored alongside party names for approximate matching.
+ * <p>
+ * Every word of a name contributes its primary and alternate code, so that "Jon Smyth"
+ * and "John Smith" share keys. Names without any encodable word get an empty key array,
+ * which marks the row as processed.
+ */
+public final class PhoneticKeys {
+
+    private static final String[] NO_KEYS = new String[0];
+    private static final Pattern NON_LETTER = Pattern.compile("[^a-z]");
+
+    /** Stateless once configured, so a single instance is shared by all threads. */
+    private static final DoubleMetaphone ENCODER = new DoubleMetaphone();
+
+    private PhoneticKeys() {
+    }
+
+    /**
+     * Computes the distinct phonetic keys of every word of a name.
+     *
+     * @param name the name to encode, may be {@code null}
+     * @return the phonetic keys in word order, never {@code null}
+     */
+    public static String[] keysFor(String name) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String token : SearchText.tokenize(SearchText.normalize(name))) {
+            String word = NON_LETTER.matcher(token).replaceAll("");
+            if (word.isEmpty()) {
+                continue;
+            }
+            addKey(keys, ENCODER.doubleMetaphone(word, false));
+            addKey(keys, ENCODER.doubleMetaphone(word, true));
+        }
+        return keys.isEmpty() ? NO_KEYS : keys.toArray(NO_KEYS);
+    }
+
+    /**
+     * Sets the phonetic keys of the given, first family and second family names.
+     *
+     * @param naturalPerson the natural person about to be saved
+     * @return the same natural person, for chaining
+     */
+    public static NaturalPerson apply(NaturalPerson naturalPerson) {
+        naturalPerson.setGivenNamePhonetic(keysFor(naturalPerson.getGivenName()));
+        naturalPerson.setFamilyName1Phonetic(keysFor(naturalPerson.getFamilyName1()));
+        naturalPerson.setFamilyName2Phonetic(keysFor(naturalPerson.getFamilyName2()));
+        return naturalPerson;
+    }
+
+    /**
+     * Sets the phonetic keys of the legal name.
+     *
+     * @param legalEntity the legal entity about to be saved
+     * @return the same legal entity, for chaining
+     */
+    public static LegalEntity apply(LegalEntity legalEntity) {
+        legalEntity.setLegalNamePhonetic(keysFor(legalEntity.getLegalName()));
+        return legalEntity;
+    }
+
+    private static void addKey(Set<String> keys, String key) {
+        if (key != null && !key.isEmpty()) {
+            keys.add(key);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalization helpers shared by the party search structures.
+ */
+public final class SearchText {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern PHONE_NUMBER = Pattern.compile("\\+?[\\d(][\\d\\s().\\-]{4,}\\d");
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}@._\\-]+");
+    private static final Pattern NON_DIGIT = Pattern.compile("\\D");
+    private static final Pattern UNSAFE_LEXEME_CHARS = Pattern.compile("[^\\p{L}\\p{N}@._\\-]");
+
+    private SearchText() {
+    }
+
+    /**
+     * Lower-cases the text and strips diacritics, so that accented and unaccented spellings compare equal.
+     *
+     * @param text the text to normalize, may be {@code null}
+     * @return the normalized text, or an empty string for {@code null}
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT).trim();
+    }
+
+    /**
+     * Splits free text typed in a search box into normalized search tokens.
+     * Phone numbers are reduced to a single token of digits to match how they are indexed.
+     *
+     * @param input the raw search input
+     * @return the non-empty search tokens, in input order
+     */
+    public static List<String> tokenize(String input) {
+        List<String> tokens = new ArrayList<>();
+        if (input == null) {
+            return tokens;
+        }
+        String collapsed = PHONE_NUMBER.matcher(input.toLowerCase(Locale.ROOT))
+                .replaceAll(match -> NON_DIGIT.matcher(match.group()).replaceAll(""));
+        for (String raw : TOKEN_SEPARATOR.split(collapsed)) {
+            String token = UNSAFE_LEXEME_CHARS.matcher(raw).replaceAll("");
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Builds a PostgreSQL tsquery that matches documents containing every token as a prefix.
+     *
+     * @param input the raw search input
+     * @return the tsquery expression, or {@code null} if the input contains no searchable token
+     */
+    public static String toPrefixTsQuery(String input) {
+        List<String> tokens = tokenize(input);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        StringBuilder query = new StringBuilder();
+        for (String token : tokens) {
+            if (!query.isEmpty()) {
+                query.append(" & ");
+            }
+            query.append('\'').append(token).append("':*");
+        }
+        return query.toString();
+    }
+}
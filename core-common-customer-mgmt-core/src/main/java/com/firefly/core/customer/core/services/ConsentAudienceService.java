@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.services;
+
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Service interface for evaluating consents in bulk, such as building the audience of a marketing
+ * campaign from the parties that currently grant the consent it needs.
+ */
+public interface ConsentAudienceService {
+
+    /**
+     * Selects the parties of a stream that currently grant a consent type on a channel. Consents
+     * recorded without a channel grant every channel. The candidates are evaluated in chunks as
+     * they arrive, so the stream can hold millions of parties.
+     *
+     * @param consentTypeId the unique identifier of the consent type
+     * @param channel the channel the parties would be contacted through, or {@code null} to require
+     *                a consent that is not restricted to a channel
+     * @param partyIds the candidate parties
+     * @return a Flux emitting the eligible candidates
+     */
+    Flux<UUID> evaluateAudience(UUID consentTypeId, String channel, Flux<UUID> partyIds);
+
+    /**
+     * Streams every party of a tenant that currently grants a consent type on a channel.
+     *
+     * @param tenantId the unique identifier of the tenant
+     * @param consentTypeId the unique identifier of the consent type
+     * @param channel the channel the parties would be contacted through, or {@code null} to require
+     *                a consent that is not restricted to a channel
+     * @return a Flux emitting the eligible parties
+     */
+    Flux<UUID> streamTenantAudience(UUID tenantId, UUID consentTypeId, String channel);
+}
\ No newline at end of file
@@ -19,7 +19,10 @@ package com.firefly.core.customer.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.interfaces.dtos.ConsentCheckDTO;
 import com.firefly.core.customer.interfaces.dtos.ConsentDTO;
+import com.firefly.core.customer.interfaces.dtos.ConsentHistoryDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -37,16 +40,20 @@ public interface ConsentService {
     Mono<PaginationResponse<ConsentDTO>> filterConsents(UUID partyId, FilterRequest<ConsentDTO> filterRequest);
     
     /**
-     * Creates a new consent based on the provided information for a specific party.
+     * Records the state of a consent for a specific party. A party has one current consent per
+     * consent type and channel, so recording a consent replaces the current one for its type and
+     * channel, if any. The new state is also appended to the consent history.
      *
      * @param partyId the unique identifier of the party that will own the consent
-     * @param consentDTO the DTO object containing details of the consent to be created
-     * @return a Mono that emits the created ConsentDTO object
+     * @param consentDTO the DTO object containing details of the consent to be recorded
+     * @return a Mono that emits the current ConsentDTO object
      */
     Mono<ConsentDTO> createConsent(UUID partyId, ConsentDTO consentDTO);
     
     /**
-     * Updates an existing consent with updated information.
+     * Updates an existing consent with updated information. Only the granted flag and the grant
+     * and revocation times change; the party, consent type and channel of a consent are fixed.
+     * The new state is also appended to the consent history.
      *
      * @param partyId the unique identifier of the party that owns the consent
      * @param consentId the unique identifier of the consent to be updated
@@ -56,7 +63,8 @@ public interface ConsentService {
     Mono<ConsentDTO> updateConsent(UUID partyId, UUID consentId, ConsentDTO consentDTO);
     
     /**
-     * Deletes a consent identified by its unique ID, validating party ownership.
+     * Deletes a consent identified by its unique ID, validating party ownership, and records the
+     * deletion in the consent history.
      *
      * @param partyId the unique identifier of the party that owns the consent
      * @param consentId the unique identifier of the consent to be deleted
@@ -73,4 +81,36 @@ public interface ConsentService {
      *         or an empty Mono if the consent does not exist
      */
     Mono<ConsentDTO> getConsentById(UUID partyId, UUID consentId);
+
+    /**
+     * Checks whether a party currently grants a consent type. Consents recorded without a channel
+     * grant every channel. Answered from memory for parties checked recently.
+     *
+     * @param partyId the unique identifier of the party
+     * @param consentTypeId the unique identifier of the consent type
+     * @param channel the channel the party would be contacted through, or {@code null} to require
+     *                a consent that is not restricted to a channel
+     * @return a Mono emitting the outcome of the check
+     */
+    Mono<ConsentCheckDTO> checkConsent(UUID partyId, UUID consentTypeId, String channel);
+
+    /**
+     * Retrieves the current consent of a party for a consent type and channel through the unique
+     * key of the consent table.
+     *
+     * @param partyId the unique identifier of the party
+     * @param consentTypeId the unique identifier of the consent type
+     * @param channel the channel of the consent, or {@code null} for the consent without a channel
+     * @return a Mono emitting the current consent, or an error if none was recorded
+     */
+    Mono<ConsentDTO> getCurrentConsent(UUID partyId, UUID consentTypeId, String channel);
+
+    /**
+     * Lists the states the consents of a party for a consent type have been in, across all channels.
+     *
+     * @param partyId the unique identifier of the party
+     * @param consentTypeId the unique identifier of the consent type
+     * @return a Flux emitting the recorded states, most recent first
+     */
+    Flux<ConsentHistoryDTO> getConsentHistory(UUID partyId, UUID consentTypeId);
 }
\ No newline at end of file
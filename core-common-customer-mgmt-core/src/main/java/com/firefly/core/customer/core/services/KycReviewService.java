@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.services;
+
+import com.firefly.core.customer.interfaces.dtos.KycReviewDTO;
+import com.firefly.core.customer.interfaces.dtos.KycReviewLeaseDTO;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Service interface for the risk-based KYC refresh schedule, from which case-management
+ * systems pull the reviews that are due in leased batches.
+ */
+public interface KycReviewService {
+
+    /**
+     * Retrieves the KYC review schedule of a party.
+     *
+     * @param partyId the unique identifier of the party
+     * @return a Mono emitting the schedule, or an error if the party has none
+     */
+    Mono<KycReviewDTO> getKycReview(UUID partyId);
+
+    /**
+     * Leases a batch of due reviews, earliest first. Reviews already under a lease that has not
+     * ended are skipped, so concurrent workers get disjoint batches.
+     *
+     * @param limit the maximum number of reviews to lease
+     * @param leaseDuration how long the worker may hold the reviews
+     * @return a Mono emitting the lease and its reviews, which are empty if none is due
+     */
+    Mono<KycReviewLeaseDTO> leaseDueReviews(int limit, Duration leaseDuration);
+
+    /**
+     * Records the review of a party as done and schedules its next review.
+     *
+     * @param partyId the unique identifier of the party reviewed
+     * @param leaseId the unique identifier of the lease the review was handed out under
+     * @return a Mono emitting the new schedule, or an error if the review is not held under the lease
+     */
+    Mono<KycReviewDTO> completeReview(UUID partyId, UUID leaseId);
+
+    /**
+     * Ends a lease early, so that the reviews it still holds can be leased again.
+     *
+     * @param leaseId the unique identifier of the lease
+     * @return a Mono that completes when the lease has been released
+     */
+    Mono<Void> releaseLease(UUID leaseId);
+}
\ No newline at end of file
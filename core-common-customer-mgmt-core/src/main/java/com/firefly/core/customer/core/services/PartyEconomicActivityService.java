@@ -19,8 +19,12 @@ package com.firefly.core.customer.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.interfaces.dtos.EconomicActivityTurnoverDTO;
 import com.firefly.core.customer.interfaces.dtos.PartyEconomicActivityDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 /**
@@ -73,4 +77,25 @@ public interface PartyEconomicActivityService {
      *         or an empty Mono if the party economic activity does not exist
      */
     Mono<PartyEconomicActivityDTO> getPartyEconomicActivityById(UUID partyId, UUID partyEconomicActivityId);
+
+    /**
+     * Lists the party economic activities of a party that were valid at a point in time, i.e. started at or
+     * before it and not yet ended.
+     *
+     * @param partyId the unique identifier of the party
+     * @param asOf the point in time to evaluate the party economic activities at
+     * @return a Flux emitting the party economic activities valid at that time
+     */
+    Flux<PartyEconomicActivityDTO> getPartyEconomicActivitiesAsOf(UUID partyId, OffsetDateTime asOf);
+
+    /**
+     * Lists the annual turnover of the party economic activities of a tenant, one entry per economic
+     * activity and currency, from rollups kept up to date on every write.
+     *
+     * @param tenantId the tenant to report on
+     * @param economicActivityId the only economic activity to report, or null for all
+     * @param currencyCode the only currency to report, or null for all
+     * @return a Flux emitting the turnover of each economic activity and currency
+     */
+    Flux<EconomicActivityTurnoverDTO> getEconomicActivityTurnovers(UUID tenantId, UUID economicActivityId, String currencyCode);
 }
\ No newline at end of file
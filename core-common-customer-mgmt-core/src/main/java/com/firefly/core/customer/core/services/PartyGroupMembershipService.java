@@ -19,8 +19,14 @@ package com.firefly.core.customer.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.interfaces.dtos.PartyGroupMembersRequestDTO;
 import com.firefly.core.customer.interfaces.dtos.PartyGroupMembershipDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyGroupMembershipResultDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyGroupSizeDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 /**
@@ -73,4 +79,56 @@ public interface PartyGroupMembershipService {
      *         or an empty Mono if the party group membership does not exist
      */
     Mono<PartyGroupMembershipDTO> getPartyGroupMembershipById(UUID partyId, UUID partyGroupMembershipId);
+
+    /**
+     * Lists the party group memberships of a party that were valid at a point in time, i.e. started at or
+     * before it and not yet ended.
+     *
+     * @param partyId the unique identifier of the party
+     * @param asOf the point in time to evaluate the party group memberships at
+     * @return a Flux emitting the party group memberships valid at that time
+     */
+    Flux<PartyGroupMembershipDTO> getPartyGroupMembershipsAsOf(UUID partyId, OffsetDateTime asOf);
+
+    /**
+     * Streams the memberships of a group in party order. A client that lost the stream can resume
+     * it by passing the party and membership of the last membership it received.
+     *
+     * @param groupId the unique identifier of the group
+     * @param activeOnly whether to stream only active memberships
+     * @param afterPartyId the party to resume after, or {@code null} to start from the beginning
+     * @param afterMembershipId the membership of that party to resume after, or {@code null} to skip
+     *                          all memberships of the party
+     * @return a Flux emitting the memberships of the group, ordered by party and membership
+     */
+    Flux<PartyGroupMembershipDTO> streamGroupMembers(UUID groupId, boolean activeOnly, UUID afterPartyId,
+                                                     UUID afterMembershipId);
+
+    /**
+     * Retrieves the number of active members of a group from its incrementally maintained counter.
+     *
+     * @param groupId the unique identifier of the group
+     * @return a Mono emitting the group size, zero for a group without active members
+     */
+    Mono<PartyGroupSizeDTO> getGroupSize(UUID groupId);
+
+    /**
+     * Adds parties to a group in a single statement. Parties that already have an active membership
+     * of the group, or that do not exist, are skipped, so repeating a request is harmless.
+     *
+     * @param groupId the unique identifier of the group
+     * @param request the parties to add, with an optional start date and notes
+     * @return a Flux emitting one outcome per requested party
+     */
+    Flux<PartyGroupMembershipResultDTO> addGroupMembers(UUID groupId, PartyGroupMembersRequestDTO request);
+
+    /**
+     * Ends the active memberships of parties in a group in a single statement. Parties without an
+     * active membership of the group are skipped, so repeating a request is harmless.
+     *
+     * @param groupId the unique identifier of the group
+     * @param request the parties whose memberships to end, with an optional end date
+     * @return a Flux emitting one outcome per ended membership, or per party without an active membership
+     */
+    Flux<PartyGroupMembershipResultDTO> endGroupMemberships(UUID groupId, PartyGroupMembersRequestDTO request);
 }
\ No newline at end of file
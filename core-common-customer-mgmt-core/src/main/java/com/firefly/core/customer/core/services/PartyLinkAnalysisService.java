@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.services;
+
+import com.firefly.core.customer.interfaces.dtos.SharedAttributeClusterDTO;
+import com.firefly.core.customer.interfaces.dtos.SharedAttributeLinkDTO;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Service interface for finding parties linked by shared contact details and identity documents,
+ * such as the members of a fraud ring reusing the same phone number or address.
+ */
+public interface PartyLinkAnalysisService {
+
+    /**
+     * Lists the e-mail addresses, phone numbers, addresses and identity documents of a party that
+     * are also recorded, after normalization, for other parties.
+     *
+     * @param partyId the unique identifier of the party
+     * @param limit the maximum number of other parties to return per shared value, at most 1000
+     * @return a Flux emitting one link per shared value
+     */
+    Flux<SharedAttributeLinkDTO> getSharedAttributeLinks(UUID partyId, int limit);
+
+    /**
+     * Reports the groups of parties connected, directly or through other parties, by shared values.
+     *
+     * @param minSize the minimum number of parties in a reported group, at least 2
+     * @param limit the maximum number of groups to report, at most 10000
+     * @return a Flux emitting the groups, largest first
+     */
+    Flux<SharedAttributeClusterDTO> getSharedAttributeClusters(int minSize, int limit);
+}
\ No newline at end of file
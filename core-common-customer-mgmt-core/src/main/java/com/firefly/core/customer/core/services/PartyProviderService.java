@@ -19,8 +19,11 @@ package com.firefly.core.customer.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.interfaces.dtos.ExternalReferenceResolutionDTO;
 import com.firefly.core.customer.interfaces.dtos.PartyProviderDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -73,4 +76,24 @@ public interface PartyProviderService {
      *         or an empty Mono if the party provider does not exist
      */
     Mono<PartyProviderDTO> getPartyProviderById(UUID partyId, UUID partyProviderId);
+
+    /**
+     * Resolves an external provider reference to the party it is mapped to.
+     *
+     * @param providerName the name of the external provider
+     * @param externalReference the reference of the party in the external provider
+     * @return a Mono emitting the resolution if the reference is mapped to a party,
+     *         or an empty Mono if it is not
+     */
+    Mono<ExternalReferenceResolutionDTO> resolveExternalReference(String providerName, String externalReference);
+
+    /**
+     * Resolves many external references of a single provider in one call.
+     *
+     * @param providerName the name of the external provider
+     * @param externalReferences the references of the parties in the external provider
+     * @return a Flux emitting one resolution per distinct reference, in request order,
+     *         with {@code resolved = false} for references that are not mapped to a party
+     */
+    Flux<ExternalReferenceResolutionDTO> resolveExternalReferences(String providerName, List<String> externalReferences);
 }
\ No newline at end of file
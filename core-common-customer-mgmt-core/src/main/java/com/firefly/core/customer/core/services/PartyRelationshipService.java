@@ -19,8 +19,16 @@ package com.firefly.core.customer.core.services;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.interfaces.dtos.PartyConnectionDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyNetworkDTO;
 import com.firefly.core.customer.interfaces.dtos.PartyRelationshipDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyRelationshipEdgeDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyRelationshipSummaryDTO;
+import com.firefly.core.customer.interfaces.enums.RelationshipDirection;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -68,4 +76,72 @@ public interface PartyRelationshipService {
      *         or an empty Mono if the party relationship does not exist
      */
     Mono<PartyRelationshipDTO> getPartyRelationshipById(UUID partyRelationshipId);
+
+    /**
+     * Lists the relationships of a party in both directions in a single query, each with a summary
+     * of the party on the other end.
+     *
+     * @param partyId the unique identifier of the party
+     * @param activeOnly whether to return only active relationships
+     * @return a Flux emitting the relationships of the party, most recently started first
+     */
+    Flux<PartyRelationshipSummaryDTO> getRelationshipsOfParty(UUID partyId, boolean activeOnly);
+
+    /**
+     * Lists the relationships of a party in both directions that were valid at a point in time,
+     * i.e. started at or before it and not yet ended, regardless of their current active flag.
+     *
+     * @param partyId the unique identifier of the party
+     * @param asOf the point in time to evaluate the relationships at
+     * @return a Flux emitting the relationships valid at that time, most recently started first
+     */
+    Flux<PartyRelationshipSummaryDTO> getRelationshipsOfPartyAsOf(UUID partyId, OffsetDateTime asOf);
+
+    /**
+     * Traverses the relationship graph of a party up to a number of hops, for instance to find
+     * ultimate beneficial owners or group structures. Cycles are not followed and every
+     * relationship is returned once, at the smallest number of hops it was reached with.
+     *
+     * @param partyId the unique identifier of the party to start from
+     * @param direction which way relationships are followed from each reached party
+     * @param maxDepth the maximum number of hops, at most 10
+     * @param relationshipTypeIds the relationship types to follow, or {@code null}/empty for all types
+     * @param activeOnly whether to follow only active relationships that have not ended
+     * @return a Flux emitting the reached relationships ordered by number of hops
+     */
+    Flux<PartyRelationshipEdgeDTO> traversePartyRelationships(UUID partyId, RelationshipDirection direction, int maxDepth,
+                                                              List<UUID> relationshipTypeIds, boolean activeOnly);
+
+    /**
+     * Checks whether two parties are connected within a number of hops using the in-memory
+     * relationship graph, without querying the database.
+     *
+     * @param fromPartyId the unique identifier of the party to start from
+     * @param toPartyId the unique identifier of the party to reach
+     * @param maxHops the maximum number of relationships in the chain, at most 6
+     * @return a Mono emitting the connection, with a shortest path when the parties are connected
+     */
+    Mono<PartyConnectionDTO> findPartyConnection(UUID fromPartyId, UUID toPartyId, int maxHops);
+
+    /**
+     * Lists the parties reachable from a party within a number of hops using the in-memory
+     * relationship graph, without querying the database.
+     *
+     * @param partyId the unique identifier of the party to start from
+     * @param hops the maximum number of relationships to follow, at most 6
+     * @param limit the maximum number of parties to return
+     * @return a Flux emitting the reachable parties, nearest first
+     */
+    Flux<UUID> getPartyNeighborhood(UUID partyId, int hops, int limit);
+
+    /**
+     * Retrieves the whole network of a party, i.e. every party connected to it through current
+     * relationships in either direction, from the precomputed connected components.
+     *
+     * @param partyId the unique identifier of the party
+     * @param limit the maximum number of party ids to return, at most 100000
+     * @return a Mono emitting the network of the party; a party without current relationships
+     *         forms a network of its own
+     */
+    Mono<PartyNetworkDTO> getPartyNetwork(UUID partyId, int limit);
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.services;
+
+import com.firefly.core.customer.interfaces.dtos.PartySearchResultDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for searching parties across their names, contacts and addresses.
+ */
+public interface PartySearchService {
+    /**
+     * Searches the parties of a tenant by names, legal and trade names, emails,
+     * phone numbers, cities and postal codes. Every search term must match as a prefix.
+     *
+     * @param tenantId the tenant whose parties are searched
+     * @param query the free text typed by the user
+     * @param limit the maximum number of results to return
+     * @return a Flux emitting the matching parties ordered by descending relevance
+     */
+    Flux<PartySearchResultDTO> searchParties(UUID tenantId, String query, int limit);
+
+    /**
+     * Searches the parties of a tenant whose person or legal names sound like the searched names,
+     * so that "Jon Smyth" finds "John Smith". Parties sharing more phonetic keys rank higher.
+     *
+     * @param tenantId the tenant whose parties are searched
+     * @param query the names typed by the user
+     * @param limit the maximum number of results to return
+     * @return a Flux emitting the matching parties ordered by descending relevance
+     */
+    Flux<PartySearchResultDTO> searchPartiesPhonetically(UUID tenantId, String query, int limit);
+
+    /**
+     * Suggests parties of a tenant whose natural person or legal entity name has a word
+     * starting with the given prefix. Suggestions are served from an in-memory index.
+     *
+     * @param tenantId the tenant whose parties are suggested
+     * @param prefix the characters typed so far
+     * @param limit the maximum number of suggestions to return
+     * @return a Flux emitting the identifiers of the suggested parties
+     */
+    Flux<UUID> suggestParties(UUID tenantId, String prefix, int limit);
+
+    /**
+     * Starts rebuilding every party search document in the background. Search keeps serving
+     * the current documents until the rebuilt ones are swapped in atomically.
+     *
+     * @return a Mono emitting {@code true} if the rebuild was started, or {@code false}
+     *         if another rebuild is already running
+     */
+    Mono<Boolean> rebuildSearchDocuments();
+
+    /**
+     * Abandons a running search document rebuild. The current documents are left untouched.
+     *
+     * @return a Mono that completes when the rebuild has been abandoned
+     */
+    Mono<Void> abortSearchDocumentRebuild();
+}
\ No newline at end of file
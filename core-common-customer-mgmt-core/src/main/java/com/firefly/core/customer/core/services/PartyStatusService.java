@@ -20,7 +20,11 @@ package com.firefly.core.customer.core.services;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.customer.interfaces.dtos.PartyStatusDTO;
+import com.firefly.core.customer.interfaces.enums.StatusCode;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -46,7 +50,18 @@ public interface PartyStatusService {
     Mono<PartyStatusDTO> createPartyStatus(UUID partyId, PartyStatusDTO partyStatusDTO);
     
     /**
-     * Updates an existing party status with updated information.
+     * Moves a party to a new status, closing the status in effect where the new one takes effect.
+     * The new status ends where a later status of the party starts, if there is one.
+     *
+     * @param partyId the unique identifier of the party
+     * @param partyStatusDTO the new status; its validFrom defaults to now
+     * @return a Mono that emits the new PartyStatusDTO, or errors if another status of the party
+     *         starts at the same time
+     */
+    Mono<PartyStatusDTO> transitionPartyStatus(UUID partyId, PartyStatusDTO partyStatusDTO);
+
+    /**
+     * Updates the current status of a party with updated information.
      *
      * @param partyId the unique identifier of the party that owns the party status
      * @param partyStatusDTO the data transfer object containing the updated details of the party status
@@ -72,4 +87,32 @@ public interface PartyStatusService {
      *         or an empty Mono if the party status does not exist
      */
     Mono<PartyStatusDTO> getPartyStatusById(UUID partyId, UUID partyStatusId);
+
+    /**
+     * Retrieves the current status of a party, that is its status in effect now. A status that
+     * only starts in the future is not current yet.
+     *
+     * @param partyId the unique identifier of the party
+     * @return a Mono emitting the current {@link PartyStatusDTO}, or an error if the party has no current status
+     */
+    Mono<PartyStatusDTO> getCurrentPartyStatus(UUID partyId);
+
+    /**
+     * Retrieves the current statuses of many parties at once.
+     *
+     * @param partyIds the unique identifiers of the parties
+     * @return a Flux of the current statuses of those parties that have one, ordered by party
+     */
+    Flux<PartyStatusDTO> getCurrentPartyStatuses(List<UUID> partyIds);
+
+    /**
+     * Streams the statuses that the parties of a tenant had at a point in time, ordered by party.
+     *
+     * @param tenantId the unique identifier of the tenant
+     * @param asOf the point in time to report the statuses at
+     * @param statusCode the only status code to report, or null for all
+     * @param afterPartyId the party to resume the stream after, or null to start from the beginning
+     * @return a Flux of the statuses valid at that time, at most one per party
+     */
+    Flux<PartyStatusDTO> streamPartyStatusesAsOf(UUID tenantId, OffsetDateTime asOf, StatusCode statusCode, UUID afterPartyId);
 }
\ No newline at end of file
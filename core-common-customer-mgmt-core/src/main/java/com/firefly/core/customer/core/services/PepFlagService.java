@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.services;
+
+import com.firefly.core.customer.interfaces.dtos.PepFlagDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for checking whether parties are politically exposed persons, served from
+ * an in-memory flag set for use on hot paths such as payment processing.
+ */
+public interface PepFlagService {
+
+    /**
+     * Checks whether a party is flagged as PEP.
+     *
+     * @param partyId the unique identifier of the party
+     * @return a Mono emitting the PEP flag of the party; unknown parties are not flagged
+     */
+    Mono<PepFlagDTO> getPepFlag(UUID partyId);
+
+    /**
+     * Checks whether each party of a batch is flagged as PEP.
+     *
+     * @param partyIds the unique identifiers of the parties
+     * @return a Flux emitting the PEP flag of each distinct party, in request order
+     */
+    Flux<PepFlagDTO> getPepFlags(List<UUID> partyIds);
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.services;
+
+import com.firefly.core.customer.interfaces.dtos.ScreeningHitDTO;
+import com.firefly.core.customer.interfaces.dtos.ScreeningRequestDTO;
+import com.firefly.core.customer.interfaces.dtos.ScreeningRunDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for screening names against the PEP and sanctions lists loaded in memory.
+ */
+public interface ScreeningService {
+
+    /**
+     * Screens a name without recording anything.
+     *
+     * @param request the name and the kind of party it belongs to
+     * @return a Flux emitting each list entry the name hits
+     */
+    Flux<ScreeningHitDTO> screenName(ScreeningRequestDTO request);
+
+    /**
+     * Starts rescreening all parties in the background and records new hits as PEP records.
+     * If a rescreen is already running, it is left running and no other one is started.
+     *
+     * @return a Mono emitting the progress of the rescreen
+     */
+    Mono<ScreeningRunDTO> startRescreen();
+
+    /**
+     * Retrieves the progress of the last rescreen started.
+     *
+     * @return a Mono emitting the progress of the rescreen, or an error if none was started
+     */
+    Mono<ScreeningRunDTO> getLastRescreen();
+}
\ No newline at end of file
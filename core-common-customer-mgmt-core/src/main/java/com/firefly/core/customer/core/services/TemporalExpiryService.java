@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.services;
+
+import com.firefly.core.customer.core.expiry.ExpiryKind;
+import com.firefly.core.customer.core.expiry.TemporalExpiryEvent;
+import reactor.core.publisher.Flux;
+
+/**
+ * Service interface for bringing records in line with their end dates once those have passed.
+ */
+public interface TemporalExpiryService {
+
+    /**
+     * Expires one batch of records of a kind whose end date has passed, clearing their flags, or
+     * marking identity documents as swept, in a single set-based update and keeping derived state,
+     * such as group member counters and relationship network components, in the same transaction.
+     *
+     * @param kind the kind of records to expire
+     * @param limit the maximum number of records to expire
+     * @return a Flux emitting one event per expired record; fewer than {@code limit} events means
+     *         no expired records were left
+     */
+    Flux<TemporalExpiryEvent> expireBatch(ExpiryKind kind, int limit);
+}
\ No newline at end of file
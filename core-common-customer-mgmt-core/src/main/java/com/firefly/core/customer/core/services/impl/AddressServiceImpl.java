@@ -20,7 +20,9 @@ package com.firefly.core.customer.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.core.graph.SharedAttributeIndexer;
 import com.firefly.core.customer.core.mappers.AddressMapper;
+import com.firefly.core.customer.core.search.PartySearchIndexer;
 import com.firefly.core.customer.core.services.AddressService;
 import com.firefly.core.customer.interfaces.dtos.AddressDTO;
 import com.firefly.core.customer.models.entities.Address;
@@ -41,6 +43,12 @@ public class AddressServiceImpl implements AddressService {
     @Autowired
     private AddressMapper mapper;
 
+    @Autowired
+    private PartySearchIndexer searchIndexer;
+
+    @Autowired
+    private SharedAttributeIndexer sharedAttributeIndexer;
+
     @Override
     public Mono<PaginationResponse<AddressDTO>> filterAddresses(UUID partyId, FilterRequest<AddressDTO> filterRequest) {
         // Add partyId filter to the existing filter request
@@ -60,6 +68,8 @@ public class AddressServiceImpl implements AddressService {
                 .doOnNext(dto -> dto.setPartyId(partyId)) // Ensure partyId is set
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(saved -> sharedAttributeIndexer.index(saved).thenReturn(saved))
+                .flatMap(saved -> searchIndexer.refresh(saved.getPartyId()).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -75,6 +85,8 @@ public class AddressServiceImpl implements AddressService {
                     mapper.updateEntityFromDto(addressDTO, existingAddress);
                     return repository.save(existingAddress);
                 })
+                .flatMap(saved -> sharedAttributeIndexer.index(saved).thenReturn(saved))
+                .flatMap(saved -> searchIndexer.refresh(saved.getPartyId()).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -87,7 +99,9 @@ public class AddressServiceImpl implements AddressService {
                     if (!partyId.equals(address.getPartyId())) {
                         return Mono.error(new RuntimeException("Address with ID " + addressId + " does not belong to party " + partyId));
                     }
-                    return repository.deleteById(addressId);
+                    return repository.deleteById(addressId)
+                            .then(Mono.defer(() -> sharedAttributeIndexer.remove(address.getPartyId(), addressId)))
+                            .then(searchIndexer.refresh(address.getPartyId()));
                 });
     }
 
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.services.impl;
+
+import com.firefly.core.customer.core.consent.ConsentAudienceIndexer;
+import com.firefly.core.customer.core.services.ConsentAudienceService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+@Service
+// Served from memory, so these must not open a database transaction
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ConsentAudienceServiceImpl implements ConsentAudienceService {
+
+    @Autowired
+    private ConsentAudienceIndexer consentAudienceIndexer;
+
+    @Override
+    public Flux<UUID> evaluateAudience(UUID consentTypeId, String channel, Flux<UUID> partyIds) {
+        return consentAudienceIndexer.select(consentTypeId, channel, partyIds);
+    }
+
+    @Override
+    public Flux<UUID> streamTenantAudience(UUID tenantId, UUID consentTypeId, String channel) {
+        return consentAudienceIndexer.tenantAudience(tenantId, consentTypeId, channel);
+    }
+}
\ No newline at end of file
@@ -20,15 +20,25 @@ package com.firefly.core.customer.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.core.cache.ConsentCheckCache;
+import com.firefly.core.customer.core.consent.ConsentAudienceIndexer;
+import com.firefly.core.customer.core.mappers.ConsentHistoryMapper;
 import com.firefly.core.customer.core.mappers.ConsentMapper;
 import com.firefly.core.customer.core.services.ConsentService;
+import com.firefly.core.customer.core.transaction.AfterCommit;
+import com.firefly.core.customer.interfaces.dtos.ConsentCheckDTO;
 import com.firefly.core.customer.interfaces.dtos.ConsentDTO;
+import com.firefly.core.customer.interfaces.dtos.ConsentHistoryDTO;
 import com.firefly.core.customer.models.entities.Consent;
+import com.firefly.core.customer.models.repositories.ConsentHistoryRepository;
 import com.firefly.core.customer.models.repositories.ConsentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.Arrays;
 import java.util.UUID;
 
 @Service
@@ -41,6 +51,18 @@ public class ConsentServiceImpl implements ConsentService {
     @Autowired
     private ConsentMapper mapper;
 
+    @Autowired
+    private ConsentHistoryRepository historyRepository;
+
+    @Autowired
+    private ConsentHistoryMapper historyMapper;
+
+    @Autowired
+    private ConsentCheckCache consentCache;
+
+    @Autowired
+    private ConsentAudienceIndexer consentAudienceIndexer;
+
     @Override
     public Mono<PaginationResponse<ConsentDTO>> filterConsents(UUID partyId, FilterRequest<ConsentDTO> filterRequest) {
         return FilterUtils
@@ -53,9 +75,9 @@ public class ConsentServiceImpl implements ConsentService {
 
     @Override
     public Mono<ConsentDTO> createConsent(UUID partyId, ConsentDTO consentDTO) {
-        return Mono.just(consentDTO)
-                .map(mapper::toEntity)
-                .flatMap(repository::save)
+        return repository.upsert(partyId, consentDTO.getConsentTypeId(), consentDTO.getGranted(),
+                        consentDTO.getGrantedAt(), consentDTO.getRevokedAt(), consentDTO.getChannel())
+                .flatMap(saved -> refreshAfterCommit(saved.getPartyId()).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -63,11 +85,11 @@ public class ConsentServiceImpl implements ConsentService {
     public Mono<ConsentDTO> updateConsent(UUID partyId, UUID consentId, ConsentDTO consentDTO) {
         return repository.findById(consentId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Consent not found with ID: " + consentId)))
-                .flatMap(existingConsent -> {
-                    Consent updatedConsent = mapper.toEntity(consentDTO);
-                    updatedConsent.setConsentId(consentId);
-                    return repository.save(updatedConsent);
-                })
+                // The party, type and channel are the key of the current consent, so only its state changes
+                .flatMap(existingConsent -> repository.upsert(existingConsent.getPartyId(),
+                        existingConsent.getConsentTypeId(), consentDTO.getGranted(), consentDTO.getGrantedAt(),
+                        consentDTO.getRevokedAt(), existingConsent.getChannel()))
+                .flatMap(saved -> refreshAfterCommit(saved.getPartyId()).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -75,7 +97,15 @@ public class ConsentServiceImpl implements ConsentService {
     public Mono<Void> deleteConsent(UUID partyId, UUID consentId) {
         return repository.findById(consentId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Consent not found with ID: " + consentId)))
-                .flatMap(consent -> repository.deleteById(consentId));
+                .flatMap(consent -> {
+                    // Validate that the consent belongs to the specified party
+                    if (!partyId.equals(consent.getPartyId())) {
+                        return Mono.error(new RuntimeException("Consent with ID " + consentId + " does not belong to party " + partyId));
+                    }
+                    return repository.deleteRecorded(partyId, consentId)
+                            .switchIfEmpty(Mono.error(new RuntimeException("Consent not found with ID: " + consentId)))
+                            .flatMap(deleted -> refreshAfterCommit(deleted.getPartyId()));
+                });
     }
 
     @Override
@@ -84,4 +114,47 @@ public class ConsentServiceImpl implements ConsentService {
                 .switchIfEmpty(Mono.error(new RuntimeException("Consent not found with ID: " + consentId)))
                 .map(mapper::toDTO);
     }
+
+    // Served from memory on a hit, so this must not open a database transaction
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<ConsentCheckDTO> checkConsent(UUID partyId, UUID consentTypeId, String channel) {
+        return Mono.defer(() -> {
+                    Boolean cached = consentCache.check(partyId, consentTypeId, channel);
+                    if (cached != null) {
+                        return Mono.just(cached);
+                    }
+                    long stamp = consentCache.stamp();
+                    return repository.findByPartyId(partyId)
+                            .collectList()
+                            .map(consents -> consentCache.load(partyId, consents, consentTypeId, channel, stamp));
+                })
+                .map(granted -> ConsentCheckDTO.builder()
+                        .partyId(partyId)
+                        .consentTypeId(consentTypeId)
+                        .channel(channel)
+                        .granted(granted)
+                        .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<ConsentDTO> getCurrentConsent(UUID partyId, UUID consentTypeId, String channel) {
+        return repository.findCurrent(partyId, consentTypeId, channel)
+                .switchIfEmpty(Mono.error(new RuntimeException("Current consent not found for party ID: " + partyId)))
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<ConsentHistoryDTO> getConsentHistory(UUID partyId, UUID consentTypeId) {
+        return historyRepository.findByPartyIdAndConsentTypeId(partyId, consentTypeId)
+                .map(historyMapper::toDTO);
+    }
+
+    // A check served in between would otherwise cache the state from before the write
+    private Mono<Void> refreshAfterCommit(UUID partyId) {
+        return AfterCommit.run(() -> consentCache.invalidate(partyId))
+                .then(consentAudienceIndexer.refreshAfterCommit(Arrays.asList(partyId)));
+    }
 }
\ No newline at end of file
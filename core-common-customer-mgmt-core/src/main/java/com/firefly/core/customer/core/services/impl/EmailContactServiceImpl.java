@@ -20,7 +20,9 @@ package com.firefly.core.customer.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.core.graph.SharedAttributeIndexer;
 import com.firefly.core.customer.core.mappers.EmailContactMapper;
+import com.firefly.core.customer.core.search.PartySearchIndexer;
 import com.firefly.core.customer.core.services.EmailContactService;
 import com.firefly.core.customer.interfaces.dtos.EmailContactDTO;
 import com.firefly.core.customer.models.entities.EmailContact;
@@ -41,6 +43,12 @@ public class EmailContactServiceImpl implements EmailContactService {
     @Autowired
     private EmailContactMapper mapper;
 
+    @Autowired
+    private PartySearchIndexer searchIndexer;
+
+    @Autowired
+    private SharedAttributeIndexer sharedAttributeIndexer;
+
     @Override
     public Mono<PaginationResponse<EmailContactDTO>> filterEmailContacts(UUID partyId, FilterRequest<EmailContactDTO> filterRequest) {
         return FilterUtils
@@ -56,6 +64,8 @@ public class EmailContactServiceImpl implements EmailContactService {
         return Mono.just(emailContactDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(saved -> sharedAttributeIndexer.index(saved).thenReturn(saved))
+                .flatMap(saved -> searchIndexer.refresh(saved.getPartyId()).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -71,6 +81,8 @@ public class EmailContactServiceImpl implements EmailContactService {
                     mapper.updateEntityFromDto(emailContactDTO, existingEmailContact);
                     return repository.save(existingEmailContact);
                 })
+                .flatMap(saved -> sharedAttributeIndexer.index(saved).thenReturn(saved))
+                .flatMap(saved -> searchIndexer.refresh(saved.getPartyId()).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -79,7 +91,9 @@ public class EmailContactServiceImpl implements EmailContactService {
     public Mono<Void> deleteEmailContact(UUID partyId, UUID emailContactId) {
         return repository.findById(emailContactId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Email contact not found with ID: " + emailContactId)))
-                .flatMap(emailContact -> repository.deleteById(emailContactId));
+                .flatMap(emailContact -> repository.deleteById(emailContactId)
+                        .then(Mono.defer(() -> sharedAttributeIndexer.remove(emailContact.getPartyId(), emailContactId)))
+                        .then(searchIndexer.refresh(emailContact.getPartyId())));
     }
 
     @Override
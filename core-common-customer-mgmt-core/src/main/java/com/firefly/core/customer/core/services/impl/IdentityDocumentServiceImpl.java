@@ -20,6 +20,8 @@ package com.firefly.core.customer.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.core.graph.SharedAttributeIndexer;
+import com.firefly.core.customer.core.kyc.KycReviewScheduler;
 import com.firefly.core.customer.core.mappers.IdentityDocumentMapper;
 import com.firefly.core.customer.core.services.IdentityDocumentService;
 import com.firefly.core.customer.interfaces.dtos.IdentityDocumentDTO;
@@ -29,6 +31,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
+import java.util.Arrays;
 import java.util.UUID;
 
 @Service
@@ -41,6 +44,12 @@ public class IdentityDocumentServiceImpl implements IdentityDocumentService {
     @Autowired
     private IdentityDocumentMapper mapper;
 
+    @Autowired
+    private SharedAttributeIndexer sharedAttributeIndexer;
+
+    @Autowired
+    private KycReviewScheduler kycReviewScheduler;
+
     @Override
     public Mono<PaginationResponse<IdentityDocumentDTO>> filterIdentityDocuments(UUID partyId, FilterRequest<IdentityDocumentDTO> filterRequest) {
         return FilterUtils
@@ -56,6 +65,8 @@ public class IdentityDocumentServiceImpl implements IdentityDocumentService {
         return Mono.just(identityDocumentDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(saved -> sharedAttributeIndexer.index(saved).thenReturn(saved))
+                .flatMap(saved -> kycReviewScheduler.reschedule(Arrays.asList(saved.getPartyId())).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -66,8 +77,12 @@ public class IdentityDocumentServiceImpl implements IdentityDocumentService {
                 .flatMap(existingIdentityDocument -> {
                     IdentityDocument updatedIdentityDocument = mapper.toEntity(identityDocumentDTO);
                     updatedIdentityDocument.setIdentityDocumentId(identityDocumentId);
-                    return repository.save(updatedIdentityDocument);
+                    return repository.save(updatedIdentityDocument)
+                            .flatMap(saved -> kycReviewScheduler.reschedule(
+                                            Arrays.asList(existingIdentityDocument.getPartyId(), saved.getPartyId()))
+                                    .thenReturn(saved));
                 })
+                .flatMap(saved -> sharedAttributeIndexer.index(saved).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -75,7 +90,9 @@ public class IdentityDocumentServiceImpl implements IdentityDocumentService {
     public Mono<Void> deleteIdentityDocument(UUID partyId, UUID identityDocumentId) {
         return repository.findById(identityDocumentId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Identity document not found with ID: " + identityDocumentId)))
-                .flatMap(identityDocument -> repository.deleteById(identityDocumentId));
+                .flatMap(identityDocument -> repository.deleteById(identityDocumentId)
+                        .then(Mono.defer(() -> kycReviewScheduler.reschedule(Arrays.asList(identityDocument.getPartyId()))))
+                        .then(Mono.defer(() -> sharedAttributeIndexer.remove(identityDocument.getPartyId(), identityDocumentId))));
     }
 
     @Override
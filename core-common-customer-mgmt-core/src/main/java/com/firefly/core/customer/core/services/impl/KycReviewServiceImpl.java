@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.services.impl;
+
+import com.firefly.core.customer.core.kyc.KycReviewScheduler;
+import com.firefly.core.customer.core.mappers.KycReviewMapper;
+import com.firefly.core.customer.core.services.KycReviewService;
+import com.firefly.core.customer.interfaces.dtos.KycReviewDTO;
+import com.firefly.core.customer.interfaces.dtos.KycReviewLeaseDTO;
+import com.firefly.core.customer.models.entities.KycReviewSchedule;
+import com.firefly.core.customer.models.repositories.KycReviewScheduleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@Transactional
+public class KycReviewServiceImpl implements KycReviewService {
+
+    @Autowired
+    private KycReviewScheduleRepository repository;
+
+    @Autowired
+    private KycReviewMapper mapper;
+
+    @Autowired
+    private KycReviewScheduler kycReviewScheduler;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<KycReviewDTO> getKycReview(UUID partyId) {
+        return repository.findById(partyId)
+                .switchIfEmpty(Mono.error(new RuntimeException("KYC review schedule not found for party ID: " + partyId)))
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Mono<KycReviewLeaseDTO> leaseDueReviews(int limit, Duration leaseDuration) {
+        UUID leaseId = UUID.randomUUID();
+        return repository.leaseDue(leaseId, limit, leaseDuration.toSeconds())
+                .sort(Comparator.comparing(KycReviewSchedule::getNextReviewDate))
+                .map(mapper::toDTO)
+                .collectList()
+                .map(reviews -> KycReviewLeaseDTO.builder()
+                        .leaseId(leaseId)
+                        .leasedUntil(reviews.isEmpty() ? null : reviews.get(0).getLeasedUntil())
+                        .reviews(reviews)
+                        .build());
+    }
+
+    @Override
+    public Mono<KycReviewDTO> completeReview(UUID partyId, UUID leaseId) {
+        return repository.completeReview(partyId, leaseId)
+                .filter(completed -> completed > 0)
+                .switchIfEmpty(Mono.error(new RuntimeException(
+                        "KYC review of party " + partyId + " is not held under lease " + leaseId)))
+                .then(Mono.defer(() -> kycReviewScheduler.reschedule(List.of(partyId))))
+                .then(Mono.defer(() -> repository.findById(partyId)))
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Mono<Void> releaseLease(UUID leaseId) {
+        return repository.releaseLease(leaseId)
+                .then();
+    }
+}
\ No newline at end of file
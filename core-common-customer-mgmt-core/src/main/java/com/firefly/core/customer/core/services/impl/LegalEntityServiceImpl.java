@@ -21,6 +21,11 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.customer.core.mappers.LegalEntityMapper;
+import com.firefly.core.customer.core.screening.PartyScreeningQueue;
+import com.firefly.core.customer.core.screening.ScreeningCandidate;
+import com.firefly.core.customer.core.search.PartySearchIndexer;
+import com.firefly.core.customer.core.search.PartyTypeaheadIndexer;
+import com.firefly.core.customer.core.search.PhoneticKeys;
 import com.firefly.core.customer.core.services.LegalEntityService;
 import com.firefly.core.customer.interfaces.dtos.LegalEntityDTO;
 import com.firefly.core.customer.models.entities.LegalEntity;
@@ -41,6 +46,15 @@ public class LegalEntityServiceImpl implements LegalEntityService {
     @Autowired
     private LegalEntityMapper mapper;
 
+    @Autowired
+    private PartySearchIndexer searchIndexer;
+
+    @Autowired
+    private PartyTypeaheadIndexer typeaheadIndexer;
+
+    @Autowired
+    private PartyScreeningQueue screeningQueue;
+
     @Override
     public Mono<PaginationResponse<LegalEntityDTO>> filterLegalEntities(FilterRequest<LegalEntityDTO> filterRequest) {
         return FilterUtils
@@ -55,7 +69,12 @@ public class LegalEntityServiceImpl implements LegalEntityService {
     public Mono<LegalEntityDTO> createLegalEntity(UUID partyId, LegalEntityDTO legalEntityDTO) {
         return Mono.just(legalEntityDTO)
                 .map(mapper::toEntity)
+                .map(PhoneticKeys::apply)
                 .flatMap(repository::save)
+                .flatMap(saved -> screeningQueue.enqueue(ScreeningCandidate.of(saved)).thenReturn(saved))
+                .flatMap(saved -> searchIndexer.refreshAndGetTenant(saved.getPartyId())
+                        .flatMap(tenantId -> typeaheadIndexer.index(tenantId, saved))
+                        .thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -68,9 +87,15 @@ public class LegalEntityServiceImpl implements LegalEntityService {
                     if (!partyId.equals(existingLegalEntity.getPartyId())) {
                         return Mono.error(new RuntimeException("Legal entity with ID " + legalEntityId + " does not belong to party " + partyId));
                     }
+                    ScreeningCandidate before = ScreeningCandidate.of(existingLegalEntity);
                     mapper.updateEntityFromDto(legalEntityDTO, existingLegalEntity);
-                    return repository.save(existingLegalEntity);
+                    PhoneticKeys.apply(existingLegalEntity);
+                    return repository.save(existingLegalEntity)
+                            .flatMap(saved -> screeningQueue.enqueueIfChanged(before, ScreeningCandidate.of(saved)).thenReturn(saved));
                 })
+                .flatMap(saved -> searchIndexer.refreshAndGetTenant(saved.getPartyId())
+                        .flatMap(tenantId -> typeaheadIndexer.index(tenantId, saved))
+                        .thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -78,7 +103,9 @@ public class LegalEntityServiceImpl implements LegalEntityService {
     public Mono<Void> deleteLegalEntity(UUID partyId, UUID legalEntityId) {
         return repository.findById(legalEntityId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Legal entity not found with ID: " + legalEntityId)))
-                .flatMap(legalEntity -> repository.deleteById(legalEntityId));
+                .flatMap(legalEntity -> repository.deleteById(legalEntityId)
+                        .then(searchIndexer.refreshAndGetTenant(legalEntity.getPartyId()))
+                        .flatMap(tenantId -> typeaheadIndexer.remove(tenantId, legalEntity.getPartyId())));
     }
 
     @Override
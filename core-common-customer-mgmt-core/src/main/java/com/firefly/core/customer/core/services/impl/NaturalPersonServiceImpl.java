@@ -21,6 +21,11 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.customer.core.mappers.NaturalPersonMapper;
+import com.firefly.core.customer.core.screening.PartyScreeningQueue;
+import com.firefly.core.customer.core.screening.ScreeningCandidate;
+import com.firefly.core.customer.core.search.PartySearchIndexer;
+import com.firefly.core.customer.core.search.PartyTypeaheadIndexer;
+import com.firefly.core.customer.core.search.PhoneticKeys;
 import com.firefly.core.customer.core.services.NaturalPersonService;
 import com.firefly.core.customer.interfaces.dtos.NaturalPersonDTO;
 import com.firefly.core.customer.models.entities.NaturalPerson;
@@ -41,6 +46,15 @@ public class NaturalPersonServiceImpl implements NaturalPersonService {
     @Autowired
     private NaturalPersonMapper mapper;
 
+    @Autowired
+    private PartySearchIndexer searchIndexer;
+
+    @Autowired
+    private PartyTypeaheadIndexer typeaheadIndexer;
+
+    @Autowired
+    private PartyScreeningQueue screeningQueue;
+
     @Override
     public Mono<PaginationResponse<NaturalPersonDTO>> filterNaturalPersons(UUID partyId, FilterRequest<NaturalPersonDTO> filterRequest) {
         // Add partyId filter to the existing filter request
@@ -59,7 +73,12 @@ public class NaturalPersonServiceImpl implements NaturalPersonService {
         return Mono.just(naturalPersonDTO)
                 .doOnNext(dto -> dto.setPartyId(partyId)) // Ensure partyId is set
                 .map(mapper::toEntity)
+                .map(PhoneticKeys::apply)
                 .flatMap(repository::save)
+                .flatMap(saved -> screeningQueue.enqueue(ScreeningCandidate.of(saved)).thenReturn(saved))
+                .flatMap(saved -> searchIndexer.refreshAndGetTenant(saved.getPartyId())
+                        .flatMap(tenantId -> typeaheadIndexer.index(tenantId, saved))
+                        .thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -72,9 +91,15 @@ public class NaturalPersonServiceImpl implements NaturalPersonService {
                     if (!partyId.equals(existingNaturalPerson.getPartyId())) {
                         return Mono.error(new RuntimeException("Natural person with ID " + naturalPersonId + " does not belong to party " + partyId));
                     }
+                    ScreeningCandidate before = ScreeningCandidate.of(existingNaturalPerson);
                     mapper.updateEntityFromDto(naturalPersonDTO, existingNaturalPerson);
-                    return repository.save(existingNaturalPerson);
+                    PhoneticKeys.apply(existingNaturalPerson);
+                    return repository.save(existingNaturalPerson)
+                            .flatMap(saved -> screeningQueue.enqueueIfChanged(before, ScreeningCandidate.of(saved)).thenReturn(saved));
                 })
+                .flatMap(saved -> searchIndexer.refreshAndGetTenant(saved.getPartyId())
+                        .flatMap(tenantId -> typeaheadIndexer.index(tenantId, saved))
+                        .thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -87,7 +112,9 @@ public class NaturalPersonServiceImpl implements NaturalPersonService {
                     if (!partyId.equals(naturalPerson.getPartyId())) {
                         return Mono.error(new RuntimeException("Natural person with ID " + naturalPersonId + " does not belong to party " + partyId));
                     }
-                    return repository.deleteById(naturalPersonId);
+                    return repository.deleteById(naturalPersonId)
+                            .then(searchIndexer.refreshAndGetTenant(naturalPerson.getPartyId()))
+                            .flatMap(tenantId -> typeaheadIndexer.remove(tenantId, naturalPerson.getPartyId()));
                 });
     }
 
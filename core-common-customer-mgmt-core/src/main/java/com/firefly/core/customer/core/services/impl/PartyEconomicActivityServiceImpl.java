@@ -22,13 +22,17 @@ import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.customer.core.mappers.PartyEconomicActivityMapper;
 import com.firefly.core.customer.core.services.PartyEconomicActivityService;
+import com.firefly.core.customer.interfaces.dtos.EconomicActivityTurnoverDTO;
 import com.firefly.core.customer.interfaces.dtos.PartyEconomicActivityDTO;
 import com.firefly.core.customer.models.entities.PartyEconomicActivity;
 import com.firefly.core.customer.models.repositories.PartyEconomicActivityRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @Service
@@ -56,26 +60,32 @@ public class PartyEconomicActivityServiceImpl implements PartyEconomicActivitySe
         return Mono.just(partyEconomicActivityDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(saved -> repository.adjustTurnover(saved.getPartyEconomicActivityId(), 1).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<PartyEconomicActivityDTO> updatePartyEconomicActivity(UUID partyId, UUID partyEconomicActivityId, PartyEconomicActivityDTO partyEconomicActivityDTO) {
-        return repository.findById(partyEconomicActivityId)
+        // Locked, so a concurrent write cannot change the row between taking it out of the rollups and putting it back
+        return repository.findByIdForUpdate(partyEconomicActivityId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Party economic activity not found with ID: " + partyEconomicActivityId)))
                 .flatMap(existingPartyEconomicActivity -> {
                     PartyEconomicActivity updatedPartyEconomicActivity = mapper.toEntity(partyEconomicActivityDTO);
                     updatedPartyEconomicActivity.setPartyEconomicActivityId(partyEconomicActivityId);
-                    return repository.save(updatedPartyEconomicActivity);
+                    // The rollups read the stored row, so the old values come out before the save and the new ones go in after it
+                    return repository.adjustTurnover(partyEconomicActivityId, -1)
+                            .then(repository.save(updatedPartyEconomicActivity))
+                            .flatMap(saved -> repository.adjustTurnover(saved.getPartyEconomicActivityId(), 1).thenReturn(saved));
                 })
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> deletePartyEconomicActivity(UUID partyId, UUID partyEconomicActivityId) {
-        return repository.findById(partyEconomicActivityId)
+        return repository.findByIdForUpdate(partyEconomicActivityId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Party economic activity not found with ID: " + partyEconomicActivityId)))
-                .flatMap(partyEconomicActivity -> repository.deleteById(partyEconomicActivityId));
+                .flatMap(partyEconomicActivity -> repository.adjustTurnover(partyEconomicActivityId, -1)
+                        .then(repository.deleteById(partyEconomicActivityId)));
     }
 
     @Override
@@ -84,4 +94,18 @@ public class PartyEconomicActivityServiceImpl implements PartyEconomicActivitySe
                 .switchIfEmpty(Mono.error(new RuntimeException("Party economic activity not found with ID: " + partyEconomicActivityId)))
                 .map(mapper::toDTO);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<PartyEconomicActivityDTO> getPartyEconomicActivitiesAsOf(UUID partyId, OffsetDateTime asOf) {
+        return repository.findByPartyIdAsOf(partyId, asOf)
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<EconomicActivityTurnoverDTO> getEconomicActivityTurnovers(UUID tenantId, UUID economicActivityId, String currencyCode) {
+        return repository.findTurnovers(tenantId, economicActivityId, currencyCode)
+                .map(mapper::toTurnoverDTO);
+    }
 }
\ No newline at end of file
@@ -22,19 +22,37 @@ import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.customer.core.mappers.PartyGroupMembershipMapper;
 import com.firefly.core.customer.core.services.PartyGroupMembershipService;
+import com.firefly.core.customer.interfaces.dtos.PartyGroupMembersRequestDTO;
 import com.firefly.core.customer.interfaces.dtos.PartyGroupMembershipDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyGroupMembershipResultDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyGroupSizeDTO;
+import com.firefly.core.customer.interfaces.enums.MembershipOutcome;
 import com.firefly.core.customer.models.entities.PartyGroupMembership;
+import com.firefly.core.customer.models.projections.PartyGroupMembershipResult;
 import com.firefly.core.customer.models.repositories.PartyGroupMembershipRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class PartyGroupMembershipServiceImpl implements PartyGroupMembershipService {
 
+    /** Sorts before every party id, so streaming "after" it starts from the beginning. */
+    static final UUID STREAM_START = new UUID(0L, 0L);
+
+    /** Sorts after every membership id, so resuming "after" it skips the rest of a party. */
+    static final UUID PARTY_END = new UUID(-1L, -1L);
+
     @Autowired
     private PartyGroupMembershipRepository repository;
 
@@ -55,7 +73,9 @@ public class PartyGroupMembershipServiceImpl implements PartyGroupMembershipServ
     public Mono<PartyGroupMembershipDTO> createPartyGroupMembership(UUID partyId, PartyGroupMembershipDTO partyGroupMembershipDTO) {
         return Mono.just(partyGroupMembershipDTO)
                 .map(mapper::toEntity)
-                .flatMap(repository::save)
+                .flatMap(partyGroupMembership -> lockActiveMemberCounts(null, partyGroupMembership)
+                        .then(repository.save(partyGroupMembership)))
+                .flatMap(saved -> adjustActiveMemberCounts(null, saved).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -66,7 +86,9 @@ public class PartyGroupMembershipServiceImpl implements PartyGroupMembershipServ
                 .flatMap(existingPartyGroupMembership -> {
                     PartyGroupMembership updatedPartyGroupMembership = mapper.toEntity(partyGroupMembershipDTO);
                     updatedPartyGroupMembership.setPartyGroupMembershipId(partyGroupMembershipId);
-                    return repository.save(updatedPartyGroupMembership);
+                    return lockActiveMemberCounts(existingPartyGroupMembership, updatedPartyGroupMembership)
+                            .then(repository.save(updatedPartyGroupMembership))
+                            .flatMap(saved -> adjustActiveMemberCounts(existingPartyGroupMembership, saved).thenReturn(saved));
                 })
                 .map(mapper::toDTO);
     }
@@ -75,7 +97,9 @@ public class PartyGroupMembershipServiceImpl implements PartyGroupMembershipServ
     public Mono<Void> deletePartyGroupMembership(UUID partyId, UUID partyGroupMembershipId) {
         return repository.findById(partyGroupMembershipId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Party group membership not found with ID: " + partyGroupMembershipId)))
-                .flatMap(partyGroupMembership -> repository.deleteById(partyGroupMembershipId));
+                .flatMap(partyGroupMembership -> lockActiveMemberCounts(partyGroupMembership, null)
+                        .then(repository.deleteById(partyGroupMembershipId))
+                        .then(adjustActiveMemberCounts(partyGroupMembership, null)));
     }
 
     @Override
@@ -84,4 +108,106 @@ public class PartyGroupMembershipServiceImpl implements PartyGroupMembershipServ
                 .switchIfEmpty(Mono.error(new RuntimeException("Party group membership not found with ID: " + partyGroupMembershipId)))
                 .map(mapper::toDTO);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<PartyGroupMembershipDTO> getPartyGroupMembershipsAsOf(UUID partyId, OffsetDateTime asOf) {
+        return repository.findByPartyIdAsOf(partyId, asOf)
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<PartyGroupMembershipDTO> streamGroupMembers(UUID groupId, boolean activeOnly, UUID afterPartyId,
+                                                            UUID afterMembershipId) {
+        UUID after = afterPartyId != null ? afterPartyId : STREAM_START;
+        UUID afterMembership = afterPartyId == null ? STREAM_START
+                : afterMembershipId != null ? afterMembershipId : PARTY_END;
+        // A party has at most one active membership of a group, so the party alone keys that stream
+        return (activeOnly
+                        ? repository.streamActiveMembers(groupId, after)
+                        : repository.streamMembers(groupId, after, afterMembership))
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<PartyGroupSizeDTO> getGroupSize(UUID groupId) {
+        return repository.findActiveMemberCount(groupId)
+                .defaultIfEmpty(0L)
+                .map(activeMembers -> PartyGroupSizeDTO.builder()
+                        .groupId(groupId)
+                        .activeMembers(activeMembers)
+                        .build());
+    }
+
+    @Override
+    public Flux<PartyGroupMembershipResultDTO> addGroupMembers(UUID groupId, PartyGroupMembersRequestDTO request) {
+        UUID[] partyIds = request.getPartyIds().stream().distinct().toArray(UUID[]::new);
+        LocalDateTime startDate = request.getEffectiveDate() != null ? request.getEffectiveDate() : LocalDateTime.now();
+        // Writing the counter first locks it, so concurrent bulk operations on the group run one after another
+        return repository.adjustActiveMemberCount(groupId, 0L)
+                .thenMany(repository.addMembers(groupId, partyIds, startDate, request.getNotes()))
+                .collectList()
+                .flatMapMany(results -> applyBulkOutcome(groupId, results, MembershipOutcome.ADDED, 1L));
+    }
+
+    @Override
+    public Flux<PartyGroupMembershipResultDTO> endGroupMemberships(UUID groupId, PartyGroupMembersRequestDTO request) {
+        UUID[] partyIds = request.getPartyIds().stream().distinct().toArray(UUID[]::new);
+        LocalDateTime endDate = request.getEffectiveDate() != null ? request.getEffectiveDate() : LocalDateTime.now();
+        return repository.adjustActiveMemberCount(groupId, 0L)
+                .thenMany(repository.endMembers(groupId, partyIds, endDate))
+                .collectList()
+                .flatMapMany(results -> applyBulkOutcome(groupId, results, MembershipOutcome.ENDED, -1L));
+    }
+
+    /**
+     * Adjusts the active member counter of a group by the number of memberships a bulk operation
+     * changed and emits the per-party outcomes.
+     */
+    private Flux<PartyGroupMembershipResultDTO> applyBulkOutcome(UUID groupId, List<PartyGroupMembershipResult> results,
+                                                                 MembershipOutcome changed, long deltaPerChange) {
+        long changes = results.stream().filter(result -> result.getOutcome() == changed).count();
+        return (changes == 0L ? Mono.<Integer>empty() : repository.adjustActiveMemberCount(groupId, changes * deltaPerChange))
+                .thenMany(Flux.fromIterable(results))
+                .map(mapper::toResultDTO);
+    }
+
+    /**
+     * Locks the active member counters that replacing one membership row with another will adjust,
+     * before the membership row is written, which is the order the bulk operations lock in.
+     */
+    private Mono<Void> lockActiveMemberCounts(PartyGroupMembership before, PartyGroupMembership after) {
+        return Flux.fromIterable(activeMemberDeltas(before, after).keySet())
+                .concatMap(groupId -> repository.adjustActiveMemberCount(groupId, 0L))
+                .then();
+    }
+
+    /**
+     * Applies the change in active members caused by replacing one membership row with another to
+     * the per-group counters.
+     */
+    private Mono<Void> adjustActiveMemberCounts(PartyGroupMembership before, PartyGroupMembership after) {
+        return Flux.fromIterable(activeMemberDeltas(before, after).entrySet())
+                .concatMap(delta -> repository.adjustActiveMemberCount(delta.getKey(), delta.getValue()))
+                .then();
+    }
+
+    /**
+     * Computes the non-zero change in active members per group caused by replacing one membership
+     * row with another. Either side may be {@code null} for an insert or a delete. Groups are in
+     * group id order so that concurrent writers lock their counters in the same order.
+     */
+    private static Map<UUID, Long> activeMemberDeltas(PartyGroupMembership before, PartyGroupMembership after) {
+        Map<UUID, Long> deltas = new TreeMap<>();
+        if (before != null && Boolean.TRUE.equals(before.getIsActive())) {
+            deltas.merge(before.getGroupId(), -1L, Long::sum);
+        }
+        if (after != null && Boolean.TRUE.equals(after.getIsActive())) {
+            deltas.merge(after.getGroupId(), 1L, Long::sum);
+        }
+        deltas.values().removeIf(delta -> delta == 0L);
+        return deltas;
+    }
 }
\ No newline at end of file
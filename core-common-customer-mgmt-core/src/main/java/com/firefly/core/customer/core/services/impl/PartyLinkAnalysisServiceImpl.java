@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.services.impl;
+
+import com.firefly.core.customer.core.graph.SharedAttributeIndexer;
+import com.firefly.core.customer.core.services.PartyLinkAnalysisService;
+import com.firefly.core.customer.interfaces.dtos.SharedAttributeClusterDTO;
+import com.firefly.core.customer.interfaces.dtos.SharedAttributeLinkDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.UUID;
+
+@Service
+// Served from memory, so these must not open a database transaction
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class PartyLinkAnalysisServiceImpl implements PartyLinkAnalysisService {
+
+    static final int MAX_LINKED_PARTIES = 1000;
+    static final int MAX_CLUSTERS = 10_000;
+
+    @Autowired
+    private SharedAttributeIndexer sharedAttributeIndexer;
+
+    @Override
+    public Flux<SharedAttributeLinkDTO> getSharedAttributeLinks(UUID partyId, int limit) {
+        return Flux.defer(() -> Flux.fromIterable(sharedAttributeIndexer.linksOf(partyId,
+                Math.max(1, Math.min(limit, MAX_LINKED_PARTIES)))));
+    }
+
+    @Override
+    public Flux<SharedAttributeClusterDTO> getSharedAttributeClusters(int minSize, int limit) {
+        // A pass over the whole book, so keep it off the request threads
+        return Flux.defer(() -> Flux.fromIterable(sharedAttributeIndexer.clusters(
+                        Math.max(2, minSize),
+                        Math.max(1, Math.min(limit, MAX_CLUSTERS)))))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
\ No newline at end of file
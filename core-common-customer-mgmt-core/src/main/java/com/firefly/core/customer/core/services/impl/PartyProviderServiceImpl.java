@@ -20,15 +20,24 @@ package com.firefly.core.customer.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.core.cache.PartyProviderReferenceCache;
 import com.firefly.core.customer.core.mappers.PartyProviderMapper;
 import com.firefly.core.customer.core.services.PartyProviderService;
+import com.firefly.core.customer.core.transaction.AfterCommit;
+import com.firefly.core.customer.interfaces.dtos.ExternalReferenceResolutionDTO;
 import com.firefly.core.customer.interfaces.dtos.PartyProviderDTO;
 import com.firefly.core.customer.models.entities.PartyProvider;
 import com.firefly.core.customer.models.repositories.PartyProviderRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -41,6 +50,9 @@ public class PartyProviderServiceImpl implements PartyProviderService {
     @Autowired
     private PartyProviderMapper mapper;
 
+    @Autowired
+    private PartyProviderReferenceCache referenceCache;
+
     @Override
     public Mono<PaginationResponse<PartyProviderDTO>> filterPartyProviders(UUID partyId, FilterRequest<PartyProviderDTO> filterRequest) {
         return FilterUtils
@@ -56,6 +68,7 @@ public class PartyProviderServiceImpl implements PartyProviderService {
         return Mono.just(partyProviderDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(saved -> referenceChanged(saved).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -66,7 +79,10 @@ public class PartyProviderServiceImpl implements PartyProviderService {
                 .flatMap(existingPartyProvider -> {
                     PartyProvider updatedPartyProvider = mapper.toEntity(partyProviderDTO);
                     updatedPartyProvider.setPartyProviderId(partyProviderId);
-                    return repository.save(updatedPartyProvider);
+                    return repository.save(updatedPartyProvider)
+                            .flatMap(saved -> referenceChanged(existingPartyProvider)
+                                    .then(referenceChanged(saved))
+                                    .thenReturn(saved));
                 })
                 .map(mapper::toDTO);
     }
@@ -75,7 +91,8 @@ public class PartyProviderServiceImpl implements PartyProviderService {
     public Mono<Void> deletePartyProvider(UUID partyId, UUID partyProviderId) {
         return repository.findById(partyProviderId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Party provider not found with ID: " + partyProviderId)))
-                .flatMap(partyProvider -> repository.deleteById(partyProviderId));
+                .flatMap(partyProvider -> repository.deleteById(partyProviderId)
+                        .then(Mono.defer(() -> referenceChanged(partyProvider))));
     }
 
     @Override
@@ -84,4 +101,71 @@ public class PartyProviderServiceImpl implements PartyProviderService {
                 .switchIfEmpty(Mono.error(new RuntimeException("Party provider not found with ID: " + partyProviderId)))
                 .map(mapper::toDTO);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<ExternalReferenceResolutionDTO> resolveExternalReference(String providerName, String externalReference) {
+        PartyProviderReferenceCache.Entry cached = referenceCache.lookup(providerName, externalReference);
+        if (cached != null) {
+            return cached.resolved()
+                    ? Mono.just(toResolution(providerName, externalReference, cached.partyId()))
+                    : Mono.empty();
+        }
+        long stamp = referenceCache.stamp();
+        return repository.findByProviderNameAndExternalReference(providerName, externalReference)
+                .doOnNext(partyProvider -> referenceCache.putResolved(providerName, externalReference, partyProvider.getPartyId(), stamp))
+                .map(partyProvider -> toResolution(providerName, externalReference, partyProvider.getPartyId()))
+                .switchIfEmpty(Mono.fromRunnable(() -> referenceCache.putUnresolved(providerName, externalReference, stamp)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<ExternalReferenceResolutionDTO> resolveExternalReferences(String providerName, List<String> externalReferences) {
+        List<String> references = new ArrayList<>(new LinkedHashSet<>(externalReferences));
+        Map<String, UUID> resolved = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        long stamp = referenceCache.stamp();
+        for (String reference : references) {
+            PartyProviderReferenceCache.Entry cached = referenceCache.lookup(providerName, reference);
+            if (cached == null) {
+                misses.add(reference);
+            } else if (cached.resolved()) {
+                resolved.put(reference, cached.partyId());
+            }
+        }
+
+        Mono<Map<String, UUID>> lookup = misses.isEmpty()
+                ? Mono.just(resolved)
+                : repository.findByProviderNameAndExternalReferenceIn(providerName, misses)
+                        .doOnNext(partyProvider -> {
+                            referenceCache.putResolved(providerName, partyProvider.getExternalReference(), partyProvider.getPartyId(), stamp);
+                            resolved.put(partyProvider.getExternalReference(), partyProvider.getPartyId());
+                        })
+                        .then(Mono.fromCallable(() -> {
+                            misses.stream()
+                                    .filter(reference -> !resolved.containsKey(reference))
+                                    .forEach(reference -> referenceCache.putUnresolved(providerName, reference, stamp));
+                            return resolved;
+                        }));
+
+        return lookup.flatMapMany(partyIds -> Flux.fromIterable(references)
+                .map(reference -> toResolution(providerName, reference, partyIds.get(reference))));
+    }
+
+    // Evicts the reference on this node and, through the notification, on all others, once the write commits
+    private Mono<Void> referenceChanged(PartyProvider partyProvider) {
+        String providerName = partyProvider.getProviderName();
+        String externalReference = partyProvider.getExternalReference();
+        return repository.notifyReferenceChanged(providerName, externalReference)
+                .then(AfterCommit.run(() -> referenceCache.invalidate(providerName, externalReference)));
+    }
+
+    private ExternalReferenceResolutionDTO toResolution(String providerName, String externalReference, UUID partyId) {
+        return ExternalReferenceResolutionDTO.builder()
+                .providerName(providerName)
+                .externalReference(externalReference)
+                .resolved(partyId != null)
+                .partyId(partyId)
+                .build();
+    }
 }
\ No newline at end of file
@@ -20,27 +20,59 @@ package com.firefly.core.customer.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.core.graph.PartyNetworkIndexer;
+import com.firefly.core.customer.core.graph.PartyRelationshipGraphIndexer;
 import com.firefly.core.customer.core.mappers.PartyRelationshipMapper;
 import com.firefly.core.customer.core.services.PartyRelationshipService;
+import com.firefly.core.customer.interfaces.dtos.PartyConnectionDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyNetworkDTO;
 import com.firefly.core.customer.interfaces.dtos.PartyRelationshipDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyRelationshipEdgeDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyRelationshipSummaryDTO;
+import com.firefly.core.customer.interfaces.enums.RelationshipDirection;
 import com.firefly.core.customer.models.entities.PartyRelationship;
+import com.firefly.core.customer.models.projections.PartyRelationshipEdge;
+import com.firefly.core.customer.models.repositories.PartyNetworkComponentRepository;
 import com.firefly.core.customer.models.repositories.PartyRelationshipRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class PartyRelationshipServiceImpl implements PartyRelationshipService {
 
+    static final int MAX_TRAVERSAL_DEPTH = 10;
+    static final int MAX_TRAVERSAL_EDGES = 10_000;
+    static final int MAX_GRAPH_HOPS = 6;
+    static final int MAX_NEIGHBORHOOD_SIZE = 10_000;
+    static final int MAX_NETWORK_SIZE = 100_000;
+
     @Autowired
     private PartyRelationshipRepository repository;
 
     @Autowired
     private PartyRelationshipMapper mapper;
 
+    @Autowired
+    private PartyRelationshipGraphIndexer graphIndexer;
+
+    @Autowired
+    private PartyNetworkIndexer networkIndexer;
+
+    @Autowired
+    private PartyNetworkComponentRepository networkRepository;
+
     @Override
     public Mono<PaginationResponse<PartyRelationshipDTO>> filterPartyRelationships(FilterRequest<PartyRelationshipDTO> filterRequest) {
         return FilterUtils
@@ -56,6 +88,8 @@ public class PartyRelationshipServiceImpl implements PartyRelationshipService {
         return Mono.just(partyRelationshipDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(saved -> networkIndexer.apply(null, saved).thenReturn(saved))
+                .flatMap(saved -> graphIndexer.refreshAfterCommit(Arrays.asList(saved.getPartyRelationshipId())).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -66,8 +100,10 @@ public class PartyRelationshipServiceImpl implements PartyRelationshipService {
                 .flatMap(existingPartyRelationship -> {
                     PartyRelationship updatedPartyRelationship = mapper.toEntity(partyRelationshipDTO);
                     updatedPartyRelationship.setPartyRelationshipId(partyRelationshipId);
-                    return repository.save(updatedPartyRelationship);
+                    return repository.save(updatedPartyRelationship)
+                            .flatMap(saved -> networkIndexer.apply(existingPartyRelationship, saved).thenReturn(saved));
                 })
+                .flatMap(saved -> graphIndexer.refreshAfterCommit(Arrays.asList(saved.getPartyRelationshipId())).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -75,7 +111,9 @@ public class PartyRelationshipServiceImpl implements PartyRelationshipService {
     public Mono<Void> deletePartyRelationship(UUID partyRelationshipId) {
         return repository.findById(partyRelationshipId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Party relationship not found with ID: " + partyRelationshipId)))
-                .flatMap(partyRelationship -> repository.deleteById(partyRelationshipId));
+                .flatMap(partyRelationship -> repository.deleteById(partyRelationshipId)
+                        .then(networkIndexer.apply(partyRelationship, null))
+                        .then(graphIndexer.refreshAfterCommit(Arrays.asList(partyRelationshipId))));
     }
 
     @Override
@@ -84,4 +122,119 @@ public class PartyRelationshipServiceImpl implements PartyRelationshipService {
                 .switchIfEmpty(Mono.error(new RuntimeException("Party relationship not found with ID: " + partyRelationshipId)))
                 .map(mapper::toDTO);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<PartyRelationshipSummaryDTO> getRelationshipsOfParty(UUID partyId, boolean activeOnly) {
+        return (activeOnly
+                        ? repository.findActiveRelationshipsOfParty(partyId)
+                        : repository.findRelationshipsOfParty(partyId))
+                .map(mapper::toSummaryDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<PartyRelationshipSummaryDTO> getRelationshipsOfPartyAsOf(UUID partyId, OffsetDateTime asOf) {
+        return repository.findRelationshipsOfPartyAsOf(partyId, asOf)
+                .map(mapper::toSummaryDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<PartyRelationshipEdgeDTO> traversePartyRelationships(UUID partyId, RelationshipDirection direction, int maxDepth,
+                                                                     List<UUID> relationshipTypeIds, boolean activeOnly) {
+        UUID[] typeIds = relationshipTypeIds == null || relationshipTypeIds.isEmpty()
+                ? null
+                : relationshipTypeIds.toArray(UUID[]::new);
+        boolean outgoing = direction != RelationshipDirection.INCOMING;
+        boolean incoming = direction != RelationshipDirection.OUTGOING;
+        int cappedDepth = Math.max(1, Math.min(maxDepth, MAX_TRAVERSAL_DEPTH));
+        return Flux.defer(() -> {
+                    Set<UUID> visited = new HashSet<>();
+                    visited.add(partyId);
+                    return traverseLevel(List.of(partyId), List.of(), 1, cappedDepth, MAX_TRAVERSAL_EDGES,
+                            visited, outgoing, incoming, typeIds, activeOnly);
+                })
+                .map(mapper::toEdgeDTO);
+    }
+
+    /**
+     * Walks one level of the relationship graph breadth-first, with one query per level.
+     * Each party is expanded at most once, so dense or cyclic graphs cost at most one query
+     * per level instead of one row per path. Only the previous level's relationships can
+     * touch the current frontier again, so only those are excluded.
+     */
+    private Flux<PartyRelationshipEdge> traverseLevel(List<UUID> frontier, List<UUID> previousLevelIds, int depth,
+                                                      int maxDepth, int remaining, Set<UUID> visited,
+                                                      boolean outgoing, boolean incoming, UUID[] typeIds,
+                                                      boolean activeOnly) {
+        if (frontier.isEmpty() || depth > maxDepth || remaining <= 0) {
+            return Flux.empty();
+        }
+        return repository.findEdgesOfParties(frontier.toArray(UUID[]::new), outgoing, incoming, typeIds,
+                        activeOnly, previousLevelIds.toArray(UUID[]::new), remaining)
+                .collectList()
+                .flatMapMany(edges -> {
+                    List<UUID> nextFrontier = new ArrayList<>();
+                    List<UUID> levelIds = new ArrayList<>(edges.size());
+                    for (PartyRelationshipEdge edge : edges) {
+                        edge.setDepth(depth);
+                        levelIds.add(edge.getPartyRelationshipId());
+                        if (visited.add(edge.getFromPartyId())) {
+                            nextFrontier.add(edge.getFromPartyId());
+                        }
+                        if (visited.add(edge.getToPartyId())) {
+                            nextFrontier.add(edge.getToPartyId());
+                        }
+                    }
+                    return Flux.fromIterable(edges)
+                            .concatWith(Flux.defer(() -> traverseLevel(nextFrontier, levelIds, depth + 1, maxDepth,
+                                    remaining - edges.size(), visited, outgoing, incoming, typeIds, activeOnly)));
+                });
+    }
+
+    // Served from memory, so these must not open a database transaction
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<PartyConnectionDTO> findPartyConnection(UUID fromPartyId, UUID toPartyId, int maxHops) {
+        return Mono.fromSupplier(() -> {
+            List<UUID> path = graphIndexer.shortestPath(fromPartyId, toPartyId, Math.max(1, Math.min(maxHops, MAX_GRAPH_HOPS)));
+            return PartyConnectionDTO.builder()
+                    .fromPartyId(fromPartyId)
+                    .toPartyId(toPartyId)
+                    .connected(!path.isEmpty())
+                    .hops(path.isEmpty() ? null : path.size() - 1)
+                    .path(path)
+                    .build();
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Flux<UUID> getPartyNeighborhood(UUID partyId, int hops, int limit) {
+        return Flux.defer(() -> Flux.fromIterable(graphIndexer.neighborhood(partyId,
+                Math.max(1, Math.min(hops, MAX_GRAPH_HOPS)),
+                Math.max(1, Math.min(limit, MAX_NEIGHBORHOOD_SIZE)))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<PartyNetworkDTO> getPartyNetwork(UUID partyId, int limit) {
+        int cappedLimit = Math.max(1, Math.min(limit, MAX_NETWORK_SIZE));
+        return networkRepository.findById(partyId)
+                .flatMap(component -> networkRepository.countByComponentId(component.getComponentId())
+                        .flatMap(size -> networkRepository.findPartyIdsByComponentId(component.getComponentId(), cappedLimit)
+                                .collectList()
+                                .map(partyIds -> PartyNetworkDTO.builder()
+                                        .partyId(partyId)
+                                        .componentId(component.getComponentId())
+                                        .size(size)
+                                        .partyIds(partyIds)
+                                        .build())))
+                .defaultIfEmpty(PartyNetworkDTO.builder()
+                        .partyId(partyId)
+                        .size(1L)
+                        .partyIds(List.of(partyId))
+                        .build());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.services.impl;
+
+import com.firefly.core.customer.core.mappers.PartySearchMapper;
+import com.firefly.core.customer.core.search.PartySearchIndexRebuilder;
+import com.firefly.core.customer.core.search.PartyTypeaheadIndexer;
+import com.firefly.core.customer.core.search.PhoneticKeys;
+import com.firefly.core.customer.core.search.SearchText;
+import com.firefly.core.customer.core.services.PartySearchService;
+import com.firefly.core.customer.interfaces.dtos.PartySearchResultDTO;
+import com.firefly.core.customer.models.repositories.PartySearchDocumentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.util.UUID;
+
+@Service
+@Transactional(readOnly = true)
+public class PartySearchServiceImpl implements PartySearchService {
+
+    static final int MAX_LIMIT = 100;
+    static final int MAX_SUGGESTIONS = 50;
+
+    @Autowired
+    private PartySearchDocumentRepository repository;
+
+    @Autowired
+    private PartySearchMapper mapper;
+
+    @Autowired
+    private PartyTypeaheadIndexer typeaheadIndexer;
+
+    @Autowired
+    private PartySearchIndexRebuilder indexRebuilder;
+
+    @Override
+    public Flux<PartySearchResultDTO> searchParties(UUID tenantId, String query, int limit) {
+        String tsQuery = SearchText.toPrefixTsQuery(query);
+        if (tsQuery == null) {
+            return Flux.empty();
+        }
+        return repository.search(tenantId, tsQuery, Math.max(1, Math.min(limit, MAX_LIMIT)))
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Flux<PartySearchResultDTO> searchPartiesPhonetically(UUID tenantId, String query, int limit) {
+        String[] keys = PhoneticKeys.keysFor(query);
+        if (keys.length == 0) {
+            return Flux.empty();
+        }
+        return repository.searchPhonetic(tenantId, keys, Math.max(1, Math.min(limit, MAX_LIMIT)))
+                .map(mapper::toDTO);
+    }
+
+    // Served from memory, so this must not open a database transaction
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Flux<UUID> suggestParties(UUID tenantId, String prefix, int limit) {
+        return Flux.defer(() -> Flux.fromIterable(
+                typeaheadIndexer.suggest(tenantId, prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)))));
+    }
+
+    // The rebuild state must be committed before the background rebuild reads it,
+    // so these run outside of any transaction
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<Boolean> rebuildSearchDocuments() {
+        return indexRebuilder.start();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<Void> abortSearchDocumentRebuild() {
+        return indexRebuilder.abort();
+    }
+}
\ No newline at end of file
@@ -20,15 +20,23 @@ package com.firefly.core.customer.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.core.graph.SharedAttributeIndexer;
+import com.firefly.core.customer.core.kyc.KycReviewScheduler;
 import com.firefly.core.customer.core.mappers.PartyMapper;
+import com.firefly.core.customer.core.search.PartySearchIndexer;
+import com.firefly.core.customer.core.search.PartyTypeaheadIndexer;
 import com.firefly.core.customer.core.services.PartyService;
 import com.firefly.core.customer.interfaces.dtos.PartyDTO;
 import com.firefly.core.customer.models.entities.Party;
+import com.firefly.core.customer.models.repositories.PartyEconomicActivityRepository;
+import com.firefly.core.customer.models.repositories.PartyGroupMembershipRepository;
 import com.firefly.core.customer.models.repositories.PartyRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -41,6 +49,24 @@ public class PartyServiceImpl implements PartyService {
     @Autowired
     private PartyMapper mapper;
 
+    @Autowired
+    private PartySearchIndexer searchIndexer;
+
+    @Autowired
+    private PartyTypeaheadIndexer typeaheadIndexer;
+
+    @Autowired
+    private SharedAttributeIndexer sharedAttributeIndexer;
+
+    @Autowired
+    private KycReviewScheduler kycReviewScheduler;
+
+    @Autowired
+    private PartyEconomicActivityRepository partyEconomicActivityRepository;
+
+    @Autowired
+    private PartyGroupMembershipRepository partyGroupMembershipRepository;
+
     @Override
     public Mono<PaginationResponse<PartyDTO>> filterParties(FilterRequest<PartyDTO> filterRequest) {
         return FilterUtils
@@ -56,6 +82,8 @@ public class PartyServiceImpl implements PartyService {
         return Mono.just(partyDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(saved -> searchIndexer.refresh(saved.getPartyId()).thenReturn(saved))
+                .flatMap(saved -> kycReviewScheduler.reschedule(Arrays.asList(saved.getPartyId())).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -66,16 +94,34 @@ public class PartyServiceImpl implements PartyService {
                 .flatMap(existingParty -> {
                     Party updatedParty = mapper.toEntity(partyDTO);
                     updatedParty.setPartyId(partyId);
-                    return repository.save(updatedParty);
+                    if (Objects.equals(existingParty.getTenantId(), updatedParty.getTenantId())) {
+                        return repository.save(updatedParty);
+                    }
+                    // Economic activity turnover is rolled up per tenant, so it moves along with the party
+                    return partyEconomicActivityRepository.adjustPartyTurnover(partyId, -1)
+                            .then(repository.save(updatedParty))
+                            .flatMap(saved -> partyEconomicActivityRepository.adjustPartyTurnover(partyId, 1).thenReturn(saved));
                 })
+                .flatMap(saved -> searchIndexer.refresh(saved.getPartyId()).thenReturn(saved))
+                .flatMap(saved -> kycReviewScheduler.reschedule(Arrays.asList(saved.getPartyId())).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> deleteParty(UUID partyId) {
-        return repository.findById(partyId)
+        // Deleting the party cascades to its economic activities and group memberships, which must leave the
+        // turnover rollups and the active member counters first. The counters are locked before the party,
+        // in the order membership writers lock them, and the locked party holds off new memberships.
+        return partyGroupMembershipRepository.lockPartyActiveMemberCounts(partyId)
+                .then(repository.findByIdForUpdate(partyId))
                 .switchIfEmpty(Mono.error(new RuntimeException("Party not found with ID: " + partyId)))
-                .flatMap(party -> repository.deleteById(partyId));
+                .flatMap(party -> partyEconomicActivityRepository.adjustPartyTurnover(partyId, -1)
+                        .then(partyGroupMembershipRepository.takeOffPartyActiveMemberCounts(partyId))
+                        .then(repository.deleteById(partyId))
+                        // The delete cascades to the natural person or legal entity holding the names, and to the
+                        // contacts and identity documents the shared attribute index links parties by
+                        .then(typeaheadIndexer.remove(party.getTenantId(), partyId))
+                        .then(sharedAttributeIndexer.refreshAfterCommit(Arrays.asList(partyId))));
     }
 
     @Override
@@ -22,25 +22,38 @@ import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.customer.core.mappers.PartyStatusMapper;
 import com.firefly.core.customer.core.services.PartyStatusService;
+import com.firefly.core.customer.core.status.PartyStatusTransitionScheduler;
+import com.firefly.core.customer.core.transaction.AfterCommit;
 import com.firefly.core.customer.interfaces.dtos.PartyStatusDTO;
+import com.firefly.core.customer.interfaces.enums.StatusCode;
 import com.firefly.core.customer.models.entities.PartyStatus;
 import com.firefly.core.customer.models.repositories.PartyStatusRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class PartyStatusServiceImpl implements PartyStatusService {
 
+    static final UUID STREAM_START = new UUID(0L, 0L);
+
     @Autowired
     private PartyStatusRepository repository;
 
     @Autowired
     private PartyStatusMapper mapper;
 
+    @Autowired
+    private PartyStatusTransitionScheduler transitionScheduler;
+
     @Override
     public Mono<PaginationResponse<PartyStatusDTO>> filterPartyStatuses(UUID partyId, FilterRequest<PartyStatusDTO> filterRequest) {
         return FilterUtils
@@ -53,25 +66,44 @@ public class PartyStatusServiceImpl implements PartyStatusService {
 
     @Override
     public Mono<PartyStatusDTO> createPartyStatus(UUID partyId, PartyStatusDTO partyStatusDTO) {
+        // An open status replaces the current one, so it has to close it in the same statement
+        if (partyStatusDTO.getValidTo() == null) {
+            return transitionPartyStatus(partyId, partyStatusDTO);
+        }
         return Mono.just(partyStatusDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(this::scheduleAfterCommit)
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Mono<PartyStatusDTO> transitionPartyStatus(UUID partyId, PartyStatusDTO partyStatusDTO) {
+        LocalDateTime validFrom = partyStatusDTO.getValidFrom() != null ? partyStatusDTO.getValidFrom() : LocalDateTime.now();
+        return repository.transition(partyId, partyStatusDTO.getStatusCode().name(), partyStatusDTO.getStatusReason(), validFrom)
+                .switchIfEmpty(Mono.error(new RuntimeException("New status of party " + partyId + " must not start at the same time as an existing status")))
+                .flatMap(this::scheduleAfterCommit)
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<PartyStatusDTO> updatePartyStatus(UUID partyId, PartyStatusDTO partyStatusDTO) {
-        return repository.findByPartyId(partyId)
+        return repository.findCurrentByPartyId(partyId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Party status not found for party ID: " + partyId)))
                 .flatMap(existingPartyStatus -> {
                     // Validate that the natural person belongs to the specified party
                     if (!partyId.equals(existingPartyStatus.getPartyId())) {
                         return Mono.error(new RuntimeException("Status with ID " + existingPartyStatus.getPartyStatusId() + " does not belong to party " + partyId));
                     }
+                    LocalDateTime previousValidFrom = existingPartyStatus.getValidFrom();
                     mapper.updateEntityFromDto(partyStatusDTO, existingPartyStatus);
-                    return repository.save(existingPartyStatus);
-
+                    return repository.save(existingPartyStatus)
+                            // A status that starts at another time has to be activated again
+                            .flatMap(saved -> Objects.equals(previousValidFrom, saved.getValidFrom())
+                                    ? Mono.just(saved)
+                                    : repository.resetActivation(saved.getPartyStatusId()).thenReturn(saved));
                 })
+                .flatMap(this::scheduleAfterCommit)
                 .map(mapper::toDTO);
     }
 
@@ -88,4 +120,32 @@ public class PartyStatusServiceImpl implements PartyStatusService {
                 .switchIfEmpty(Mono.error(new RuntimeException("Party status not found with ID: " + partyStatusId)))
                 .map(mapper::toDTO);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<PartyStatusDTO> getCurrentPartyStatus(UUID partyId) {
+        return repository.findCurrentByPartyId(partyId)
+                .switchIfEmpty(Mono.error(new RuntimeException("Current party status not found for party ID: " + partyId)))
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<PartyStatusDTO> getCurrentPartyStatuses(List<UUID> partyIds) {
+        return repository.findCurrentByPartyIds(partyIds.stream().distinct().toArray(UUID[]::new))
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<PartyStatusDTO> streamPartyStatusesAsOf(UUID tenantId, OffsetDateTime asOf, StatusCode statusCode, UUID afterPartyId) {
+        return repository.streamByTenantIdAsOf(tenantId, asOf,
+                        statusCode != null ? statusCode.name() : null,
+                        afterPartyId != null ? afterPartyId : STREAM_START)
+                .map(mapper::toDTO);
+    }
+
+    private Mono<PartyStatus> scheduleAfterCommit(PartyStatus status) {
+        return AfterCommit.run(() -> transitionScheduler.schedule(status)).thenReturn(status);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.services.impl;
+
+import com.firefly.core.customer.core.pep.PepFlagIndexer;
+import com.firefly.core.customer.core.services.PepFlagService;
+import com.firefly.core.customer.interfaces.dtos.PepFlagDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+// Served from memory, so these must not open a database transaction
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class PepFlagServiceImpl implements PepFlagService {
+
+    @Autowired
+    private PepFlagIndexer pepFlagIndexer;
+
+    @Override
+    public Mono<PepFlagDTO> getPepFlag(UUID partyId) {
+        return pepFlagIndexer.isPep(partyId)
+                .map(pep -> PepFlagDTO.builder()
+                        .partyId(partyId)
+                        .pep(pep)
+                        .build());
+    }
+
+    @Override
+    public Flux<PepFlagDTO> getPepFlags(List<UUID> partyIds) {
+        Set<UUID> distinct = new LinkedHashSet<>(partyIds);
+        return pepFlagIndexer.selectPeps(distinct)
+                .flatMapIterable(peps -> distinct.stream()
+                        .map(partyId -> PepFlagDTO.builder()
+                                .partyId(partyId)
+                                .pep(peps.contains(partyId))
+                                .build())
+                        .toList());
+    }
+}
\ No newline at end of file
@@ -20,7 +20,9 @@ package com.firefly.core.customer.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.core.graph.SharedAttributeIndexer;
 import com.firefly.core.customer.core.mappers.PhoneContactMapper;
+import com.firefly.core.customer.core.search.PartySearchIndexer;
 import com.firefly.core.customer.core.services.PhoneContactService;
 import com.firefly.core.customer.interfaces.dtos.PhoneContactDTO;
 import com.firefly.core.customer.models.entities.PhoneContact;
@@ -41,6 +43,12 @@ public class PhoneContactServiceImpl implements PhoneContactService {
     @Autowired
     private PhoneContactMapper mapper;
 
+    @Autowired
+    private PartySearchIndexer searchIndexer;
+
+    @Autowired
+    private SharedAttributeIndexer sharedAttributeIndexer;
+
     @Override
     public Mono<PaginationResponse<PhoneContactDTO>> filterPhoneContacts(UUID partyId, FilterRequest<PhoneContactDTO> filterRequest) {
         return FilterUtils
@@ -56,6 +64,8 @@ public class PhoneContactServiceImpl implements PhoneContactService {
         return Mono.just(phoneContactDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(saved -> sharedAttributeIndexer.index(saved).thenReturn(saved))
+                .flatMap(saved -> searchIndexer.refresh(saved.getPartyId()).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -71,6 +81,8 @@ public class PhoneContactServiceImpl implements PhoneContactService {
                     mapper.updateEntityFromDto(phoneContactDTO, existingPhoneContact);
                     return repository.save(existingPhoneContact);
                 })
+                .flatMap(saved -> sharedAttributeIndexer.index(saved).thenReturn(saved))
+                .flatMap(saved -> searchIndexer.refresh(saved.getPartyId()).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -78,7 +90,9 @@ public class PhoneContactServiceImpl implements PhoneContactService {
     public Mono<Void> deletePhoneContact(UUID partyId, UUID phoneContactId) {
         return repository.findById(phoneContactId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Phone contact not found with ID: " + phoneContactId)))
-                .flatMap(phoneContact -> repository.deleteById(phoneContactId));
+                .flatMap(phoneContact -> repository.deleteById(phoneContactId)
+                        .then(Mono.defer(() -> sharedAttributeIndexer.remove(phoneContact.getPartyId(), phoneContactId)))
+                        .then(searchIndexer.refresh(phoneContact.getPartyId())));
     }
 
     @Override
@@ -20,7 +20,9 @@ package com.firefly.core.customer.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.core.kyc.KycReviewScheduler;
 import com.firefly.core.customer.core.mappers.PoliticallyExposedPersonMapper;
+import com.firefly.core.customer.core.pep.PepFlagIndexer;
 import com.firefly.core.customer.core.services.PoliticallyExposedPersonService;
 import com.firefly.core.customer.interfaces.dtos.PoliticallyExposedPersonDTO;
 import com.firefly.core.customer.models.entities.PoliticallyExposedPerson;
@@ -29,6 +31,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -41,6 +45,12 @@ public class PoliticallyExposedPersonServiceImpl implements PoliticallyExposedPe
     @Autowired
     private PoliticallyExposedPersonMapper mapper;
 
+    @Autowired
+    private PepFlagIndexer pepFlagIndexer;
+
+    @Autowired
+    private KycReviewScheduler kycReviewScheduler;
+
     @Override
     public Mono<PaginationResponse<PoliticallyExposedPersonDTO>> filterPoliticallyExposedPersons(UUID partyId, FilterRequest<PoliticallyExposedPersonDTO> filterRequest) {
         return FilterUtils
@@ -55,7 +65,11 @@ public class PoliticallyExposedPersonServiceImpl implements PoliticallyExposedPe
     public Mono<PoliticallyExposedPersonDTO> createPoliticallyExposedPerson(UUID partyId, PoliticallyExposedPersonDTO politicallyExposedPersonDTO) {
         return Mono.just(politicallyExposedPersonDTO)
                 .map(mapper::toEntity)
+                // Records created by hand are not screening hits, so they have no review state
+                .doOnNext(politicallyExposedPerson -> politicallyExposedPerson.setScreeningStatus(null))
                 .flatMap(repository::save)
+                .flatMap(saved -> pepFlagIndexer.refreshAfterCommit(Arrays.asList(saved.getPartyId())).thenReturn(saved))
+                .flatMap(saved -> kycReviewScheduler.reschedule(Arrays.asList(saved.getPartyId())).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -66,7 +80,21 @@ public class PoliticallyExposedPersonServiceImpl implements PoliticallyExposedPe
                 .flatMap(existingPoliticallyExposedPerson -> {
                     PoliticallyExposedPerson updatedPoliticallyExposedPerson = mapper.toEntity(politicallyExposedPersonDTO);
                     updatedPoliticallyExposedPerson.setPepId(politicallyExposedPersonId);
-                    return repository.save(updatedPoliticallyExposedPerson);
+                    // Keeps a screening hit tied to its list entry, so a rescreen does not record it again
+                    updatedPoliticallyExposedPerson.setScreeningEntryId(existingPoliticallyExposedPerson.getScreeningEntryId());
+                    // Only screening hits are reviewed, and they keep their review state unless the update sets one
+                    if (existingPoliticallyExposedPerson.getScreeningEntryId() == null) {
+                        updatedPoliticallyExposedPerson.setScreeningStatus(null);
+                    } else if (updatedPoliticallyExposedPerson.getScreeningStatus() == null) {
+                        updatedPoliticallyExposedPerson.setScreeningStatus(existingPoliticallyExposedPerson.getScreeningStatus());
+                    }
+                    return repository.save(updatedPoliticallyExposedPerson)
+                            .flatMap(saved -> {
+                                List<UUID> partyIds = Arrays.asList(existingPoliticallyExposedPerson.getPartyId(), saved.getPartyId());
+                                return pepFlagIndexer.refreshAfterCommit(partyIds)
+                                        .then(kycReviewScheduler.reschedule(partyIds))
+                                        .thenReturn(saved);
+                            });
                 })
                 .map(mapper::toDTO);
     }
@@ -75,7 +103,9 @@ public class PoliticallyExposedPersonServiceImpl implements PoliticallyExposedPe
     public Mono<Void> deletePoliticallyExposedPerson(UUID partyId, UUID politicallyExposedPersonId) {
         return repository.findById(politicallyExposedPersonId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Politically exposed person not found with ID: " + politicallyExposedPersonId)))
-                .flatMap(politicallyExposedPerson -> repository.deleteById(politicallyExposedPersonId));
+                .flatMap(politicallyExposedPerson -> repository.deleteById(politicallyExposedPersonId)
+                        .then(Mono.defer(() -> pepFlagIndexer.refreshAfterCommit(Arrays.asList(politicallyExposedPerson.getPartyId()))))
+                        .then(Mono.defer(() -> kycReviewScheduler.reschedule(Arrays.asList(politicallyExposedPerson.getPartyId())))));
     }
 
     @Override
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.services.impl;
+
+import com.firefly.core.customer.core.screening.PartyRescreener;
+import com.firefly.core.customer.core.screening.ScreeningEngine;
+import com.firefly.core.customer.core.services.ScreeningService;
+import com.firefly.core.customer.interfaces.dtos.ScreeningHitDTO;
+import com.firefly.core.customer.interfaces.dtos.ScreeningRequestDTO;
+import com.firefly.core.customer.interfaces.dtos.ScreeningRunDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+// Served from memory, so these must not open a database transaction
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ScreeningServiceImpl implements ScreeningService {
+
+    @Autowired
+    private ScreeningEngine screeningEngine;
+
+    @Autowired
+    private PartyRescreener partyRescreener;
+
+    @Override
+    public Flux<ScreeningHitDTO> screenName(ScreeningRequestDTO request) {
+        return Flux.defer(() -> Flux.fromIterable(screeningEngine.screen(request.getKind(), request.getName())))
+                .map(hit -> ScreeningHitDTO.builder()
+                        .entryId(hit.entryId())
+                        .category(hit.category())
+                        .listedName(hit.listedName())
+                        .pep(hit.pep())
+                        .build());
+    }
+
+    @Override
+    public Mono<ScreeningRunDTO> startRescreen() {
+        return Mono.fromSupplier(partyRescreener::start);
+    }
+
+    @Override
+    public Mono<ScreeningRunDTO> getLastRescreen() {
+        return Mono.fromSupplier(partyRescreener::lastRun)
+                .switchIfEmpty(Mono.error(new RuntimeException("No party rescreen has been started")));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.services.impl;
+
+import com.firefly.core.customer.core.expiry.ExpiryKind;
+import com.firefly.core.customer.core.expiry.TemporalExpiryEvent;
+import com.firefly.core.customer.core.graph.PartyNetworkIndexer;
+import com.firefly.core.customer.core.graph.PartyRelationshipGraphIndexer;
+import com.firefly.core.customer.core.kyc.KycReviewScheduler;
+import com.firefly.core.customer.core.services.TemporalExpiryService;
+import com.firefly.core.customer.models.entities.PartyRelationship;
+import com.firefly.core.customer.models.entities.PoliticallyExposedPerson;
+import com.firefly.core.customer.models.repositories.IdentityDocumentRepository;
+import com.firefly.core.customer.models.repositories.PartyGroupMembershipRepository;
+import com.firefly.core.customer.models.repositories.PartyRelationshipRepository;
+import com.firefly.core.customer.models.repositories.PoliticallyExposedPersonRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+
+@Service
+@Transactional
+public class TemporalExpiryServiceImpl implements TemporalExpiryService {
+
+    static final int MAX_BATCH_SIZE = 10_000;
+
+    @Autowired
+    private PartyRelationshipRepository partyRelationshipRepository;
+
+    @Autowired
+    private PartyGroupMembershipRepository partyGroupMembershipRepository;
+
+    @Autowired
+    private PoliticallyExposedPersonRepository politicallyExposedPersonRepository;
+
+    @Autowired
+    private IdentityDocumentRepository identityDocumentRepository;
+
+    @Autowired
+    private PartyNetworkIndexer networkIndexer;
+
+    @Autowired
+    private PartyRelationshipGraphIndexer graphIndexer;
+
+    @Autowired
+    private KycReviewScheduler kycReviewScheduler;
+
+    @Override
+    public Flux<TemporalExpiryEvent> expireBatch(ExpiryKind kind, int limit) {
+        int batchSize = Math.max(1, Math.min(limit, MAX_BATCH_SIZE));
+        return switch (kind) {
+            case PARTY_RELATIONSHIP -> partyRelationshipRepository.expireEnded(batchSize)
+                    .concatMap(relationship -> networkIndexer.expire(relationship).thenReturn(relationship))
+                    .collectList()
+                    .flatMapMany(relationships -> graphIndexer.refreshAfterCommit(relationships.stream()
+                                    .map(PartyRelationship::getPartyRelationshipId)
+                                    .toList())
+                            .thenMany(Flux.fromIterable(relationships)))
+                    .map(relationship -> new TemporalExpiryEvent(kind, relationship.getPartyRelationshipId(),
+                            relationship.getFromPartyId(), relationship.getEndDate()));
+            // The group member counters are adjusted by the expiring statement itself
+            case PARTY_GROUP_MEMBERSHIP -> partyGroupMembershipRepository.expireEnded(batchSize)
+                    .map(membership -> new TemporalExpiryEvent(kind, membership.getPartyGroupMembershipId(),
+                            membership.getPartyId(), membership.getEndDate()));
+            // Parties that are no longer PEPs drop out of the high-risk review interval with the batch
+            case POLITICALLY_EXPOSED_PERSON -> politicallyExposedPersonRepository.expireEnded(batchSize)
+                    .collectList()
+                    .flatMapMany(peps -> kycReviewScheduler.reschedule(peps.stream()
+                                    .map(PoliticallyExposedPerson::getPartyId)
+                                    .toList())
+                            .thenMany(Flux.fromIterable(peps)))
+                    .map(pep -> new TemporalExpiryEvent(kind, pep.getPepId(), pep.getPartyId(), pep.getEndDate()));
+            case IDENTITY_DOCUMENT -> identityDocumentRepository.expireEnded(batchSize)
+                    .map(document -> new TemporalExpiryEvent(kind, document.getIdentityDocumentId(),
+                            document.getPartyId(), document.getExpiryDate()));
+        };
+    }
+}
\ No newline at end of file
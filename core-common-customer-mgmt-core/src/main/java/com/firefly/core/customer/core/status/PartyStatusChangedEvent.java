@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.status;
+
+import com.firefly.core.customer.interfaces.enums.StatusCode;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published once, by a single node, when a party status takes effect, so that consumers no
+ * longer need to poll for statuses whose validFrom has been reached.
+ *
+ * @param partyId the party whose status changed
+ * @param partyStatusId the unique identifier of the status that took effect
+ * @param statusCode the status code that took effect
+ * @param statusReason the reason recorded for the status
+ * @param validFrom the time the status took effect
+ */
+public record PartyStatusChangedEvent(UUID partyId, UUID partyStatusId, StatusCode statusCode,
+                                      String statusReason, LocalDateTime validFrom) {
+}
\ No newline at end of file
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.status;
+
+import com.firefly.core.customer.models.entities.PartyStatus;
+import com.firefly.core.customer.models.repositories.PartyStatusRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Fires party statuses when their validFrom is reached, publishing a {@link PartyStatusChangedEvent}.
+ * <p>
+ * Statuses that have not been activated yet and start within the load horizon are held in a
+ * {@link TimingWheel}. The wheel is reloaded from the pending activation index on startup and on
+ * a fixed interval, which also picks up statuses written on other nodes, and the status write
+ * paths add their statuses once the write saving them has committed. Every node may hold the same status, but firing it
+ * marks it activated in the database first and only the node whose update succeeds publishes the
+ * event.
+ */
+@Slf4j
+@Component
+public class PartyStatusTransitionScheduler {
+
+    private final PartyStatusRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration tick;
+    private final Duration horizon;
+    private final Duration reloadInterval;
+    private final TimingWheel<Transition> wheel;
+    // The deadline each status is held under, so that reloads do not add it twice
+    private final Map<UUID, Long> scheduled = new HashMap<>();
+    private volatile Disposable ticker;
+    private volatile Disposable reloader;
+
+    public PartyStatusTransitionScheduler(
+            PartyStatusRepository repository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${firefly.customer.status-transitions.tick:PT1S}") Duration tick,
+            @Value("${firefly.customer.status-transitions.horizon:PT15M}") Duration horizon,
+            @Value("${firefly.customer.status-transitions.reload-interval:PT5M}") Duration reloadInterval) {
+        this.repository = repository;
+        this.eventPublisher = eventPublisher;
+        this.tick = tick;
+        // The horizon has to reach past the next reload, or statuses starting in between are missed
+        this.horizon = horizon.compareTo(reloadInterval) > 0 ? horizon : reloadInterval.multipliedBy(2);
+        this.reloadInterval = reloadInterval;
+        this.wheel = new TimingWheel<>(tick.toMillis(), System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reloader = Flux.interval(Duration.ZERO, reloadInterval, Schedulers.boundedElastic())
+                .concatMap(i -> repository.findPendingActivations(LocalDateTime.now().plus(horizon))
+                        .doOnNext(this::schedule)
+                        .count()
+                        .onErrorResume(error -> {
+                            log.error("Failed to load pending party status transitions", error);
+                            return Mono.just(0L);
+                        }))
+                .subscribe(count -> log.debug("Loaded {} pending party status transitions", count));
+        ticker = Flux.interval(tick)
+                .subscribe(i -> advance());
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (Disposable current : new Disposable[]{ticker, reloader}) {
+            if (current != null) {
+                current.dispose();
+            }
+        }
+    }
+
+    /**
+     * Schedules a created or updated status, which must have been committed. Statuses that have
+     * already started fire at once, and statuses starting beyond the load horizon are left to a
+     * later reload.
+     */
+    public void schedule(PartyStatus status) {
+        if (status.getPartyStatusId() == null || status.getValidFrom() == null
+                || status.getValidFrom().isAfter(LocalDateTime.now().plus(horizon))) {
+            return;
+        }
+        Transition transition = new Transition(status.getPartyStatusId(),
+                status.getValidFrom().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        boolean due;
+        synchronized (this) {
+            Long current = scheduled.get(transition.partyStatusId());
+            if (current != null && current == transition.deadline()) {
+                return;
+            }
+            // A status held under an earlier deadline is simply fired again, as firing is idempotent
+            due = !wheel.add(transition.deadline(), transition);
+            if (!due) {
+                scheduled.put(transition.partyStatusId(), transition.deadline());
+            }
+        }
+        if (due) {
+            fire(transition.partyStatusId());
+        }
+    }
+
+    private void advance() {
+        List<UUID> due = new ArrayList<>();
+        synchronized (this) {
+            wheel.advance(System.currentTimeMillis(), transition -> {
+                scheduled.remove(transition.partyStatusId(), transition.deadline());
+                due.add(transition.partyStatusId());
+            });
+        }
+        due.forEach(this::fire);
+    }
+
+    private void fire(UUID partyStatusId) {
+        repository.activate(partyStatusId)
+                .filter(status -> status.getValidTo() == null || status.getValidTo().isAfter(LocalDateTime.now()))
+                .subscribe(status -> eventPublisher.publishEvent(new PartyStatusChangedEvent(status.getPartyId(),
+                                status.getPartyStatusId(), status.getStatusCode(), status.getStatusReason(),
+                                status.getValidFrom())),
+                        error -> log.warn("Failed to activate party status {}", partyStatusId, error));
+    }
+
+    private record Transition(UUID partyStatusId, long deadline) {
+    }
+}
\ No newline at end of file
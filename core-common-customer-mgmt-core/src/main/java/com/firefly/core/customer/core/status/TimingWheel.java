@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel holding tasks until their deadline.
+ * <p>
+ * Time is counted in ticks of a fixed length. Level 0 has one slot per tick for the next 64
+ * ticks; each higher level has 64 slots spanning 64 times the range of the level below. A task
+ * lands on the lowest level whose range covers its deadline, so adding a task is O(1). Tasks on
+ * a higher level are moved down a level when the wheel reaches their slot, and tasks on level 0
+ * expire when the wheel reaches their tick, so advancing costs O(1) per tick plus O(levels) per
+ * task over its lifetime.
+ * <p>
+ * Not thread-safe.
+ */
+final class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 6;
+
+    private final long tickMillis;
+    private final List<List<Entry<T>>> slots;
+    private long currentTick;
+    private int size;
+
+    TimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = Math.max(1, tickMillis);
+        this.currentTick = Math.floorDiv(startMillis, this.tickMillis);
+        this.slots = new ArrayList<>(LEVELS * SLOTS);
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Adds a task expiring at or after the given time.
+     *
+     * @return false, without adding the task, when its deadline falls on a tick that has already passed
+     */
+    boolean add(long deadlineMillis, T task) {
+        long deadlineTick = Math.floorDiv(deadlineMillis, tickMillis) + (Math.floorMod(deadlineMillis, tickMillis) == 0 ? 0 : 1);
+        if (deadlineTick <= currentTick) {
+            return false;
+        }
+        place(new Entry<>(deadlineTick, task));
+        size++;
+        return true;
+    }
+
+    /**
+     * Moves the wheel forward to the given time, handing every task whose deadline has been reached
+     * to {@code expired} in deadline order, tick by tick.
+     */
+    void advance(long nowMillis, Consumer<T> expired) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                currentTick = targetTick;
+                return;
+            }
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level, expired);
+                }
+            }
+            expire(expired);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = entry.deadlineTick - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        // Deadlines past the top level's range sit in its last slot and are placed again from there
+        long slotTick = Math.min(entry.deadlineTick >> (SLOT_BITS * level),
+                (currentTick >> (SLOT_BITS * level)) + SLOT_MASK);
+        slot(level, slotTick).add(entry);
+    }
+
+    private void cascade(int level, Consumer<T> expired) {
+        List<Entry<T>> bucket = slot(level, currentTick >> (SLOT_BITS * level));
+        if (bucket.isEmpty()) {
+            return;
+        }
+        List<Entry<T>> moved = new ArrayList<>(bucket);
+        bucket.clear();
+        for (Entry<T> entry : moved) {
+            if (entry.deadlineTick <= currentTick) {
+                size--;
+                expired.accept(entry.task);
+            } else {
+                place(entry);
+            }
+        }
+    }
+
+    private void expire(Consumer<T> expired) {
+        List<Entry<T>> bucket = slot(0, currentTick);
+        if (bucket.isEmpty()) {
+            return;
+        }
+        List<Entry<T>> due = new ArrayList<>(bucket);
+        bucket.clear();
+        for (Entry<T> entry : due) {
+            size--;
+            expired.accept(entry.task);
+        }
+    }
+
+    private List<Entry<T>> slot(int level, long slotTick) {
+        return slots.get(level * SLOTS + (int) (slotTick & SLOT_MASK));
+    }
+
+    private record Entry<T>(long deadlineTick, T task) {
+    }
+}
\ No newline at end of file
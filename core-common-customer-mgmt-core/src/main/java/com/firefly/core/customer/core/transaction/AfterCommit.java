@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.transaction;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+/**
+ * Defers side effects on in-memory state until the reactive transaction of the caller has committed.
+ * <p>
+ * Caches and in-memory indexes that mirror database rows must only see a write once it is visible to
+ * other transactions: applied any earlier, a rollback leaves them out of step with the database, and a
+ * concurrent reader can repopulate them from the pre-commit state in the meantime.
+ */
+@Slf4j
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Runs an action after the current transaction commits, or on subscription when the caller is not
+     * in a transaction. The action is dropped if the transaction rolls back. Failures of the action are
+     * logged rather than propagated, as the write they follow has already committed.
+     *
+     * @param action the side effect to run
+     * @return a Mono that completes once the action has been registered or run
+     */
+    public static Mono<Void> run(Runnable action) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .filter(TransactionSynchronizationManager::isSynchronizationActive)
+                .doOnNext(manager -> manager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public Mono<Void> afterCommit() {
+                        return Mono.fromRunnable(() -> runSafely(action));
+                    }
+                }))
+                .onErrorResume(NoTransactionException.class, e -> Mono.empty())
+                .switchIfEmpty(Mono.fromRunnable(() -> runSafely(action)))
+                .then();
+    }
+
+    private static void runSafely(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.warn("After-commit action failed", e);
+        }
+    }
+}
\ No newline at end of file
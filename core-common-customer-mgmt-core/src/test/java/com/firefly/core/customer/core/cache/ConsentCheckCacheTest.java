@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.cache;
+
+import com.firefly.core.customer.models.entities.Consent;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+class ConsentCheckCacheTest {
+
+    private final ConsentCheckCache cache = new ConsentCheckCache(1000, Duration.ofMinutes(1));
+    private final UUID partyId = UUID.randomUUID();
+    private final UUID consentTypeId = UUID.randomUUID();
+
+    @Test
+    void check_ShouldGrantEveryChannel_WhenConsentHasNoChannel() {
+        // Arrange
+        cache.load(partyId, List.of(consent(partyId, consentTypeId, null)), consentTypeId, "email", cache.stamp());
+
+        // Act & Assert
+        assertEquals(Boolean.TRUE, cache.check(partyId, consentTypeId, "sms"));
+        assertEquals(Boolean.FALSE, cache.check(partyId, UUID.randomUUID(), "sms"));
+    }
+
+    @Test
+    void check_ShouldNotConfuseConsentTypes_WhenChannelsExceedSixteenBits() {
+        // Arrange
+        List<Consent> consents = new ArrayList<>();
+        for (int channel = 1; channel <= 65_536; channel++) {
+            consents.add(consent(partyId, consentTypeId, "channel-" + channel));
+        }
+        cache.load(partyId, consents, consentTypeId, "channel-1", cache.stamp());
+        UUID otherConsentTypeId = UUID.randomUUID();
+        UUID otherPartyId = UUID.randomUUID();
+        cache.load(otherPartyId, List.of(consent(otherPartyId, otherConsentTypeId, null)), otherConsentTypeId, null, cache.stamp());
+
+        // Act & Assert
+        assertEquals(Boolean.TRUE, cache.check(partyId, consentTypeId, "channel-65536"));
+        assertEquals(Boolean.FALSE, cache.check(partyId, otherConsentTypeId, null));
+        assertEquals(Boolean.FALSE, cache.check(partyId, otherConsentTypeId, "channel-1"));
+    }
+
+    @Test
+    void invalidate_ShouldDropParty() {
+        // Arrange
+        assertTrue(cache.load(partyId, List.of(consent(partyId, consentTypeId, "email")), consentTypeId, "email", cache.stamp()));
+
+        // Act
+        cache.invalidate(partyId);
+
+        // Assert
+        assertNull(cache.check(partyId, consentTypeId, "email"));
+        assertFalse(cache.load(partyId, List.of(), consentTypeId, "email", cache.stamp()));
+    }
+
+    @Test
+    void load_ShouldNotCache_WhenPartyWasInvalidatedAfterTheStampWasTaken() {
+        // Arrange
+        long stamp = cache.stamp();
+        List<Consent> readBeforeWithdrawal = List.of(consent(partyId, consentTypeId, "email"));
+        cache.invalidate(partyId);
+
+        // Act
+        boolean granted = cache.load(partyId, readBeforeWithdrawal, consentTypeId, "email", stamp);
+
+        // Assert
+        assertTrue(granted);
+        assertNull(cache.check(partyId, consentTypeId, "email"));
+    }
+
+    private static Consent consent(UUID partyId, UUID consentTypeId, String channel) {
+        return Consent.builder()
+                .partyId(partyId)
+                .consentTypeId(consentTypeId)
+                .granted(true)
+                .channel(channel)
+                .build();
+    }
+}
\ No newline at end of file
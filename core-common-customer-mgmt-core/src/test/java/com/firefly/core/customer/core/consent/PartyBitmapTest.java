@@ -0,0 +1,187 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.consent;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.IntStream;
+
+class PartyBitmapTest {
+
+    // One more than an array container holds, so the chunk is converted to a bitmap
+    private static final int DENSE = 4097;
+
+    @Test
+    void toArray_ShouldListMembersInOrder_WhenMembersSpanChunks() {
+        // Arrange
+        PartyBitmap bitmap = new PartyBitmap();
+
+        // Act
+        bitmap.add(70_000);
+        bitmap.add(3);
+        bitmap.add(65_536);
+        bitmap.add(3);
+
+        // Assert
+        assertArrayEquals(new int[]{3, 65_536, 70_000}, bitmap.toArray());
+        assertEquals(3, bitmap.cardinality());
+    }
+
+    @Test
+    void add_ShouldKeepAllMembers_WhenChunkIsConvertedToBitmap() {
+        // Arrange
+        PartyBitmap bitmap = new PartyBitmap();
+
+        // Act
+        for (int i = DENSE - 1; i >= 0; i--) {
+            bitmap.add(i * 2);
+        }
+
+        // Assert
+        assertEquals(DENSE, bitmap.cardinality());
+        assertArrayEquals(IntStream.range(0, DENSE).map(i -> i * 2).toArray(), bitmap.toArray());
+        assertFalse(bitmap.contains(1));
+    }
+
+    @Test
+    void remove_ShouldKeepRemainingMembers_WhenBitmapChunkShrinksToArray() {
+        // Arrange
+        PartyBitmap bitmap = new PartyBitmap();
+        for (int i = 0; i < DENSE; i++) {
+            bitmap.add(i);
+        }
+
+        // Act
+        bitmap.remove(0);
+        bitmap.remove(100);
+        bitmap.add(5_000);
+
+        // Assert
+        assertEquals(DENSE - 1, bitmap.cardinality());
+        assertFalse(bitmap.contains(0));
+        assertFalse(bitmap.contains(100));
+        assertTrue(bitmap.contains(1));
+        assertTrue(bitmap.contains(5_000));
+    }
+
+    @Test
+    void remove_ShouldDropChunk_WhenItsLastMemberIsRemoved() {
+        // Arrange
+        PartyBitmap bitmap = new PartyBitmap();
+        bitmap.add(1);
+        bitmap.add(65_537);
+        bitmap.add(131_073);
+
+        // Act
+        bitmap.remove(65_537);
+        bitmap.remove(65_538);
+        bitmap.add(65_540);
+
+        // Assert
+        assertArrayEquals(new int[]{1, 65_540, 131_073}, bitmap.toArray());
+    }
+
+    @Test
+    void and_ShouldIntersect_WhenContainersAreMixed() {
+        // Arrange
+        PartyBitmap dense = new PartyBitmap();
+        for (int i = 0; i < DENSE; i++) {
+            dense.add(i);
+        }
+        dense.add(70_000);
+        PartyBitmap sparse = new PartyBitmap();
+        sparse.add(10);
+        sparse.add(5_000);
+        sparse.add(70_000);
+        sparse.add(140_000);
+
+        // Act
+        PartyBitmap intersection = dense.and(sparse);
+
+        // Assert
+        assertArrayEquals(new int[]{10, 70_000}, intersection.toArray());
+        assertArrayEquals(new int[]{10, 70_000}, sparse.and(dense).toArray());
+    }
+
+    @Test
+    void and_ShouldReturnArrayChunk_WhenDenseChunksOverlapSparsely() {
+        // Arrange
+        PartyBitmap evens = new PartyBitmap();
+        PartyBitmap low = new PartyBitmap();
+        for (int i = 0; i < 2 * DENSE; i++) {
+            if (i % 2 == 0) {
+                evens.add(i);
+            }
+            low.add(i);
+        }
+
+        // Act
+        PartyBitmap intersection = evens.and(low);
+        intersection.remove(0);
+
+        // Assert
+        assertEquals(DENSE - 1, intersection.cardinality());
+        assertFalse(intersection.contains(0));
+        assertTrue(intersection.contains(2));
+        assertTrue(evens.contains(0));
+    }
+
+    @Test
+    void or_ShouldNotShareContainers_WhenOperandsAreModifiedLater() {
+        // Arrange
+        PartyBitmap left = new PartyBitmap();
+        PartyBitmap right = new PartyBitmap();
+        for (int i = 0; i < DENSE; i++) {
+            left.add(i * 3);
+        }
+        right.add(1);
+        right.add(200_000);
+
+        // Act
+        PartyBitmap union = left.or(right);
+        left.remove(0);
+        right.remove(1);
+
+        // Assert
+        assertEquals(DENSE + 2, union.cardinality());
+        assertTrue(union.contains(0));
+        assertTrue(union.contains(1));
+        assertTrue(union.contains(200_000));
+    }
+
+    @Test
+    void or_ShouldConvertToBitmap_WhenArrayChunksOverflow() {
+        // Arrange
+        PartyBitmap odds = new PartyBitmap();
+        PartyBitmap evens = new PartyBitmap();
+        for (int i = 0; i < 2 * 2100; i++) {
+            (i % 2 == 0 ? evens : odds).add(i);
+        }
+
+        // Act
+        PartyBitmap union = odds.or(evens);
+
+        // Assert
+        assertArrayEquals(IntStream.range(0, 2 * 2100).toArray(), union.toArray());
+    }
+}
\ No newline at end of file
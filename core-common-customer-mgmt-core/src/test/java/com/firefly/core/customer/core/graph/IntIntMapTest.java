@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.graph;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntIntMapTest {
+
+    @Test
+    void putIfAbsent_ShouldKeepFirstValue_WhenKeyIsPresent() {
+        // Arrange
+        IntIntMap map = new IntIntMap(4);
+        map.putIfAbsent(5, 1);
+
+        // Act
+        boolean added = map.putIfAbsent(5, 2);
+
+        // Assert
+        assertFalse(added);
+        assertEquals(1, map.get(5));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void containsKey_ShouldBeFalse_WhenKeyWasNeverPut() {
+        // Arrange
+        IntIntMap map = new IntIntMap(4);
+        map.putIfAbsent(0, 0);
+
+        // Act & Assert
+        assertTrue(map.containsKey(0));
+        assertFalse(map.containsKey(1));
+        assertEquals(-1, map.get(1));
+    }
+
+    @Test
+    void putIfAbsent_ShouldKeepAllEntries_WhenMapGrowsPastItsInitialCapacity() {
+        // Arrange
+        IntIntMap map = new IntIntMap(1);
+
+        // Act
+        for (int key = 0; key < 100_000; key += 3) {
+            assertTrue(map.putIfAbsent(key, key * 2));
+        }
+
+        // Assert
+        for (int key = 0; key < 100_000; key++) {
+            if (key % 3 == 0) {
+                assertEquals(key * 2, map.get(key));
+            } else {
+                assertFalse(map.containsKey(key));
+            }
+        }
+    }
+}
\ No newline at end of file
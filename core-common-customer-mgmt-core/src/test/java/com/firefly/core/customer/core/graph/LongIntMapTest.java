@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.graph;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LongIntMapTest {
+
+    @Test
+    void get_ShouldReturnMissing_WhenKeyWasNeverPut() {
+        // Arrange
+        LongIntMap map = new LongIntMap(4);
+        map.put(1L, 7);
+
+        // Act & Assert
+        assertEquals(LongIntMap.MISSING, map.get(2L));
+    }
+
+    @Test
+    void put_ShouldOverwriteValue_WhenKeyIsPresent() {
+        // Arrange
+        LongIntMap map = new LongIntMap(4);
+        map.put(Long.MIN_VALUE, 1);
+
+        // Act
+        map.put(Long.MIN_VALUE, 2);
+
+        // Assert
+        assertEquals(2, map.get(Long.MIN_VALUE));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void put_ShouldKeepAllEntries_WhenKeysCollideInTheLowBits() {
+        // Arrange
+        LongIntMap map = new LongIntMap(1);
+        long[] keys = new long[10_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = (long) i << 32;
+        }
+
+        // Act
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], i);
+        }
+
+        // Assert
+        assertEquals(keys.length, map.size());
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(i, map.get(keys[i]));
+        }
+        assertEquals(LongIntMap.MISSING, map.get(0L + 1));
+    }
+}
\ No newline at end of file
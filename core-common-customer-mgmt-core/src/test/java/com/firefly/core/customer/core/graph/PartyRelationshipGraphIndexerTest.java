@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.graph;
+
+import com.firefly.core.customer.models.entities.PartyRelationship;
+import com.firefly.core.customer.models.repositories.PartyRelationshipRepository;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+class PartyRelationshipGraphIndexerTest {
+
+    private final PartyRelationshipRepository repository = mock(PartyRelationshipRepository.class);
+    private final PartyRelationshipGraphIndexer indexer =
+            new PartyRelationshipGraphIndexer(repository, Duration.ofSeconds(1), Duration.ofMinutes(15));
+    private final UUID fromPartyId = UUID.randomUUID();
+    private final UUID toPartyId = UUID.randomUUID();
+
+    @Test
+    void publish_ShouldDropRelationship_WhenItsEndDateHasPassed() throws InterruptedException {
+        // Arrange
+        refresh(relationship(UUID.randomUUID(), LocalDateTime.now().plusNanos(20_000_000)));
+        indexer.publish();
+        assertEquals(List.of(fromPartyId, toPartyId), indexer.shortestPath(fromPartyId, toPartyId, 1));
+
+        // Act
+        Thread.sleep(50);
+        indexer.publish();
+
+        // Assert
+        assertTrue(indexer.shortestPath(fromPartyId, toPartyId, 1).isEmpty());
+    }
+
+    @Test
+    void publish_ShouldKeepRelationship_WhenItsEndDateWasMovedLater() throws InterruptedException {
+        // Arrange
+        UUID relationshipId = UUID.randomUUID();
+        refresh(relationship(relationshipId, LocalDateTime.now().plusNanos(20_000_000)));
+        refresh(relationship(relationshipId, LocalDateTime.now().plusDays(1)));
+
+        // Act
+        Thread.sleep(50);
+        indexer.publish();
+
+        // Assert
+        assertEquals(List.of(fromPartyId, toPartyId), indexer.shortestPath(fromPartyId, toPartyId, 1));
+    }
+
+    @Test
+    void refresh_ShouldDropRelationship_WhenItNoLongerExists() {
+        // Arrange
+        UUID relationshipId = UUID.randomUUID();
+        refresh(relationship(relationshipId, null));
+        indexer.publish();
+        when(repository.findAllById(any(Iterable.class))).thenReturn(Flux.empty());
+
+        // Act
+        indexer.refresh(List.of(relationshipId)).block();
+        indexer.publish();
+
+        // Assert
+        assertTrue(indexer.shortestPath(fromPartyId, toPartyId, 1).isEmpty());
+    }
+
+    private void refresh(PartyRelationship relationship) {
+        when(repository.findAllById(any(Iterable.class))).thenReturn(Flux.just(relationship));
+        indexer.refresh(List.of(relationship.getPartyRelationshipId())).block();
+    }
+
+    private PartyRelationship relationship(UUID relationshipId, LocalDateTime endDate) {
+        return PartyRelationship.builder()
+                .partyRelationshipId(relationshipId)
+                .fromPartyId(fromPartyId)
+                .toPartyId(toPartyId)
+                .active(true)
+                .endDate(endDate)
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.graph;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+class PartyRelationshipGraphTest {
+
+    private final PartyRelationshipGraph graph = new PartyRelationshipGraph();
+
+    @Test
+    void shortestPath_ShouldSeeWrites_OnlyAfterPublish() {
+        // Arrange
+        graph.putRelationship(relationship(1), party(1), party(2));
+        graph.putRelationship(relationship(2), party(2), party(3));
+
+        // Act & Assert
+        assertTrue(graph.shortestPath(party(1), party(3), 5).isEmpty());
+        assertTrue(graph.publish());
+        assertEquals(List.of(party(1), party(2), party(3)), graph.shortestPath(party(1), party(3), 5));
+        assertTrue(graph.shortestPath(party(1), party(3), 1).isEmpty());
+        assertFalse(graph.publish());
+    }
+
+    @Test
+    void shortestPath_ShouldFollowOverlay_WhenGraphChangedSinceCompaction() {
+        // Arrange
+        loadChain(5000);
+        assertEquals(5000, graph.relationshipCount());
+
+        // Act
+        graph.putRelationship(relationship(-1), party(0), party(5000));
+        graph.putRelationship(relationship(-2), party(5000), party(9999));
+        graph.publish();
+
+        // Assert
+        assertEquals(List.of(party(0), party(5000)), graph.shortestPath(party(0), party(5000), 1));
+        assertEquals(List.of(party(0), party(5000), party(9999)), graph.shortestPath(party(0), party(9999), 2));
+        assertEquals(5002, graph.relationshipCount());
+    }
+
+    @Test
+    void removeRelationship_ShouldDisconnectParties_WhenLastRelationshipBetweenThemIsRemoved() {
+        // Arrange
+        loadChain(5000);
+        graph.putRelationship(relationship(-1), party(10), party(11));
+        graph.publish();
+
+        // Act & Assert
+        graph.removeRelationship(relationship(10));
+        graph.publish();
+        assertEquals(List.of(party(10), party(11)), graph.shortestPath(party(10), party(11), 1));
+
+        graph.removeRelationship(relationship(-1));
+        graph.publish();
+        assertTrue(graph.shortestPath(party(10), party(11), 10).isEmpty());
+        assertEquals(4999, graph.relationshipCount());
+    }
+
+    @Test
+    void putRelationship_ShouldMoveRelationship_WhenItsPartiesChange() {
+        // Arrange
+        graph.putRelationship(relationship(1), party(1), party(2));
+        graph.publish();
+
+        // Act
+        graph.putRelationship(relationship(1), party(1), party(3));
+        graph.publish();
+
+        // Assert
+        assertTrue(graph.shortestPath(party(1), party(2), 5).isEmpty());
+        assertEquals(List.of(party(1), party(3)), graph.shortestPath(party(1), party(3), 5));
+        assertEquals(1, graph.relationshipCount());
+    }
+
+    @Test
+    void loadRelationship_ShouldBeIgnored_WhenRelationshipWasWrittenDuringLoad() {
+        // Arrange
+        graph.putRelationship(relationship(1), party(1), party(2));
+        graph.publish();
+        graph.beginLoad();
+
+        // Act
+        graph.removeRelationship(relationship(1));
+        graph.putRelationship(relationship(2), party(3), party(4));
+        graph.loadRelationship(relationship(1), party(1), party(2));
+        graph.loadRelationship(relationship(2), party(3), party(5));
+        graph.loadRelationship(relationship(3), party(5), party(6));
+        graph.endLoad();
+        graph.publish();
+
+        // Assert
+        assertTrue(graph.shortestPath(party(1), party(2), 5).isEmpty());
+        assertEquals(List.of(party(3), party(4)), graph.shortestPath(party(3), party(4), 5));
+        assertTrue(graph.shortestPath(party(3), party(5), 5).isEmpty());
+        assertEquals(List.of(party(5), party(6)), graph.shortestPath(party(5), party(6), 5));
+    }
+
+    @Test
+    void neighborhood_ShouldReturnNearestPartiesFirst_UpToTheLimit() {
+        // Arrange
+        graph.putRelationship(relationship(1), party(1), party(2));
+        graph.putRelationship(relationship(2), party(1), party(3));
+        graph.putRelationship(relationship(3), party(3), party(4));
+        graph.putRelationship(relationship(4), party(4), party(1));
+        graph.publish();
+
+        // Act & Assert
+        assertEquals(Set.of(party(2), party(3), party(4)), Set.copyOf(graph.neighborhood(party(1), 1, 10)));
+        assertEquals(2, graph.neighborhood(party(1), 3, 2).size());
+        assertTrue(graph.neighborhood(party(99), 3, 10).isEmpty());
+    }
+
+    @Test
+    void neighborhood_ShouldMatchReferenceGraph_AfterRandomWritesAcrossCompactions() {
+        // Arrange
+        Random random = new Random(42);
+        Map<Integer, int[]> reference = new HashMap<>();
+
+        // Act & Assert: publishes run both on the overlay and after compactions
+        for (int round = 0; round < 40; round++) {
+            int writes = round % 10 == 0 ? 6000 : 50;
+            for (int i = 0; i < writes; i++) {
+                int relationship = random.nextInt(3000);
+                if (random.nextInt(4) == 0) {
+                    graph.removeRelationship(relationship(relationship));
+                    reference.remove(relationship);
+                } else {
+                    int from = random.nextInt(800);
+                    int to = random.nextInt(800);
+                    if (from != to) {
+                        graph.putRelationship(relationship(relationship), party(from), party(to));
+                        reference.put(relationship, new int[]{from, to});
+                    }
+                }
+            }
+            graph.publish();
+            assertEquals(reference.size(), graph.relationshipCount());
+            for (int start = 0; start < 800; start += 97) {
+                assertEquals(reachable(reference, start, 2), Set.copyOf(graph.neighborhood(party(start), 2, 10_000)));
+            }
+        }
+    }
+
+    private void loadChain(int length) {
+        graph.beginLoad();
+        for (int i = 0; i < length; i++) {
+            graph.loadRelationship(relationship(i), party(i), party(i + 1));
+        }
+        graph.endLoad();
+        graph.publish();
+    }
+
+    private static Set<UUID> reachable(Map<Integer, int[]> edges, int start, int hops) {
+        Map<Integer, List<Integer>> adjacency = new HashMap<>();
+        for (int[] edge : edges.values()) {
+            adjacency.computeIfAbsent(edge[0], key -> new ArrayList<>()).add(edge[1]);
+            adjacency.computeIfAbsent(edge[1], key -> new ArrayList<>()).add(edge[0]);
+        }
+        Set<Integer> visited = new HashSet<>(Set.of(start));
+        ArrayDeque<Integer> frontier = new ArrayDeque<>(List.of(start));
+        for (int depth = 0; depth < hops; depth++) {
+            ArrayDeque<Integer> next = new ArrayDeque<>();
+            for (int node : frontier) {
+                for (int neighbour : adjacency.getOrDefault(node, List.of())) {
+                    if (visited.add(neighbour)) {
+                        next.add(neighbour);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        visited.remove(start);
+        Set<UUID> parties = new HashSet<>();
+        for (int node : visited) {
+            parties.add(party(node));
+        }
+        return parties;
+    }
+
+    private static UUID party(int number) {
+        return new UUID(1L, number);
+    }
+
+    private static UUID relationship(int number) {
+        return new UUID(2L, number);
+    }
+}
\ No newline at end of file
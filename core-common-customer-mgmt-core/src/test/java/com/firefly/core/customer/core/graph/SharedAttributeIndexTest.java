@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.graph;
+
+import com.firefly.core.customer.interfaces.enums.SharedAttributeKind;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+class SharedAttributeIndexTest {
+
+    private final SharedAttributeIndex index = new SharedAttributeIndex();
+
+    @Test
+    void put_ShouldReportOtherParties_WhenValueIsAlreadyRecorded() {
+        // Arrange
+        assertNull(index.put(record(1), party(1), SharedAttributeKind.EMAIL, "a@example.com", 10));
+        index.put(record(2), party(2), SharedAttributeKind.EMAIL, "a@example.com", 10);
+
+        // Act
+        SharedAttributeIndex.Link link = index.put(record(3), party(3), SharedAttributeKind.EMAIL, "a@example.com", 1);
+
+        // Assert
+        assertEquals(SharedAttributeKind.EMAIL, link.kind());
+        assertEquals(1, link.partyIds().size());
+        assertTrue(link.truncated());
+    }
+
+    @Test
+    void put_ShouldNotLinkParties_WhenSameTextIsRecordedAsAnotherKind() {
+        // Arrange
+        index.put(record(1), party(1), SharedAttributeKind.PHONE, "5551234", 10);
+
+        // Act & Assert
+        assertNull(index.put(record(2), party(2), SharedAttributeKind.IDENTITY_DOCUMENT, "5551234", 10));
+    }
+
+    @Test
+    void put_ShouldMoveRecord_WhenItsValueChanges() {
+        // Arrange
+        index.put(record(1), party(1), SharedAttributeKind.EMAIL, "a@example.com", 10);
+        index.put(record(2), party(2), SharedAttributeKind.EMAIL, "a@example.com", 10);
+
+        // Act
+        index.put(record(2), party(2), SharedAttributeKind.EMAIL, "b@example.com", 10);
+
+        // Assert
+        assertTrue(index.linksOf(party(1), 10).isEmpty());
+        assertEquals(2, index.recordCount());
+    }
+
+    @Test
+    void remove_ShouldUnlinkParties_AndReuseTheEntry() {
+        // Arrange
+        index.put(record(1), party(1), SharedAttributeKind.EMAIL, "a@example.com", 10);
+        index.put(record(2), party(2), SharedAttributeKind.EMAIL, "a@example.com", 10);
+
+        // Act
+        index.remove(record(2));
+        index.remove(record(2));
+        index.put(record(3), party(3), SharedAttributeKind.EMAIL, "a@example.com", 10);
+
+        // Assert
+        assertEquals(List.of(party(3)), index.linksOf(party(1), 10).get(0).partyIds());
+        assertEquals(2, index.recordCount());
+    }
+
+    @Test
+    void removeParty_ShouldDropEveryRecordOfTheParty() {
+        // Arrange
+        index.put(record(1), party(1), SharedAttributeKind.EMAIL, "a@example.com", 10);
+        index.put(record(2), party(2), SharedAttributeKind.EMAIL, "a@example.com", 10);
+        index.put(record(3), party(2), SharedAttributeKind.PHONE, "5551234", 10);
+        index.put(record(4), party(3), SharedAttributeKind.PHONE, "5551234", 10);
+
+        // Act
+        index.removeParty(party(2));
+        index.removeParty(party(4));
+
+        // Assert
+        assertTrue(index.linksOf(party(1), 10).isEmpty());
+        assertTrue(index.linksOf(party(3), 10).isEmpty());
+        assertEquals(2, index.recordCount());
+        assertNull(index.put(record(5), party(5), SharedAttributeKind.IDENTITY_DOCUMENT, "x1", 10));
+        assertEquals(3, index.recordCount());
+    }
+
+    @Test
+    void load_ShouldNotOverwriteRecord_WhenItWasWrittenSinceTheLoadBegan() {
+        // Arrange
+        index.beginLoad();
+        index.put(record(1), party(1), SharedAttributeKind.EMAIL, "new@example.com", 10);
+        index.remove(record(2));
+
+        // Act
+        index.load(record(1), party(1), SharedAttributeKind.EMAIL, "old@example.com");
+        index.load(record(2), party(2), SharedAttributeKind.EMAIL, "old@example.com");
+        index.load(record(3), party(3), SharedAttributeKind.EMAIL, "new@example.com");
+        index.endLoad();
+
+        // Assert
+        assertEquals(List.of(party(3)), index.linksOf(party(1), 10).get(0).partyIds());
+        assertEquals(2, index.recordCount());
+    }
+
+    @Test
+    void clusters_ShouldJoinPartiesThroughSharedValues_AndIgnoreValuesAboveFanOut() {
+        // Arrange
+        index.put(record(1), party(1), SharedAttributeKind.EMAIL, "a@example.com", 10);
+        index.put(record(2), party(2), SharedAttributeKind.EMAIL, "a@example.com", 10);
+        index.put(record(3), party(2), SharedAttributeKind.PHONE, "5551234", 10);
+        index.put(record(4), party(3), SharedAttributeKind.PHONE, "5551234", 10);
+        for (int i = 10; i < 20; i++) {
+            index.put(record(i), party(i), SharedAttributeKind.ADDRESS, "1 main street", 10);
+        }
+
+        // Act
+        List<SharedAttributeIndex.Cluster> clusters = index.clusters(2, 5, 10);
+
+        // Assert
+        assertEquals(1, clusters.size());
+        assertEquals(Set.of(party(1), party(2), party(3)), Set.copyOf(clusters.get(0).partyIds()));
+        assertEquals(Set.of(SharedAttributeKind.EMAIL, SharedAttributeKind.PHONE), clusters.get(0).kinds());
+        assertEquals(2, clusters.get(0).sharedValues());
+        assertFalse(clusters.get(0).partyIds().contains(party(10)));
+    }
+
+    private static UUID record(int id) {
+        return new UUID(1L, id);
+    }
+
+    private static UUID party(int id) {
+        return new UUID(2L, id);
+    }
+}
\ No newline at end of file
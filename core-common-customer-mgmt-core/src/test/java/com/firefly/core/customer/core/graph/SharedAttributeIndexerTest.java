@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.graph;
+
+import com.firefly.core.customer.models.entities.EmailContact;
+import com.firefly.core.customer.models.repositories.AddressRepository;
+import com.firefly.core.customer.models.repositories.EmailContactRepository;
+import com.firefly.core.customer.models.repositories.IdentityDocumentRepository;
+import com.firefly.core.customer.models.repositories.PhoneContactRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Flux;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+class SharedAttributeIndexerTest {
+
+    private final EmailContactRepository emailContactRepository = mock(EmailContactRepository.class);
+    private final PhoneContactRepository phoneContactRepository = mock(PhoneContactRepository.class);
+    private final AddressRepository addressRepository = mock(AddressRepository.class);
+    private final IdentityDocumentRepository identityDocumentRepository = mock(IdentityDocumentRepository.class);
+    private final SharedAttributeIndexer indexer = new SharedAttributeIndexer(emailContactRepository,
+            phoneContactRepository, addressRepository, identityDocumentRepository,
+            mock(ApplicationEventPublisher.class), 1000, Duration.ofMinutes(15));
+    private final UUID partyId = UUID.randomUUID();
+    private final UUID otherPartyId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        when(phoneContactRepository.findByPartyIdIn(any())).thenReturn(Flux.empty());
+        when(addressRepository.findByPartyIdIn(any())).thenReturn(Flux.empty());
+        when(identityDocumentRepository.findByPartyIdIn(any())).thenReturn(Flux.empty());
+    }
+
+    @Test
+    void refresh_ShouldLinkParties_WhenTheyShareAnEmail() {
+        // Act
+        refresh(email(partyId, "shared@example.com"), email(otherPartyId, "Shared@Example.com"));
+
+        // Assert
+        assertEquals(List.of(otherPartyId), indexer.linksOf(partyId, 10).get(0).getPartyIds());
+    }
+
+    @Test
+    void refresh_ShouldDropPartyLinks_WhenThePartyWasDeleted() {
+        // Arrange
+        refresh(email(partyId, "shared@example.com"), email(otherPartyId, "shared@example.com"));
+        when(emailContactRepository.findByPartyIdIn(any())).thenReturn(Flux.empty());
+
+        // Act
+        indexer.refresh(List.of(partyId)).block();
+
+        // Assert
+        assertTrue(indexer.linksOf(partyId, 10).isEmpty());
+        assertTrue(indexer.linksOf(otherPartyId, 10).isEmpty());
+    }
+
+    private void refresh(EmailContact... emails) {
+        when(emailContactRepository.findByPartyIdIn(any())).thenReturn(Flux.just(emails));
+        indexer.refresh(List.of(partyId, otherPartyId)).block();
+    }
+
+    private EmailContact email(UUID partyId, String email) {
+        return EmailContact.builder()
+                .emailContactId(UUID.randomUUID())
+                .partyId(partyId)
+                .email(email)
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.graph;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.UUID;
+
+class UuidIntMapTest {
+
+    @Test
+    void get_ShouldReturnMissing_WhenKeyWasNeverPut() {
+        // Arrange
+        UuidIntMap map = new UuidIntMap(4);
+        map.put(new UUID(1L, 2L), 7);
+
+        // Act & Assert
+        assertEquals(UuidIntMap.MISSING, map.get(new UUID(2L, 1L)));
+    }
+
+    @Test
+    void put_ShouldOverwriteValue_WhenKeyIsPresent() {
+        // Arrange
+        UuidIntMap map = new UuidIntMap(4);
+        UUID key = UUID.randomUUID();
+        map.put(key, 1);
+
+        // Act
+        map.put(key, 2);
+
+        // Assert
+        assertEquals(2, map.get(key));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void put_ShouldKeepAllEntries_WhenMapGrowsPastItsInitialCapacity() {
+        // Arrange
+        UuidIntMap map = new UuidIntMap(1);
+        UUID[] keys = new UUID[10_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new UUID(i, -i);
+        }
+
+        // Act
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], i);
+        }
+
+        // Assert
+        assertEquals(keys.length, map.size());
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(i, map.get(keys[i]));
+        }
+    }
+
+    @Test
+    void copy_ShouldNotSeeLaterWrites_WhenOriginalChanges() {
+        // Arrange
+        UuidIntMap map = new UuidIntMap(4);
+        UUID key = UUID.randomUUID();
+        map.put(key, 1);
+        UuidIntMap copy = map.copy();
+
+        // Act
+        map.put(key, 2);
+        map.put(UUID.randomUUID(), 3);
+
+        // Assert
+        assertEquals(1, copy.get(key));
+        assertEquals(1, copy.size());
+    }
+}
\ No newline at end of file
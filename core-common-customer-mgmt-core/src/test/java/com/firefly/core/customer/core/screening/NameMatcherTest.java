@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.screening;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class NameMatcherTest {
+
+    @Test
+    void match_ShouldReturnNothing_WhenNoNameOccurs() {
+        // Arrange
+        NameMatcher matcher = new NameMatcher(List.of("john smith", "acme"));
+
+        // Act & Assert
+        assertArrayEquals(new int[0], matcher.match("jane doe"));
+        assertArrayEquals(new int[0], new NameMatcher(List.of()).match("anything"));
+    }
+
+    @Test
+    void match_ShouldReportNamesInOrderOfTheirEnd_WhenSeveralOccur() {
+        // Arrange
+        NameMatcher matcher = new NameMatcher(List.of("he", "she", "his", "hers"));
+
+        // Act
+        int[] matches = matcher.match("ushers");
+
+        // Assert
+        assertArrayEquals(new int[]{1, 0, 3}, matches);
+    }
+
+    @Test
+    void match_ShouldFollowFailureLinks_WhenAPrefixMatchBreaksOff() {
+        // Arrange
+        NameMatcher matcher = new NameMatcher(List.of("abcd", "bcx", "c"));
+
+        // Act
+        int[] matches = matcher.match("abcx");
+
+        // Assert
+        assertArrayEquals(new int[]{2, 1}, matches);
+    }
+
+    @Test
+    void match_ShouldReportEachOccurrence_WhenNamesOverlap() {
+        // Arrange
+        NameMatcher matcher = new NameMatcher(List.of("aa"));
+
+        // Act & Assert
+        assertArrayEquals(new int[]{0, 0, 0}, matcher.match("aaaa"));
+    }
+
+    @Test
+    void match_ShouldReportEveryPosition_WhenNamesAreSpelledTheSame() {
+        // Arrange
+        NameMatcher matcher = new NameMatcher(List.of("maria lopez", "other", "maria lopez"));
+
+        // Act
+        int[] matches = matcher.match("dr maria lopez");
+        Arrays.sort(matches);
+
+        // Assert
+        assertArrayEquals(new int[]{0, 2}, matches);
+    }
+
+    @Test
+    void match_ShouldAgreeWithNaiveSearch_WhenNamesShareSuffixes() {
+        // Arrange
+        List<String> names = new ArrayList<>();
+        String alphabet = "ab\u00e9";
+        for (int length = 1; length <= 4; length++) {
+            for (int i = 0; i < Math.pow(alphabet.length(), length); i += 2) {
+                StringBuilder name = new StringBuilder();
+                for (int n = i, k = 0; k < length; k++, n /= alphabet.length()) {
+                    name.append(alphabet.charAt(n % alphabet.length()));
+                }
+                names.add(name.toString());
+            }
+        }
+        NameMatcher matcher = new NameMatcher(names);
+        String text = "ab\u00e9ba\u00e9\u00e9aabbab\u00e9a";
+
+        // Act
+        int[] matches = matcher.match(text);
+
+        // Assert
+        List<Integer> expected = new ArrayList<>();
+        for (int end = 1; end <= text.length(); end++) {
+            for (int length = end; length >= 1; length--) {
+                int index = names.indexOf(text.substring(end - length, end));
+                if (index >= 0) {
+                    expected.add(index);
+                }
+            }
+        }
+        assertEquals(expected.size(), matches.length);
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), matches);
+    }
+}
\ No newline at end of file
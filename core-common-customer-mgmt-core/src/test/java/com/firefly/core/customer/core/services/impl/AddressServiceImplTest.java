@@ -20,7 +20,9 @@ package com.firefly.core.customer.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.core.graph.SharedAttributeIndexer;
 import com.firefly.core.customer.core.mappers.AddressMapper;
+import com.firefly.core.customer.core.search.PartySearchIndexer;
 import com.firefly.core.customer.interfaces.dtos.AddressDTO;
 import com.firefly.core.customer.models.entities.Address;
 import com.firefly.core.customer.models.repositories.AddressRepository;
@@ -49,6 +51,12 @@ class AddressServiceImplTest {
     @Mock
     private AddressMapper addressMapper;
 
+    @Mock
+    private PartySearchIndexer searchIndexer;
+
+    @Mock
+    private SharedAttributeIndexer sharedAttributeIndexer;
+
     @InjectMocks
     private AddressServiceImpl addressService;
 
@@ -59,6 +67,8 @@ class AddressServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(searchIndexer.refresh(any())).thenReturn(Mono.empty());
+
         addressId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
         partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
 
@@ -98,6 +108,7 @@ class AddressServiceImplTest {
         // Arrange
         when(addressMapper.toEntity(addressDTO)).thenReturn(address);
         when(addressRepository.save(address)).thenReturn(Mono.just(address));
+        when(sharedAttributeIndexer.index(address)).thenReturn(Mono.empty());
         when(addressMapper.toDTO(address)).thenReturn(addressDTO);
 
         // Act & Assert
@@ -108,6 +119,7 @@ class AddressServiceImplTest {
         verify(addressMapper).toEntity(addressDTO);
         verify(addressRepository).save(address);
         verify(addressMapper).toDTO(address);
+        verify(sharedAttributeIndexer).index(address);
     }
 
     @Test
@@ -139,6 +151,7 @@ class AddressServiceImplTest {
         when(addressRepository.findById(addressId)).thenReturn(Mono.just(address));
         doNothing().when(addressMapper).updateEntityFromDto(updateDTO, address);
         when(addressRepository.save(address)).thenReturn(Mono.just(address));
+        when(sharedAttributeIndexer.index(address)).thenReturn(Mono.empty());
         when(addressMapper.toDTO(address)).thenReturn(addressDTO);
 
         // Act & Assert
@@ -173,6 +186,7 @@ class AddressServiceImplTest {
         // Arrange
         when(addressRepository.findById(addressId)).thenReturn(Mono.just(address));
         when(addressRepository.deleteById(addressId)).thenReturn(Mono.empty());
+        when(sharedAttributeIndexer.remove(partyId, addressId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(addressService.deleteAddress(partyId, addressId))
@@ -180,6 +194,7 @@ class AddressServiceImplTest {
 
         verify(addressRepository).findById(addressId);
         verify(addressRepository).deleteById(addressId);
+        verify(sharedAttributeIndexer).remove(partyId, addressId);
     }
 
     @Test
@@ -211,6 +226,7 @@ class AddressServiceImplTest {
 
         verify(addressRepository).findById(addressId);
         verify(addressRepository).deleteById(addressId);
+        verify(sharedAttributeIndexer, never()).remove(any());
     }
 
     @Test
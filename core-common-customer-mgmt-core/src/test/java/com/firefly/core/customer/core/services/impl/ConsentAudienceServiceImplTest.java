@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.services.impl;
+
+import com.firefly.core.customer.core.consent.ConsentAudienceIndexer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.*;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class ConsentAudienceServiceImplTest {
+
+    @Mock
+    private ConsentAudienceIndexer consentAudienceIndexer;
+
+    @InjectMocks
+    private ConsentAudienceServiceImpl consentAudienceService;
+
+    private UUID consentTypeId;
+    private UUID partyId;
+
+    @BeforeEach
+    void setUp() {
+        consentTypeId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+        partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+    }
+
+    @Test
+    void evaluateAudience_ShouldReturnEligibleCandidates_WhenCandidatesAreStreamed() {
+        // Arrange
+        UUID otherPartyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174003");
+        Flux<UUID> candidates = Flux.just(partyId, otherPartyId);
+        when(consentAudienceIndexer.select(consentTypeId, "email", candidates)).thenReturn(Flux.just(partyId));
+
+        // Act & Assert
+        StepVerifier.create(consentAudienceService.evaluateAudience(consentTypeId, "email", candidates))
+                .expectNext(partyId)
+                .verifyComplete();
+    }
+
+    @Test
+    void streamTenantAudience_ShouldReturnEligibleParties_WhenTenantHasGrantingParties() {
+        // Arrange
+        UUID tenantId = UUID.fromString("123e4567-e89b-12d3-a456-426614174004");
+        when(consentAudienceIndexer.tenantAudience(tenantId, consentTypeId, null)).thenReturn(Flux.just(partyId));
+
+        // Act & Assert
+        StepVerifier.create(consentAudienceService.streamTenantAudience(tenantId, consentTypeId, null))
+                .expectNext(partyId)
+                .verifyComplete();
+    }
+}
\ No newline at end of file
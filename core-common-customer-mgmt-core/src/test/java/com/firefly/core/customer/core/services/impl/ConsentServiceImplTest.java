@@ -20,17 +20,26 @@ package com.firefly.core.customer.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.core.cache.ConsentCheckCache;
+import com.firefly.core.customer.core.consent.ConsentAudienceIndexer;
+import com.firefly.core.customer.core.mappers.ConsentHistoryMapper;
 import com.firefly.core.customer.core.mappers.ConsentMapper;
+import com.firefly.core.customer.interfaces.dtos.ConsentCheckDTO;
 import com.firefly.core.customer.interfaces.dtos.ConsentDTO;
+import com.firefly.core.customer.interfaces.dtos.ConsentHistoryDTO;
 import com.firefly.core.customer.models.entities.Consent;
+import com.firefly.core.customer.models.entities.ConsentHistory;
+import com.firefly.core.customer.models.repositories.ConsentHistoryRepository;
 import com.firefly.core.customer.models.repositories.ConsentRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -38,6 +47,7 @@ import java.time.LocalDateTime;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
+import java.util.List;
 import java.util.UUID;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,6 +59,18 @@ class ConsentServiceImplTest {
     @Mock
     private ConsentMapper consentMapper;
 
+    @Mock
+    private ConsentHistoryRepository consentHistoryRepository;
+
+    @Mock
+    private ConsentHistoryMapper consentHistoryMapper;
+
+    @Mock
+    private ConsentCheckCache consentCache;
+
+    @Mock
+    private ConsentAudienceIndexer consentAudienceIndexer;
+
     @InjectMocks
     private ConsentServiceImpl consentService;
 
@@ -64,6 +86,7 @@ class ConsentServiceImplTest {
         
         consent = new Consent();
         consent.setConsentId(consentId);
+        consent.setPartyId(partyId);
         consent.setCreatedAt(LocalDateTime.now());
         consent.setUpdatedAt(LocalDateTime.now());
 
@@ -95,25 +118,30 @@ class ConsentServiceImplTest {
     @Test
     void createConsent_ShouldReturnCreatedConsentDTO_WhenValidConsentDTO() {
         // Arrange
-        when(consentMapper.toEntity(consentDTO)).thenReturn(consent);
-        when(consentRepository.save(consent)).thenReturn(Mono.just(consent));
+        consentDTO.setGranted(true);
+        consentDTO.setChannel("email");
+        when(consentRepository.upsert(partyId, consentDTO.getConsentTypeId(), true, null, null, "email"))
+                .thenReturn(Mono.just(consent));
         when(consentMapper.toDTO(consent)).thenReturn(consentDTO);
+        when(consentAudienceIndexer.refreshAfterCommit(any())).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(consentService.createConsent(partyId, consentDTO))
                 .expectNext(consentDTO)
                 .verifyComplete();
 
-        verify(consentMapper).toEntity(consentDTO);
-        verify(consentRepository).save(consent);
+        verify(consentRepository).upsert(partyId, consentDTO.getConsentTypeId(), true, null, null, "email");
+        verify(consentRepository, never()).save(any());
         verify(consentMapper).toDTO(consent);
+        verify(consentCache).invalidate(consent.getPartyId());
+        verify(consentAudienceIndexer).refreshAfterCommit(List.of(consent.getPartyId()));
     }
 
     @Test
     void createConsent_ShouldHandleRepositoryError_WhenSaveFails() {
         // Arrange
-        when(consentMapper.toEntity(consentDTO)).thenReturn(consent);
-        when(consentRepository.save(consent)).thenReturn(Mono.error(new RuntimeException("Database error")));
+        when(consentRepository.upsert(any(), any(), any(), any(), any(), any()))
+                .thenReturn(Mono.error(new RuntimeException("Database error")));
 
         // Act & Assert
         StepVerifier.create(consentService.createConsent(partyId, consentDTO))
@@ -121,24 +149,32 @@ class ConsentServiceImplTest {
                         throwable.getMessage().equals("Database error"))
                 .verify();
 
-        verify(consentMapper).toEntity(consentDTO);
-        verify(consentRepository).save(consent);
         verify(consentMapper, never()).toDTO(any());
+        verify(consentCache, never()).invalidate(any());
     }
 
     @Test
     void updateConsent_ShouldReturnUpdatedConsentDTO_WhenConsentExists() {
         // Arrange
+        UUID consentTypeId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        consent.setPartyId(partyId);
+        consent.setConsentTypeId(consentTypeId);
+        consent.setChannel("email");
+
         ConsentDTO updateDTO = new ConsentDTO();
-        updateDTO.setConsentId(null);
-        
+        updateDTO.setConsentTypeId(UUID.fromString("123e4567-e89b-12d3-a456-426614174003"));
+        updateDTO.setGranted(false);
+        updateDTO.setChannel("sms");
+
         Consent updatedConsent = new Consent();
         updatedConsent.setConsentId(consentId);
-        
+        updatedConsent.setPartyId(partyId);
+
         when(consentRepository.findById(consentId)).thenReturn(Mono.just(consent));
-        when(consentMapper.toEntity(updateDTO)).thenReturn(updatedConsent);
-        when(consentRepository.save(updatedConsent)).thenReturn(Mono.just(updatedConsent));
+        when(consentRepository.upsert(partyId, consentTypeId, false, null, null, "email"))
+                .thenReturn(Mono.just(updatedConsent));
         when(consentMapper.toDTO(updatedConsent)).thenReturn(consentDTO);
+        when(consentAudienceIndexer.refreshAfterCommit(any())).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(consentService.updateConsent(partyId, consentId, updateDTO))
@@ -146,9 +182,10 @@ class ConsentServiceImplTest {
                 .verifyComplete();
 
         verify(consentRepository).findById(consentId);
-        verify(consentMapper).toEntity(updateDTO);
-        verify(consentRepository).save(updatedConsent);
+        verify(consentRepository).upsert(partyId, consentTypeId, false, null, null, "email");
         verify(consentMapper).toDTO(updatedConsent);
+        verify(consentCache).invalidate(partyId);
+        verify(consentAudienceIndexer).refreshAfterCommit(List.of(partyId));
     }
 
     @Test
@@ -163,22 +200,24 @@ class ConsentServiceImplTest {
                 .verify();
 
         verify(consentRepository).findById(consentId);
-        verify(consentMapper, never()).toEntity(any());
-        verify(consentRepository, never()).save(any());
+        verify(consentRepository, never()).upsert(any(), any(), any(), any(), any(), any());
     }
 
     @Test
     void deleteConsent_ShouldCompleteSuccessfully_WhenConsentExists() {
         // Arrange
         when(consentRepository.findById(consentId)).thenReturn(Mono.just(consent));
-        when(consentRepository.deleteById(consentId)).thenReturn(Mono.empty());
+        when(consentRepository.deleteRecorded(partyId, consentId)).thenReturn(Mono.just(consent));
+        when(consentAudienceIndexer.refreshAfterCommit(any())).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(consentService.deleteConsent(partyId, consentId))
                 .verifyComplete();
 
         verify(consentRepository).findById(consentId);
-        verify(consentRepository).deleteById(consentId);
+        verify(consentRepository).deleteRecorded(partyId, consentId);
+        verify(consentCache).invalidate(consent.getPartyId());
+        verify(consentAudienceIndexer).refreshAfterCommit(List.of(consent.getPartyId()));
     }
 
     @Test
@@ -193,14 +232,30 @@ class ConsentServiceImplTest {
                 .verify();
 
         verify(consentRepository).findById(consentId);
-        verify(consentRepository, never()).deleteById(any(UUID.class));
+        verify(consentRepository, never()).deleteRecorded(any(), any());
+    }
+
+    @Test
+    void deleteConsent_ShouldReturnError_WhenConsentBelongsToAnotherParty() {
+        // Arrange
+        UUID otherPartyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174009");
+        when(consentRepository.findById(consentId)).thenReturn(Mono.just(consent));
+
+        // Act & Assert
+        StepVerifier.create(consentService.deleteConsent(otherPartyId, consentId))
+                .expectErrorMatches(throwable -> throwable instanceof RuntimeException &&
+                        throwable.getMessage().equals("Consent with ID " + consentId + " does not belong to party " + otherPartyId))
+                .verify();
+
+        verify(consentRepository, never()).deleteRecorded(any(), any());
+        verify(consentCache, never()).invalidate(any());
     }
 
     @Test
     void deleteConsent_ShouldHandleRepositoryError_WhenDeleteFails() {
         // Arrange
         when(consentRepository.findById(consentId)).thenReturn(Mono.just(consent));
-        when(consentRepository.deleteById(consentId)).thenReturn(Mono.error(new RuntimeException("Delete failed")));
+        when(consentRepository.deleteRecorded(partyId, consentId)).thenReturn(Mono.error(new RuntimeException("Delete failed")));
 
         // Act & Assert
         StepVerifier.create(consentService.deleteConsent(partyId, consentId))
@@ -209,7 +264,8 @@ class ConsentServiceImplTest {
                 .verify();
 
         verify(consentRepository).findById(consentId);
-        verify(consentRepository).deleteById(consentId);
+        verify(consentRepository).deleteRecorded(partyId, consentId);
+        verify(consentCache, never()).invalidate(any());
     }
 
     @Test
@@ -256,4 +312,84 @@ class ConsentServiceImplTest {
         verify(consentRepository).findById(consentId);
         verify(consentMapper, never()).toDTO(any());
     }
+
+    @Test
+    void checkConsent_ShouldNotQueryRepository_WhenPartyIsCached() {
+        // Arrange
+        UUID consentTypeId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        when(consentCache.check(partyId, consentTypeId, "email")).thenReturn(true);
+
+        // Act & Assert
+        StepVerifier.create(consentService.checkConsent(partyId, consentTypeId, "email"))
+                .expectNext(new ConsentCheckDTO(partyId, consentTypeId, "email", true))
+                .verifyComplete();
+
+        verifyNoInteractions(consentRepository);
+    }
+
+    @Test
+    void checkConsent_ShouldLoadLatestConsents_WhenPartyIsNotCached() {
+        // Arrange
+        UUID consentTypeId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        when(consentCache.check(partyId, consentTypeId, "sms")).thenReturn(null);
+        when(consentCache.stamp()).thenReturn(7L);
+        when(consentRepository.findByPartyId(partyId)).thenReturn(Flux.just(consent));
+        when(consentCache.load(partyId, List.of(consent), consentTypeId, "sms", 7L)).thenReturn(false);
+
+        // Act & Assert
+        StepVerifier.create(consentService.checkConsent(partyId, consentTypeId, "sms"))
+                .expectNext(new ConsentCheckDTO(partyId, consentTypeId, "sms", false))
+                .verifyComplete();
+
+        // The stamp is taken before the read, so an invalidation during the read keeps it out of the cache
+        InOrder inOrder = inOrder(consentCache, consentRepository);
+        inOrder.verify(consentCache).stamp();
+        inOrder.verify(consentRepository).findByPartyId(partyId);
+        inOrder.verify(consentCache).load(partyId, List.of(consent), consentTypeId, "sms", 7L);
+    }
+
+    @Test
+    void getCurrentConsent_ShouldReturnConsentDTO_WhenCurrentConsentExists() {
+        // Arrange
+        UUID consentTypeId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        when(consentRepository.findCurrent(partyId, consentTypeId, "email")).thenReturn(Mono.just(consent));
+        when(consentMapper.toDTO(consent)).thenReturn(consentDTO);
+
+        // Act & Assert
+        StepVerifier.create(consentService.getCurrentConsent(partyId, consentTypeId, "email"))
+                .expectNext(consentDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void getCurrentConsent_ShouldReturnError_WhenNoCurrentConsent() {
+        // Arrange
+        UUID consentTypeId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        when(consentRepository.findCurrent(partyId, consentTypeId, null)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(consentService.getCurrentConsent(partyId, consentTypeId, null))
+                .expectErrorMatches(throwable -> throwable instanceof RuntimeException &&
+                        throwable.getMessage().equals("Current consent not found for party ID: " + partyId))
+                .verify();
+    }
+
+    @Test
+    void getConsentHistory_ShouldReturnRecordedStates_WhenHistoryExists() {
+        // Arrange
+        UUID consentTypeId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        ConsentHistory revoked = ConsentHistory.builder().consentId(consentId).granted(false).build();
+        ConsentHistory granted = ConsentHistory.builder().consentId(consentId).granted(true).build();
+        ConsentHistoryDTO revokedDTO = ConsentHistoryDTO.builder().consentId(consentId).granted(false).build();
+        ConsentHistoryDTO grantedDTO = ConsentHistoryDTO.builder().consentId(consentId).granted(true).build();
+        when(consentHistoryRepository.findByPartyIdAndConsentTypeId(partyId, consentTypeId))
+                .thenReturn(Flux.just(revoked, granted));
+        when(consentHistoryMapper.toDTO(revoked)).thenReturn(revokedDTO);
+        when(consentHistoryMapper.toDTO(granted)).thenReturn(grantedDTO);
+
+        // Act & Assert
+        StepVerifier.create(consentService.getConsentHistory(partyId, consentTypeId))
+                .expectNext(revokedDTO, grantedDTO)
+                .verifyComplete();
+    }
 }
\ No newline at end of file
@@ -20,7 +20,9 @@ package com.firefly.core.customer.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.core.graph.SharedAttributeIndexer;
 import com.firefly.core.customer.core.mappers.EmailContactMapper;
+import com.firefly.core.customer.core.search.PartySearchIndexer;
 import com.firefly.core.customer.interfaces.dtos.EmailContactDTO;
 import com.firefly.core.customer.models.entities.EmailContact;
 import com.firefly.core.customer.models.repositories.EmailContactRepository;
@@ -49,6 +51,12 @@ class EmailContactServiceImplTest {
     @Mock
     private EmailContactMapper emailContactMapper;
 
+    @Mock
+    private PartySearchIndexer searchIndexer;
+
+    @Mock
+    private SharedAttributeIndexer sharedAttributeIndexer;
+
     @InjectMocks
     private EmailContactServiceImpl emailContactService;
 
@@ -59,6 +67,8 @@ class EmailContactServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(searchIndexer.refresh(any())).thenReturn(Mono.empty());
+
         emailContactId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
         partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
         
@@ -97,6 +107,7 @@ class EmailContactServiceImplTest {
         // Arrange
         when(emailContactMapper.toEntity(emailContactDTO)).thenReturn(emailContact);
         when(emailContactRepository.save(emailContact)).thenReturn(Mono.just(emailContact));
+        when(sharedAttributeIndexer.index(emailContact)).thenReturn(Mono.empty());
         when(emailContactMapper.toDTO(emailContact)).thenReturn(emailContactDTO);
 
         // Act & Assert
@@ -107,6 +118,7 @@ class EmailContactServiceImplTest {
         verify(emailContactMapper).toEntity(emailContactDTO);
         verify(emailContactRepository).save(emailContact);
         verify(emailContactMapper).toDTO(emailContact);
+        verify(sharedAttributeIndexer).index(emailContact);
     }
 
     @Test
@@ -138,6 +150,7 @@ class EmailContactServiceImplTest {
         when(emailContactRepository.findById(emailContactId)).thenReturn(Mono.just(emailContact));
         doNothing().when(emailContactMapper).updateEntityFromDto(updateDTO, emailContact);
         when(emailContactRepository.save(emailContact)).thenReturn(Mono.just(emailContact));
+        when(sharedAttributeIndexer.index(emailContact)).thenReturn(Mono.empty());
         when(emailContactMapper.toDTO(emailContact)).thenReturn(emailContactDTO);
 
         // Act & Assert
@@ -170,8 +183,10 @@ class EmailContactServiceImplTest {
     @Test
     void deleteEmailContact_ShouldCompleteSuccessfully_WhenEmailContactExists() {
         // Arrange
+        emailContact.setPartyId(partyId);
         when(emailContactRepository.findById(emailContactId)).thenReturn(Mono.just(emailContact));
         when(emailContactRepository.deleteById(emailContactId)).thenReturn(Mono.empty());
+        when(sharedAttributeIndexer.remove(partyId, emailContactId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(emailContactService.deleteEmailContact(partyId, emailContactId))
@@ -179,6 +194,7 @@ class EmailContactServiceImplTest {
 
         verify(emailContactRepository).findById(emailContactId);
         verify(emailContactRepository).deleteById(emailContactId);
+        verify(sharedAttributeIndexer).remove(partyId, emailContactId);
     }
 
     @Test
@@ -210,6 +226,7 @@ class EmailContactServiceImplTest {
 
         verify(emailContactRepository).findById(emailContactId);
         verify(emailContactRepository).deleteById(emailContactId);
+        verify(sharedAttributeIndexer, never()).remove(any());
     }
 
     @Test
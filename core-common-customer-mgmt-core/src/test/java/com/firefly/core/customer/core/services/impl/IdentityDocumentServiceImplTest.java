@@ -20,6 +20,8 @@ package com.firefly.core.customer.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.core.graph.SharedAttributeIndexer;
+import com.firefly.core.customer.core.kyc.KycReviewScheduler;
 import com.firefly.core.customer.core.mappers.IdentityDocumentMapper;
 import com.firefly.core.customer.interfaces.dtos.IdentityDocumentDTO;
 import com.firefly.core.customer.models.entities.IdentityDocument;
@@ -49,6 +51,12 @@ class IdentityDocumentServiceImplTest {
     @Mock
     private IdentityDocumentMapper identityDocumentMapper;
 
+    @Mock
+    private SharedAttributeIndexer sharedAttributeIndexer;
+
+    @Mock
+    private KycReviewScheduler kycReviewScheduler;
+
     @InjectMocks
     private IdentityDocumentServiceImpl identityDocumentService;
 
@@ -59,6 +67,8 @@ class IdentityDocumentServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(kycReviewScheduler.reschedule(any())).thenReturn(Mono.empty());
+
         identityDocumentId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
         partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
         
@@ -97,6 +107,7 @@ class IdentityDocumentServiceImplTest {
         // Arrange
         when(identityDocumentMapper.toEntity(identityDocumentDTO)).thenReturn(identityDocument);
         when(identityDocumentRepository.save(identityDocument)).thenReturn(Mono.just(identityDocument));
+        when(sharedAttributeIndexer.index(identityDocument)).thenReturn(Mono.empty());
         when(identityDocumentMapper.toDTO(identityDocument)).thenReturn(identityDocumentDTO);
 
         // Act & Assert
@@ -107,6 +118,7 @@ class IdentityDocumentServiceImplTest {
         verify(identityDocumentMapper).toEntity(identityDocumentDTO);
         verify(identityDocumentRepository).save(identityDocument);
         verify(identityDocumentMapper).toDTO(identityDocument);
+        verify(sharedAttributeIndexer).index(identityDocument);
     }
 
     @Test
@@ -138,6 +150,7 @@ class IdentityDocumentServiceImplTest {
         when(identityDocumentRepository.findById(identityDocumentId)).thenReturn(Mono.just(identityDocument));
         when(identityDocumentMapper.toEntity(updateDTO)).thenReturn(updatedIdentityDocument);
         when(identityDocumentRepository.save(updatedIdentityDocument)).thenReturn(Mono.just(updatedIdentityDocument));
+        when(sharedAttributeIndexer.index(updatedIdentityDocument)).thenReturn(Mono.empty());
         when(identityDocumentMapper.toDTO(updatedIdentityDocument)).thenReturn(identityDocumentDTO);
 
         // Act & Assert
@@ -170,8 +183,10 @@ class IdentityDocumentServiceImplTest {
     @Test
     void deleteIdentityDocument_ShouldCompleteSuccessfully_WhenIdentityDocumentExists() {
         // Arrange
+        identityDocument.setPartyId(partyId);
         when(identityDocumentRepository.findById(identityDocumentId)).thenReturn(Mono.just(identityDocument));
         when(identityDocumentRepository.deleteById(identityDocumentId)).thenReturn(Mono.empty());
+        when(sharedAttributeIndexer.remove(partyId, identityDocumentId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(identityDocumentService.deleteIdentityDocument(partyId, identityDocumentId))
@@ -179,6 +194,7 @@ class IdentityDocumentServiceImplTest {
 
         verify(identityDocumentRepository).findById(identityDocumentId);
         verify(identityDocumentRepository).deleteById(identityDocumentId);
+        verify(sharedAttributeIndexer).remove(partyId, identityDocumentId);
     }
 
     @Test
@@ -210,6 +226,7 @@ class IdentityDocumentServiceImplTest {
 
         verify(identityDocumentRepository).findById(identityDocumentId);
         verify(identityDocumentRepository).deleteById(identityDocumentId);
+        verify(sharedAttributeIndexer, never()).remove(any());
     }
 
     @Test
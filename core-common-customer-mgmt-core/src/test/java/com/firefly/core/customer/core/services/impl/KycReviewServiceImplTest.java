@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.services.impl;
+
+import com.firefly.core.customer.core.kyc.KycReviewScheduler;
+import com.firefly.core.customer.core.mappers.KycReviewMapper;
+import com.firefly.core.customer.interfaces.dtos.KycReviewDTO;
+import com.firefly.core.customer.interfaces.enums.KycRiskLevel;
+import com.firefly.core.customer.models.entities.KycReviewSchedule;
+import com.firefly.core.customer.models.repositories.KycReviewScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KycReviewServiceImplTest {
+
+    @Mock
+    private KycReviewScheduleRepository repository;
+
+    @Mock
+    private KycReviewMapper mapper;
+
+    @Mock
+    private KycReviewScheduler kycReviewScheduler;
+
+    @InjectMocks
+    private KycReviewServiceImpl kycReviewService;
+
+    private UUID partyId;
+    private UUID leaseId;
+    private KycReviewSchedule schedule;
+    private KycReviewDTO scheduleDTO;
+
+    @BeforeEach
+    void setUp() {
+        partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+        leaseId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        LocalDateTime nextReviewDate = LocalDateTime.now().minusDays(1);
+        schedule = KycReviewSchedule.builder()
+                .partyId(partyId)
+                .riskLevel(KycRiskLevel.HIGH)
+                .nextReviewDate(nextReviewDate)
+                .build();
+        scheduleDTO = KycReviewDTO.builder()
+                .partyId(partyId)
+                .riskLevel(KycRiskLevel.HIGH)
+                .nextReviewDate(nextReviewDate)
+                .build();
+    }
+
+    @Test
+    void getKycReview_ShouldReturnError_WhenPartyHasNoSchedule() {
+        // Arrange
+        when(repository.findById(partyId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(kycReviewService.getKycReview(partyId))
+                .expectErrorMatches(throwable -> throwable instanceof RuntimeException
+                        && throwable.getMessage().equals("KYC review schedule not found for party ID: " + partyId))
+                .verify();
+    }
+
+    @Test
+    void leaseDueReviews_ShouldReturnDueReviewsEarliestFirst_WhenReviewsAreDue() {
+        // Arrange
+        KycReviewSchedule laterSchedule = KycReviewSchedule.builder()
+                .partyId(UUID.fromString("123e4567-e89b-12d3-a456-426614174003"))
+                .nextReviewDate(schedule.getNextReviewDate().plusHours(1))
+                .build();
+        KycReviewDTO laterScheduleDTO = KycReviewDTO.builder().partyId(laterSchedule.getPartyId()).build();
+        when(repository.leaseDue(any(UUID.class), eq(10), eq(1800L))).thenReturn(Flux.just(laterSchedule, schedule));
+        when(mapper.toDTO(schedule)).thenReturn(scheduleDTO);
+        when(mapper.toDTO(laterSchedule)).thenReturn(laterScheduleDTO);
+
+        // Act & Assert
+        StepVerifier.create(kycReviewService.leaseDueReviews(10, Duration.ofMinutes(30)))
+                .expectNextMatches(lease -> lease.getLeaseId() != null
+                        && lease.getReviews().equals(List.of(scheduleDTO, laterScheduleDTO)))
+                .verifyComplete();
+    }
+
+    @Test
+    void completeReview_ShouldRescheduleReview_WhenLeaseIsHeld() {
+        // Arrange
+        when(repository.completeReview(partyId, leaseId)).thenReturn(Mono.just(1));
+        when(kycReviewScheduler.reschedule(List.of(partyId))).thenReturn(Mono.empty());
+        when(repository.findById(partyId)).thenReturn(Mono.just(schedule));
+        when(mapper.toDTO(schedule)).thenReturn(scheduleDTO);
+
+        // Act & Assert
+        StepVerifier.create(kycReviewService.completeReview(partyId, leaseId))
+                .expectNext(scheduleDTO)
+                .verifyComplete();
+
+        verify(kycReviewScheduler).reschedule(List.of(partyId));
+    }
+
+    @Test
+    void completeReview_ShouldReturnError_WhenLeaseIsNotHeld() {
+        // Arrange
+        when(repository.completeReview(partyId, leaseId)).thenReturn(Mono.just(0));
+
+        // Act & Assert
+        StepVerifier.create(kycReviewService.completeReview(partyId, leaseId))
+                .expectErrorMatches(throwable -> throwable instanceof RuntimeException
+                        && throwable.getMessage().equals(
+                                "KYC review of party " + partyId + " is not held under lease " + leaseId))
+                .verify();
+
+        verify(kycReviewScheduler, never()).reschedule(any());
+    }
+}
\ No newline at end of file
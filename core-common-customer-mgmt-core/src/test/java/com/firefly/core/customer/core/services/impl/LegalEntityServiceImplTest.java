@@ -21,6 +21,9 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.customer.core.mappers.LegalEntityMapper;
+import com.firefly.core.customer.core.screening.PartyScreeningQueue;
+import com.firefly.core.customer.core.search.PartySearchIndexer;
+import com.firefly.core.customer.core.search.PartyTypeaheadIndexer;
 import com.firefly.core.customer.interfaces.dtos.LegalEntityDTO;
 import com.firefly.core.customer.models.entities.LegalEntity;
 import com.firefly.core.customer.models.repositories.LegalEntityRepository;
@@ -36,6 +39,7 @@ import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import java.util.UUID;
@@ -49,6 +53,15 @@ class LegalEntityServiceImplTest {
     @Mock
     private LegalEntityMapper legalEntityMapper;
 
+    @Mock
+    private PartySearchIndexer searchIndexer;
+
+    @Mock
+    private PartyTypeaheadIndexer typeaheadIndexer;
+
+    @Mock
+    private PartyScreeningQueue screeningQueue;
+
     @InjectMocks
     private LegalEntityServiceImpl legalEntityService;
 
@@ -56,9 +69,17 @@ class LegalEntityServiceImplTest {
     private LegalEntity legalEntity;
     private UUID legalEntityId;
     private UUID partyId;
+    private UUID tenantId;
 
     @BeforeEach
     void setUp() {
+        tenantId = UUID.fromString("223e4567-e89b-12d3-a456-426614174000");
+        lenient().when(searchIndexer.refreshAndGetTenant(any())).thenReturn(Mono.just(tenantId));
+        lenient().when(typeaheadIndexer.index(any(UUID.class), any(LegalEntity.class))).thenReturn(Mono.empty());
+        lenient().when(typeaheadIndexer.remove(any(), any())).thenReturn(Mono.empty());
+        lenient().when(screeningQueue.enqueue(any())).thenReturn(Mono.empty());
+        lenient().when(screeningQueue.enqueueIfChanged(any(), any())).thenReturn(Mono.empty());
+
         legalEntityId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
         partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
         
@@ -106,9 +127,26 @@ class LegalEntityServiceImplTest {
 
         verify(legalEntityMapper).toEntity(legalEntityDTO);
         verify(legalEntityRepository).save(legalEntity);
+        verify(typeaheadIndexer).index(tenantId, legalEntity);
         verify(legalEntityMapper).toDTO(legalEntity);
     }
 
+    @Test
+    void createLegalEntity_ShouldStorePhoneticLegalNameKeys_WhenSaving() {
+        // Arrange
+        legalEntity.setLegalName("Schmidt GmbH");
+        when(legalEntityMapper.toEntity(legalEntityDTO)).thenReturn(legalEntity);
+        when(legalEntityRepository.save(legalEntity)).thenReturn(Mono.just(legalEntity));
+        when(legalEntityMapper.toDTO(legalEntity)).thenReturn(legalEntityDTO);
+
+        // Act & Assert
+        StepVerifier.create(legalEntityService.createLegalEntity(partyId, legalEntityDTO))
+                .expectNext(legalEntityDTO)
+                .verifyComplete();
+
+        assertArrayEquals(new String[]{"XMT", "SMT", "KMP"}, legalEntity.getLegalNamePhonetic());
+    }
+
     @Test
     void createLegalEntity_ShouldHandleRepositoryError_WhenSaveFails() {
         // Arrange
@@ -21,7 +21,12 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.customer.core.mappers.NaturalPersonMapper;
+import com.firefly.core.customer.core.screening.PartyScreeningQueue;
+import com.firefly.core.customer.core.screening.ScreeningCandidate;
+import com.firefly.core.customer.core.search.PartySearchIndexer;
+import com.firefly.core.customer.core.search.PartyTypeaheadIndexer;
 import com.firefly.core.customer.interfaces.dtos.NaturalPersonDTO;
+import com.firefly.core.customer.interfaces.enums.PartyKind;
 import com.firefly.core.customer.models.entities.NaturalPerson;
 import com.firefly.core.customer.models.repositories.NaturalPersonRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +41,7 @@ import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import java.util.UUID;
@@ -49,6 +55,15 @@ class NaturalPersonServiceImplTest {
     @Mock
     private NaturalPersonMapper naturalPersonMapper;
 
+    @Mock
+    private PartySearchIndexer searchIndexer;
+
+    @Mock
+    private PartyTypeaheadIndexer typeaheadIndexer;
+
+    @Mock
+    private PartyScreeningQueue screeningQueue;
+
     @InjectMocks
     private NaturalPersonServiceImpl naturalPersonService;
 
@@ -56,9 +71,17 @@ class NaturalPersonServiceImplTest {
     private NaturalPerson naturalPerson;
     private UUID naturalPersonId;
     private UUID partyId;
+    private UUID tenantId;
 
     @BeforeEach
     void setUp() {
+        tenantId = UUID.fromString("223e4567-e89b-12d3-a456-426614174000");
+        lenient().when(searchIndexer.refreshAndGetTenant(any())).thenReturn(Mono.just(tenantId));
+        lenient().when(typeaheadIndexer.index(any(UUID.class), any(NaturalPerson.class))).thenReturn(Mono.empty());
+        lenient().when(typeaheadIndexer.remove(any(), any())).thenReturn(Mono.empty());
+        lenient().when(screeningQueue.enqueue(any())).thenReturn(Mono.empty());
+        lenient().when(screeningQueue.enqueueIfChanged(any(), any())).thenReturn(Mono.empty());
+
         naturalPersonId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
         partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
 
@@ -107,9 +130,48 @@ class NaturalPersonServiceImplTest {
 
         verify(naturalPersonMapper).toEntity(naturalPersonDTO);
         verify(naturalPersonRepository).save(naturalPerson);
+        verify(typeaheadIndexer).index(tenantId, naturalPerson);
         verify(naturalPersonMapper).toDTO(naturalPerson);
     }
 
+    @Test
+    void createNaturalPerson_ShouldStorePhoneticNameKeys_WhenSaving() {
+        // Arrange
+        naturalPerson.setGivenName("Jon");
+        naturalPerson.setFamilyName1("Smyth");
+        when(naturalPersonMapper.toEntity(naturalPersonDTO)).thenReturn(naturalPerson);
+        when(naturalPersonRepository.save(naturalPerson)).thenReturn(Mono.just(naturalPerson));
+        when(naturalPersonMapper.toDTO(naturalPerson)).thenReturn(naturalPersonDTO);
+
+        // Act & Assert
+        StepVerifier.create(naturalPersonService.createNaturalPerson(partyId, naturalPersonDTO))
+                .expectNext(naturalPersonDTO)
+                .verifyComplete();
+
+        assertArrayEquals(new String[]{"JN", "AN"}, naturalPerson.getGivenNamePhonetic());
+        assertArrayEquals(new String[]{"SM0", "XMT"}, naturalPerson.getFamilyName1Phonetic());
+        assertArrayEquals(new String[0], naturalPerson.getFamilyName2Phonetic());
+    }
+
+    @Test
+    void createNaturalPerson_ShouldEnqueueNamesForScreening_WhenSaved() {
+        // Arrange
+        naturalPerson.setGivenName("Jon");
+        naturalPerson.setMiddleName("Paul");
+        naturalPerson.setFamilyName1("Smyth");
+        when(naturalPersonMapper.toEntity(naturalPersonDTO)).thenReturn(naturalPerson);
+        when(naturalPersonRepository.save(naturalPerson)).thenReturn(Mono.just(naturalPerson));
+        when(naturalPersonMapper.toDTO(naturalPerson)).thenReturn(naturalPersonDTO);
+
+        // Act & Assert
+        StepVerifier.create(naturalPersonService.createNaturalPerson(partyId, naturalPersonDTO))
+                .expectNext(naturalPersonDTO)
+                .verifyComplete();
+
+        verify(screeningQueue).enqueue(
+                new ScreeningCandidate(PartyKind.INDIVIDUAL, partyId, "Jon Paul Smyth", "Jon Smyth"));
+    }
+
     @Test
     void createNaturalPerson_ShouldHandleRepositoryError_WhenSaveFails() {
         // Arrange
@@ -149,6 +211,30 @@ class NaturalPersonServiceImplTest {
         verify(naturalPersonMapper).toDTO(naturalPerson);
     }
 
+    @Test
+    void updateNaturalPerson_ShouldEnqueueNamesBeforeAndAfterForScreening_WhenSaved() {
+        // Arrange
+        NaturalPersonDTO updateDTO = new NaturalPersonDTO();
+        naturalPerson.setGivenName("Jon");
+        naturalPerson.setFamilyName1("Smyth");
+        when(naturalPersonRepository.findById(naturalPersonId)).thenReturn(Mono.just(naturalPerson));
+        doAnswer(invocation -> {
+            naturalPerson.setFamilyName1("Smith");
+            return null;
+        }).when(naturalPersonMapper).updateEntityFromDto(updateDTO, naturalPerson);
+        when(naturalPersonRepository.save(naturalPerson)).thenReturn(Mono.just(naturalPerson));
+        when(naturalPersonMapper.toDTO(naturalPerson)).thenReturn(naturalPersonDTO);
+
+        // Act & Assert
+        StepVerifier.create(naturalPersonService.updateNaturalPerson(partyId, naturalPersonId, updateDTO))
+                .expectNext(naturalPersonDTO)
+                .verifyComplete();
+
+        verify(screeningQueue).enqueueIfChanged(
+                new ScreeningCandidate(PartyKind.INDIVIDUAL, partyId, "Jon Smyth", "Jon Smyth"),
+                new ScreeningCandidate(PartyKind.INDIVIDUAL, partyId, "Jon Smith", "Jon Smith"));
+    }
+
     @Test
     void updateNaturalPerson_ShouldReturnError_WhenNaturalPersonNotFound() {
         // Arrange
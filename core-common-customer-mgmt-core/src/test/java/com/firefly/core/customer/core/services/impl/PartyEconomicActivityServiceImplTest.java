@@ -21,8 +21,10 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.customer.core.mappers.PartyEconomicActivityMapper;
+import com.firefly.core.customer.interfaces.dtos.EconomicActivityTurnoverDTO;
 import com.firefly.core.customer.interfaces.dtos.PartyEconomicActivityDTO;
 import com.firefly.core.customer.models.entities.PartyEconomicActivity;
+import com.firefly.core.customer.models.projections.EconomicActivityTurnover;
 import com.firefly.core.customer.models.repositories.PartyEconomicActivityRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,10 +33,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -59,6 +64,8 @@ class PartyEconomicActivityServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(partyEconomicActivityRepository.adjustTurnover(any(), anyInt())).thenReturn(Mono.just(1));
+
         partyEconomicActivityId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
         partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
         
@@ -106,6 +113,7 @@ class PartyEconomicActivityServiceImplTest {
 
         verify(partyEconomicActivityMapper).toEntity(partyEconomicActivityDTO);
         verify(partyEconomicActivityRepository).save(partyEconomicActivity);
+        verify(partyEconomicActivityRepository).adjustTurnover(partyEconomicActivityId, 1);
         verify(partyEconomicActivityMapper).toDTO(partyEconomicActivity);
     }
 
@@ -123,6 +131,7 @@ class PartyEconomicActivityServiceImplTest {
 
         verify(partyEconomicActivityMapper).toEntity(partyEconomicActivityDTO);
         verify(partyEconomicActivityRepository).save(partyEconomicActivity);
+        verify(partyEconomicActivityRepository, never()).adjustTurnover(any(), anyInt());
         verify(partyEconomicActivityMapper, never()).toDTO(any());
     }
 
@@ -135,7 +144,7 @@ class PartyEconomicActivityServiceImplTest {
         PartyEconomicActivity updatedPartyEconomicActivity = new PartyEconomicActivity();
         updatedPartyEconomicActivity.setPartyEconomicActivityId(partyEconomicActivityId);
         
-        when(partyEconomicActivityRepository.findById(partyEconomicActivityId)).thenReturn(Mono.just(partyEconomicActivity));
+        when(partyEconomicActivityRepository.findByIdForUpdate(partyEconomicActivityId)).thenReturn(Mono.just(partyEconomicActivity));
         when(partyEconomicActivityMapper.toEntity(updateDTO)).thenReturn(updatedPartyEconomicActivity);
         when(partyEconomicActivityRepository.save(updatedPartyEconomicActivity)).thenReturn(Mono.just(updatedPartyEconomicActivity));
         when(partyEconomicActivityMapper.toDTO(updatedPartyEconomicActivity)).thenReturn(partyEconomicActivityDTO);
@@ -145,16 +154,18 @@ class PartyEconomicActivityServiceImplTest {
                 .expectNext(partyEconomicActivityDTO)
                 .verifyComplete();
 
-        verify(partyEconomicActivityRepository).findById(partyEconomicActivityId);
+        verify(partyEconomicActivityRepository).findByIdForUpdate(partyEconomicActivityId);
         verify(partyEconomicActivityMapper).toEntity(updateDTO);
+        verify(partyEconomicActivityRepository).adjustTurnover(partyEconomicActivityId, -1);
         verify(partyEconomicActivityRepository).save(updatedPartyEconomicActivity);
+        verify(partyEconomicActivityRepository).adjustTurnover(partyEconomicActivityId, 1);
         verify(partyEconomicActivityMapper).toDTO(updatedPartyEconomicActivity);
     }
 
     @Test
     void updatePartyEconomicActivity_ShouldReturnError_WhenPartyEconomicActivityNotFound() {
         // Arrange
-        when(partyEconomicActivityRepository.findById(partyEconomicActivityId)).thenReturn(Mono.empty());
+        when(partyEconomicActivityRepository.findByIdForUpdate(partyEconomicActivityId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(partyEconomicActivityService.updatePartyEconomicActivity(partyId, partyEconomicActivityId, partyEconomicActivityDTO))
@@ -162,29 +173,31 @@ class PartyEconomicActivityServiceImplTest {
                         throwable.getMessage().equals("Party economic activity not found with ID: " + partyEconomicActivityId))
                 .verify();
 
-        verify(partyEconomicActivityRepository).findById(partyEconomicActivityId);
+        verify(partyEconomicActivityRepository).findByIdForUpdate(partyEconomicActivityId);
         verify(partyEconomicActivityMapper, never()).toEntity(any());
         verify(partyEconomicActivityRepository, never()).save(any());
+        verify(partyEconomicActivityRepository, never()).adjustTurnover(any(), anyInt());
     }
 
     @Test
     void deletePartyEconomicActivity_ShouldCompleteSuccessfully_WhenPartyEconomicActivityExists() {
         // Arrange
-        when(partyEconomicActivityRepository.findById(partyEconomicActivityId)).thenReturn(Mono.just(partyEconomicActivity));
+        when(partyEconomicActivityRepository.findByIdForUpdate(partyEconomicActivityId)).thenReturn(Mono.just(partyEconomicActivity));
         when(partyEconomicActivityRepository.deleteById(partyEconomicActivityId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(partyEconomicActivityService.deletePartyEconomicActivity(partyId, partyEconomicActivityId))
                 .verifyComplete();
 
-        verify(partyEconomicActivityRepository).findById(partyEconomicActivityId);
+        verify(partyEconomicActivityRepository).findByIdForUpdate(partyEconomicActivityId);
+        verify(partyEconomicActivityRepository).adjustTurnover(partyEconomicActivityId, -1);
         verify(partyEconomicActivityRepository).deleteById(partyEconomicActivityId);
     }
 
     @Test
     void deletePartyEconomicActivity_ShouldReturnError_WhenPartyEconomicActivityNotFound() {
         // Arrange
-        when(partyEconomicActivityRepository.findById(partyEconomicActivityId)).thenReturn(Mono.empty());
+        when(partyEconomicActivityRepository.findByIdForUpdate(partyEconomicActivityId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(partyEconomicActivityService.deletePartyEconomicActivity(partyId, partyEconomicActivityId))
@@ -192,14 +205,15 @@ class PartyEconomicActivityServiceImplTest {
                         throwable.getMessage().equals("Party economic activity not found with ID: " + partyEconomicActivityId))
                 .verify();
 
-        verify(partyEconomicActivityRepository).findById(partyEconomicActivityId);
+        verify(partyEconomicActivityRepository).findByIdForUpdate(partyEconomicActivityId);
+        verify(partyEconomicActivityRepository, never()).adjustTurnover(any(), anyInt());
         verify(partyEconomicActivityRepository, never()).deleteById(any(UUID.class));
     }
 
     @Test
     void deletePartyEconomicActivity_ShouldHandleRepositoryError_WhenDeleteFails() {
         // Arrange
-        when(partyEconomicActivityRepository.findById(partyEconomicActivityId)).thenReturn(Mono.just(partyEconomicActivity));
+        when(partyEconomicActivityRepository.findByIdForUpdate(partyEconomicActivityId)).thenReturn(Mono.just(partyEconomicActivity));
         when(partyEconomicActivityRepository.deleteById(partyEconomicActivityId)).thenReturn(Mono.error(new RuntimeException("Delete failed")));
 
         // Act & Assert
@@ -208,7 +222,7 @@ class PartyEconomicActivityServiceImplTest {
                         throwable.getMessage().equals("Delete failed"))
                 .verify();
 
-        verify(partyEconomicActivityRepository).findById(partyEconomicActivityId);
+        verify(partyEconomicActivityRepository).findByIdForUpdate(partyEconomicActivityId);
         verify(partyEconomicActivityRepository).deleteById(partyEconomicActivityId);
     }
 
@@ -256,4 +270,72 @@ class PartyEconomicActivityServiceImplTest {
         verify(partyEconomicActivityRepository).findById(partyEconomicActivityId);
         verify(partyEconomicActivityMapper, never()).toDTO(any());
     }
+
+    @Test
+    void getPartyEconomicActivitiesAsOf_ShouldReturnValidRows_WhenFound() {
+        // Arrange
+        OffsetDateTime asOf = OffsetDateTime.parse("2024-03-31T23:59:59Z");
+        when(partyEconomicActivityRepository.findByPartyIdAsOf(partyId, asOf)).thenReturn(Flux.just(partyEconomicActivity));
+        when(partyEconomicActivityMapper.toDTO(partyEconomicActivity)).thenReturn(partyEconomicActivityDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyEconomicActivityService.getPartyEconomicActivitiesAsOf(partyId, asOf))
+                .expectNext(partyEconomicActivityDTO)
+                .verifyComplete();
+
+        verify(partyEconomicActivityRepository).findByPartyIdAsOf(partyId, asOf);
+    }
+
+    @Test
+    void getPartyEconomicActivitiesAsOf_ShouldReturnEmpty_WhenNothingValid() {
+        // Arrange
+        OffsetDateTime asOf = OffsetDateTime.parse("2024-03-31T23:59:59Z");
+        when(partyEconomicActivityRepository.findByPartyIdAsOf(partyId, asOf)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(partyEconomicActivityService.getPartyEconomicActivitiesAsOf(partyId, asOf))
+                .verifyComplete();
+
+        verify(partyEconomicActivityMapper, never()).toDTO(any());
+    }
+
+    @Test
+    void getEconomicActivityTurnovers_ShouldReturnRollups_WhenFound() {
+        // Arrange
+        UUID tenantId = UUID.fromString("223e4567-e89b-12d3-a456-426614174000");
+        UUID economicActivityId = UUID.fromString("323e4567-e89b-12d3-a456-426614174000");
+        EconomicActivityTurnover turnover = new EconomicActivityTurnover(tenantId, economicActivityId, "EUR",
+                3L, 2L, new BigDecimal("3000.00"), new BigDecimal("1500.00"), LocalDateTime.now());
+        EconomicActivityTurnoverDTO turnoverDTO = EconomicActivityTurnoverDTO.builder()
+                .tenantId(tenantId)
+                .economicActivityId(economicActivityId)
+                .currencyCode("EUR")
+                .activityCount(3L)
+                .reportedCount(2L)
+                .turnoverTotal(new BigDecimal("3000.00"))
+                .averageTurnover(new BigDecimal("1500.00"))
+                .build();
+        when(partyEconomicActivityRepository.findTurnovers(tenantId, economicActivityId, "EUR")).thenReturn(Flux.just(turnover));
+        when(partyEconomicActivityMapper.toTurnoverDTO(turnover)).thenReturn(turnoverDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyEconomicActivityService.getEconomicActivityTurnovers(tenantId, economicActivityId, "EUR"))
+                .expectNext(turnoverDTO)
+                .verifyComplete();
+
+        verify(partyEconomicActivityRepository).findTurnovers(tenantId, economicActivityId, "EUR");
+    }
+
+    @Test
+    void getEconomicActivityTurnovers_ShouldReturnEmpty_WhenTenantHasNoActivities() {
+        // Arrange
+        UUID tenantId = UUID.fromString("223e4567-e89b-12d3-a456-426614174000");
+        when(partyEconomicActivityRepository.findTurnovers(tenantId, null, null)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(partyEconomicActivityService.getEconomicActivityTurnovers(tenantId, null, null))
+                .verifyComplete();
+
+        verify(partyEconomicActivityMapper, never()).toTurnoverDTO(any());
+    }
 }
\ No newline at end of file
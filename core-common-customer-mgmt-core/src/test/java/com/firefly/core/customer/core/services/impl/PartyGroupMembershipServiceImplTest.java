@@ -21,8 +21,13 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.customer.core.mappers.PartyGroupMembershipMapper;
+import com.firefly.core.customer.interfaces.dtos.PartyGroupMembersRequestDTO;
 import com.firefly.core.customer.interfaces.dtos.PartyGroupMembershipDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyGroupMembershipResultDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyGroupSizeDTO;
+import com.firefly.core.customer.interfaces.enums.MembershipOutcome;
 import com.firefly.core.customer.models.entities.PartyGroupMembership;
+import com.firefly.core.customer.models.projections.PartyGroupMembershipResult;
 import com.firefly.core.customer.models.repositories.PartyGroupMembershipRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,11 +36,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
 
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import java.util.UUID;
@@ -256,4 +265,251 @@ class PartyGroupMembershipServiceImplTest {
         verify(partyGroupMembershipRepository).findById(partyGroupMembershipId);
         verify(partyGroupMembershipMapper, never()).toDTO(any());
     }
+
+    @Test
+    void getPartyGroupMembershipsAsOf_ShouldReturnValidRows_WhenFound() {
+        // Arrange
+        OffsetDateTime asOf = OffsetDateTime.parse("2024-03-31T23:59:59Z");
+        when(partyGroupMembershipRepository.findByPartyIdAsOf(partyId, asOf)).thenReturn(Flux.just(partyGroupMembership));
+        when(partyGroupMembershipMapper.toDTO(partyGroupMembership)).thenReturn(partyGroupMembershipDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyGroupMembershipService.getPartyGroupMembershipsAsOf(partyId, asOf))
+                .expectNext(partyGroupMembershipDTO)
+                .verifyComplete();
+
+        verify(partyGroupMembershipRepository).findByPartyIdAsOf(partyId, asOf);
+    }
+
+    @Test
+    void getPartyGroupMembershipsAsOf_ShouldReturnEmpty_WhenNothingValid() {
+        // Arrange
+        OffsetDateTime asOf = OffsetDateTime.parse("2024-03-31T23:59:59Z");
+        when(partyGroupMembershipRepository.findByPartyIdAsOf(partyId, asOf)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(partyGroupMembershipService.getPartyGroupMembershipsAsOf(partyId, asOf))
+                .verifyComplete();
+
+        verify(partyGroupMembershipMapper, never()).toDTO(any());
+    }
+
+    @Test
+    void createPartyGroupMembership_ShouldIncrementGroupSize_WhenMembershipActive() {
+        // Arrange
+        UUID groupId = UUID.fromString("123e4567-e89b-12d3-a456-426614174010");
+        partyGroupMembership.setGroupId(groupId);
+        partyGroupMembership.setIsActive(true);
+        when(partyGroupMembershipMapper.toEntity(partyGroupMembershipDTO)).thenReturn(partyGroupMembership);
+        when(partyGroupMembershipRepository.save(partyGroupMembership)).thenReturn(Mono.just(partyGroupMembership));
+        when(partyGroupMembershipRepository.adjustActiveMemberCount(eq(groupId), anyLong())).thenReturn(Mono.just(1));
+        when(partyGroupMembershipMapper.toDTO(partyGroupMembership)).thenReturn(partyGroupMembershipDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyGroupMembershipService.createPartyGroupMembership(partyId, partyGroupMembershipDTO))
+                .expectNext(partyGroupMembershipDTO)
+                .verifyComplete();
+
+        // The counter is locked before the membership is inserted, as the bulk operations do
+        verify(partyGroupMembershipRepository).adjustActiveMemberCount(groupId, 0L);
+        verify(partyGroupMembershipRepository).adjustActiveMemberCount(groupId, 1L);
+    }
+
+    @Test
+    void updatePartyGroupMembership_ShouldMoveCount_WhenActiveMembershipChangesGroup() {
+        // Arrange
+        UUID oldGroupId = UUID.fromString("123e4567-e89b-12d3-a456-426614174010");
+        UUID newGroupId = UUID.fromString("123e4567-e89b-12d3-a456-426614174011");
+        partyGroupMembership.setGroupId(oldGroupId);
+        partyGroupMembership.setIsActive(true);
+        PartyGroupMembership moved = new PartyGroupMembership();
+        moved.setGroupId(newGroupId);
+        moved.setIsActive(true);
+        when(partyGroupMembershipRepository.findById(partyGroupMembershipId)).thenReturn(Mono.just(partyGroupMembership));
+        when(partyGroupMembershipMapper.toEntity(partyGroupMembershipDTO)).thenReturn(moved);
+        when(partyGroupMembershipRepository.save(moved)).thenReturn(Mono.just(moved));
+        when(partyGroupMembershipRepository.adjustActiveMemberCount(any(), anyLong())).thenReturn(Mono.just(1));
+        when(partyGroupMembershipMapper.toDTO(moved)).thenReturn(partyGroupMembershipDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyGroupMembershipService.updatePartyGroupMembership(partyId, partyGroupMembershipId, partyGroupMembershipDTO))
+                .expectNext(partyGroupMembershipDTO)
+                .verifyComplete();
+
+        verify(partyGroupMembershipRepository).adjustActiveMemberCount(oldGroupId, 0L);
+        verify(partyGroupMembershipRepository).adjustActiveMemberCount(newGroupId, 0L);
+        verify(partyGroupMembershipRepository).adjustActiveMemberCount(oldGroupId, -1L);
+        verify(partyGroupMembershipRepository).adjustActiveMemberCount(newGroupId, 1L);
+    }
+
+    @Test
+    void updatePartyGroupMembership_ShouldNotTouchCount_WhenActiveMembershipStaysInGroup() {
+        // Arrange
+        UUID groupId = UUID.fromString("123e4567-e89b-12d3-a456-426614174010");
+        partyGroupMembership.setGroupId(groupId);
+        partyGroupMembership.setIsActive(true);
+        PartyGroupMembership unchanged = new PartyGroupMembership();
+        unchanged.setGroupId(groupId);
+        unchanged.setIsActive(true);
+        when(partyGroupMembershipRepository.findById(partyGroupMembershipId)).thenReturn(Mono.just(partyGroupMembership));
+        when(partyGroupMembershipMapper.toEntity(partyGroupMembershipDTO)).thenReturn(unchanged);
+        when(partyGroupMembershipRepository.save(unchanged)).thenReturn(Mono.just(unchanged));
+        when(partyGroupMembershipMapper.toDTO(unchanged)).thenReturn(partyGroupMembershipDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyGroupMembershipService.updatePartyGroupMembership(partyId, partyGroupMembershipId, partyGroupMembershipDTO))
+                .expectNext(partyGroupMembershipDTO)
+                .verifyComplete();
+
+        verify(partyGroupMembershipRepository, never()).adjustActiveMemberCount(any(), anyLong());
+    }
+
+    @Test
+    void deletePartyGroupMembership_ShouldDecrementGroupSize_WhenMembershipActive() {
+        // Arrange
+        UUID groupId = UUID.fromString("123e4567-e89b-12d3-a456-426614174010");
+        partyGroupMembership.setGroupId(groupId);
+        partyGroupMembership.setIsActive(true);
+        when(partyGroupMembershipRepository.findById(partyGroupMembershipId)).thenReturn(Mono.just(partyGroupMembership));
+        when(partyGroupMembershipRepository.deleteById(partyGroupMembershipId)).thenReturn(Mono.empty());
+        when(partyGroupMembershipRepository.adjustActiveMemberCount(eq(groupId), anyLong())).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(partyGroupMembershipService.deletePartyGroupMembership(partyId, partyGroupMembershipId))
+                .verifyComplete();
+
+        verify(partyGroupMembershipRepository).adjustActiveMemberCount(groupId, -1L);
+    }
+
+    @Test
+    void streamGroupMembers_ShouldStartFromBeginning_WhenNoResumePoint() {
+        // Arrange
+        UUID groupId = UUID.fromString("123e4567-e89b-12d3-a456-426614174010");
+        when(partyGroupMembershipRepository.streamActiveMembers(groupId, PartyGroupMembershipServiceImpl.STREAM_START))
+                .thenReturn(Flux.just(partyGroupMembership));
+        when(partyGroupMembershipMapper.toDTO(partyGroupMembership)).thenReturn(partyGroupMembershipDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyGroupMembershipService.streamGroupMembers(groupId, true, null, null))
+                .expectNext(partyGroupMembershipDTO)
+                .verifyComplete();
+
+        verify(partyGroupMembershipRepository, never()).streamMembers(any(), any(), any());
+    }
+
+    @Test
+    void streamGroupMembers_ShouldResumeAfterMembership_WhenResumePointGiven() {
+        // Arrange
+        UUID groupId = UUID.fromString("123e4567-e89b-12d3-a456-426614174010");
+        UUID membershipId = UUID.fromString("123e4567-e89b-12d3-a456-426614174011");
+        when(partyGroupMembershipRepository.streamMembers(groupId, partyId, membershipId)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(partyGroupMembershipService.streamGroupMembers(groupId, false, partyId, membershipId))
+                .verifyComplete();
+
+        verify(partyGroupMembershipRepository, never()).streamActiveMembers(any(), any());
+    }
+
+    @Test
+    void streamGroupMembers_ShouldSkipWholeParty_WhenOnlyPartyGiven() {
+        // Arrange
+        UUID groupId = UUID.fromString("123e4567-e89b-12d3-a456-426614174010");
+        when(partyGroupMembershipRepository.streamMembers(groupId, partyId, PartyGroupMembershipServiceImpl.PARTY_END))
+                .thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(partyGroupMembershipService.streamGroupMembers(groupId, false, partyId, null))
+                .verifyComplete();
+
+        verify(partyGroupMembershipRepository).streamMembers(groupId, partyId, PartyGroupMembershipServiceImpl.PARTY_END);
+    }
+
+    @Test
+    void getGroupSize_ShouldReturnZero_WhenGroupHasNoCounter() {
+        // Arrange
+        UUID groupId = UUID.fromString("123e4567-e89b-12d3-a456-426614174010");
+        when(partyGroupMembershipRepository.findActiveMemberCount(groupId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(partyGroupMembershipService.getGroupSize(groupId))
+                .expectNext(PartyGroupSizeDTO.builder().groupId(groupId).activeMembers(0L).build())
+                .verifyComplete();
+    }
+
+    @Test
+    void addGroupMembers_ShouldCountAddedMembersOnly_WhenSomeAlreadyActive() {
+        // Arrange
+        UUID groupId = UUID.fromString("123e4567-e89b-12d3-a456-426614174010");
+        UUID addedPartyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174020");
+        UUID existingPartyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174021");
+        LocalDateTime startDate = LocalDateTime.of(2025, 1, 1, 0, 0);
+        PartyGroupMembersRequestDTO request = PartyGroupMembersRequestDTO.builder()
+                .partyIds(List.of(addedPartyId, existingPartyId, addedPartyId))
+                .effectiveDate(startDate)
+                .build();
+        PartyGroupMembershipResult added = new PartyGroupMembershipResult(addedPartyId, partyGroupMembershipId, MembershipOutcome.ADDED);
+        PartyGroupMembershipResult skipped = new PartyGroupMembershipResult(existingPartyId, null, MembershipOutcome.ALREADY_ACTIVE);
+        PartyGroupMembershipResultDTO addedDTO = PartyGroupMembershipResultDTO.builder().partyId(addedPartyId).outcome(MembershipOutcome.ADDED).build();
+        PartyGroupMembershipResultDTO skippedDTO = PartyGroupMembershipResultDTO.builder().partyId(existingPartyId).outcome(MembershipOutcome.ALREADY_ACTIVE).build();
+        when(partyGroupMembershipRepository.adjustActiveMemberCount(eq(groupId), anyLong())).thenReturn(Mono.just(1));
+        when(partyGroupMembershipRepository.addMembers(eq(groupId), aryEq(new UUID[]{addedPartyId, existingPartyId}), eq(startDate), isNull()))
+                .thenReturn(Flux.just(added, skipped));
+        when(partyGroupMembershipMapper.toResultDTO(added)).thenReturn(addedDTO);
+        when(partyGroupMembershipMapper.toResultDTO(skipped)).thenReturn(skippedDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyGroupMembershipService.addGroupMembers(groupId, request))
+                .expectNext(addedDTO, skippedDTO)
+                .verifyComplete();
+
+        verify(partyGroupMembershipRepository).adjustActiveMemberCount(groupId, 0L);
+        verify(partyGroupMembershipRepository).adjustActiveMemberCount(groupId, 1L);
+    }
+
+    @Test
+    void endGroupMemberships_ShouldLeaveCountUnchanged_WhenNothingWasActive() {
+        // Arrange
+        UUID groupId = UUID.fromString("123e4567-e89b-12d3-a456-426614174010");
+        PartyGroupMembersRequestDTO request = PartyGroupMembersRequestDTO.builder()
+                .partyIds(List.of(partyId))
+                .build();
+        PartyGroupMembershipResult notActive = new PartyGroupMembershipResult(partyId, null, MembershipOutcome.NOT_ACTIVE);
+        PartyGroupMembershipResultDTO notActiveDTO = PartyGroupMembershipResultDTO.builder().partyId(partyId).outcome(MembershipOutcome.NOT_ACTIVE).build();
+        when(partyGroupMembershipRepository.adjustActiveMemberCount(groupId, 0L)).thenReturn(Mono.just(1));
+        when(partyGroupMembershipRepository.endMembers(eq(groupId), aryEq(new UUID[]{partyId}), any(LocalDateTime.class)))
+                .thenReturn(Flux.just(notActive));
+        when(partyGroupMembershipMapper.toResultDTO(notActive)).thenReturn(notActiveDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyGroupMembershipService.endGroupMemberships(groupId, request))
+                .expectNext(notActiveDTO)
+                .verifyComplete();
+
+        verify(partyGroupMembershipRepository, times(1)).adjustActiveMemberCount(any(), anyLong());
+    }
+
+    @Test
+    void endGroupMemberships_ShouldDecrementCountByEndedMemberships() {
+        // Arrange
+        UUID groupId = UUID.fromString("123e4567-e89b-12d3-a456-426614174010");
+        UUID otherPartyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174020");
+        PartyGroupMembersRequestDTO request = PartyGroupMembersRequestDTO.builder()
+                .partyIds(List.of(partyId, otherPartyId))
+                .build();
+        PartyGroupMembershipResult first = new PartyGroupMembershipResult(partyId, partyGroupMembershipId, MembershipOutcome.ENDED);
+        PartyGroupMembershipResult second = new PartyGroupMembershipResult(otherPartyId, UUID.randomUUID(), MembershipOutcome.ENDED);
+        when(partyGroupMembershipRepository.adjustActiveMemberCount(eq(groupId), anyLong())).thenReturn(Mono.just(1));
+        when(partyGroupMembershipRepository.endMembers(eq(groupId), any(UUID[].class), any(LocalDateTime.class)))
+                .thenReturn(Flux.just(first, second));
+        when(partyGroupMembershipMapper.toResultDTO(any(PartyGroupMembershipResult.class)))
+                .thenReturn(new PartyGroupMembershipResultDTO());
+
+        // Act & Assert
+        StepVerifier.create(partyGroupMembershipService.endGroupMemberships(groupId, request))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        verify(partyGroupMembershipRepository).adjustActiveMemberCount(groupId, -2L);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.services.impl;
+
+import com.firefly.core.customer.core.graph.SharedAttributeIndexer;
+import com.firefly.core.customer.interfaces.dtos.SharedAttributeClusterDTO;
+import com.firefly.core.customer.interfaces.dtos.SharedAttributeLinkDTO;
+import com.firefly.core.customer.interfaces.enums.SharedAttributeKind;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.*;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class PartyLinkAnalysisServiceImplTest {
+
+    @Mock
+    private SharedAttributeIndexer sharedAttributeIndexer;
+
+    @InjectMocks
+    private PartyLinkAnalysisServiceImpl partyLinkAnalysisService;
+
+    private UUID partyId;
+    private UUID otherPartyId;
+
+    @BeforeEach
+    void setUp() {
+        partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+        otherPartyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+    }
+
+    @Test
+    void getSharedAttributeLinks_ShouldReturnLinksFromIndex_WhenPartySharesAttributes() {
+        // Arrange
+        SharedAttributeLinkDTO link = new SharedAttributeLinkDTO(SharedAttributeKind.PHONE, List.of(otherPartyId), false);
+        when(sharedAttributeIndexer.linksOf(partyId, 100)).thenReturn(List.of(link));
+
+        // Act & Assert
+        StepVerifier.create(partyLinkAnalysisService.getSharedAttributeLinks(partyId, 100))
+                .expectNext(link)
+                .verifyComplete();
+    }
+
+    @Test
+    void getSharedAttributeLinks_ShouldClampLimit_WhenLimitIsTooLarge() {
+        // Arrange
+        when(sharedAttributeIndexer.linksOf(partyId, PartyLinkAnalysisServiceImpl.MAX_LINKED_PARTIES)).thenReturn(List.of());
+
+        // Act & Assert
+        StepVerifier.create(partyLinkAnalysisService.getSharedAttributeLinks(partyId, 1_000_000))
+                .verifyComplete();
+
+        verify(sharedAttributeIndexer).linksOf(partyId, PartyLinkAnalysisServiceImpl.MAX_LINKED_PARTIES);
+    }
+
+    @Test
+    void getSharedAttributeClusters_ShouldReturnClustersFromIndex_WhenClustersExist() {
+        // Arrange
+        SharedAttributeClusterDTO cluster = new SharedAttributeClusterDTO(2, List.of(partyId, otherPartyId),
+                Set.of(SharedAttributeKind.EMAIL), 1);
+        when(sharedAttributeIndexer.clusters(2, 10)).thenReturn(List.of(cluster));
+
+        // Act & Assert
+        StepVerifier.create(partyLinkAnalysisService.getSharedAttributeClusters(2, 10))
+                .expectNext(cluster)
+                .verifyComplete();
+    }
+
+    @Test
+    void getSharedAttributeClusters_ShouldClampArguments_WhenOutOfRange() {
+        // Arrange
+        when(sharedAttributeIndexer.clusters(2, PartyLinkAnalysisServiceImpl.MAX_CLUSTERS)).thenReturn(List.of());
+
+        // Act & Assert
+        StepVerifier.create(partyLinkAnalysisService.getSharedAttributeClusters(0, Integer.MAX_VALUE))
+                .verifyComplete();
+
+        verify(sharedAttributeIndexer).clusters(2, PartyLinkAnalysisServiceImpl.MAX_CLUSTERS);
+    }
+}
\ No newline at end of file
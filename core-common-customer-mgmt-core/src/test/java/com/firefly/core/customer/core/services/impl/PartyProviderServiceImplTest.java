@@ -20,6 +20,7 @@ package com.firefly.core.customer.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.core.cache.PartyProviderReferenceCache;
 import com.firefly.core.customer.core.mappers.PartyProviderMapper;
 import com.firefly.core.customer.interfaces.dtos.PartyProviderDTO;
 import com.firefly.core.customer.models.entities.PartyProvider;
@@ -31,10 +32,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -49,6 +52,9 @@ class PartyProviderServiceImplTest {
     @Mock
     private PartyProviderMapper partyProviderMapper;
 
+    @Mock
+    private PartyProviderReferenceCache referenceCache;
+
     @InjectMocks
     private PartyProviderServiceImpl partyProviderService;
 
@@ -59,11 +65,15 @@ class PartyProviderServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(partyProviderRepository.notifyReferenceChanged(any(), any())).thenReturn(Mono.just(1L));
+
         partyProviderId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
         partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
         
         partyProvider = new PartyProvider();
         partyProvider.setPartyProviderId(partyProviderId);
+        partyProvider.setProviderName("CRM");
+        partyProvider.setExternalReference("EXT-1");
         partyProvider.setCreatedAt(LocalDateTime.now());
         partyProvider.setUpdatedAt(LocalDateTime.now());
 
@@ -106,6 +116,8 @@ class PartyProviderServiceImplTest {
 
         verify(partyProviderMapper).toEntity(partyProviderDTO);
         verify(partyProviderRepository).save(partyProvider);
+        verify(partyProviderRepository).notifyReferenceChanged("CRM", "EXT-1");
+        verify(referenceCache).invalidate("CRM", "EXT-1");
         verify(partyProviderMapper).toDTO(partyProvider);
     }
 
@@ -179,6 +191,8 @@ class PartyProviderServiceImplTest {
 
         verify(partyProviderRepository).findById(partyProviderId);
         verify(partyProviderRepository).deleteById(partyProviderId);
+        verify(partyProviderRepository).notifyReferenceChanged("CRM", "EXT-1");
+        verify(referenceCache).invalidate("CRM", "EXT-1");
     }
 
     @Test
@@ -210,6 +224,7 @@ class PartyProviderServiceImplTest {
 
         verify(partyProviderRepository).findById(partyProviderId);
         verify(partyProviderRepository).deleteById(partyProviderId);
+        verify(referenceCache, never()).invalidate(any(), any());
     }
 
     @Test
@@ -256,4 +271,82 @@ class PartyProviderServiceImplTest {
         verify(partyProviderRepository).findById(partyProviderId);
         verify(partyProviderMapper, never()).toDTO(any());
     }
+
+    @Test
+    void resolveExternalReference_ShouldReturnCachedPartyId_WhenCacheHit() {
+        // Arrange
+        when(referenceCache.lookup("CRM", "EXT-1")).thenReturn(new PartyProviderReferenceCache.Entry(partyId));
+
+        // Act & Assert
+        StepVerifier.create(partyProviderService.resolveExternalReference("CRM", "EXT-1"))
+                .expectNextMatches(resolution -> resolution.getResolved() && partyId.equals(resolution.getPartyId()))
+                .verifyComplete();
+
+        verify(partyProviderRepository, never()).findByProviderNameAndExternalReference(any(), any());
+    }
+
+    @Test
+    void resolveExternalReference_ShouldReturnEmpty_WhenNegativeCacheHit() {
+        // Arrange
+        when(referenceCache.lookup("CRM", "EXT-1")).thenReturn(new PartyProviderReferenceCache.Entry(null));
+
+        // Act & Assert
+        StepVerifier.create(partyProviderService.resolveExternalReference("CRM", "EXT-1"))
+                .verifyComplete();
+
+        verify(partyProviderRepository, never()).findByProviderNameAndExternalReference(any(), any());
+    }
+
+    @Test
+    void resolveExternalReference_ShouldQueryRepositoryAndCache_WhenCacheMiss() {
+        // Arrange
+        partyProvider.setPartyId(partyId);
+        when(referenceCache.lookup("CRM", "EXT-1")).thenReturn(null);
+        when(partyProviderRepository.findByProviderNameAndExternalReference("CRM", "EXT-1")).thenReturn(Mono.just(partyProvider));
+
+        // Act & Assert
+        StepVerifier.create(partyProviderService.resolveExternalReference("CRM", "EXT-1"))
+                .expectNextMatches(resolution -> resolution.getResolved() && partyId.equals(resolution.getPartyId()))
+                .verifyComplete();
+
+        verify(referenceCache).putResolved("CRM", "EXT-1", partyId, 0L);
+    }
+
+    @Test
+    void resolveExternalReference_ShouldCacheMiss_WhenReferenceNotMapped() {
+        // Arrange
+        when(referenceCache.lookup("CRM", "EXT-1")).thenReturn(null);
+        when(partyProviderRepository.findByProviderNameAndExternalReference("CRM", "EXT-1")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(partyProviderService.resolveExternalReference("CRM", "EXT-1"))
+                .verifyComplete();
+
+        verify(referenceCache).putUnresolved("CRM", "EXT-1", 0L);
+    }
+
+    @Test
+    void resolveExternalReferences_ShouldCombineCacheAndRepository_InRequestOrder() {
+        // Arrange
+        UUID otherPartyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        PartyProvider mapped = new PartyProvider();
+        mapped.setPartyId(otherPartyId);
+        mapped.setExternalReference("EXT-2");
+
+        when(referenceCache.lookup("CRM", "EXT-1")).thenReturn(new PartyProviderReferenceCache.Entry(partyId));
+        when(referenceCache.lookup("CRM", "EXT-2")).thenReturn(null);
+        when(referenceCache.lookup("CRM", "EXT-3")).thenReturn(null);
+        when(partyProviderRepository.findByProviderNameAndExternalReferenceIn("CRM", List.of("EXT-2", "EXT-3")))
+                .thenReturn(Flux.just(mapped));
+
+        // Act & Assert
+        StepVerifier.create(partyProviderService.resolveExternalReferences("CRM", List.of("EXT-1", "EXT-2", "EXT-3", "EXT-1")))
+                .expectNextMatches(resolution -> "EXT-1".equals(resolution.getExternalReference()) && partyId.equals(resolution.getPartyId()))
+                .expectNextMatches(resolution -> "EXT-2".equals(resolution.getExternalReference()) && otherPartyId.equals(resolution.getPartyId()))
+                .expectNextMatches(resolution -> "EXT-3".equals(resolution.getExternalReference()) && !resolution.getResolved())
+                .verifyComplete();
+
+        verify(referenceCache).putResolved("CRM", "EXT-2", otherPartyId, 0L);
+        verify(referenceCache).putUnresolved("CRM", "EXT-3", 0L);
+    }
 }
\ No newline at end of file
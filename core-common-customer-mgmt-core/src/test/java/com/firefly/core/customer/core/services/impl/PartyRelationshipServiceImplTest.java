@@ -20,9 +20,20 @@ package com.firefly.core.customer.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.core.graph.PartyNetworkIndexer;
+import com.firefly.core.customer.core.graph.PartyRelationshipGraphIndexer;
 import com.firefly.core.customer.core.mappers.PartyRelationshipMapper;
+import com.firefly.core.customer.interfaces.dtos.PartyConnectionDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyNetworkDTO;
 import com.firefly.core.customer.interfaces.dtos.PartyRelationshipDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyRelationshipEdgeDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyRelationshipSummaryDTO;
+import com.firefly.core.customer.interfaces.enums.RelationshipDirection;
+import com.firefly.core.customer.models.entities.PartyNetworkComponent;
 import com.firefly.core.customer.models.entities.PartyRelationship;
+import com.firefly.core.customer.models.projections.PartyRelationshipEdge;
+import com.firefly.core.customer.models.projections.PartyRelationshipSummary;
+import com.firefly.core.customer.models.repositories.PartyNetworkComponentRepository;
 import com.firefly.core.customer.models.repositories.PartyRelationshipRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,11 +42,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import java.util.UUID;
@@ -49,6 +67,15 @@ class PartyRelationshipServiceImplTest {
     @Mock
     private PartyRelationshipMapper partyRelationshipMapper;
 
+    @Mock
+    private PartyRelationshipGraphIndexer partyRelationshipGraphIndexer;
+
+    @Mock
+    private PartyNetworkIndexer partyNetworkIndexer;
+
+    @Mock
+    private PartyNetworkComponentRepository partyNetworkComponentRepository;
+
     @InjectMocks
     private PartyRelationshipServiceImpl partyRelationshipService;
 
@@ -69,6 +96,9 @@ class PartyRelationshipServiceImplTest {
         partyRelationshipDTO.setPartyRelationshipId(partyRelationshipId);
         partyRelationshipDTO.setCreatedAt(LocalDateTime.now());
         partyRelationshipDTO.setUpdatedAt(LocalDateTime.now());
+
+        lenient().when(partyNetworkIndexer.apply(any(), any())).thenReturn(Mono.empty());
+        lenient().when(partyRelationshipGraphIndexer.refreshAfterCommit(any())).thenReturn(Mono.empty());
     }
 
     @Test
@@ -177,6 +207,7 @@ class PartyRelationshipServiceImplTest {
 
         verify(partyRelationshipRepository).findById(partyRelationshipId);
         verify(partyRelationshipRepository).deleteById(partyRelationshipId);
+        verify(partyRelationshipGraphIndexer).refreshAfterCommit(List.of(partyRelationshipId));
     }
 
     @Test
@@ -254,4 +285,290 @@ class PartyRelationshipServiceImplTest {
         verify(partyRelationshipRepository).findById(partyRelationshipId);
         verify(partyRelationshipMapper, never()).toDTO(any());
     }
+
+    @Test
+    void traversePartyRelationships_ShouldStreamEdges_WhenFollowingOutgoingRelationships() {
+        // Arrange
+        UUID partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        UUID toPartyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174004");
+        UUID relationshipTypeId = UUID.fromString("123e4567-e89b-12d3-a456-426614174003");
+        PartyRelationshipEdge edge = new PartyRelationshipEdge(partyRelationshipId, partyId, toPartyId,
+                relationshipTypeId, LocalDateTime.now(), null, true, null);
+        PartyRelationshipEdgeDTO edgeDTO = PartyRelationshipEdgeDTO.builder()
+                .partyRelationshipId(partyRelationshipId)
+                .depth(1)
+                .build();
+        when(partyRelationshipRepository.findEdgesOfParties(aryEq(new UUID[]{partyId}), eq(true), eq(false),
+                aryEq(new UUID[]{relationshipTypeId}), eq(true), aryEq(new UUID[0]), anyInt()))
+                .thenReturn(Flux.just(edge));
+        when(partyRelationshipRepository.findEdgesOfParties(aryEq(new UUID[]{toPartyId}), eq(true), eq(false),
+                aryEq(new UUID[]{relationshipTypeId}), eq(true), aryEq(new UUID[]{partyRelationshipId}), anyInt()))
+                .thenReturn(Flux.empty());
+        when(partyRelationshipMapper.toEdgeDTO(edge)).thenReturn(edgeDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyRelationshipService.traversePartyRelationships(
+                        partyId, RelationshipDirection.OUTGOING, 3, List.of(relationshipTypeId), true))
+                .expectNext(edgeDTO)
+                .verifyComplete();
+
+        assertEquals(1, edge.getDepth());
+    }
+
+    @Test
+    void traversePartyRelationships_ShouldFollowBothDirectionsWithoutTypeFilter_WhenNoTypesGiven() {
+        // Arrange
+        UUID partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        when(partyRelationshipRepository.findEdgesOfParties(aryEq(new UUID[]{partyId}), eq(true), eq(true),
+                isNull(), eq(false), aryEq(new UUID[0]), eq(PartyRelationshipServiceImpl.MAX_TRAVERSAL_EDGES)))
+                .thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(partyRelationshipService.traversePartyRelationships(
+                        partyId, RelationshipDirection.BOTH, 50, List.of(), false))
+                .verifyComplete();
+
+        verify(partyRelationshipRepository).findEdgesOfParties(aryEq(new UUID[]{partyId}), eq(true), eq(true),
+                isNull(), eq(false), aryEq(new UUID[0]), eq(PartyRelationshipServiceImpl.MAX_TRAVERSAL_EDGES));
+    }
+
+    @Test
+    void traversePartyRelationships_ShouldQueryOncePerLevel_WhenGraphIsDenseAndCyclic() {
+        // Arrange: every party is related to every other party in both directions
+        List<UUID> parties = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            parties.add(new UUID(0L, i + 1L));
+        }
+        List<PartyRelationshipEdge> graph = new ArrayList<>();
+        for (UUID from : parties) {
+            for (UUID to : parties) {
+                if (!from.equals(to)) {
+                    graph.add(new PartyRelationshipEdge(UUID.randomUUID(), from, to, null,
+                            LocalDateTime.now(), null, true, null));
+                }
+            }
+        }
+        when(partyRelationshipRepository.findEdgesOfParties(any(), anyBoolean(), anyBoolean(), any(), anyBoolean(),
+                any(), anyInt()))
+                .thenAnswer(invocation -> {
+                    Set<UUID> frontier = Set.of(invocation.<UUID[]>getArgument(0));
+                    Set<UUID> excluded = Set.of(invocation.<UUID[]>getArgument(5));
+                    int limit = invocation.getArgument(6);
+                    return Flux.fromIterable(graph)
+                            .filter(edge -> frontier.contains(edge.getFromPartyId())
+                                    || frontier.contains(edge.getToPartyId()))
+                            .filter(edge -> !excluded.contains(edge.getPartyRelationshipId()))
+                            .take(limit)
+                            .map(edge -> new PartyRelationshipEdge(edge.getPartyRelationshipId(),
+                                    edge.getFromPartyId(), edge.getToPartyId(), null,
+                                    edge.getStartDate(), null, true, null));
+                });
+        when(partyRelationshipMapper.toEdgeDTO(any())).thenAnswer(invocation -> {
+            PartyRelationshipEdge edge = invocation.getArgument(0);
+            return PartyRelationshipEdgeDTO.builder()
+                    .partyRelationshipId(edge.getPartyRelationshipId())
+                    .depth(edge.getDepth())
+                    .build();
+        });
+
+        // Act & Assert
+        StepVerifier.create(partyRelationshipService.traversePartyRelationships(
+                        parties.get(0), RelationshipDirection.BOTH, 10, null, false)
+                        .collectList())
+                .assertNext(edges -> {
+                    assertEquals(graph.size(), edges.size());
+                    assertEquals(graph.size(), edges.stream()
+                            .map(PartyRelationshipEdgeDTO::getPartyRelationshipId)
+                            .distinct()
+                            .count());
+                    assertEquals(2 * (parties.size() - 1), edges.stream()
+                            .filter(edge -> edge.getDepth() == 1)
+                            .count());
+                })
+                .verifyComplete();
+
+        // Every party is reached at the first level, so the walk ends after the second
+        verify(partyRelationshipRepository, times(2)).findEdgesOfParties(any(), anyBoolean(), anyBoolean(), any(),
+                anyBoolean(), any(), anyInt());
+    }
+
+    @Test
+    void findPartyConnection_ShouldReturnShortestPath_WhenPartiesAreConnected() {
+        // Arrange
+        UUID fromPartyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        UUID viaPartyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174003");
+        UUID toPartyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174004");
+        when(partyRelationshipGraphIndexer.shortestPath(fromPartyId, toPartyId, 3))
+                .thenReturn(List.of(fromPartyId, viaPartyId, toPartyId));
+
+        // Act & Assert
+        StepVerifier.create(partyRelationshipService.findPartyConnection(fromPartyId, toPartyId, 3))
+                .expectNext(PartyConnectionDTO.builder()
+                        .fromPartyId(fromPartyId)
+                        .toPartyId(toPartyId)
+                        .connected(true)
+                        .hops(2)
+                        .path(List.of(fromPartyId, viaPartyId, toPartyId))
+                        .build())
+                .verifyComplete();
+
+        verifyNoInteractions(partyRelationshipRepository);
+    }
+
+    @Test
+    void findPartyConnection_ShouldReturnNotConnected_WhenNoPathWithinMaxHops() {
+        // Arrange
+        UUID fromPartyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        UUID toPartyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174004");
+        when(partyRelationshipGraphIndexer.shortestPath(fromPartyId, toPartyId, PartyRelationshipServiceImpl.MAX_GRAPH_HOPS))
+                .thenReturn(List.of());
+
+        // Act & Assert
+        StepVerifier.create(partyRelationshipService.findPartyConnection(fromPartyId, toPartyId, 100))
+                .expectNextMatches(connection -> !connection.getConnected() && connection.getHops() == null)
+                .verifyComplete();
+    }
+
+    @Test
+    void createPartyRelationship_ShouldIndexRelationshipInGraph() {
+        // Arrange
+        when(partyRelationshipMapper.toEntity(partyRelationshipDTO)).thenReturn(partyRelationship);
+        when(partyRelationshipRepository.save(partyRelationship)).thenReturn(Mono.just(partyRelationship));
+        when(partyRelationshipMapper.toDTO(partyRelationship)).thenReturn(partyRelationshipDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyRelationshipService.createPartyRelationship(partyRelationshipDTO))
+                .expectNext(partyRelationshipDTO)
+                .verifyComplete();
+
+        verify(partyRelationshipGraphIndexer).refreshAfterCommit(List.of(partyRelationshipId));
+    }
+
+    @Test
+    void getRelationshipsOfParty_ShouldUseActiveQuery_WhenActiveOnly() {
+        // Arrange
+        UUID partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        PartyRelationshipSummary summary = new PartyRelationshipSummary();
+        summary.setPartyRelationshipId(partyRelationshipId);
+        summary.setDirection(RelationshipDirection.INCOMING);
+        PartyRelationshipSummaryDTO summaryDTO = PartyRelationshipSummaryDTO.builder()
+                .partyRelationshipId(partyRelationshipId)
+                .direction(RelationshipDirection.INCOMING)
+                .build();
+        when(partyRelationshipRepository.findActiveRelationshipsOfParty(partyId)).thenReturn(Flux.just(summary));
+        when(partyRelationshipMapper.toSummaryDTO(summary)).thenReturn(summaryDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyRelationshipService.getRelationshipsOfParty(partyId, true))
+                .expectNext(summaryDTO)
+                .verifyComplete();
+
+        verify(partyRelationshipRepository, never()).findRelationshipsOfParty(any());
+    }
+
+    @Test
+    void getRelationshipsOfParty_ShouldUseUnfilteredQuery_WhenNotActiveOnly() {
+        // Arrange
+        UUID partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        when(partyRelationshipRepository.findRelationshipsOfParty(partyId)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(partyRelationshipService.getRelationshipsOfParty(partyId, false))
+                .verifyComplete();
+
+        verify(partyRelationshipRepository, never()).findActiveRelationshipsOfParty(any());
+    }
+
+    @Test
+    void getRelationshipsOfPartyAsOf_ShouldUseAsOfQuery() {
+        // Arrange
+        UUID partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        OffsetDateTime asOf = OffsetDateTime.parse("2024-03-31T23:59:59Z");
+        PartyRelationshipSummary summary = new PartyRelationshipSummary();
+        summary.setPartyRelationshipId(partyRelationshipId);
+        summary.setDirection(RelationshipDirection.OUTGOING);
+        PartyRelationshipSummaryDTO summaryDTO = PartyRelationshipSummaryDTO.builder()
+                .partyRelationshipId(partyRelationshipId)
+                .direction(RelationshipDirection.OUTGOING)
+                .build();
+        when(partyRelationshipRepository.findRelationshipsOfPartyAsOf(partyId, asOf)).thenReturn(Flux.just(summary));
+        when(partyRelationshipMapper.toSummaryDTO(summary)).thenReturn(summaryDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyRelationshipService.getRelationshipsOfPartyAsOf(partyId, asOf))
+                .expectNext(summaryDTO)
+                .verifyComplete();
+
+        verify(partyRelationshipRepository, never()).findRelationshipsOfParty(any());
+        verify(partyRelationshipRepository, never()).findActiveRelationshipsOfParty(any());
+    }
+
+    @Test
+    void createPartyRelationship_ShouldUpdateNetworkComponents() {
+        // Arrange
+        when(partyRelationshipMapper.toEntity(partyRelationshipDTO)).thenReturn(partyRelationship);
+        when(partyRelationshipRepository.save(partyRelationship)).thenReturn(Mono.just(partyRelationship));
+        when(partyRelationshipMapper.toDTO(partyRelationship)).thenReturn(partyRelationshipDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyRelationshipService.createPartyRelationship(partyRelationshipDTO))
+                .expectNext(partyRelationshipDTO)
+                .verifyComplete();
+
+        verify(partyNetworkIndexer).apply(null, partyRelationship);
+    }
+
+    @Test
+    void deletePartyRelationship_ShouldUpdateNetworkComponents() {
+        // Arrange
+        when(partyRelationshipRepository.findById(partyRelationshipId)).thenReturn(Mono.just(partyRelationship));
+        when(partyRelationshipRepository.deleteById(partyRelationshipId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(partyRelationshipService.deletePartyRelationship(partyRelationshipId))
+                .verifyComplete();
+
+        verify(partyNetworkIndexer).apply(partyRelationship, null);
+    }
+
+    @Test
+    void getPartyNetwork_ShouldReturnComponentMembers_WhenPartyHasComponent() {
+        // Arrange
+        UUID partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        UUID otherPartyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174003");
+        UUID componentId = UUID.fromString("123e4567-e89b-12d3-a456-426614174099");
+        PartyNetworkComponent component = PartyNetworkComponent.builder()
+                .partyId(partyId)
+                .componentId(componentId)
+                .build();
+        when(partyNetworkComponentRepository.findById(partyId)).thenReturn(Mono.just(component));
+        when(partyNetworkComponentRepository.countByComponentId(componentId)).thenReturn(Mono.just(2L));
+        when(partyNetworkComponentRepository.findPartyIdsByComponentId(componentId, PartyRelationshipServiceImpl.MAX_NETWORK_SIZE))
+                .thenReturn(Flux.just(partyId, otherPartyId));
+
+        // Act & Assert
+        StepVerifier.create(partyRelationshipService.getPartyNetwork(partyId, Integer.MAX_VALUE))
+                .expectNextMatches(network -> componentId.equals(network.getComponentId())
+                        && network.getSize() == 2L
+                        && network.getPartyIds().equals(List.of(partyId, otherPartyId)))
+                .verifyComplete();
+    }
+
+    @Test
+    void getPartyNetwork_ShouldReturnPartyAlone_WhenPartyHasNoComponent() {
+        // Arrange
+        UUID partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        when(partyNetworkComponentRepository.findById(partyId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(partyRelationshipService.getPartyNetwork(partyId, 100))
+                .expectNext(PartyNetworkDTO.builder()
+                        .partyId(partyId)
+                        .size(1L)
+                        .partyIds(List.of(partyId))
+                        .build())
+                .verifyComplete();
+
+        verify(partyNetworkComponentRepository, never()).countByComponentId(any());
+    }
 }
\ No newline at end of file
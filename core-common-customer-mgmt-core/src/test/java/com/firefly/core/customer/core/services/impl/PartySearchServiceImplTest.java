@@ -0,0 +1,190 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.services.impl;
+
+import com.firefly.core.customer.core.mappers.PartySearchMapper;
+import com.firefly.core.customer.core.search.PartySearchIndexRebuilder;
+import com.firefly.core.customer.core.search.PartyTypeaheadIndexer;
+import com.firefly.core.customer.interfaces.dtos.PartySearchResultDTO;
+import com.firefly.core.customer.interfaces.enums.PartyKind;
+import com.firefly.core.customer.models.projections.PartySearchHit;
+import com.firefly.core.customer.models.repositories.PartySearchDocumentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import java.util.List;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class PartySearchServiceImplTest {
+
+    @Mock
+    private PartySearchDocumentRepository partySearchDocumentRepository;
+
+    @Mock
+    private PartySearchMapper partySearchMapper;
+
+    @Mock
+    private PartyTypeaheadIndexer partyTypeaheadIndexer;
+
+    @Mock
+    private PartySearchIndexRebuilder partySearchIndexRebuilder;
+
+    @InjectMocks
+    private PartySearchServiceImpl partySearchService;
+
+    private UUID tenantId;
+    private PartySearchHit partySearchHit;
+    private PartySearchResultDTO partySearchResultDTO;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        UUID partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+
+        partySearchHit = new PartySearchHit(partyId, PartyKind.INDIVIDUAL, "John Smith", 0.8);
+        partySearchResultDTO = new PartySearchResultDTO(partyId, PartyKind.INDIVIDUAL, "John Smith", 0.8);
+    }
+
+    @Test
+    void searchParties_ShouldQueryWithPrefixTerms_WhenQueryHasTerms() {
+        // Arrange
+        when(partySearchDocumentRepository.search(tenantId, "'john':* & 'madrid':*", 20)).thenReturn(Flux.just(partySearchHit));
+        when(partySearchMapper.toDTO(partySearchHit)).thenReturn(partySearchResultDTO);
+
+        // Act & Assert
+        StepVerifier.create(partySearchService.searchParties(tenantId, "John, Madrid", 20))
+                .expectNext(partySearchResultDTO)
+                .verifyComplete();
+
+        verify(partySearchDocumentRepository).search(tenantId, "'john':* & 'madrid':*", 20);
+    }
+
+    @Test
+    void searchParties_ShouldNormalizePhoneNumbers_WhenQueryContainsPhoneNumber() {
+        // Arrange
+        when(partySearchDocumentRepository.search(tenantId, "'34600123456':*", 20)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(partySearchService.searchParties(tenantId, "+34 600 12 34 56", 20))
+                .verifyComplete();
+
+        verify(partySearchDocumentRepository).search(tenantId, "'34600123456':*", 20);
+    }
+
+    @Test
+    void searchParties_ShouldCapLimit_WhenLimitTooLarge() {
+        // Arrange
+        when(partySearchDocumentRepository.search(tenantId, "'smith':*", PartySearchServiceImpl.MAX_LIMIT)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(partySearchService.searchParties(tenantId, "smith", 10_000))
+                .verifyComplete();
+
+        verify(partySearchDocumentRepository).search(tenantId, "'smith':*", PartySearchServiceImpl.MAX_LIMIT);
+    }
+
+    @Test
+    void searchParties_ShouldReturnEmpty_WhenQueryHasNoSearchableTerms() {
+        // Act & Assert
+        StepVerifier.create(partySearchService.searchParties(tenantId, " ;, ", 20))
+                .verifyComplete();
+
+        verify(partySearchDocumentRepository, never()).search(any(), any(), anyInt());
+    }
+
+    @Test
+    void searchPartiesPhonetically_ShouldQueryWithPhoneticKeys_WhenQueryHasNames() {
+        // Arrange
+        String[] keys = {"JN", "AN", "SM0", "XMT"};
+        when(partySearchDocumentRepository.searchPhonetic(tenantId, keys, 20)).thenReturn(Flux.just(partySearchHit));
+        when(partySearchMapper.toDTO(partySearchHit)).thenReturn(partySearchResultDTO);
+
+        // Act & Assert
+        StepVerifier.create(partySearchService.searchPartiesPhonetically(tenantId, "Jon Smyth", 20))
+                .expectNext(partySearchResultDTO)
+                .verifyComplete();
+
+        verify(partySearchDocumentRepository).searchPhonetic(tenantId, keys, 20);
+    }
+
+    @Test
+    void searchPartiesPhonetically_ShouldReturnEmpty_WhenQueryHasNoNames() {
+        // Act & Assert
+        StepVerifier.create(partySearchService.searchPartiesPhonetically(tenantId, "123 456", 20))
+                .verifyComplete();
+
+        verify(partySearchDocumentRepository, never()).searchPhonetic(any(), any(), anyInt());
+    }
+
+    @Test
+    void suggestParties_ShouldReturnSuggestionsFromIndex() {
+        // Arrange
+        UUID partyId = partySearchResultDTO.getPartyId();
+        when(partyTypeaheadIndexer.suggest(tenantId, "smi", 10)).thenReturn(List.of(partyId));
+
+        // Act & Assert
+        StepVerifier.create(partySearchService.suggestParties(tenantId, "smi", 10))
+                .expectNext(partyId)
+                .verifyComplete();
+    }
+
+    @Test
+    void suggestParties_ShouldCapLimit_WhenLimitTooLarge() {
+        // Arrange
+        when(partyTypeaheadIndexer.suggest(tenantId, "smi", PartySearchServiceImpl.MAX_SUGGESTIONS)).thenReturn(List.of());
+
+        // Act & Assert
+        StepVerifier.create(partySearchService.suggestParties(tenantId, "smi", 10_000))
+                .verifyComplete();
+
+        verify(partyTypeaheadIndexer).suggest(tenantId, "smi", PartySearchServiceImpl.MAX_SUGGESTIONS);
+        verifyNoInteractions(partySearchDocumentRepository);
+    }
+
+    @Test
+    void rebuildSearchDocuments_ShouldReturnTrue_WhenRebuildStarted() {
+        // Arrange
+        when(partySearchIndexRebuilder.start()).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(partySearchService.rebuildSearchDocuments())
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    void rebuildSearchDocuments_ShouldReturnFalse_WhenRebuildAlreadyRunning() {
+        // Arrange
+        when(partySearchIndexRebuilder.start()).thenReturn(Mono.just(false));
+
+        // Act & Assert
+        StepVerifier.create(partySearchService.rebuildSearchDocuments())
+                .expectNext(false)
+                .verifyComplete();
+    }
+}
\ No newline at end of file
@@ -20,22 +20,33 @@ package com.firefly.core.customer.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.core.graph.SharedAttributeIndexer;
+import com.firefly.core.customer.core.kyc.KycReviewScheduler;
 import com.firefly.core.customer.core.mappers.PartyMapper;
+import com.firefly.core.customer.core.search.PartySearchIndexer;
+import com.firefly.core.customer.core.search.PartyTypeaheadIndexer;
 import com.firefly.core.customer.interfaces.dtos.PartyDTO;
 import com.firefly.core.customer.models.entities.Party;
+import com.firefly.core.customer.models.repositories.PartyEconomicActivityRepository;
+import com.firefly.core.customer.models.repositories.PartyGroupMembershipRepository;
 import com.firefly.core.customer.models.repositories.PartyRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import java.util.UUID;
@@ -49,6 +60,24 @@ class PartyServiceImplTest {
     @Mock
     private PartyMapper partyMapper;
 
+    @Mock
+    private PartySearchIndexer searchIndexer;
+
+    @Mock
+    private PartyTypeaheadIndexer typeaheadIndexer;
+
+    @Mock
+    private SharedAttributeIndexer sharedAttributeIndexer;
+
+    @Mock
+    private KycReviewScheduler kycReviewScheduler;
+
+    @Mock
+    private PartyEconomicActivityRepository partyEconomicActivityRepository;
+
+    @Mock
+    private PartyGroupMembershipRepository partyGroupMembershipRepository;
+
     @InjectMocks
     private PartyServiceImpl partyService;
 
@@ -58,6 +87,14 @@ class PartyServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(searchIndexer.refresh(any())).thenReturn(Mono.empty());
+        lenient().when(kycReviewScheduler.reschedule(any())).thenReturn(Mono.empty());
+        lenient().when(typeaheadIndexer.remove(any(), any())).thenReturn(Mono.empty());
+        lenient().when(sharedAttributeIndexer.refreshAfterCommit(any())).thenReturn(Mono.empty());
+        lenient().when(partyEconomicActivityRepository.adjustPartyTurnover(any(), anyInt())).thenReturn(Mono.just(1));
+        lenient().when(partyGroupMembershipRepository.lockPartyActiveMemberCounts(any())).thenReturn(Flux.empty());
+        lenient().when(partyGroupMembershipRepository.takeOffPartyActiveMemberCounts(any())).thenReturn(Mono.just(1));
+
         partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
         UUID tenantId = UUID.fromString("223e4567-e89b-12d3-a456-426614174000");
 
@@ -135,6 +172,7 @@ class PartyServiceImplTest {
         
         Party updatedParty = new Party();
         updatedParty.setPartyId(partyId);
+        updatedParty.setTenantId(party.getTenantId());
         
         when(partyRepository.findById(partyId)).thenReturn(Mono.just(party));
         when(partyMapper.toEntity(updateDTO)).thenReturn(updatedParty);
@@ -150,6 +188,31 @@ class PartyServiceImplTest {
         verify(partyMapper).toEntity(updateDTO);
         verify(partyRepository).save(updatedParty);
         verify(partyMapper).toDTO(updatedParty);
+        verify(partyEconomicActivityRepository, never()).adjustPartyTurnover(any(), anyInt());
+    }
+
+    @Test
+    void updateParty_ShouldMoveEconomicActivityTurnover_WhenTenantChanges() {
+        // Arrange
+        PartyDTO updateDTO = new PartyDTO();
+
+        Party updatedParty = new Party();
+        updatedParty.setPartyId(partyId);
+        updatedParty.setTenantId(UUID.fromString("323e4567-e89b-12d3-a456-426614174000"));
+
+        when(partyRepository.findById(partyId)).thenReturn(Mono.just(party));
+        when(partyMapper.toEntity(updateDTO)).thenReturn(updatedParty);
+        when(partyRepository.save(updatedParty)).thenReturn(Mono.just(updatedParty));
+        when(partyMapper.toDTO(updatedParty)).thenReturn(partyDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyService.updateParty(partyId, updateDTO))
+                .expectNext(partyDTO)
+                .verifyComplete();
+
+        verify(partyEconomicActivityRepository).adjustPartyTurnover(partyId, -1);
+        verify(partyRepository).save(updatedParty);
+        verify(partyEconomicActivityRepository).adjustPartyTurnover(partyId, 1);
     }
 
     @Test
@@ -171,21 +234,50 @@ class PartyServiceImplTest {
     @Test
     void deleteParty_ShouldCompleteSuccessfully_WhenPartyExists() {
         // Arrange
-        when(partyRepository.findById(partyId)).thenReturn(Mono.just(party));
+        when(partyRepository.findByIdForUpdate(partyId)).thenReturn(Mono.just(party));
         when(partyRepository.deleteById(partyId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(partyService.deleteParty(partyId))
                 .verifyComplete();
 
-        verify(partyRepository).findById(partyId);
+        verify(partyRepository).findByIdForUpdate(partyId);
+        verify(partyEconomicActivityRepository).adjustPartyTurnover(partyId, -1);
         verify(partyRepository).deleteById(partyId);
+        verify(typeaheadIndexer).remove(party.getTenantId(), partyId);
+        verify(sharedAttributeIndexer).refreshAfterCommit(Arrays.asList(partyId));
+    }
+
+    @Test
+    void deleteParty_ShouldReduceActiveMemberCounts_WhenPartyIsGroupMember() {
+        // Arrange
+        UUID groupId = UUID.fromString("323e4567-e89b-12d3-a456-426614174000");
+        AtomicLong activeMembers = new AtomicLong(3L);
+        when(partyGroupMembershipRepository.lockPartyActiveMemberCounts(partyId)).thenReturn(Flux.just(groupId));
+        when(partyRepository.findByIdForUpdate(partyId)).thenReturn(Mono.just(party));
+        when(partyGroupMembershipRepository.takeOffPartyActiveMemberCounts(partyId))
+                .thenReturn(Mono.fromCallable(() -> {
+                    activeMembers.decrementAndGet();
+                    return 1;
+                }));
+        when(partyRepository.deleteById(partyId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(partyService.deleteParty(partyId))
+                .verifyComplete();
+
+        assertEquals(2L, activeMembers.get());
+        InOrder inOrder = inOrder(partyGroupMembershipRepository, partyRepository);
+        inOrder.verify(partyGroupMembershipRepository).lockPartyActiveMemberCounts(partyId);
+        inOrder.verify(partyRepository).findByIdForUpdate(partyId);
+        inOrder.verify(partyGroupMembershipRepository).takeOffPartyActiveMemberCounts(partyId);
+        inOrder.verify(partyRepository).deleteById(partyId);
     }
 
     @Test
     void deleteParty_ShouldReturnError_WhenPartyNotFound() {
         // Arrange
-        when(partyRepository.findById(partyId)).thenReturn(Mono.empty());
+        when(partyRepository.findByIdForUpdate(partyId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(partyService.deleteParty(partyId))
@@ -193,14 +285,15 @@ class PartyServiceImplTest {
                         throwable.getMessage().equals("Party not found with ID: " + partyId))
                 .verify();
 
-        verify(partyRepository).findById(partyId);
+        verify(partyRepository).findByIdForUpdate(partyId);
+        verify(partyGroupMembershipRepository, never()).takeOffPartyActiveMemberCounts(any());
         verify(partyRepository, never()).deleteById(any(UUID.class));
     }
 
     @Test
     void deleteParty_ShouldHandleRepositoryError_WhenDeleteFails() {
         // Arrange
-        when(partyRepository.findById(partyId)).thenReturn(Mono.just(party));
+        when(partyRepository.findByIdForUpdate(partyId)).thenReturn(Mono.just(party));
         when(partyRepository.deleteById(partyId)).thenReturn(Mono.error(new RuntimeException("Delete failed")));
 
         // Act & Assert
@@ -209,7 +302,7 @@ class PartyServiceImplTest {
                         throwable.getMessage().equals("Delete failed"))
                 .verify();
 
-        verify(partyRepository).findById(partyId);
+        verify(partyRepository).findByIdForUpdate(partyId);
         verify(partyRepository).deleteById(partyId);
     }
 
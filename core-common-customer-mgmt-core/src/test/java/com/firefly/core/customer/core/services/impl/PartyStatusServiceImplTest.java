@@ -21,7 +21,9 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.customer.core.mappers.PartyStatusMapper;
+import com.firefly.core.customer.core.status.PartyStatusTransitionScheduler;
 import com.firefly.core.customer.interfaces.dtos.PartyStatusDTO;
+import com.firefly.core.customer.interfaces.enums.StatusCode;
 import com.firefly.core.customer.models.entities.PartyStatus;
 import com.firefly.core.customer.models.repositories.PartyStatusRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,13 +33,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.Mockito.*;
+import java.util.List;
 import java.util.UUID;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,6 +56,9 @@ class PartyStatusServiceImplTest {
     @Mock
     private PartyStatusMapper partyStatusMapper;
 
+    @Mock
+    private PartyStatusTransitionScheduler transitionScheduler;
+
     @InjectMocks
     private PartyStatusServiceImpl partyStatusService;
 
@@ -95,6 +105,7 @@ class PartyStatusServiceImplTest {
     @Test
     void createPartyStatus_ShouldReturnCreatedPartyStatusDTO_WhenValidPartyStatusDTO() {
         // Arrange
+        partyStatusDTO.setValidTo(LocalDateTime.now());
         when(partyStatusMapper.toEntity(partyStatusDTO)).thenReturn(partyStatus);
         when(partyStatusRepository.save(partyStatus)).thenReturn(Mono.just(partyStatus));
         when(partyStatusMapper.toDTO(partyStatus)).thenReturn(partyStatusDTO);
@@ -107,11 +118,13 @@ class PartyStatusServiceImplTest {
         verify(partyStatusMapper).toEntity(partyStatusDTO);
         verify(partyStatusRepository).save(partyStatus);
         verify(partyStatusMapper).toDTO(partyStatus);
+        verify(transitionScheduler).schedule(partyStatus);
     }
 
     @Test
     void createPartyStatus_ShouldHandleRepositoryError_WhenSaveFails() {
         // Arrange
+        partyStatusDTO.setValidTo(LocalDateTime.now());
         when(partyStatusMapper.toEntity(partyStatusDTO)).thenReturn(partyStatus);
         when(partyStatusRepository.save(partyStatus)).thenReturn(Mono.error(new RuntimeException("Database error")));
 
@@ -126,6 +139,84 @@ class PartyStatusServiceImplTest {
         verify(partyStatusMapper, never()).toDTO(any());
     }
 
+    @Test
+    void createPartyStatus_ShouldTransitionStatus_WhenStatusIsOpen() {
+        // Arrange
+        LocalDateTime validFrom = LocalDateTime.of(2025, 1, 1, 0, 0);
+        partyStatusDTO.setStatusCode(StatusCode.ACTIVE);
+        partyStatusDTO.setValidFrom(validFrom);
+        when(partyStatusRepository.transition(partyId, "ACTIVE", null, validFrom)).thenReturn(Mono.just(partyStatus));
+        when(partyStatusMapper.toDTO(partyStatus)).thenReturn(partyStatusDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyStatusService.createPartyStatus(partyId, partyStatusDTO))
+                .expectNext(partyStatusDTO)
+                .verifyComplete();
+
+        verify(partyStatusRepository).transition(partyId, "ACTIVE", null, validFrom);
+        verify(transitionScheduler).schedule(partyStatus);
+        verify(partyStatusRepository, never()).save(any());
+    }
+
+    @Test
+    void transitionPartyStatus_ShouldDefaultValidFromToNow_WhenValidFromIsMissing() {
+        // Arrange
+        partyStatusDTO.setStatusCode(StatusCode.SUSPENDED);
+        partyStatusDTO.setStatusReason("Fraud review");
+        when(partyStatusRepository.transition(eq(partyId), eq("SUSPENDED"), eq("Fraud review"), any(LocalDateTime.class)))
+                .thenReturn(Mono.just(partyStatus));
+        when(partyStatusMapper.toDTO(partyStatus)).thenReturn(partyStatusDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyStatusService.transitionPartyStatus(partyId, partyStatusDTO))
+                .expectNext(partyStatusDTO)
+                .verifyComplete();
+
+        verify(partyStatusRepository).transition(eq(partyId), eq("SUSPENDED"), eq("Fraud review"), notNull());
+    }
+
+    @Test
+    void transitionPartyStatus_ShouldReturnError_WhenAnotherStatusStartsAtTheSameTime() {
+        // Arrange
+        LocalDateTime validFrom = LocalDateTime.of(2020, 1, 1, 0, 0);
+        partyStatusDTO.setStatusCode(StatusCode.CLOSED);
+        partyStatusDTO.setValidFrom(validFrom);
+        when(partyStatusRepository.transition(partyId, "CLOSED", null, validFrom)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(partyStatusService.transitionPartyStatus(partyId, partyStatusDTO))
+                .expectErrorMatches(throwable -> throwable instanceof RuntimeException &&
+                        throwable.getMessage().equals("New status of party " + partyId + " must not start at the same time as an existing status"))
+                .verify();
+
+        verify(partyStatusMapper, never()).toDTO(any());
+        verify(transitionScheduler, never()).schedule(any());
+    }
+
+    @Test
+    void transitionPartyStatus_ShouldScheduleStatus_WhenStatusStartsInTheFuture() {
+        // Arrange
+        LocalDateTime validFrom = LocalDateTime.now().plusMinutes(5);
+        PartyStatus futureStatus = PartyStatus.builder()
+                .partyStatusId(UUID.randomUUID())
+                .partyId(partyId)
+                .statusCode(StatusCode.CLOSED)
+                .validFrom(validFrom)
+                .build();
+        partyStatusDTO.setStatusCode(StatusCode.CLOSED);
+        partyStatusDTO.setValidFrom(validFrom);
+        when(partyStatusRepository.transition(partyId, "CLOSED", null, validFrom)).thenReturn(Mono.just(futureStatus));
+        when(partyStatusMapper.toDTO(futureStatus)).thenReturn(partyStatusDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyStatusService.transitionPartyStatus(partyId, partyStatusDTO))
+                .expectNext(partyStatusDTO)
+                .verifyComplete();
+
+        verify(transitionScheduler).schedule(futureStatus);
+        verify(partyStatusRepository, never()).findCurrentByPartyId(any());
+    }
+
     @Test
     void updatePartyStatus_ShouldReturnUpdatedPartyStatusDTO_WhenPartyStatusExists() {
         // Arrange
@@ -135,7 +226,7 @@ class PartyStatusServiceImplTest {
         // Set up the existing party status with the correct partyId for validation
         partyStatus.setPartyId(partyId);
         
-        when(partyStatusRepository.findByPartyId(partyId)).thenReturn(Mono.just(partyStatus));
+        when(partyStatusRepository.findCurrentByPartyId(partyId)).thenReturn(Mono.just(partyStatus));
         doNothing().when(partyStatusMapper).updateEntityFromDto(updateDTO, partyStatus);
         when(partyStatusRepository.save(partyStatus)).thenReturn(Mono.just(partyStatus));
         when(partyStatusMapper.toDTO(partyStatus)).thenReturn(partyStatusDTO);
@@ -145,16 +236,44 @@ class PartyStatusServiceImplTest {
                 .expectNext(partyStatusDTO)
                 .verifyComplete();
 
-        verify(partyStatusRepository).findByPartyId(partyId);
+        verify(partyStatusRepository).findCurrentByPartyId(partyId);
         verify(partyStatusMapper).updateEntityFromDto(updateDTO, partyStatus);
         verify(partyStatusRepository).save(partyStatus);
         verify(partyStatusMapper).toDTO(partyStatus);
+        verify(partyStatusRepository, never()).resetActivation(any());
+    }
+
+    @Test
+    void updatePartyStatus_ShouldResetActivation_WhenValidFromChanges() {
+        // Arrange
+        LocalDateTime validFrom = LocalDateTime.now().plusMinutes(5);
+        PartyStatusDTO updateDTO = new PartyStatusDTO();
+        updateDTO.setValidFrom(validFrom);
+        partyStatus.setPartyId(partyId);
+        partyStatus.setValidFrom(LocalDateTime.of(2025, 1, 1, 0, 0));
+
+        when(partyStatusRepository.findCurrentByPartyId(partyId)).thenReturn(Mono.just(partyStatus));
+        doAnswer(invocation -> {
+            partyStatus.setValidFrom(validFrom);
+            return null;
+        }).when(partyStatusMapper).updateEntityFromDto(updateDTO, partyStatus);
+        when(partyStatusRepository.save(partyStatus)).thenReturn(Mono.just(partyStatus));
+        when(partyStatusRepository.resetActivation(partyStatusId)).thenReturn(Mono.just(1));
+        when(partyStatusMapper.toDTO(partyStatus)).thenReturn(partyStatusDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyStatusService.updatePartyStatus(partyId, updateDTO))
+                .expectNext(partyStatusDTO)
+                .verifyComplete();
+
+        verify(partyStatusRepository).resetActivation(partyStatusId);
+        verify(transitionScheduler).schedule(partyStatus);
     }
 
     @Test
     void updatePartyStatus_ShouldReturnError_WhenPartyStatusNotFound() {
         // Arrange
-        when(partyStatusRepository.findByPartyId(partyId)).thenReturn(Mono.empty());
+        when(partyStatusRepository.findCurrentByPartyId(partyId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(partyStatusService.updatePartyStatus(partyId, partyStatusDTO))
@@ -162,7 +281,7 @@ class PartyStatusServiceImplTest {
                         throwable.getMessage().equals("Party status not found for party ID: " + partyId))
                 .verify();
 
-        verify(partyStatusRepository).findByPartyId(partyId);
+        verify(partyStatusRepository).findCurrentByPartyId(partyId);
         verify(partyStatusMapper, never()).toEntity(any());
         verify(partyStatusRepository, never()).save(any());
     }
@@ -256,4 +375,71 @@ class PartyStatusServiceImplTest {
         verify(partyStatusRepository).findById(partyStatusId);
         verify(partyStatusMapper, never()).toDTO(any());
     }
+
+    @Test
+    void getCurrentPartyStatus_ShouldReturnPartyStatusDTO_WhenPartyHasCurrentStatus() {
+        // Arrange
+        when(partyStatusRepository.findCurrentByPartyId(partyId)).thenReturn(Mono.just(partyStatus));
+        when(partyStatusMapper.toDTO(partyStatus)).thenReturn(partyStatusDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyStatusService.getCurrentPartyStatus(partyId))
+                .expectNext(partyStatusDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void getCurrentPartyStatus_ShouldReturnError_WhenPartyHasNoCurrentStatus() {
+        // Arrange
+        when(partyStatusRepository.findCurrentByPartyId(partyId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(partyStatusService.getCurrentPartyStatus(partyId))
+                .expectErrorMatches(throwable -> throwable instanceof RuntimeException &&
+                        throwable.getMessage().equals("Current party status not found for party ID: " + partyId))
+                .verify();
+    }
+
+    @Test
+    void getCurrentPartyStatuses_ShouldQueryDistinctPartyIds_WhenPartyIdsRepeat() {
+        // Arrange
+        UUID otherPartyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        when(partyStatusRepository.findCurrentByPartyIds(aryEq(new UUID[]{partyId, otherPartyId})))
+                .thenReturn(Flux.just(partyStatus));
+        when(partyStatusMapper.toDTO(partyStatus)).thenReturn(partyStatusDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyStatusService.getCurrentPartyStatuses(List.of(partyId, otherPartyId, partyId)))
+                .expectNext(partyStatusDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void streamPartyStatusesAsOf_ShouldFilterByStatusCode_WhenStatusCodeIsGiven() {
+        // Arrange
+        UUID tenantId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        OffsetDateTime asOf = OffsetDateTime.of(2025, 1, 31, 23, 59, 59, 0, ZoneOffset.UTC);
+        when(partyStatusRepository.streamByTenantIdAsOf(tenantId, asOf, "SUSPENDED", PartyStatusServiceImpl.STREAM_START))
+                .thenReturn(Flux.just(partyStatus));
+        when(partyStatusMapper.toDTO(partyStatus)).thenReturn(partyStatusDTO);
+
+        // Act & Assert
+        StepVerifier.create(partyStatusService.streamPartyStatusesAsOf(tenantId, asOf, StatusCode.SUSPENDED, null))
+                .expectNext(partyStatusDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void streamPartyStatusesAsOf_ShouldResumeAfterParty_WhenAfterPartyIdIsGiven() {
+        // Arrange
+        UUID tenantId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        OffsetDateTime asOf = OffsetDateTime.of(2025, 1, 31, 23, 59, 59, 0, ZoneOffset.UTC);
+        when(partyStatusRepository.streamByTenantIdAsOf(tenantId, asOf, null, partyId)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(partyStatusService.streamPartyStatusesAsOf(tenantId, asOf, null, partyId))
+                .verifyComplete();
+
+        verify(partyStatusRepository).streamByTenantIdAsOf(tenantId, asOf, null, partyId);
+    }
 }
\ No newline at end of file
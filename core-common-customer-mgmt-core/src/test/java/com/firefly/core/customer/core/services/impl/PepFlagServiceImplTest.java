@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.services.impl;
+
+import com.firefly.core.customer.core.pep.PepFlagIndexer;
+import com.firefly.core.customer.interfaces.dtos.PepFlagDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PepFlagServiceImplTest {
+
+    @Mock
+    private PepFlagIndexer pepFlagIndexer;
+
+    @InjectMocks
+    private PepFlagServiceImpl pepFlagService;
+
+    private UUID partyId;
+    private UUID otherPartyId;
+
+    @BeforeEach
+    void setUp() {
+        partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+        otherPartyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+    }
+
+    @Test
+    void getPepFlag_ShouldReturnFlaggedParty_WhenPartyIsPep() {
+        // Arrange
+        when(pepFlagIndexer.isPep(partyId)).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(pepFlagService.getPepFlag(partyId))
+                .expectNext(PepFlagDTO.builder().partyId(partyId).pep(true).build())
+                .verifyComplete();
+    }
+
+    @Test
+    void getPepFlags_ShouldReturnFlagOfEachDistinctPartyInRequestOrder_WhenBatchHasDuplicates() {
+        // Arrange
+        when(pepFlagIndexer.selectPeps(anyCollection())).thenReturn(Mono.just(Set.of(otherPartyId)));
+
+        // Act & Assert
+        StepVerifier.create(pepFlagService.getPepFlags(List.of(partyId, otherPartyId, partyId)))
+                .expectNext(PepFlagDTO.builder().partyId(partyId).pep(false).build())
+                .expectNext(PepFlagDTO.builder().partyId(otherPartyId).pep(true).build())
+                .verifyComplete();
+    }
+}
\ No newline at end of file
@@ -20,7 +20,9 @@ package com.firefly.core.customer.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.core.graph.SharedAttributeIndexer;
 import com.firefly.core.customer.core.mappers.PhoneContactMapper;
+import com.firefly.core.customer.core.search.PartySearchIndexer;
 import com.firefly.core.customer.interfaces.dtos.PhoneContactDTO;
 import com.firefly.core.customer.models.entities.PhoneContact;
 import com.firefly.core.customer.models.repositories.PhoneContactRepository;
@@ -49,6 +51,12 @@ class PhoneContactServiceImplTest {
     @Mock
     private PhoneContactMapper phoneContactMapper;
 
+    @Mock
+    private PartySearchIndexer searchIndexer;
+
+    @Mock
+    private SharedAttributeIndexer sharedAttributeIndexer;
+
     @InjectMocks
     private PhoneContactServiceImpl phoneContactService;
 
@@ -59,6 +67,8 @@ class PhoneContactServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(searchIndexer.refresh(any())).thenReturn(Mono.empty());
+
         phoneContactId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
         partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
         
@@ -97,6 +107,7 @@ class PhoneContactServiceImplTest {
         // Arrange
         when(phoneContactMapper.toEntity(phoneContactDTO)).thenReturn(phoneContact);
         when(phoneContactRepository.save(phoneContact)).thenReturn(Mono.just(phoneContact));
+        when(sharedAttributeIndexer.index(phoneContact)).thenReturn(Mono.empty());
         when(phoneContactMapper.toDTO(phoneContact)).thenReturn(phoneContactDTO);
 
         // Act & Assert
@@ -107,6 +118,7 @@ class PhoneContactServiceImplTest {
         verify(phoneContactMapper).toEntity(phoneContactDTO);
         verify(phoneContactRepository).save(phoneContact);
         verify(phoneContactMapper).toDTO(phoneContact);
+        verify(sharedAttributeIndexer).index(phoneContact);
     }
 
     @Test
@@ -138,6 +150,7 @@ class PhoneContactServiceImplTest {
         when(phoneContactRepository.findById(phoneContactId)).thenReturn(Mono.just(phoneContact));
         doNothing().when(phoneContactMapper).updateEntityFromDto(updateDTO, phoneContact);
         when(phoneContactRepository.save(phoneContact)).thenReturn(Mono.just(phoneContact));
+        when(sharedAttributeIndexer.index(phoneContact)).thenReturn(Mono.empty());
         when(phoneContactMapper.toDTO(phoneContact)).thenReturn(phoneContactDTO);
 
         // Act & Assert
@@ -170,8 +183,10 @@ class PhoneContactServiceImplTest {
     @Test
     void deletePhoneContact_ShouldCompleteSuccessfully_WhenPhoneContactExists() {
         // Arrange
+        phoneContact.setPartyId(partyId);
         when(phoneContactRepository.findById(phoneContactId)).thenReturn(Mono.just(phoneContact));
         when(phoneContactRepository.deleteById(phoneContactId)).thenReturn(Mono.empty());
+        when(sharedAttributeIndexer.remove(partyId, phoneContactId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(phoneContactService.deletePhoneContact(partyId, phoneContactId))
@@ -179,6 +194,7 @@ class PhoneContactServiceImplTest {
 
         verify(phoneContactRepository).findById(phoneContactId);
         verify(phoneContactRepository).deleteById(phoneContactId);
+        verify(sharedAttributeIndexer).remove(partyId, phoneContactId);
     }
 
     @Test
@@ -210,6 +226,7 @@ class PhoneContactServiceImplTest {
 
         verify(phoneContactRepository).findById(phoneContactId);
         verify(phoneContactRepository).deleteById(phoneContactId);
+        verify(sharedAttributeIndexer, never()).remove(any());
     }
 
     @Test
@@ -20,7 +20,9 @@ package com.firefly.core.customer.core.services.impl;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.customer.core.kyc.KycReviewScheduler;
 import com.firefly.core.customer.core.mappers.PoliticallyExposedPersonMapper;
+import com.firefly.core.customer.core.pep.PepFlagIndexer;
 import com.firefly.core.customer.interfaces.dtos.PoliticallyExposedPersonDTO;
 import com.firefly.core.customer.models.entities.PoliticallyExposedPerson;
 import com.firefly.core.customer.models.repositories.PoliticallyExposedPersonRepository;
@@ -35,6 +37,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -49,6 +52,12 @@ class PoliticallyExposedPersonServiceImplTest {
     @Mock
     private PoliticallyExposedPersonMapper politicallyExposedPersonMapper;
 
+    @Mock
+    private PepFlagIndexer pepFlagIndexer;
+
+    @Mock
+    private KycReviewScheduler kycReviewScheduler;
+
     @InjectMocks
     private PoliticallyExposedPersonServiceImpl politicallyExposedPersonService;
 
@@ -59,6 +68,9 @@ class PoliticallyExposedPersonServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(pepFlagIndexer.refreshAfterCommit(any())).thenReturn(Mono.empty());
+        lenient().when(kycReviewScheduler.reschedule(any())).thenReturn(Mono.empty());
+
         politicallyExposedPersonId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
         partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
         
@@ -109,6 +121,23 @@ class PoliticallyExposedPersonServiceImplTest {
         verify(politicallyExposedPersonMapper).toDTO(politicallyExposedPerson);
     }
 
+    @Test
+    void createPoliticallyExposedPerson_ShouldRefreshPepFlag_WhenSaved() {
+        // Arrange
+        politicallyExposedPerson.setPartyId(partyId);
+        politicallyExposedPerson.setPep(true);
+        when(politicallyExposedPersonMapper.toEntity(politicallyExposedPersonDTO)).thenReturn(politicallyExposedPerson);
+        when(politicallyExposedPersonRepository.save(politicallyExposedPerson)).thenReturn(Mono.just(politicallyExposedPerson));
+        when(politicallyExposedPersonMapper.toDTO(politicallyExposedPerson)).thenReturn(politicallyExposedPersonDTO);
+
+        // Act & Assert
+        StepVerifier.create(politicallyExposedPersonService.createPoliticallyExposedPerson(partyId, politicallyExposedPersonDTO))
+                .expectNext(politicallyExposedPersonDTO)
+                .verifyComplete();
+
+        verify(pepFlagIndexer).refreshAfterCommit(List.of(partyId));
+    }
+
     @Test
     void createPoliticallyExposedPerson_ShouldHandleRepositoryError_WhenSaveFails() {
         // Arrange
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.services.impl;
+
+import com.firefly.core.customer.core.screening.PartyRescreener;
+import com.firefly.core.customer.core.screening.ScreeningEngine;
+import com.firefly.core.customer.interfaces.dtos.ScreeningRequestDTO;
+import com.firefly.core.customer.interfaces.dtos.ScreeningRunDTO;
+import com.firefly.core.customer.interfaces.enums.PartyKind;
+import com.firefly.core.customer.interfaces.enums.ScreeningRunStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScreeningServiceImplTest {
+
+    @Mock
+    private ScreeningEngine screeningEngine;
+
+    @Mock
+    private PartyRescreener partyRescreener;
+
+    @InjectMocks
+    private ScreeningServiceImpl screeningService;
+
+    @Test
+    void screenName_ShouldReturnHits_WhenNameMatchesListEntries() {
+        // Arrange
+        ScreeningRequestDTO request = ScreeningRequestDTO.builder()
+                .kind(PartyKind.INDIVIDUAL)
+                .name("John Smith Doe")
+                .build();
+        when(screeningEngine.screen(PartyKind.INDIVIDUAL, "John Smith Doe"))
+                .thenReturn(List.of(new ScreeningEngine.Hit("E-1", "PEP", "john smith")));
+
+        // Act & Assert
+        StepVerifier.create(screeningService.screenName(request))
+                .expectNextMatches(hit -> hit.getEntryId().equals("E-1")
+                        && hit.getListedName().equals("john smith")
+                        && hit.getPep())
+                .verifyComplete();
+    }
+
+    @Test
+    void screenName_ShouldReturnEmpty_WhenNameMatchesNothing() {
+        // Arrange
+        ScreeningRequestDTO request = ScreeningRequestDTO.builder()
+                .kind(PartyKind.ORGANIZATION)
+                .name("Acme Corporation")
+                .build();
+        when(screeningEngine.screen(PartyKind.ORGANIZATION, "Acme Corporation")).thenReturn(List.of());
+
+        // Act & Assert
+        StepVerifier.create(screeningService.screenName(request))
+                .verifyComplete();
+    }
+
+    @Test
+    void startRescreen_ShouldReturnRunningRun_WhenStarted() {
+        // Arrange
+        ScreeningRunDTO run = ScreeningRunDTO.builder()
+                .status(ScreeningRunStatus.RUNNING)
+                .startedAt(LocalDateTime.now())
+                .build();
+        when(partyRescreener.start()).thenReturn(run);
+
+        // Act & Assert
+        StepVerifier.create(screeningService.startRescreen())
+                .expectNext(run)
+                .verifyComplete();
+    }
+
+    @Test
+    void getLastRescreen_ShouldReturnError_WhenNoRescreenWasStarted() {
+        // Arrange
+        when(partyRescreener.lastRun()).thenReturn(null);
+
+        // Act & Assert
+        StepVerifier.create(screeningService.getLastRescreen())
+                .expectErrorMatches(throwable -> throwable instanceof RuntimeException
+                        && throwable.getMessage().equals("No party rescreen has been started"))
+                .verify();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.services.impl;
+
+import com.firefly.core.customer.core.expiry.ExpiryKind;
+import com.firefly.core.customer.core.expiry.TemporalExpiryEvent;
+import com.firefly.core.customer.core.graph.PartyNetworkIndexer;
+import com.firefly.core.customer.core.graph.PartyRelationshipGraphIndexer;
+import com.firefly.core.customer.core.kyc.KycReviewScheduler;
+import com.firefly.core.customer.models.entities.PartyGroupMembership;
+import com.firefly.core.customer.models.entities.PartyRelationship;
+import com.firefly.core.customer.models.entities.PoliticallyExposedPerson;
+import com.firefly.core.customer.models.repositories.IdentityDocumentRepository;
+import com.firefly.core.customer.models.repositories.PartyGroupMembershipRepository;
+import com.firefly.core.customer.models.repositories.PartyRelationshipRepository;
+import com.firefly.core.customer.models.repositories.PoliticallyExposedPersonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import java.util.List;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class TemporalExpiryServiceImplTest {
+
+    @Mock
+    private PartyRelationshipRepository partyRelationshipRepository;
+
+    @Mock
+    private PartyGroupMembershipRepository partyGroupMembershipRepository;
+
+    @Mock
+    private PoliticallyExposedPersonRepository politicallyExposedPersonRepository;
+
+    @Mock
+    private IdentityDocumentRepository identityDocumentRepository;
+
+    @Mock
+    private PartyNetworkIndexer networkIndexer;
+
+    @Mock
+    private PartyRelationshipGraphIndexer graphIndexer;
+
+    @Mock
+    private KycReviewScheduler kycReviewScheduler;
+
+    @InjectMocks
+    private TemporalExpiryServiceImpl temporalExpiryService;
+
+    private UUID recordId;
+    private UUID partyId;
+    private LocalDateTime endDate;
+
+    @BeforeEach
+    void setUp() {
+        recordId = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+        partyId = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        endDate = LocalDateTime.of(2025, 1, 1, 0, 0);
+    }
+
+    @Test
+    void expireBatch_ShouldSplitNetworkAndUpdateGraph_WhenRelationshipsExpire() {
+        // Arrange
+        PartyRelationship relationship = PartyRelationship.builder()
+                .partyRelationshipId(recordId)
+                .fromPartyId(partyId)
+                .toPartyId(UUID.fromString("123e4567-e89b-12d3-a456-426614174003"))
+                .endDate(endDate)
+                .active(false)
+                .build();
+        when(partyRelationshipRepository.expireEnded(100)).thenReturn(Flux.just(relationship));
+        when(networkIndexer.expire(relationship)).thenReturn(Mono.empty());
+        when(graphIndexer.refreshAfterCommit(List.of(recordId))).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(temporalExpiryService.expireBatch(ExpiryKind.PARTY_RELATIONSHIP, 100))
+                .expectNext(new TemporalExpiryEvent(ExpiryKind.PARTY_RELATIONSHIP, recordId, partyId, endDate))
+                .verifyComplete();
+
+        verify(networkIndexer).expire(relationship);
+        verify(graphIndexer).refreshAfterCommit(List.of(recordId));
+    }
+
+    @Test
+    void expireBatch_ShouldReturnEvents_WhenGroupMembershipsExpire() {
+        // Arrange
+        PartyGroupMembership membership = PartyGroupMembership.builder()
+                .partyGroupMembershipId(recordId)
+                .partyId(partyId)
+                .endDate(endDate)
+                .build();
+        when(partyGroupMembershipRepository.expireEnded(100)).thenReturn(Flux.just(membership));
+
+        // Act & Assert
+        StepVerifier.create(temporalExpiryService.expireBatch(ExpiryKind.PARTY_GROUP_MEMBERSHIP, 100))
+                .expectNext(new TemporalExpiryEvent(ExpiryKind.PARTY_GROUP_MEMBERSHIP, recordId, partyId, endDate))
+                .verifyComplete();
+    }
+
+    @Test
+    void expireBatch_ShouldRescheduleKycReviews_WhenPepRecordsExpire() {
+        // Arrange
+        PoliticallyExposedPerson pep = PoliticallyExposedPerson.builder()
+                .pepId(recordId)
+                .partyId(partyId)
+                .endDate(endDate)
+                .build();
+        when(politicallyExposedPersonRepository.expireEnded(100)).thenReturn(Flux.just(pep));
+        when(kycReviewScheduler.reschedule(List.of(partyId))).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(temporalExpiryService.expireBatch(ExpiryKind.POLITICALLY_EXPOSED_PERSON, 100))
+                .expectNext(new TemporalExpiryEvent(ExpiryKind.POLITICALLY_EXPOSED_PERSON, recordId, partyId, endDate))
+                .verifyComplete();
+
+        verify(kycReviewScheduler).reschedule(List.of(partyId));
+    }
+
+    @Test
+    void expireBatch_ShouldFail_WhenKycRescheduleFails() {
+        // Arrange
+        PoliticallyExposedPerson pep = PoliticallyExposedPerson.builder()
+                .pepId(recordId)
+                .partyId(partyId)
+                .endDate(endDate)
+                .build();
+        when(politicallyExposedPersonRepository.expireEnded(100)).thenReturn(Flux.just(pep));
+        when(kycReviewScheduler.reschedule(List.of(partyId))).thenReturn(Mono.error(new RuntimeException("Reschedule failed")));
+
+        // Act & Assert
+        StepVerifier.create(temporalExpiryService.expireBatch(ExpiryKind.POLITICALLY_EXPOSED_PERSON, 100))
+                .expectErrorMessage("Reschedule failed")
+                .verify();
+    }
+
+    @Test
+    void expireBatch_ShouldClampBatchSize_WhenLimitIsTooLarge() {
+        // Arrange
+        when(identityDocumentRepository.expireEnded(TemporalExpiryServiceImpl.MAX_BATCH_SIZE)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(temporalExpiryService.expireBatch(ExpiryKind.IDENTITY_DOCUMENT, Integer.MAX_VALUE))
+                .verifyComplete();
+
+        verify(identityDocumentRepository).expireEnded(TemporalExpiryServiceImpl.MAX_BATCH_SIZE);
+        verifyNoInteractions(networkIndexer, graphIndexer);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.core.status;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+
+class TimingWheelTest {
+
+    private static final long TICK = 10;
+
+    private final TimingWheel<String> wheel = new TimingWheel<>(TICK, 0);
+    private final List<String> expired = new ArrayList<>();
+
+    @Test
+    void add_ShouldRejectTask_WhenDeadlineHasPassed() {
+        // Arrange
+        wheel.advance(100, expired::add);
+
+        // Act & Assert
+        assertFalse(wheel.add(100, "now"));
+        assertFalse(wheel.add(50, "past"));
+        assertTrue(wheel.add(101, "next tick"));
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void advance_ShouldExpireTask_OnlyOnceItsDeadlineIsReached() {
+        // Arrange
+        wheel.add(55, "task");
+
+        // Act & Assert
+        wheel.advance(59, expired::add);
+        assertTrue(expired.isEmpty());
+        wheel.advance(60, expired::add);
+        assertEquals(List.of("task"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advance_ShouldCascadeTasksDownTheLevels_InDeadlineOrder() {
+        // Arrange
+        long[] deadlines = {TICK * 5_000, TICK * 63, TICK * 64, TICK * 4_096, TICK * 262_145, TICK * 65};
+        for (long deadline : deadlines) {
+            wheel.add(deadline, String.valueOf(deadline / TICK));
+        }
+
+        // Act & Assert
+        wheel.advance(TICK * 64, expired::add);
+        assertEquals(List.of("63", "64"), expired);
+        wheel.advance(TICK * 4_095, expired::add);
+        assertEquals(List.of("63", "64", "65"), expired);
+        wheel.advance(TICK * 262_144, expired::add);
+        assertEquals(List.of("63", "64", "65", "4096", "5000"), expired);
+        wheel.advance(TICK * 262_145, expired::add);
+        assertEquals(List.of("63", "64", "65", "4096", "5000", "262145"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void add_ShouldHoldTaskUnderEachDeadline_WhenTaskIsRescheduled() {
+        // Arrange
+        wheel.add(TICK * 100, "task");
+
+        // Act
+        wheel.add(TICK * 50, "task");
+
+        // Assert
+        wheel.advance(TICK * 50, expired::add);
+        assertEquals(List.of("task"), expired);
+        wheel.advance(TICK * 100, expired::add);
+        assertEquals(List.of("task", "task"), expired);
+    }
+}
\ No newline at end of file
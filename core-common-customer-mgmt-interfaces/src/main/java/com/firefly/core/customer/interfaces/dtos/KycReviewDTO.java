@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.interfaces.dtos;
+
+import com.firefly.core.customer.interfaces.enums.KycRiskLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for the KYC review schedule of a party. The lease fields are set
+ * while a case-management worker holds the review.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KycReviewDTO {
+
+    private UUID partyId;
+    private KycRiskLevel riskLevel;
+    private LocalDateTime nextReviewDate;
+    private LocalDateTime lastReviewedAt;
+    private UUID leaseId;
+    private LocalDateTime leasedUntil;
+}
\ No newline at end of file
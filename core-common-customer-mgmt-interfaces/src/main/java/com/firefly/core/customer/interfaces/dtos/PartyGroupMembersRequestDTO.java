@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.interfaces.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for adding parties to a group or ending their memberships in one request.
+ * The effective date is the start date of added memberships or the end date of ended ones,
+ * and defaults to the time of the request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartyGroupMembersRequestDTO {
+
+    @NotEmpty(message = "Party IDs are required")
+    @Size(max = 10000, message = "At most 10000 parties can be processed per request")
+    private List<UUID> partyIds;
+
+    private LocalDateTime effectiveDate;
+
+    @Size(max = 1000, message = "Notes must not exceed 1000 characters")
+    private String notes;
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.interfaces.dtos;
+
+import com.firefly.core.customer.interfaces.enums.PartyKind;
+import com.firefly.core.customer.interfaces.enums.RelationshipDirection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for a relationship seen from one of its parties.
+ * The direction is OUTGOING when the party is the from party and INCOMING when it is the to party;
+ * the counterparty fields summarize the party on the other end.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartyRelationshipSummaryDTO {
+
+    private UUID partyRelationshipId;
+    private UUID fromPartyId;
+    private UUID toPartyId;
+    private UUID relationshipTypeId;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private Boolean active;
+    private RelationshipDirection direction;
+    private UUID counterpartyPartyId;
+    private PartyKind counterpartyPartyKind;
+    private String counterpartyDisplayName;
+}
\ No newline at end of file
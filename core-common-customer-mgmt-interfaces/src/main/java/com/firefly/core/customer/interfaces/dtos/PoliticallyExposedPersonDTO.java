@@ -18,6 +18,7 @@
 package com.firefly.core.customer.interfaces.dtos;
 
 import org.fireflyframework.utils.annotations.FilterableId;
+import com.firefly.core.customer.interfaces.enums.ScreeningReviewStatus;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -63,6 +64,11 @@ public class PoliticallyExposedPersonDTO {
     
     @Size(max = 500, message = "Notes must not exceed 500 characters")
     private String notes;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String screeningEntryId;
+
+    private ScreeningReviewStatus screeningStatus;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
\ No newline at end of file
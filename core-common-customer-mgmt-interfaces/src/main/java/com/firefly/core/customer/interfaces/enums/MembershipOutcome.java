@@ -0,0 +1,31 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.interfaces.enums;
+
+/**
+ * Enum representing the outcome of a bulk group membership operation for one party.
+ * ADDED and ENDED report a change; ALREADY_ACTIVE, NOT_ACTIVE and PARTY_NOT_FOUND report
+ * that the party was skipped, so repeating a request changes nothing.
+ */
+public enum MembershipOutcome {
+    ADDED,
+    ALREADY_ACTIVE,
+    ENDED,
+    NOT_ACTIVE,
+    PARTY_NOT_FOUND
+}
\ No newline at end of file
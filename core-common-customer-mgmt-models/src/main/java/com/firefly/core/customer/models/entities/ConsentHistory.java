@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.models.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Consent History entity recording each state a consent has been in.
+ * Maps to the append-only 'consent_history' table in PostgreSQL.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("consent_history")
+public class ConsentHistory {
+
+    @Id
+    @Column("consent_history_id")
+    private UUID consentHistoryId;
+
+    @Column("consent_id")
+    private UUID consentId;
+
+    @Column("party_id")
+    private UUID partyId;
+
+    @Column("consent_type_id")
+    private UUID consentTypeId;
+
+    @Column("granted")
+    private Boolean granted;
+
+    @Column("granted_at")
+    private LocalDateTime grantedAt;
+
+    @Column("revoked_at")
+    private LocalDateTime revokedAt;
+
+    @Column("channel")
+    private String channel;
+
+    @Column("deleted")
+    private Boolean deleted;
+
+    @Column("recorded_at")
+    private LocalDateTime recordedAt;
+}
\ No newline at end of file
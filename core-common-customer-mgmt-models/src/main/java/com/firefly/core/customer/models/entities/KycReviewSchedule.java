@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.models.entities;
+
+import com.firefly.core.customer.interfaces.enums.KycRiskLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * KYC Review Schedule entity holding when the KYC information of a party must next be
+ * reviewed, and which worker currently holds the review if it is leased.
+ * Maps to the 'kyc_review_schedule' table in PostgreSQL.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("kyc_review_schedule")
+public class KycReviewSchedule {
+
+    @Id
+    @Column("party_id")
+    private UUID partyId;
+
+    @Column("risk_level")
+    private KycRiskLevel riskLevel;
+
+    @Column("next_review_date")
+    private LocalDateTime nextReviewDate;
+
+    @Column("last_reviewed_at")
+    private LocalDateTime lastReviewedAt;
+
+    @Column("lease_id")
+    private UUID leaseId;
+
+    @Column("leased_until")
+    private LocalDateTime leasedUntil;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+}
\ No newline at end of file
@@ -82,6 +82,9 @@ public class LegalEntity {
     @Column("incorporation_country_id")
     private UUID incorporationCountryId;
 
+    @Column("legal_name_phonetic")
+    private String[] legalNamePhonetic;
+
     @Column("created_at")
     private LocalDateTime createdAt;
 
@@ -100,6 +100,15 @@ public class NaturalPerson {
     @Column("suffix")
     private String suffix;
 
+    @Column("given_name_phonetic")
+    private String[] givenNamePhonetic;
+
+    @Column("family_name1_phonetic")
+    private String[] familyName1Phonetic;
+
+    @Column("family_name2_phonetic")
+    private String[] familyName2Phonetic;
+
     @Column("created_at")
     private LocalDateTime createdAt;
 
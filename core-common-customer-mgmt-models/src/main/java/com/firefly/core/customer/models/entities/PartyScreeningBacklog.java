@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.models.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Party Screening Backlog entity recording a party whose names were written but whose
+ * screening hits have not been recorded yet.
+ * Maps to the 'party_screening_backlog' table in PostgreSQL.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("party_screening_backlog")
+public class PartyScreeningBacklog {
+
+    @Id
+    @Column("party_id")
+    private UUID partyId;
+
+    @Column("ticket")
+    private Long ticket;
+
+    @Column("enqueued_at")
+    private LocalDateTime enqueuedAt;
+
+    @Column("due_at")
+    private LocalDateTime dueAt;
+
+    @Column("attempts")
+    private Integer attempts;
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.models.entities;
+
+import com.firefly.core.customer.interfaces.enums.PartyKind;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Party Search Document entity representing the denormalized search document of a party.
+ * Maps to the 'party_search_document' table in PostgreSQL.
+ * The tsvector column is maintained in the database and is not mapped.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("party_search_document")
+public class PartySearchDocument {
+
+    @Id
+    @Column("party_id")
+    private UUID partyId;
+
+    @Column("tenant_id")
+    private UUID tenantId;
+
+    @Column("party_kind")
+    private PartyKind partyKind;
+
+    @Column("display_name")
+    private String displayName;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+}
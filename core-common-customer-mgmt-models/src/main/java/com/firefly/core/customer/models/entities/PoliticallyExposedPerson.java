@@ -17,6 +17,7 @@
 
 package com.firefly.core.customer.models.entities;
 
+import com.firefly.core.customer.interfaces.enums.ScreeningReviewStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -67,6 +68,12 @@ public class PoliticallyExposedPerson {
     @Column("notes")
     private String notes;
 
+    @Column("screening_entry_id")
+    private String screeningEntryId;
+
+    @Column("screening_status")
+    private ScreeningReviewStatus screeningStatus;
+
     @Column("created_at")
     private LocalDateTime createdAt;
 
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.models.projections;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of the turnover rollup of the party economic activities of a tenant
+ * with a given economic activity and currency.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EconomicActivityTurnover {
+
+    private UUID tenantId;
+    private UUID economicActivityId;
+    private String currencyCode;
+    private Long activityCount;
+    private Long reportedCount;
+    private BigDecimal turnoverTotal;
+    private BigDecimal averageTurnover;
+    private LocalDateTime updatedAt;
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.models.projections;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a relationship reached while walking the relationship graph,
+ * together with the number of hops from the starting party.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartyRelationshipEdge {
+
+    private UUID partyRelationshipId;
+    private UUID fromPartyId;
+    private UUID toPartyId;
+    private UUID relationshipTypeId;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private Boolean active;
+    private Integer depth;
+}
\ No newline at end of file
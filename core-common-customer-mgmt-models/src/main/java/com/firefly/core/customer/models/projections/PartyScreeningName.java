@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.models.projections;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Read-only projection of the names a party is screened under against PEP and sanctions lists.
+ * For natural persons the alternate name omits the middle name; for legal entities it is the trade name.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartyScreeningName {
+
+    private UUID partyId;
+    private String name;
+    private String alternateName;
+}
\ No newline at end of file
@@ -19,8 +19,18 @@ package com.firefly.core.customer.models.repositories;
 
 import com.firefly.core.customer.models.entities.Address;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import java.util.Collection;
 import java.util.UUID;
 
 @Repository
 public interface AddressRepository extends BaseRepository<Address, UUID> {
+
+    /**
+     * Lists the addresses of the given parties.
+     *
+     * @param partyIds the parties to read
+     * @return a Flux of the addresses of the parties
+     */
+    Flux<Address> findByPartyIdIn(Collection<UUID> partyIds);
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.models.repositories;
+
+import com.firefly.core.customer.models.entities.ConsentHistory;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+@Repository
+public interface ConsentHistoryRepository extends BaseRepository<ConsentHistory, UUID> {
+
+    /**
+     * Lists the states a party's consents of a type have been in, across all channels.
+     *
+     * @param partyId the unique identifier of the party
+     * @param consentTypeId the unique identifier of the consent type
+     * @return a Flux of the recorded states, most recent first
+     */
+    @Query("""
+            SELECT *
+              FROM consent_history
+             WHERE party_id = :partyId
+               AND consent_type_id = :consentTypeId
+             ORDER BY recorded_at DESC, consent_history_id
+            """)
+    Flux<ConsentHistory> findByPartyIdAndConsentTypeId(UUID partyId, UUID consentTypeId);
+}
\ No newline at end of file
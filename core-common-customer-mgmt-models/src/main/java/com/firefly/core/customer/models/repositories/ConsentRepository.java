@@ -18,9 +18,108 @@
 package com.firefly.core.customer.models.repositories;
 
 import com.firefly.core.customer.models.entities.Consent;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Repository
 public interface ConsentRepository extends BaseRepository<Consent, UUID> {
+
+    /**
+     * Finds the current consents of a party, one for each consent type and channel.
+     *
+     * @param partyId the unique identifier of the party
+     * @return a Flux of the current consents of the party
+     */
+    Flux<Consent> findByPartyId(UUID partyId);
+
+    /**
+     * Finds the current consent of a party for a consent type and channel through the unique
+     * key of the table. Channels are compared trimmed and in lower case.
+     *
+     * @param partyId the unique identifier of the party
+     * @param consentTypeId the unique identifier of the consent type
+     * @param channel the channel, or {@code null} for the consent without a channel
+     * @return a Mono emitting the current consent, or empty if none was recorded
+     */
+    @Query("""
+            SELECT *
+              FROM consent
+             WHERE party_id = :partyId
+               AND consent_type_id = :consentTypeId
+               AND channel_key = COALESCE(lower(btrim(CAST(:channel AS VARCHAR))), '')
+            """)
+    Mono<Consent> findCurrent(UUID partyId, UUID consentTypeId, String channel);
+
+    /**
+     * Records the new state of a consent: inserts or replaces the current consent of the party
+     * for the consent type and channel, and appends the new state to the consent history, in a
+     * single statement.
+     *
+     * @param partyId the unique identifier of the party
+     * @param consentTypeId the unique identifier of the consent type
+     * @param granted whether the consent is granted
+     * @param grantedAt when the consent was granted
+     * @param revokedAt when the consent was or will be revoked
+     * @param channel the channel the consent applies to, or {@code null} for every channel
+     * @return a Mono emitting the current consent
+     */
+    @Query("""
+            WITH current_consent AS (
+                INSERT INTO consent (party_id, consent_type_id, granted, granted_at, revoked_at, channel)
+                VALUES (:partyId, :consentTypeId, :granted, :grantedAt, :revokedAt, :channel)
+                ON CONFLICT (party_id, consent_type_id, channel_key) DO UPDATE
+                   SET granted = EXCLUDED.granted,
+                       granted_at = EXCLUDED.granted_at,
+                       revoked_at = EXCLUDED.revoked_at,
+                       channel = EXCLUDED.channel,
+                       updated_at = CURRENT_TIMESTAMP
+                RETURNING *
+            ), recorded AS (
+                INSERT INTO consent_history (consent_id, party_id, consent_type_id, granted, granted_at,
+                                             revoked_at, channel, recorded_at)
+                SELECT consent_id, party_id, consent_type_id, granted, granted_at, revoked_at, channel, updated_at
+                  FROM current_consent
+            )
+            SELECT * FROM current_consent
+            """)
+    Mono<Consent> upsert(UUID partyId, UUID consentTypeId, Boolean granted, LocalDateTime grantedAt,
+                         LocalDateTime revokedAt, String channel);
+
+    /**
+     * Deletes the current consent of a party and appends its last state to the consent history,
+     * marked as deleted, in a single statement.
+     *
+     * @param partyId the unique identifier of the party the consent must belong to
+     * @param consentId the unique identifier of the consent
+     * @return a Mono emitting the deleted consent, or empty if the party has no such consent
+     */
+    @Query("""
+            WITH deleted_consent AS (
+                DELETE FROM consent
+                 WHERE consent_id = :consentId
+                   AND party_id = :partyId
+                RETURNING *
+            ), recorded AS (
+                INSERT INTO consent_history (consent_id, party_id, consent_type_id, granted, granted_at,
+                                             revoked_at, channel, deleted)
+                SELECT consent_id, party_id, consent_type_id, granted, granted_at, revoked_at, channel, TRUE
+                  FROM deleted_consent
+            )
+            SELECT * FROM deleted_consent
+            """)
+    Mono<Consent> deleteRecorded(UUID partyId, UUID consentId);
+
+    /**
+     * Streams the current consents of every party, grouped by party. Used to build the
+     * in-memory consent audience index.
+     *
+     * @return a Flux of the current consents, ordered by party
+     */
+    @Query("SELECT * FROM consent ORDER BY party_id")
+    Flux<Consent> streamOrderedByParty();
 }
\ No newline at end of file
@@ -19,8 +19,18 @@ package com.firefly.core.customer.models.repositories;
 
 import com.firefly.core.customer.models.entities.EmailContact;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import java.util.Collection;
 import java.util.UUID;
 
 @Repository
 public interface EmailContactRepository extends BaseRepository<EmailContact, UUID> {
+
+    /**
+     * Lists the e-mail contacts of the given parties.
+     *
+     * @param partyIds the parties to read
+     * @return a Flux of the e-mail contacts of the parties
+     */
+    Flux<EmailContact> findByPartyIdIn(Collection<UUID> partyIds);
 }
\ No newline at end of file
@@ -18,9 +18,46 @@
 package com.firefly.core.customer.models.repositories;
 
 import com.firefly.core.customer.models.entities.IdentityDocument;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
 import java.util.UUID;
 
 @Repository
 public interface IdentityDocumentRepository extends BaseRepository<IdentityDocument, UUID> {
+
+    /**
+     * Marks a batch of identity documents whose expiry date has passed as swept, walking
+     * idx_identity_document_unswept_expiry_date in expiry date order. The validated flag is left as it is.
+     * Rows locked by other transactions are skipped.
+     *
+     * @param limit the maximum number of identity documents to expire
+     * @return a Flux of the identity documents that were expired
+     */
+    @Query("""
+            WITH expired AS (
+                SELECT identity_document_id FROM identity_document
+                 WHERE expiry_date <= CURRENT_TIMESTAMP
+                   AND swept_expiry_date IS DISTINCT FROM expiry_date
+                 ORDER BY expiry_date
+                 LIMIT :limit
+                   FOR UPDATE SKIP LOCKED
+            )
+            UPDATE identity_document t
+               SET swept_expiry_date = t.expiry_date
+              FROM expired e
+             WHERE t.identity_document_id = e.identity_document_id
+            RETURNING t.*
+            """)
+    Flux<IdentityDocument> expireEnded(int limit);
+
+    /**
+     * Lists the identity documents of the given parties.
+     *
+     * @param partyIds the parties to read
+     * @return a Flux of the identity documents of the parties
+     */
+    Flux<IdentityDocument> findByPartyIdIn(Collection<UUID> partyIds);
 }
\ No newline at end of file
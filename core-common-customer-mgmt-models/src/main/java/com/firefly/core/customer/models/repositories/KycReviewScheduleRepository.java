@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.models.repositories;
+
+import com.firefly.core.customer.models.entities.KycReviewSchedule;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Repository
+public interface KycReviewScheduleRepository extends BaseRepository<KycReviewSchedule, UUID> {
+
+    /**
+     * Computes the risk levels and next review dates of a batch of parties from their PEP records,
+     * identity document expiry dates and party kinds, creating their schedules if needed.
+     *
+     * @param partyIds the parties to schedule
+     * @param highRiskMonths the review interval of high-risk parties, in months
+     * @param mediumRiskMonths the review interval of medium-risk parties, in months
+     * @param lowRiskMonths the review interval of low-risk parties, in months
+     * @return a Mono emitting the number of schedules that changed
+     */
+    @Query("""
+            SELECT schedule_kyc_reviews(CAST(:partyIds AS UUID[]), :highRiskMonths, :mediumRiskMonths,
+                                        :lowRiskMonths)
+            """)
+    Mono<Integer> schedule(UUID[] partyIds, int highRiskMonths, int mediumRiskMonths, int lowRiskMonths);
+
+    /**
+     * Streams the parties that have no KYC review schedule yet.
+     *
+     * @return a Flux of the unique identifiers of the unscheduled parties
+     */
+    @Query("""
+            SELECT p.party_id FROM party p
+             WHERE NOT EXISTS (SELECT 1 FROM kyc_review_schedule s WHERE s.party_id = p.party_id)
+            """)
+    Flux<UUID> streamUnscheduledPartyIds();
+
+    /**
+     * Leases a batch of due reviews, earliest first, walking idx_kyc_review_schedule_next_review_date.
+     * Reviews under an unexpired lease and rows locked by other transactions are skipped.
+     *
+     * @param leaseId the unique identifier of the new lease
+     * @param limit the maximum number of reviews to lease
+     * @param leaseSeconds how long the lease lasts, in seconds
+     * @return a Flux of the leased schedules
+     */
+    @Query("""
+            WITH due AS (
+                SELECT party_id FROM kyc_review_schedule
+                 WHERE next_review_date <= CURRENT_TIMESTAMP
+                   AND (leased_until IS NULL OR leased_until <= CURRENT_TIMESTAMP)
+                 ORDER BY next_review_date
+                 LIMIT :limit
+                   FOR UPDATE SKIP LOCKED
+            )
+            UPDATE kyc_review_schedule s
+               SET lease_id = :leaseId,
+                   leased_until = CURRENT_TIMESTAMP + make_interval(secs => :leaseSeconds),
+                   updated_at = CURRENT_TIMESTAMP
+              FROM due d
+             WHERE s.party_id = d.party_id
+            RETURNING s.*
+            """)
+    Flux<KycReviewSchedule> leaseDue(UUID leaseId, int limit, long leaseSeconds);
+
+    /**
+     * Records the review of a party as done now and ends its lease, provided the lease is still
+     * the one given.
+     *
+     * @param partyId the unique identifier of the party reviewed
+     * @param leaseId the unique identifier of the lease the review was done under
+     * @return a Mono emitting 1 if the review was recorded, or 0 if the lease is not held
+     */
+    @Modifying
+    @Query("""
+            UPDATE kyc_review_schedule
+               SET last_reviewed_at = CURRENT_TIMESTAMP,
+                   lease_id = NULL,
+                   leased_until = NULL,
+                   updated_at = CURRENT_TIMESTAMP
+             WHERE party_id = :partyId
+               AND lease_id = :leaseId
+            """)
+    Mono<Integer> completeReview(UUID partyId, UUID leaseId);
+
+    /**
+     * Ends a lease early, so that the reviews it still holds can be leased again.
+     *
+     * @param leaseId the unique identifier of the lease
+     * @return a Mono emitting the number of reviews released
+     */
+    @Modifying
+    @Query("""
+            UPDATE kyc_review_schedule
+               SET lease_id = NULL,
+                   leased_until = NULL,
+                   updated_at = CURRENT_TIMESTAMP
+             WHERE lease_id = :leaseId
+            """)
+    Mono<Integer> releaseLease(UUID leaseId);
+}
\ No newline at end of file
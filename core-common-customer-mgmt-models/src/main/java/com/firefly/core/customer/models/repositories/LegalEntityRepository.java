@@ -18,8 +18,12 @@
 package com.firefly.core.customer.models.repositories;
 
 import com.firefly.core.customer.models.entities.LegalEntity;
+import com.firefly.core.customer.models.projections.PartyScreeningName;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import java.util.UUID;
 
 @Repository
@@ -32,4 +36,44 @@ public interface LegalEntityRepository extends BaseRepository<LegalEntity, UUID>
      * @return a Flux of LegalEntity entities belonging to the specified party
      */
     Flux<LegalEntity> findByPartyId(UUID partyId);
+
+    /**
+     * Finds legal entities whose phonetic name keys have not been computed yet.
+     *
+     * @param limit the maximum number of rows to return
+     * @return a Flux of LegalEntity entities without phonetic keys
+     */
+    @Query("SELECT * FROM legal_entity WHERE legal_name_phonetic IS NULL ORDER BY legal_entity_id LIMIT :limit")
+    Flux<LegalEntity> findWithoutPhoneticKeys(int limit);
+
+    /**
+     * Stores the phonetic legal name keys of a legal entity without touching any other column.
+     *
+     * @param legalEntityId the unique identifier of the legal entity
+     * @param legalNamePhonetic the phonetic keys of the legal name
+     * @return a Mono emitting the number of updated rows
+     */
+    @Modifying
+    @Query("UPDATE legal_entity SET legal_name_phonetic = :legalNamePhonetic WHERE legal_entity_id = :legalEntityId")
+    Mono<Integer> updatePhoneticKeys(UUID legalEntityId, String[] legalNamePhonetic);
+
+    /**
+     * Streams the names of every legal entity for screening against PEP and sanctions lists.
+     *
+     * @return a Flux of the screening names of all legal entities
+     */
+    @Query("SELECT party_id, legal_name AS name, trade_name AS alternate_name FROM legal_entity")
+    Flux<PartyScreeningName> streamScreeningNames();
+
+    /**
+     * Finds the names of the legal entities of a batch of parties for screening.
+     *
+     * @param partyIds the parties to look up
+     * @return a Flux of the screening names of the legal entities found
+     */
+    @Query("""
+            SELECT party_id, legal_name AS name, trade_name AS alternate_name FROM legal_entity
+             WHERE party_id = ANY(CAST(:partyIds AS UUID[]))
+            """)
+    Flux<PartyScreeningName> findScreeningNames(UUID[] partyIds);
 }
\ No newline at end of file
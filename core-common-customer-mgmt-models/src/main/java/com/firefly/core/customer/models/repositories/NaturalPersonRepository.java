@@ -18,8 +18,12 @@
 package com.firefly.core.customer.models.repositories;
 
 import com.firefly.core.customer.models.entities.NaturalPerson;
+import com.firefly.core.customer.models.projections.PartyScreeningName;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import java.util.UUID;
 
 @Repository
@@ -32,4 +36,61 @@ public interface NaturalPersonRepository extends BaseRepository<NaturalPerson, U
      * @return a Flux of NaturalPerson entities belonging to the specified party
      */
     Flux<NaturalPerson> findByPartyId(UUID partyId);
+
+    /**
+     * Finds natural persons whose phonetic name keys have not been computed yet.
+     *
+     * @param limit the maximum number of rows to return
+     * @return a Flux of NaturalPerson entities without phonetic keys
+     */
+    @Query("SELECT * FROM natural_person WHERE given_name_phonetic IS NULL ORDER BY natural_person_id LIMIT :limit")
+    Flux<NaturalPerson> findWithoutPhoneticKeys(int limit);
+
+    /**
+     * Stores the phonetic name keys of a natural person without touching any other column.
+     *
+     * @param naturalPersonId the unique identifier of the natural person
+     * @param givenNamePhonetic the phonetic keys of the given name
+     * @param familyName1Phonetic the phonetic keys of the first family name
+     * @param familyName2Phonetic the phonetic keys of the second family name
+     * @return a Mono emitting the number of updated rows
+     */
+    @Modifying
+    @Query("""
+            UPDATE natural_person
+               SET given_name_phonetic = :givenNamePhonetic,
+                   family_name1_phonetic = :familyName1Phonetic,
+                   family_name2_phonetic = :familyName2Phonetic
+             WHERE natural_person_id = :naturalPersonId
+            """)
+    Mono<Integer> updatePhoneticKeys(UUID naturalPersonId, String[] givenNamePhonetic,
+                                     String[] familyName1Phonetic, String[] familyName2Phonetic);
+
+    /**
+     * Streams the names of every natural person for screening against PEP and sanctions lists.
+     *
+     * @return a Flux of the screening names of all natural persons
+     */
+    @Query("""
+            SELECT party_id,
+                   concat_ws(' ', given_name, middle_name, family_name1, family_name2) AS name,
+                   concat_ws(' ', given_name, family_name1, family_name2) AS alternate_name
+              FROM natural_person
+            """)
+    Flux<PartyScreeningName> streamScreeningNames();
+
+    /**
+     * Finds the names of the natural persons of a batch of parties for screening.
+     *
+     * @param partyIds the parties to look up
+     * @return a Flux of the screening names of the natural persons found
+     */
+    @Query("""
+            SELECT party_id,
+                   concat_ws(' ', given_name, middle_name, family_name1, family_name2) AS name,
+                   concat_ws(' ', given_name, family_name1, family_name2) AS alternate_name
+              FROM natural_person
+             WHERE party_id = ANY(CAST(:partyIds AS UUID[]))
+            """)
+    Flux<PartyScreeningName> findScreeningNames(UUID[] partyIds);
 }
\ No newline at end of file
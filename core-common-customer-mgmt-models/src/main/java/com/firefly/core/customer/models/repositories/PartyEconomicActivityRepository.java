@@ -18,9 +18,127 @@
 package com.firefly.core.customer.models.repositories;
 
 import com.firefly.core.customer.models.entities.PartyEconomicActivity;
+import com.firefly.core.customer.models.projections.EconomicActivityTurnover;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @Repository
 public interface PartyEconomicActivityRepository extends BaseRepository<PartyEconomicActivity, UUID> {
+
+    /**
+     * Lists the economic activities of a party that were valid at a point in time, probing the GiST
+     * index on the party and the validity period.
+     *
+     * @param partyId the unique identifier of the party
+     * @param asOf the point in time the economic activities must have been valid at
+     * @return a Flux of the economic activities valid at that time
+     */
+    @Query("""
+            SELECT * FROM party_economic_activity
+             WHERE party_id = :partyId
+               AND valid_period @> CAST(:asOf AS TIMESTAMPTZ)
+             ORDER BY is_primary DESC, start_date DESC, party_economic_activity_id
+            """)
+    Flux<PartyEconomicActivity> findByPartyIdAsOf(UUID partyId, OffsetDateTime asOf);
+
+    /**
+     * Finds a party economic activity and locks it until the end of the transaction, so that its
+     * turnover rollup can be taken out and put back without a concurrent write in between.
+     *
+     * @param partyEconomicActivityId the unique identifier of the party economic activity
+     * @return a Mono emitting the locked economic activity, or empty if there is none
+     */
+    @Query("""
+            SELECT * FROM party_economic_activity
+             WHERE party_economic_activity_id = :partyEconomicActivityId
+               FOR UPDATE
+            """)
+    Mono<PartyEconomicActivity> findByIdForUpdate(UUID partyEconomicActivityId);
+
+    /**
+     * Adds a party economic activity to the turnover rollup of its tenant, economic activity and
+     * currency, or takes it out again, creating the rollup row when missing. The activity is read
+     * as currently stored, so it must be locked and taken out before it is changed or deleted.
+     * A blank currency is rolled up with the activities without a currency.
+     *
+     * @param partyEconomicActivityId the unique identifier of the party economic activity
+     * @param sign 1 to add the activity to its rollup, -1 to take it out
+     * @return a Mono emitting the number of rollup rows written
+     */
+    @Modifying
+    @Query("""
+            INSERT INTO economic_activity_turnover (tenant_id, economic_activity_id, currency_code,
+                                                    activity_count, reported_count, turnover_total)
+            SELECT p.tenant_id, a.economic_activity_id, NULLIF(a.currency_code, ''),
+                   :sign, CASE WHEN a.annual_turnover IS NULL THEN 0 ELSE :sign END,
+                   :sign * COALESCE(a.annual_turnover, 0)
+              FROM party_economic_activity a
+              JOIN party p ON p.party_id = a.party_id
+             WHERE a.party_economic_activity_id = :partyEconomicActivityId
+            ON CONFLICT (tenant_id, economic_activity_id, COALESCE(currency_code, '')) DO UPDATE
+               SET activity_count = economic_activity_turnover.activity_count + EXCLUDED.activity_count,
+                   reported_count = economic_activity_turnover.reported_count + EXCLUDED.reported_count,
+                   turnover_total = economic_activity_turnover.turnover_total + EXCLUDED.turnover_total,
+                   updated_at = CURRENT_TIMESTAMP
+            """)
+    Mono<Integer> adjustTurnover(UUID partyEconomicActivityId, int sign);
+
+    /**
+     * Adds all economic activities of a party to the turnover rollups of its tenant, or takes them
+     * out again, in one statement. Used when the party moves between tenants or is deleted, which
+     * cascades to its economic activities. Rollup rows are written in key order, so concurrent
+     * adjustments lock them in the same order.
+     *
+     * @param partyId the unique identifier of the party
+     * @param sign 1 to add the activities to their rollups, -1 to take them out
+     * @return a Mono emitting the number of rollup rows written
+     */
+    @Modifying
+    @Query("""
+            INSERT INTO economic_activity_turnover (tenant_id, economic_activity_id, currency_code,
+                                                    activity_count, reported_count, turnover_total)
+            SELECT p.tenant_id, a.economic_activity_id, NULLIF(COALESCE(a.currency_code, ''), ''),
+                   :sign * COUNT(*), :sign * COUNT(a.annual_turnover),
+                   :sign * COALESCE(SUM(a.annual_turnover), 0)
+              FROM party_economic_activity a
+              JOIN party p ON p.party_id = a.party_id
+             WHERE a.party_id = :partyId
+             GROUP BY p.tenant_id, a.economic_activity_id, COALESCE(a.currency_code, '')
+             ORDER BY a.economic_activity_id, COALESCE(a.currency_code, '')
+            ON CONFLICT (tenant_id, economic_activity_id, COALESCE(currency_code, '')) DO UPDATE
+               SET activity_count = economic_activity_turnover.activity_count + EXCLUDED.activity_count,
+                   reported_count = economic_activity_turnover.reported_count + EXCLUDED.reported_count,
+                   turnover_total = economic_activity_turnover.turnover_total + EXCLUDED.turnover_total,
+                   updated_at = CURRENT_TIMESTAMP
+            """)
+    Mono<Integer> adjustPartyTurnover(UUID partyId, int sign);
+
+    /**
+     * Reads the turnover rollups of a tenant, one row per economic activity and currency, straight
+     * off idx_economic_activity_turnover_key. Groups whose activities have all been removed are
+     * left out.
+     *
+     * @param tenantId the tenant to report on
+     * @param economicActivityId the only economic activity to report, or null for all
+     * @param currencyCode the only currency to report, or null for all
+     * @return a Flux of the turnover rollups, ordered by economic activity and currency
+     */
+    @Query("""
+            SELECT tenant_id, economic_activity_id, currency_code, activity_count, reported_count,
+                   turnover_total, ROUND(turnover_total / NULLIF(reported_count, 0), 2) AS average_turnover,
+                   updated_at
+              FROM economic_activity_turnover
+             WHERE tenant_id = :tenantId
+               AND (CAST(:economicActivityId AS UUID) IS NULL OR economic_activity_id = :economicActivityId)
+               AND (CAST(:currencyCode AS TEXT) IS NULL OR currency_code = :currencyCode)
+               AND activity_count > 0
+             ORDER BY economic_activity_id, currency_code NULLS FIRST
+            """)
+    Flux<EconomicActivityTurnover> findTurnovers(UUID tenantId, UUID economicActivityId, String currencyCode);
 }
\ No newline at end of file
@@ -18,9 +18,251 @@
 package com.firefly.core.customer.models.repositories;
 
 import com.firefly.core.customer.models.entities.PartyGroupMembership;
+import com.firefly.core.customer.models.projections.PartyGroupMembershipResult;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @Repository
 public interface PartyGroupMembershipRepository extends BaseRepository<PartyGroupMembership, UUID> {
+
+    /**
+     * Lists the group memberships of a party that were valid at a point in time, probing the GiST
+     * index on the party and the validity period.
+     *
+     * @param partyId the unique identifier of the party
+     * @param asOf the point in time the group memberships must have been valid at
+     * @return a Flux of the group memberships valid at that time
+     */
+    @Query("""
+            SELECT * FROM party_group_membership
+             WHERE party_id = :partyId
+               AND valid_period @> CAST(:asOf AS TIMESTAMPTZ)
+             ORDER BY start_date DESC NULLS LAST, party_group_membership_id
+            """)
+    Flux<PartyGroupMembership> findByPartyIdAsOf(UUID partyId, OffsetDateTime asOf);
+
+    /**
+     * Streams the active memberships of a group in party order, starting after a given party,
+     * straight off idx_party_group_membership_group_active_party.
+     *
+     * @param groupId the unique identifier of the group
+     * @param afterPartyId the party to resume after; the nil UUID starts from the beginning
+     * @return a Flux of the active memberships of the group, ordered by party
+     */
+    @Query("""
+            SELECT * FROM party_group_membership
+             WHERE group_id = :groupId
+               AND is_active = true
+               AND party_id > :afterPartyId
+             ORDER BY party_id
+            """)
+    Flux<PartyGroupMembership> streamActiveMembers(UUID groupId, UUID afterPartyId);
+
+    /**
+     * Streams all memberships of a group in party order, active or not, starting after a given
+     * membership, straight off idx_party_group_membership_group_party. A party can have several
+     * memberships of a group over time, so the stream is keyed on the party and the membership.
+     *
+     * @param groupId the unique identifier of the group
+     * @param afterPartyId the party of the membership to resume after; the nil UUID starts from the beginning
+     * @param afterMembershipId the membership to resume after within that party
+     * @return a Flux of the memberships of the group, ordered by party and membership
+     */
+    @Query("""
+            SELECT * FROM party_group_membership
+             WHERE group_id = :groupId
+               AND (party_id, party_group_membership_id) > (:afterPartyId, :afterMembershipId)
+             ORDER BY party_id, party_group_membership_id
+            """)
+    Flux<PartyGroupMembership> streamMembers(UUID groupId, UUID afterPartyId, UUID afterMembershipId);
+
+    /**
+     * Adds a delta to the active member counter of a group, creating the counter when missing.
+     *
+     * @param groupId the unique identifier of the group
+     * @param delta the number of members that became active (positive) or inactive (negative)
+     * @return a Mono emitting the number of counter rows written
+     */
+    @Modifying
+    @Query("""
+            INSERT INTO party_group_member_count (group_id, active_members)
+            VALUES (:groupId, :delta)
+            ON CONFLICT (group_id) DO UPDATE
+               SET active_members = party_group_member_count.active_members + EXCLUDED.active_members,
+                   updated_at = CURRENT_TIMESTAMP
+            """)
+    Mono<Integer> adjustActiveMemberCount(UUID groupId, long delta);
+
+    /**
+     * Reads the active member counter of a group.
+     *
+     * @param groupId the unique identifier of the group
+     * @return a Mono emitting the number of active members, or empty when the group has no counter yet
+     */
+    @Query("SELECT active_members FROM party_group_member_count WHERE group_id = :groupId")
+    Mono<Long> findActiveMemberCount(UUID groupId);
+
+    /**
+     * Locks the active member counters of the groups a party is an active member of, in group id
+     * order like every other membership write, so that the memberships of the party in those
+     * groups stay as they are until the end of the transaction.
+     *
+     * @param partyId the unique identifier of the party
+     * @return a Flux of the groups whose counters were locked
+     */
+    @Query("""
+            SELECT c.group_id FROM party_group_member_count c
+             WHERE c.group_id IN (SELECT m.group_id FROM party_group_membership m
+                                   WHERE m.party_id = :partyId
+                                     AND m.is_active = true)
+             ORDER BY c.group_id
+               FOR UPDATE
+            """)
+    Flux<UUID> lockPartyActiveMemberCounts(UUID partyId);
+
+    /**
+     * Takes the active memberships of a party off the active member counters of their groups,
+     * ahead of the party delete that cascades to them. The counters must have been locked with
+     * {@link #lockPartyActiveMemberCounts(UUID)} first.
+     *
+     * @param partyId the unique identifier of the party
+     * @return a Mono emitting the number of counter rows written
+     */
+    @Modifying
+    @Query("""
+            UPDATE party_group_member_count c
+               SET active_members = c.active_members - m.active_members,
+                   updated_at = CURRENT_TIMESTAMP
+              FROM (SELECT group_id, count(*) AS active_members
+                      FROM party_group_membership
+                     WHERE party_id = :partyId
+                       AND is_active = true
+                     GROUP BY group_id) m
+             WHERE c.group_id = m.group_id
+            """)
+    Mono<Integer> takeOffPartyActiveMemberCounts(UUID partyId);
+
+    /**
+     * Adds parties to a group in a single multi-row insert. Parties that already have an active
+     * membership of the group are skipped through idx_party_group_membership_active_unique, even
+     * when a concurrent transaction added them, as are parties that do not exist.
+     *
+     * @param groupId the unique identifier of the group
+     * @param partyIds the distinct parties to add
+     * @param startDate the start date of the new memberships
+     * @param notes optional notes stored on every new membership
+     * @return a Flux with one outcome per requested party
+     */
+    @Query("""
+            WITH requested AS (
+                SELECT DISTINCT unnest(CAST(:partyIds AS UUID[])) AS party_id
+            ),
+            inserted AS (
+                INSERT INTO party_group_membership (group_id, party_id, is_active, start_date, notes)
+                SELECT :groupId, r.party_id, true, :startDate, :notes
+                  FROM requested r
+                  JOIN party p ON p.party_id = r.party_id
+                ON CONFLICT (group_id, party_id) WHERE is_active = true DO NOTHING
+                RETURNING party_id, party_group_membership_id
+            )
+            SELECT r.party_id, i.party_group_membership_id,
+                   CASE WHEN i.party_id IS NOT NULL THEN 'ADDED'
+                        WHEN EXISTS (SELECT 1 FROM party p WHERE p.party_id = r.party_id) THEN 'ALREADY_ACTIVE'
+                        ELSE 'PARTY_NOT_FOUND'
+                   END AS outcome
+              FROM requested r
+              LEFT JOIN inserted i ON i.party_id = r.party_id
+             ORDER BY r.party_id
+            """)
+    Flux<PartyGroupMembershipResult> addMembers(UUID groupId, UUID[] partyIds, LocalDateTime startDate, String notes);
+
+    /**
+     * Ends the active memberships of parties in a group in a single multi-row update, setting
+     * their end date and marking them inactive. Parties without an active membership are skipped.
+     *
+     * @param groupId the unique identifier of the group
+     * @param partyIds the distinct parties whose memberships to end
+     * @param endDate the end date of the memberships
+     * @return a Flux with one outcome per ended membership, or per requested party when none was active
+     */
+    @Query("""
+            WITH requested AS (
+                SELECT DISTINCT unnest(CAST(:partyIds AS UUID[])) AS party_id
+            ),
+            ended AS (
+                UPDATE party_group_membership m
+                   SET is_active = false,
+                       end_date = :endDate,
+                       updated_at = CURRENT_TIMESTAMP
+                  FROM requested r
+                 WHERE m.group_id = :groupId
+                   AND m.is_active = true
+                   AND m.party_id = r.party_id
+                RETURNING m.party_id, m.party_group_membership_id
+            )
+            SELECT r.party_id, e.party_group_membership_id,
+                   CASE WHEN e.party_id IS NOT NULL THEN 'ENDED' ELSE 'NOT_ACTIVE' END AS outcome
+              FROM requested r
+              LEFT JOIN ended e ON e.party_id = r.party_id
+             ORDER BY r.party_id
+            """)
+    Flux<PartyGroupMembershipResult> endMembers(UUID groupId, UUID[] partyIds, LocalDateTime endDate);
+
+    /**
+     * Marks a batch of active memberships whose end date has passed as inactive and takes them off
+     * the active member counters of their groups, walking idx_party_group_membership_active_end_date
+     * in end date order. The counters of the groups concerned are locked first, in the same order
+     * as the bulk membership operations, and only memberships of groups whose counter was locked
+     * are expired. Counters and memberships locked by other transactions are skipped and left to
+     * a later sweep, so the sweep never waits on a membership write.
+     *
+     * @param limit the maximum number of memberships to expire
+     * @return a Flux of the memberships that were expired
+     */
+    @Query("""
+            WITH counters AS (
+                SELECT c.group_id FROM party_group_member_count c
+                 WHERE c.group_id IN (SELECT m.group_id FROM party_group_membership m
+                                       WHERE m.is_active = true
+                                         AND m.end_date <= CURRENT_TIMESTAMP
+                                       ORDER BY m.end_date
+                                       LIMIT :limit)
+                 ORDER BY c.group_id
+                   FOR UPDATE SKIP LOCKED
+            ),
+            expired AS (
+                SELECT m.party_group_membership_id
+                  FROM party_group_membership m
+                  JOIN counters c ON c.group_id = m.group_id
+                 WHERE m.is_active = true
+                   AND m.end_date <= CURRENT_TIMESTAMP
+                 ORDER BY m.end_date
+                 LIMIT :limit
+                   FOR UPDATE OF m SKIP LOCKED
+            ),
+            ended AS (
+                UPDATE party_group_membership m
+                   SET is_active = false,
+                       updated_at = CURRENT_TIMESTAMP
+                  FROM expired e
+                 WHERE m.party_group_membership_id = e.party_group_membership_id
+                RETURNING m.*
+            ),
+            adjusted AS (
+                INSERT INTO party_group_member_count (group_id, active_members)
+                SELECT group_id, -count(*) FROM ended GROUP BY group_id
+                ON CONFLICT (group_id) DO UPDATE
+                   SET active_members = party_group_member_count.active_members + EXCLUDED.active_members,
+                       updated_at = CURRENT_TIMESTAMP
+            )
+            SELECT * FROM ended
+            """)
+    Flux<PartyGroupMembership> expireEnded(int limit);
 }
\ No newline at end of file
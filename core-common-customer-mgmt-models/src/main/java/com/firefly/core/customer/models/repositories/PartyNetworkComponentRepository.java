@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.models.repositories;
+
+import com.firefly.core.customer.models.entities.PartyNetworkComponent;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Repository
+public interface PartyNetworkComponentRepository extends BaseRepository<PartyNetworkComponent, UUID> {
+
+    /**
+     * Joins the network components of two parties after a current relationship between them was added.
+     *
+     * @param fromPartyId one end of the relationship
+     * @param toPartyId the other end of the relationship
+     * @return a Mono that completes when the components have been joined
+     */
+    @Query("SELECT link_party_network(:fromPartyId, :toPartyId)")
+    Mono<Void> link(UUID fromPartyId, UUID toPartyId);
+
+    /**
+     * Queues a split check for the network component of two parties after a current relationship
+     * between them was ended or deleted, unless another relationship still links them directly.
+     *
+     * @param fromPartyId one end of the relationship
+     * @param toPartyId the other end of the relationship
+     * @return a Mono that completes when the check has been queued
+     */
+    @Query("SELECT unlink_party_network(:fromPartyId, :toPartyId)")
+    Mono<Void> unlink(UUID fromPartyId, UUID toPartyId);
+
+    /**
+     * Runs queued split checks, skipping checks another node is running. Each check splits the
+     * component if no path of current relationships connects the two parties any more.
+     *
+     * @param limit the maximum number of checks to run
+     * @return a Mono emitting the number of checks run
+     */
+    @Query("SELECT run_party_network_splits(:limit)")
+    Mono<Integer> runSplits(int limit);
+
+    /**
+     * Lists the members of a network component in key order through
+     * idx_party_network_component_component_id.
+     *
+     * @param componentId the unique identifier of the component
+     * @param limit the maximum number of parties to return
+     * @return a Flux of the parties in the component
+     */
+    @Query("SELECT party_id FROM party_network_component WHERE component_id = :componentId ORDER BY party_id LIMIT :limit")
+    Flux<UUID> findPartyIdsByComponentId(UUID componentId, int limit);
+
+    /**
+     * Counts the members of a network component.
+     *
+     * @param componentId the unique identifier of the component
+     * @return a Mono emitting the number of parties in the component
+     */
+    @Query("SELECT COUNT(*) FROM party_network_component WHERE component_id = :componentId")
+    Mono<Long> countByComponentId(UUID componentId);
+
+    /**
+     * Checks whether a build of the component assignments has completed.
+     *
+     * @return a Mono emitting {@code true} once a build has completed
+     */
+    @Query("SELECT EXISTS (SELECT 1 FROM party_network_build WHERE completed_at IS NOT NULL)")
+    Mono<Boolean> isBuilt();
+
+    /**
+     * Starts a build by clearing the component assignments. A running build whose heartbeat is
+     * older than {@code expireAfterSeconds} is abandoned first.
+     *
+     * @param expireAfterSeconds the heartbeat age after which a running build counts as abandoned
+     * @return a Mono emitting {@code false} if a build has completed or another one is running
+     */
+    @Query("SELECT begin_party_network_build(make_interval(secs => :expireAfterSeconds))")
+    Mono<Boolean> beginBuild(long expireAfterSeconds);
+
+    /**
+     * Writes a batch of the component assignments computed by the build in one multi-row upsert.
+     *
+     * @param partyIds the parties to assign
+     * @param componentIds the component of each party, at the same position
+     * @return a Mono emitting the number of assignments written
+     */
+    @Query("SELECT fill_party_network_components(CAST(:partyIds AS UUID[]), CAST(:componentIds AS UUID[]))")
+    Mono<Integer> fillComponents(UUID[] partyIds, UUID[] componentIds);
+
+    /**
+     * Replays links and unlinks made since the build started over the written assignments.
+     *
+     * @param limit the maximum number of changes to replay
+     * @return a Mono emitting the number of changes replayed
+     */
+    @Query("SELECT catch_up_party_network_build(:limit)")
+    Mono<Integer> catchUpBuild(int limit);
+
+    /**
+     * Replays the remaining changes and marks the build complete.
+     *
+     * @return a Mono that completes when the build has been committed
+     */
+    @Query("SELECT finish_party_network_build()")
+    Mono<Void> finishBuild();
+
+    /**
+     * Abandons a running build so that the next one starts at once.
+     *
+     * @return a Mono that completes when the build state has been cleared
+     */
+    @Query("SELECT abort_party_network_build()")
+    Mono<Void> abortBuild();
+}
\ No newline at end of file
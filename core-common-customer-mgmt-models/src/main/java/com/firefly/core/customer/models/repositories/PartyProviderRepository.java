@@ -18,9 +18,47 @@
 package com.firefly.core.customer.models.repositories;
 
 import com.firefly.core.customer.models.entities.PartyProvider;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.util.Collection;
 import java.util.UUID;
 
 @Repository
 public interface PartyProviderRepository extends BaseRepository<PartyProvider, UUID> {
+
+    /**
+     * Finds the party provider mapping for an external reference within a provider.
+     * Backed by the unique index on (provider_name, external_reference).
+     *
+     * @param providerName the name of the external provider
+     * @param externalReference the reference of the party in the external provider
+     * @return a Mono containing the PartyProvider if found
+     */
+    Mono<PartyProvider> findByProviderNameAndExternalReference(String providerName, String externalReference);
+
+    /**
+     * Finds the party provider mappings for a set of external references within a provider.
+     *
+     * @param providerName the name of the external provider
+     * @param externalReferences the references of the parties in the external provider
+     * @return a Flux of the PartyProvider entities that exist for the given references
+     */
+    Flux<PartyProvider> findByProviderNameAndExternalReferenceIn(String providerName, Collection<String> externalReferences);
+
+    /**
+     * Notifies every node that the resolution of an external reference changed, so that they evict it
+     * from their caches. The notification is delivered only if and when the current transaction commits.
+     *
+     * @param providerName the name of the external provider
+     * @param externalReference the reference of the party in the external provider
+     * @return a Mono emitting the number of notifications sent
+     */
+    @Query("""
+            SELECT COUNT(*) FROM (
+                SELECT pg_notify('party_provider_reference', :providerName || chr(31) || :externalReference)
+            ) n
+            """)
+    Mono<Long> notifyReferenceChanged(String providerName, String externalReference);
 }
\ No newline at end of file
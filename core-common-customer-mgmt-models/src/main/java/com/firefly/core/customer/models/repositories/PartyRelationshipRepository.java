@@ -18,9 +18,179 @@
 package com.firefly.core.customer.models.repositories;
 
 import com.firefly.core.customer.models.entities.PartyRelationship;
+import com.firefly.core.customer.models.projections.PartyRelationshipEdge;
+import com.firefly.core.customer.models.projections.PartyRelationshipSummary;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @Repository
 public interface PartyRelationshipRepository extends BaseRepository<PartyRelationship, UUID> {
+
+    /**
+     * Finds the relationships touching any of the given parties, for walking the relationship
+     * graph one level at a time. The two branches probe idx_party_relationship_from_party and
+     * idx_party_relationship_to_party; UNION returns a relationship between two of the given
+     * parties once. The returned edges carry no depth.
+     *
+     * @param partyIds the parties reached at the current level
+     * @param outgoing whether to return relationships from the given parties
+     * @param incoming whether to return relationships to the given parties
+     * @param relationshipTypeIds the relationship types to return, or {@code null} for all types
+     * @param activeOnly whether to return only active relationships that have not ended
+     * @param excludedRelationshipIds relationships already returned at the previous level
+     * @param limit the maximum number of relationships to return
+     * @return a Flux of relationships ordered by identifier
+     */
+    @Query("""
+            SELECT r.party_relationship_id, r.from_party_id, r.to_party_id, r.relationship_type_id,
+                   r.start_date, r.end_date, r.active
+              FROM party_relationship r
+             WHERE CAST(:outgoing AS BOOLEAN)
+               AND r.from_party_id = ANY (CAST(:partyIds AS UUID[]))
+               AND NOT r.party_relationship_id = ANY (CAST(:excludedRelationshipIds AS UUID[]))
+               AND (NOT CAST(:activeOnly AS BOOLEAN)
+                    OR (r.active AND (r.end_date IS NULL OR r.end_date > CURRENT_TIMESTAMP)))
+               AND (CAST(:relationshipTypeIds AS UUID[]) IS NULL
+                    OR r.relationship_type_id = ANY (CAST(:relationshipTypeIds AS UUID[])))
+            UNION
+            SELECT r.party_relationship_id, r.from_party_id, r.to_party_id, r.relationship_type_id,
+                   r.start_date, r.end_date, r.active
+              FROM party_relationship r
+             WHERE CAST(:incoming AS BOOLEAN)
+               AND r.to_party_id = ANY (CAST(:partyIds AS UUID[]))
+               AND NOT r.party_relationship_id = ANY (CAST(:excludedRelationshipIds AS UUID[]))
+               AND (NOT CAST(:activeOnly AS BOOLEAN)
+                    OR (r.active AND (r.end_date IS NULL OR r.end_date > CURRENT_TIMESTAMP)))
+               AND (CAST(:relationshipTypeIds AS UUID[]) IS NULL
+                    OR r.relationship_type_id = ANY (CAST(:relationshipTypeIds AS UUID[])))
+             ORDER BY party_relationship_id
+             LIMIT :limit
+            """)
+    Flux<PartyRelationshipEdge> findEdgesOfParties(UUID[] partyIds, boolean outgoing, boolean incoming,
+                                                   UUID[] relationshipTypeIds, boolean activeOnly,
+                                                   UUID[] excludedRelationshipIds, int limit);
+
+    /**
+     * Lists the relationships of a party in both directions with a summary of each counterparty.
+     * The two branches probe idx_party_relationship_from_party and idx_party_relationship_to_party;
+     * a relationship can never link a party to itself, so UNION ALL returns each one once.
+     *
+     * @param partyId the unique identifier of the party
+     * @return a Flux of the relationships of the party, most recently started first
+     */
+    @Query("""
+            SELECT rel.party_relationship_id, rel.from_party_id, rel.to_party_id, rel.relationship_type_id,
+                   rel.start_date, rel.end_date, rel.active, rel.direction,
+                   cp.party_id AS counterparty_party_id,
+                   cp.party_kind AS counterparty_party_kind,
+                   COALESCE(
+                       (SELECT NULLIF(concat_ws(' ', np.given_name, np.family_name1, np.family_name2), '')
+                          FROM natural_person np WHERE np.party_id = cp.party_id LIMIT 1),
+                       (SELECT le.legal_name
+                          FROM legal_entity le WHERE le.party_id = cp.party_id LIMIT 1)) AS counterparty_display_name
+              FROM (SELECT r.*, 'OUTGOING' AS direction, r.to_party_id AS counterparty_id
+                      FROM party_relationship r
+                     WHERE r.from_party_id = :partyId
+                    UNION ALL
+                    SELECT r.*, 'INCOMING' AS direction, r.from_party_id AS counterparty_id
+                      FROM party_relationship r
+                     WHERE r.to_party_id = :partyId) AS rel
+              JOIN party cp ON cp.party_id = rel.counterparty_id
+             ORDER BY rel.start_date DESC, rel.party_relationship_id
+            """)
+    Flux<PartyRelationshipSummary> findRelationshipsOfParty(UUID partyId);
+
+    /**
+     * Lists the active relationships of a party in both directions with a summary of each counterparty,
+     * probing the partial indexes on active relationships.
+     *
+     * @param partyId the unique identifier of the party
+     * @return a Flux of the active relationships of the party, most recently started first
+     */
+    @Query("""
+            SELECT rel.party_relationship_id, rel.from_party_id, rel.to_party_id, rel.relationship_type_id,
+                   rel.start_date, rel.end_date, rel.active, rel.direction,
+                   cp.party_id AS counterparty_party_id,
+                   cp.party_kind AS counterparty_party_kind,
+                   COALESCE(
+                       (SELECT NULLIF(concat_ws(' ', np.given_name, np.family_name1, np.family_name2), '')
+                          FROM natural_person np WHERE np.party_id = cp.party_id LIMIT 1),
+                       (SELECT le.legal_name
+                          FROM legal_entity le WHERE le.party_id = cp.party_id LIMIT 1)) AS counterparty_display_name
+              FROM (SELECT r.*, 'OUTGOING' AS direction, r.to_party_id AS counterparty_id
+                      FROM party_relationship r
+                     WHERE r.from_party_id = :partyId
+                       AND r.active = true
+                    UNION ALL
+                    SELECT r.*, 'INCOMING' AS direction, r.from_party_id AS counterparty_id
+                      FROM party_relationship r
+                     WHERE r.to_party_id = :partyId
+                       AND r.active = true) AS rel
+              JOIN party cp ON cp.party_id = rel.counterparty_id
+             ORDER BY rel.start_date DESC, rel.party_relationship_id
+            """)
+    Flux<PartyRelationshipSummary> findActiveRelationshipsOfParty(UUID partyId);
+
+    /**
+     * Lists the relationships of a party in both directions that were valid at a point in time,
+     * with a summary of each counterparty. Each branch is a single probe of the GiST index on
+     * the party column and the validity period.
+     *
+     * @param partyId the unique identifier of the party
+     * @param asOf the point in time the relationships must have been valid at
+     * @return a Flux of the relationships valid at that time, most recently started first
+     */
+    @Query("""
+            SELECT rel.party_relationship_id, rel.from_party_id, rel.to_party_id, rel.relationship_type_id,
+                   rel.start_date, rel.end_date, rel.active, rel.direction,
+                   cp.party_id AS counterparty_party_id,
+                   cp.party_kind AS counterparty_party_kind,
+                   COALESCE(
+                       (SELECT NULLIF(concat_ws(' ', np.given_name, np.family_name1, np.family_name2), '')
+                          FROM natural_person np WHERE np.party_id = cp.party_id LIMIT 1),
+                       (SELECT le.legal_name
+                          FROM legal_entity le WHERE le.party_id = cp.party_id LIMIT 1)) AS counterparty_display_name
+              FROM (SELECT r.*, 'OUTGOING' AS direction, r.to_party_id AS counterparty_id
+                      FROM party_relationship r
+                     WHERE r.from_party_id = :partyId
+                       AND r.valid_period @> CAST(:asOf AS TIMESTAMPTZ)
+                    UNION ALL
+                    SELECT r.*, 'INCOMING' AS direction, r.from_party_id AS counterparty_id
+                      FROM party_relationship r
+                     WHERE r.to_party_id = :partyId
+                       AND r.valid_period @> CAST(:asOf AS TIMESTAMPTZ)) AS rel
+              JOIN party cp ON cp.party_id = rel.counterparty_id
+             ORDER BY rel.start_date DESC, rel.party_relationship_id
+            """)
+    Flux<PartyRelationshipSummary> findRelationshipsOfPartyAsOf(UUID partyId, OffsetDateTime asOf);
+
+    /**
+     * Marks a batch of active relationships whose end date has passed as inactive, walking
+     * idx_party_relationship_active_end_date in end date order. Rows locked by other
+     * transactions are skipped, so concurrent sweeps on several nodes never wait on each other.
+     *
+     * @param limit the maximum number of relationships to expire
+     * @return a Flux of the relationships that were expired
+     */
+    @Query("""
+            WITH expired AS (
+                SELECT party_relationship_id FROM party_relationship
+                 WHERE active = true
+                   AND end_date <= CURRENT_TIMESTAMP
+                 ORDER BY end_date
+                 LIMIT :limit
+                   FOR UPDATE SKIP LOCKED
+            )
+            UPDATE party_relationship r
+               SET active = false,
+                   updated_at = CURRENT_TIMESTAMP
+              FROM expired e
+             WHERE r.party_relationship_id = e.party_relationship_id
+            RETURNING r.*
+            """)
+    Flux<PartyRelationship> expireEnded(int limit);
 }
\ No newline at end of file
@@ -18,9 +18,64 @@
 package com.firefly.core.customer.models.repositories;
 
 import com.firefly.core.customer.models.entities.Party;
+import com.firefly.core.customer.models.projections.PartyNameEntry;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import java.util.UUID;
 
 @Repository
 public interface PartyRepository extends BaseRepository<Party, UUID> {
+
+    /**
+     * Streams the display names of every natural person and legal entity together with their tenant.
+     * Used to build in-memory name indexes at startup.
+     *
+     * @return a Flux of the names of all parties
+     */
+    @Query("""
+            SELECT p.party_id, p.tenant_id,
+                   concat_ws(' ', np.given_name, np.middle_name, np.family_name1, np.family_name2) AS name,
+                   concat_ws(' ', np.given_name, np.family_name1, np.family_name2) AS alternate_name
+              FROM natural_person np
+              JOIN party p ON p.party_id = np.party_id
+            UNION ALL
+            SELECT p.party_id, p.tenant_id, le.legal_name AS name, le.trade_name AS alternate_name
+              FROM legal_entity le
+              JOIN party p ON p.party_id = le.party_id
+            """)
+    Flux<PartyNameEntry> streamPartyNames();
+
+    /**
+     * Lists the display names of the given parties together with their tenant, like
+     * {@link #streamPartyNames()}. Parties without a natural person or legal entity are left out.
+     *
+     * @param partyIds the parties to read
+     * @return a Flux of the names of the parties
+     */
+    @Query("""
+            SELECT p.party_id, p.tenant_id,
+                   concat_ws(' ', np.given_name, np.middle_name, np.family_name1, np.family_name2) AS name,
+                   concat_ws(' ', np.given_name, np.family_name1, np.family_name2) AS alternate_name
+              FROM natural_person np
+              JOIN party p ON p.party_id = np.party_id
+             WHERE np.party_id = ANY(CAST(:partyIds AS UUID[]))
+            UNION ALL
+            SELECT p.party_id, p.tenant_id, le.legal_name AS name, le.trade_name AS alternate_name
+              FROM legal_entity le
+              JOIN party p ON p.party_id = le.party_id
+             WHERE le.party_id = ANY(CAST(:partyIds AS UUID[]))
+            """)
+    Flux<PartyNameEntry> findPartyNames(UUID[] partyIds);
+
+    /**
+     * Finds a party and locks it until the end of the transaction, which also holds off the rows
+     * that would reference it, such as new group memberships, until then.
+     *
+     * @param partyId the unique identifier of the party
+     * @return a Mono emitting the locked party, or empty if there is none
+     */
+    @Query("SELECT * FROM party WHERE party_id = :partyId FOR UPDATE")
+    Mono<Party> findByIdForUpdate(UUID partyId);
 }
\ No newline at end of file
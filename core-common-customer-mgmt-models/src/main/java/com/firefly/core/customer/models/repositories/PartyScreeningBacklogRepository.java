@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.models.repositories;
+
+import com.firefly.core.customer.models.entities.PartyScreeningBacklog;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Repository
+public interface PartyScreeningBacklogRepository extends BaseRepository<PartyScreeningBacklog, UUID> {
+
+    /**
+     * Adds a party to the backlog, or gives its row a new ticket if it is already there. The
+     * row becomes due for claiming after the given delay, with its attempts reset.
+     *
+     * @param partyId the unique identifier of the party whose names were written
+     * @param retryAfterSeconds how long the in-memory queue has before the row is claimed, in seconds
+     * @return a Mono emitting the ticket of the write
+     */
+    @Query("""
+            INSERT INTO party_screening_backlog (party_id, due_at)
+            VALUES (:partyId, CURRENT_TIMESTAMP + make_interval(secs => :retryAfterSeconds))
+            ON CONFLICT (party_id) DO UPDATE
+               SET ticket = EXCLUDED.ticket,
+                   enqueued_at = EXCLUDED.enqueued_at,
+                   due_at = EXCLUDED.due_at,
+                   attempts = 0
+            RETURNING ticket
+            """)
+    Mono<Long> enqueue(UUID partyId, long retryAfterSeconds);
+
+    /**
+     * Claims the parties that are due, earliest first, skipping rows another node is claiming.
+     * Each claimed row counts an attempt and is pushed back by the retry delay, doubled for
+     * every earlier attempt up to 64 times, so it is claimed again only if it is not completed
+     * by then.
+     *
+     * @param retryAfterSeconds the delay before a first attempt is retried, in seconds
+     * @param limit the maximum number of parties to claim
+     * @return a Flux of the claimed backlog rows
+     */
+    @Query("""
+            UPDATE party_screening_backlog b
+               SET attempts = b.attempts + 1,
+                   due_at = CURRENT_TIMESTAMP
+                            + make_interval(secs => :retryAfterSeconds * power(2, LEAST(b.attempts, 6)))
+             WHERE b.party_id IN (
+                    SELECT party_id FROM party_screening_backlog
+                     WHERE due_at <= CURRENT_TIMESTAMP
+                     ORDER BY due_at
+                     LIMIT :limit
+                       FOR UPDATE SKIP LOCKED)
+            RETURNING b.*
+            """)
+    Flux<PartyScreeningBacklog> claimDue(long retryAfterSeconds, int limit);
+
+    /**
+     * Removes screened parties from the backlog, unless they were written again since.
+     *
+     * @param partyIds the parties screened
+     * @param tickets the ticket each party was screened under, at the same position
+     * @return a Mono emitting the number of parties removed
+     */
+    @Modifying
+    @Query("""
+            DELETE FROM party_screening_backlog b
+             USING unnest(CAST(:partyIds AS UUID[]), CAST(:tickets AS BIGINT[])) AS s(party_id, ticket)
+             WHERE b.party_id = s.party_id
+               AND b.ticket = s.ticket
+            """)
+    Mono<Integer> complete(UUID[] partyIds, Long[] tickets);
+}
\ No newline at end of file
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.models.repositories;
+
+import com.firefly.core.customer.models.entities.PartySearchDocument;
+import com.firefly.core.customer.models.projections.PartySearchHit;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.util.UUID;
+
+@Repository
+public interface PartySearchDocumentRepository extends BaseRepository<PartySearchDocument, UUID> {
+
+    /**
+     * Rebuilds the search document of a party from its current names, contacts and addresses.
+     *
+     * @param partyId the unique identifier of the party
+     * @return a Mono emitting the tenant of the party once the document has been refreshed, or empty
+     *         if the party does not exist
+     */
+    @Query("""
+            SELECT tenant_id FROM (SELECT refresh_party_search_document(:partyId) AS tenant_id) r
+             WHERE tenant_id IS NOT NULL
+            """)
+    Mono<UUID> refreshDocument(UUID partyId);
+
+    /**
+     * Runs a ranked full-text search over the search documents of a tenant.
+     *
+     * @param tenantId the tenant whose parties are searched
+     * @param query the search expression in PostgreSQL tsquery syntax
+     * @param limit the maximum number of matches to return
+     * @return a Flux of matches ordered by descending rank
+     */
+    @Query("""
+            SELECT d.party_id, d.party_kind, d.display_name,
+                   ts_rank_cd(d.search_vector, q.query) AS rank
+              FROM party_search_document d,
+                   to_tsquery('simple', :query) AS q(query)
+             WHERE d.tenant_id = :tenantId
+               AND d.search_vector @@ q.query
+             ORDER BY rank DESC
+             LIMIT :limit
+            """)
+    Flux<PartySearchHit> search(UUID tenantId, String query, int limit);
+
+    /**
+     * Finds the parties of a tenant whose person or legal names share Double Metaphone keys
+     * with the searched names. The rank is the fraction of searched keys found in the names.
+     * Each party has one search document, so each party is returned at most once.
+     *
+     * @param tenantId the tenant whose parties are searched
+     * @param keys the phonetic keys of the searched names
+     * @param limit the maximum number of matches to return
+     * @return a Flux of matches ordered by descending rank
+     */
+    @Query("""
+            SELECT d.party_id, d.party_kind, d.display_name,
+                   CAST((SELECT count(*)
+                           FROM unnest(CAST(:keys AS TEXT[])) AS k(key)
+                          WHERE k.key = ANY (d.name_phonetic)) AS FLOAT8)
+                       / cardinality(CAST(:keys AS TEXT[])) AS rank
+              FROM party_search_document d
+             WHERE d.tenant_id = :tenantId
+               AND d.name_phonetic && CAST(:keys AS TEXT[])
+             ORDER BY rank DESC
+             LIMIT :limit
+            """)
+    Flux<PartySearchHit> searchPhonetic(UUID tenantId, String[] keys, int limit);
+
+    /**
+     * Starts a search document rebuild by creating an empty shadow table. A running rebuild
+     * whose heartbeat is older than {@code expireAfterSeconds} is abandoned first.
+     *
+     * @param expireAfterSeconds the heartbeat age after which a running rebuild counts as abandoned
+     * @return a Mono emitting {@code false} if another rebuild is already running
+     */
+    @Query("SELECT begin_party_search_rebuild(make_interval(secs => :expireAfterSeconds))")
+    Mono<Boolean> beginRebuild(long expireAfterSeconds);
+
+    /**
+     * Abandons the running rebuild if its heartbeat is older than {@code expireAfterSeconds},
+     * for instance because the node running it died.
+     *
+     * @param expireAfterSeconds the heartbeat age after which a running rebuild counts as abandoned
+     * @return a Mono emitting {@code true} if a rebuild was abandoned
+     */
+    @Query("SELECT expire_party_search_rebuild(make_interval(secs => :expireAfterSeconds))")
+    Mono<Boolean> expireRebuild(long expireAfterSeconds);
+
+    /**
+     * Returns the next party identifiers in key order, for walking all parties in batches.
+     *
+     * @param afterPartyId the last identifier of the previous batch
+     * @param limit the maximum number of identifiers to return
+     * @return a Flux of party identifiers greater than {@code afterPartyId}
+     */
+    @Query("SELECT party_id FROM party WHERE party_id > :afterPartyId ORDER BY party_id LIMIT :limit")
+    Flux<UUID> findPartyIdsAfter(UUID afterPartyId, int limit);
+
+    /**
+     * Writes the current search documents of the given parties into the shadow table.
+     *
+     * @param partyIds the parties to write
+     * @return a Mono emitting the number of documents written
+     */
+    @Query("SELECT fill_party_search_shadow(:partyIds)")
+    Mono<Integer> fillShadow(UUID[] partyIds);
+
+    /**
+     * Builds the secondary indexes of the filled shadow table.
+     *
+     * @return a Mono that completes when the indexes have been built
+     */
+    @Query("SELECT index_party_search_shadow()")
+    Mono<Void> indexShadow();
+
+    /**
+     * Replays parties changed since the rebuild started into the shadow table.
+     *
+     * @param limit the maximum number of changes to replay
+     * @return a Mono emitting the number of changes replayed
+     */
+    @Query("SELECT catch_up_party_search_shadow(:limit)")
+    Mono<Integer> catchUpShadow(int limit);
+
+    /**
+     * Replays the remaining changes and atomically replaces the live table with the shadow table.
+     *
+     * @return a Mono that completes when the swap has been committed
+     */
+    @Query("SELECT swap_party_search_shadow()")
+    Mono<Void> swapShadow();
+
+    /**
+     * Abandons a running rebuild, dropping the shadow table.
+     *
+     * @return a Mono that completes when the rebuild state has been cleared
+     */
+    @Query("SELECT abort_party_search_rebuild()")
+    Mono<Void> abortRebuild();
+}
\ No newline at end of file
@@ -18,18 +18,148 @@
 package com.firefly.core.customer.models.repositories;
 
 import com.firefly.core.customer.models.entities.PartyStatus;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @Repository
 public interface PartyStatusRepository extends BaseRepository<PartyStatus, UUID> {
-    
+
+    /**
+     * Finds the current status of a party, that is the status whose validity period contains the
+     * current time, through the index of the exclusion constraint on party and period. The open
+     * status row is not necessarily current, as it may only start in the future.
+     *
+     * @param partyId the ID of the party
+     * @return a Mono containing the current PartyStatus if the party has one
+     */
+    @Query("SELECT * FROM party_status WHERE party_id = :partyId AND valid_period @> CURRENT_TIMESTAMP")
+    Mono<PartyStatus> findCurrentByPartyId(UUID partyId);
+
     /**
-     * Finds a PartyStatus by the partyId.
+     * Finds the current statuses of many parties in a single index probe per party, with the same
+     * notion of current as {@link #findCurrentByPartyId(UUID)}.
+     *
+     * @param partyIds the IDs of the parties
+     * @return a Flux of the current statuses of those parties that have one, ordered by party
+     */
+    @Query("""
+            SELECT * FROM party_status
+             WHERE party_id = ANY(CAST(:partyIds AS UUID[]))
+               AND valid_period @> CURRENT_TIMESTAMP
+             ORDER BY party_id
+            """)
+    Flux<PartyStatus> findCurrentByPartyIds(UUID[] partyIds);
+
+    /**
+     * Moves a party to a new status in a single statement. The status in effect at
+     * {@code validFrom} is closed there, and the new status runs until the next later status of
+     * the party starts, or stays open if there is none. The statuses that end after
+     * {@code validFrom} are locked first. Nothing is written when another status of the party
+     * starts at exactly {@code validFrom}.
      *
      * @param partyId the ID of the party
-     * @return a Mono containing the PartyStatus if found
+     * @param statusCode the name of the new status code
+     * @param statusReason the reason for the new status
+     * @param validFrom the time the new status takes effect
+     * @return a Mono containing the new PartyStatus, or empty when the transition was rejected
+     */
+    @Query("""
+            WITH later AS (
+                SELECT party_status_id, valid_from
+                  FROM party_status
+                 WHERE party_id = :partyId
+                   AND (valid_to IS NULL OR valid_to > :validFrom)
+                   FOR UPDATE
+            ),
+            closed AS (
+                UPDATE party_status s
+                   SET valid_to = :validFrom,
+                       updated_at = CURRENT_TIMESTAMP
+                  FROM later l
+                 WHERE s.party_status_id = l.party_status_id
+                   AND l.valid_from < :validFrom
+                   AND NOT EXISTS (SELECT 1 FROM later c WHERE c.valid_from = :validFrom)
+                RETURNING s.party_status_id
+            )
+            INSERT INTO party_status (party_id, status_code, status_reason, valid_from, valid_to)
+            SELECT :partyId, CAST(:statusCode AS status_code_enum), :statusReason, :validFrom,
+                   (SELECT min(l.valid_from) FROM later l WHERE l.valid_from > :validFrom)
+             WHERE NOT EXISTS (SELECT 1 FROM later l WHERE l.valid_from = :validFrom)
+               AND (SELECT count(*) FROM closed) = (SELECT count(*) FROM later l WHERE l.valid_from < :validFrom)
+            RETURNING *
+            """)
+    Mono<PartyStatus> transition(UUID partyId, String statusCode, String statusReason, LocalDateTime validFrom);
+
+    /**
+     * Streams the statuses that the parties of a tenant had at a point in time, in party order and
+     * starting after a given party, using the GiST index on the validity period. At most one status
+     * per party can match, as the exclusion constraint keeps the statuses of a party from overlapping.
+     *
+     * @param tenantId the tenant whose parties to report on
+     * @param asOf the point in time to report the statuses at
+     * @param statusCode the name of the only status code to report, or null for all
+     * @param afterPartyId the party to resume after; the nil UUID starts from the beginning
+     * @return a Flux of the statuses valid at that time, ordered by party
+     */
+    @Query("""
+            SELECT s.* FROM party_status s
+              JOIN party p ON p.party_id = s.party_id
+             WHERE p.tenant_id = :tenantId
+               AND s.valid_period @> CAST(:asOf AS TIMESTAMPTZ)
+               AND (CAST(:statusCode AS TEXT) IS NULL OR s.status_code = CAST(:statusCode AS status_code_enum))
+               AND s.party_id > :afterPartyId
+             ORDER BY s.party_id
+            """)
+    Flux<PartyStatus> streamByTenantIdAsOf(UUID tenantId, OffsetDateTime asOf, String statusCode, UUID afterPartyId);
+
+    /**
+     * Lists the statuses that have not been activated yet and start by a given time, through the
+     * partial index idx_party_status_pending_activation.
+     *
+     * @param until the latest start time to include
+     * @return a Flux of the pending statuses, ordered by start time
+     */
+    @Query("""
+            SELECT * FROM party_status
+             WHERE activated_at IS NULL
+               AND valid_from <= :until
+             ORDER BY valid_from
+            """)
+    Flux<PartyStatus> findPendingActivations(LocalDateTime until);
+
+    /**
+     * Marks a status activated once it has started. Only the first caller succeeds, which is how
+     * a single node claims the status change.
+     *
+     * @param partyStatusId the ID of the status
+     * @return a Mono containing the activated PartyStatus, or empty when it was already activated,
+     *         has not started yet or no longer exists
+     */
+    @Query("""
+            UPDATE party_status
+               SET activated_at = CURRENT_TIMESTAMP
+             WHERE party_status_id = :partyStatusId
+               AND activated_at IS NULL
+               AND valid_from <= CURRENT_TIMESTAMP
+            RETURNING *
+            """)
+    Mono<PartyStatus> activate(UUID partyStatusId);
+
+    /**
+     * Marks a status as not activated again after its start time moved, so that its status change
+     * is published for the new start time.
+     *
+     * @param partyStatusId the ID of the status
+     * @return a Mono containing the number of rows updated
      */
-    Mono<PartyStatus> findByPartyId(UUID partyId);
+    @Modifying
+    @Query("UPDATE party_status SET activated_at = NULL WHERE party_status_id = :partyStatusId")
+    Mono<Integer> resetActivation(UUID partyStatusId);
 }
\ No newline at end of file
@@ -19,8 +19,18 @@ package com.firefly.core.customer.models.repositories;
 
 import com.firefly.core.customer.models.entities.PhoneContact;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import java.util.Collection;
 import java.util.UUID;
 
 @Repository
 public interface PhoneContactRepository extends BaseRepository<PhoneContact, UUID> {
+
+    /**
+     * Lists the phone contacts of the given parties.
+     *
+     * @param partyIds the parties to read
+     * @return a Flux of the phone contacts of the parties
+     */
+    Flux<PhoneContact> findByPartyIdIn(Collection<UUID> partyIds);
 }
\ No newline at end of file
@@ -18,9 +18,104 @@
 package com.firefly.core.customer.models.repositories;
 
 import com.firefly.core.customer.models.entities.PoliticallyExposedPerson;
+import com.firefly.core.customer.models.projections.ScreeningHitChange;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 import java.util.UUID;
 
 @Repository
 public interface PoliticallyExposedPersonRepository extends BaseRepository<PoliticallyExposedPerson, UUID> {
+
+    /**
+     * Clears the PEP flag on a batch of PEP records whose end date has passed, walking
+     * idx_pep_active_end_date in end date order. Rows locked by other transactions are skipped.
+     *
+     * @param limit the maximum number of PEP records to expire
+     * @return a Flux of the PEP records that were expired
+     */
+    @Query("""
+            WITH expired AS (
+                SELECT pep_id FROM politically_exposed_person
+                 WHERE pep = true
+                   AND end_date <= CURRENT_TIMESTAMP
+                 ORDER BY end_date
+                 LIMIT :limit
+                   FOR UPDATE SKIP LOCKED
+            )
+            UPDATE politically_exposed_person t
+               SET pep = false,
+                   updated_at = CURRENT_TIMESTAMP
+              FROM expired e
+             WHERE t.pep_id = e.pep_id
+            RETURNING t.*
+            """)
+    Flux<PoliticallyExposedPerson> expireEnded(int limit);
+
+    /**
+     * Streams the parties that have at least one PEP record flagged as PEP.
+     *
+     * @return a Flux of the unique identifiers of the parties, each once
+     */
+    @Query("SELECT DISTINCT party_id FROM politically_exposed_person WHERE pep = true")
+    Flux<UUID> streamPepPartyIds();
+
+    /**
+     * Selects the parties of a batch that have at least one PEP record flagged as PEP.
+     *
+     * @param partyIds the parties to check
+     * @return a Flux of the unique identifiers of the flagged parties, each once
+     */
+    @Query("""
+            SELECT DISTINCT party_id FROM politically_exposed_person
+             WHERE party_id = ANY(CAST(:partyIds AS UUID[]))
+               AND pep = true
+            """)
+    Flux<UUID> findPepPartyIds(UUID[] partyIds);
+
+    /**
+     * Records the hits of a batch of screened parties in one statement. New hits are inserted
+     * pending review, without flagging the party as PEP; hits already recorded for the same party
+     * and list entry are left as they are. Hits of the screened parties that were not found
+     * again are removed, unless a reviewer confirmed them or flagged them as PEP.
+     *
+     * @param screenedPartyIds the parties screened, including those without hits
+     * @param partyIds the parties hit
+     * @param categories the list category of each hit, at the same position
+     * @param notes a description of each hit
+     * @param screeningEntryIds the list entry of each hit
+     * @return a Flux of the hits recorded and removed, one per row
+     */
+    @Query("""
+            WITH hit AS (
+                SELECT *
+                  FROM unnest(CAST(:partyIds AS UUID[]), CAST(:categories AS VARCHAR[]), CAST(:notes AS VARCHAR[]),
+                              CAST(:screeningEntryIds AS VARCHAR[]))
+                       AS h(party_id, category, notes, screening_entry_id)
+            ), stale AS (
+                DELETE FROM politically_exposed_person p
+                 WHERE p.party_id = ANY(CAST(:screenedPartyIds AS UUID[]))
+                   AND p.screening_entry_id IS NOT NULL
+                   AND p.pep = false
+                   AND p.screening_status IS DISTINCT FROM 'CONFIRMED'
+                   AND NOT EXISTS (SELECT 1 FROM hit
+                                    WHERE hit.party_id = p.party_id
+                                      AND hit.screening_entry_id = p.screening_entry_id)
+                RETURNING p.party_id
+            ), recorded AS (
+                INSERT INTO politically_exposed_person (party_id, pep, category, notes, screening_entry_id,
+                                                        screening_status)
+                SELECT party_id, false, category, notes, screening_entry_id, 'PENDING_REVIEW'
+                  FROM hit
+                ON CONFLICT (party_id, screening_entry_id) WHERE screening_entry_id IS NOT NULL DO NOTHING
+                RETURNING party_id
+            )
+            SELECT party_id, true AS recorded FROM recorded
+            UNION ALL
+            SELECT party_id, false AS recorded FROM stale
+            """)
+    Flux<ScreeningHitChange> recordScreeningHits(UUID[] screenedPartyIds, UUID[] partyIds, String[] categories, String[] notes,
+                                      String[] screeningEntryIds);
 }
\ No newline at end of file
@@ -0,0 +1,258 @@
+-- ======================================================
+-- FLYWAY MIGRATION V10: ADD PARTY SEARCH DOCUMENT REBUILD
+-- ======================================================
+-- This migration adds the database side of the zero-downtime search document rebuild.
+-- A rebuild fills a shadow table in throttled batches while search keeps reading the
+-- live table, replays the parties that changed meanwhile, and finally swaps the shadow
+-- table in with a rename inside a single transaction.
+--
+-- While a rebuild is running, refresh_party_search_document(party_id) records every
+-- refreshed party in party_search_document_change so that the shadow can catch up.
+-- Starting a rebuild waits for the transactions that refreshed documents without
+-- recording them, so the bulk load always sees their changes.
+--
+-- The rebuilding node touches a heartbeat after every batch; a rebuild whose heartbeat
+-- stopped, because its node died, is expired so that a new one can start.
+
+-- ======================================================
+-- REBUILD STATE
+-- ======================================================
+-- Holds at most one row, present while a rebuild is running
+CREATE TABLE party_search_rebuild (
+    rebuild_id SMALLINT PRIMARY KEY DEFAULT 1 CHECK (rebuild_id = 1),
+    started_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    heartbeat_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Parties refreshed while a rebuild is running
+CREATE TABLE party_search_document_change (
+    party_id UUID PRIMARY KEY,
+    changed_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- ======================================================
+-- DOCUMENT BUILDER
+-- ======================================================
+-- Computes the search document of a party; shared by the live refresh and the rebuild
+-- so that both always apply the same normalization rules.
+CREATE OR REPLACE FUNCTION party_search_document_row(p_party_id UUID)
+    RETURNS TABLE (party_id UUID, tenant_id UUID, party_kind party_kind_enum,
+                   display_name VARCHAR(500), search_vector TSVECTOR, name_phonetic TEXT[]) AS $$
+    SELECT p.party_id,
+           p.tenant_id,
+           p.party_kind,
+           COALESCE(
+               CASE WHEN np.party_id IS NOT NULL
+                    THEN concat_ws(' ', np.given_name, np.family_name1, np.family_name2) END,
+               le.legal_name)::VARCHAR(500),
+           setweight(to_tsvector('simple', CASE WHEN np.party_id IS NOT NULL
+               THEN concat_ws(' ', np.given_name, np.middle_name, np.family_name1, np.family_name2)
+               ELSE '' END), 'A') ||
+           setweight(to_tsvector('simple', CASE WHEN le.party_id IS NOT NULL
+               THEN concat_ws(' ', le.legal_name, le.trade_name)
+               ELSE '' END), 'A') ||
+           setweight(to_tsvector('simple', COALESCE(
+               (SELECT string_agg(ec.email, ' ')
+                  FROM email_contact ec WHERE ec.party_id = p.party_id), '')), 'B') ||
+           setweight(to_tsvector('simple', COALESCE(
+               (SELECT string_agg(regexp_replace(pc.phone_number, '[^0-9]', '', 'g'), ' ')
+                  FROM phone_contact pc WHERE pc.party_id = p.party_id), '')), 'B') ||
+           setweight(to_tsvector('simple', COALESCE(
+               (SELECT string_agg(concat_ws(' ', a.city, a.postal_code), ' ')
+                  FROM address a WHERE a.party_id = p.party_id), '')), 'C'),
+           CASE WHEN np.party_id IS NOT NULL
+                THEN COALESCE(np.given_name_phonetic, '{}')
+                     || COALESCE(np.family_name1_phonetic, '{}')
+                     || COALESCE(np.family_name2_phonetic, '{}')
+                ELSE le.legal_name_phonetic END
+      FROM party p
+      -- Picks one row deterministically, so the document can still be built should a party ever have several
+      LEFT JOIN LATERAL (SELECT * FROM natural_person
+                          WHERE natural_person.party_id = p.party_id
+                          ORDER BY natural_person.updated_at DESC, natural_person.natural_person_id
+                          LIMIT 1) np ON true
+      LEFT JOIN LATERAL (SELECT * FROM legal_entity
+                          WHERE legal_entity.party_id = p.party_id
+                          ORDER BY legal_entity.updated_at DESC, legal_entity.legal_entity_id
+                          LIMIT 1) le ON true
+     WHERE p.party_id = p_party_id;
+$$ LANGUAGE sql STABLE;
+
+-- Returns the tenant of the party, or NULL if it does not exist, so that callers maintaining
+-- other per-tenant structures need not read the party again.
+DROP FUNCTION IF EXISTS refresh_party_search_document(UUID);
+CREATE FUNCTION refresh_party_search_document(p_party_id UUID) RETURNS UUID AS $$
+DECLARE
+    v_tenant_id UUID;
+BEGIN
+    -- Held until commit, so that a rebuild cannot start between this refresh and its commit
+    -- without this refresh seeing the rebuild and recording the change
+    LOCK TABLE party_search_rebuild IN ROW SHARE MODE;
+
+    INSERT INTO party_search_document (party_id, tenant_id, party_kind, display_name, search_vector,
+                                       name_phonetic, updated_at)
+    SELECT r.party_id, r.tenant_id, r.party_kind, r.display_name, r.search_vector, r.name_phonetic,
+           CURRENT_TIMESTAMP
+      FROM party_search_document_row(p_party_id) r
+    ON CONFLICT (party_id) DO UPDATE
+        SET tenant_id = EXCLUDED.tenant_id,
+            party_kind = EXCLUDED.party_kind,
+            display_name = EXCLUDED.display_name,
+            search_vector = EXCLUDED.search_vector,
+            name_phonetic = EXCLUDED.name_phonetic,
+            updated_at = EXCLUDED.updated_at
+    RETURNING tenant_id INTO v_tenant_id;
+
+    IF EXISTS (SELECT 1 FROM party_search_rebuild) THEN
+        INSERT INTO party_search_document_change (party_id) VALUES (p_party_id)
+        ON CONFLICT (party_id) DO UPDATE SET changed_at = EXCLUDED.changed_at;
+    END IF;
+
+    RETURN v_tenant_id;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ======================================================
+-- REBUILD STEPS
+-- ======================================================
+-- Abandons the running rebuild if its heartbeat is older than p_expire_after and returns
+-- whether it did. Only the rebuild row is locked, so that checking does not block writers.
+CREATE OR REPLACE FUNCTION expire_party_search_rebuild(p_expire_after INTERVAL) RETURNS BOOLEAN AS $$
+BEGIN
+    DELETE FROM party_search_rebuild WHERE heartbeat_at < CURRENT_TIMESTAMP - p_expire_after;
+    IF NOT FOUND THEN
+        RETURN FALSE;
+    END IF;
+    DELETE FROM party_search_document_change;
+    DROP TABLE IF EXISTS party_search_document_shadow;
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Starts a rebuild by creating an empty shadow table. Returns FALSE when a live rebuild
+-- is already running, so that only one node rebuilds at a time. The exclusive lock waits
+-- for every transaction that refreshed a document before the rebuild became visible, so
+-- those changes are committed before the bulk load reads them.
+CREATE OR REPLACE FUNCTION begin_party_search_rebuild(p_expire_after INTERVAL) RETURNS BOOLEAN AS $$
+BEGIN
+    LOCK TABLE party_search_rebuild IN EXCLUSIVE MODE;
+    PERFORM expire_party_search_rebuild(p_expire_after);
+    IF EXISTS (SELECT 1 FROM party_search_rebuild) THEN
+        RETURN FALSE;
+    END IF;
+
+    INSERT INTO party_search_rebuild DEFAULT VALUES;
+    DELETE FROM party_search_document_change;
+    DROP TABLE IF EXISTS party_search_document_shadow;
+    -- Secondary indexes are created after the bulk load, which is much cheaper for GIN
+    CREATE TABLE party_search_document_shadow (
+        party_id UUID PRIMARY KEY,
+        tenant_id UUID NOT NULL,
+        party_kind party_kind_enum NOT NULL,
+        display_name VARCHAR(500),
+        search_vector TSVECTOR NOT NULL,
+        name_phonetic TEXT[],
+        updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+        CONSTRAINT party_search_document_shadow_party_id_fkey
+            FOREIGN KEY (party_id) REFERENCES party(party_id) ON DELETE CASCADE
+    );
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Writes the current documents of the given parties into the shadow table
+CREATE OR REPLACE FUNCTION fill_party_search_shadow(p_party_ids UUID[]) RETURNS INTEGER AS $$
+DECLARE
+    v_count INTEGER;
+BEGIN
+    UPDATE party_search_rebuild SET heartbeat_at = CURRENT_TIMESTAMP;
+
+    INSERT INTO party_search_document_shadow (party_id, tenant_id, party_kind, display_name, search_vector,
+                                              name_phonetic, updated_at)
+    SELECT r.party_id, r.tenant_id, r.party_kind, r.display_name, r.search_vector, r.name_phonetic,
+           CURRENT_TIMESTAMP
+      FROM unnest(p_party_ids) AS ids(party_id)
+           CROSS JOIN LATERAL party_search_document_row(ids.party_id) r
+    ON CONFLICT (party_id) DO UPDATE
+        SET tenant_id = EXCLUDED.tenant_id,
+            party_kind = EXCLUDED.party_kind,
+            display_name = EXCLUDED.display_name,
+            search_vector = EXCLUDED.search_vector,
+            name_phonetic = EXCLUDED.name_phonetic,
+            updated_at = EXCLUDED.updated_at;
+    GET DIAGNOSTICS v_count = ROW_COUNT;
+    RETURN v_count;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Indexes the filled shadow table
+CREATE OR REPLACE FUNCTION index_party_search_shadow() RETURNS VOID AS $$
+BEGIN
+    UPDATE party_search_rebuild SET heartbeat_at = CURRENT_TIMESTAMP;
+
+    CREATE INDEX idx_party_search_document_shadow_vector
+        ON party_search_document_shadow USING GIN (tenant_id, search_vector);
+    CREATE INDEX idx_party_search_document_shadow_tenant_id
+        ON party_search_document_shadow(tenant_id);
+    CREATE INDEX idx_party_search_document_shadow_name_phonetic
+        ON party_search_document_shadow USING GIN (tenant_id, name_phonetic);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Replays up to p_limit of the oldest recorded changes into the shadow table and
+-- returns how many were replayed
+CREATE OR REPLACE FUNCTION catch_up_party_search_shadow(p_limit INTEGER) RETURNS INTEGER AS $$
+DECLARE
+    v_party_ids UUID[];
+BEGIN
+    WITH picked AS (
+        DELETE FROM party_search_document_change c
+         WHERE c.party_id IN (SELECT ch.party_id
+                                FROM party_search_document_change ch
+                               ORDER BY ch.changed_at
+                               LIMIT p_limit)
+        RETURNING c.party_id
+    )
+    SELECT array_agg(picked.party_id) INTO v_party_ids FROM picked;
+
+    IF v_party_ids IS NULL THEN
+        RETURN 0;
+    END IF;
+    PERFORM fill_party_search_shadow(v_party_ids);
+    RETURN cardinality(v_party_ids);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Replays the remaining changes while blocking concurrent refreshes (reads continue),
+-- then swaps the shadow table in. Everything happens in one transaction, so searches
+-- see either the old or the new table and never a partial one.
+CREATE OR REPLACE FUNCTION swap_party_search_shadow() RETURNS VOID AS $$
+BEGIN
+    LOCK TABLE party_search_document IN SHARE ROW EXCLUSIVE MODE;
+    WHILE catch_up_party_search_shadow(10000) > 0 LOOP
+    END LOOP;
+
+    ALTER TABLE party_search_document RENAME TO party_search_document_retired;
+    ALTER TABLE party_search_document_shadow RENAME TO party_search_document;
+    DROP TABLE party_search_document_retired;
+
+    ALTER TABLE party_search_document
+        RENAME CONSTRAINT party_search_document_shadow_pkey TO party_search_document_pkey;
+    ALTER TABLE party_search_document
+        RENAME CONSTRAINT party_search_document_shadow_party_id_fkey TO party_search_document_party_id_fkey;
+    ALTER INDEX idx_party_search_document_shadow_vector RENAME TO idx_party_search_document_vector;
+    ALTER INDEX idx_party_search_document_shadow_tenant_id RENAME TO idx_party_search_document_tenant_id;
+    ALTER INDEX idx_party_search_document_shadow_name_phonetic RENAME TO idx_party_search_document_name_phonetic;
+
+    DELETE FROM party_search_rebuild;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Abandons a running or crashed rebuild; the live table is left untouched
+CREATE OR REPLACE FUNCTION abort_party_search_rebuild() RETURNS VOID AS $$
+BEGIN
+    DELETE FROM party_search_rebuild;
+    DELETE FROM party_search_document_change;
+    DROP TABLE IF EXISTS party_search_document_shadow;
+END;
+$$ LANGUAGE plpgsql;
\ No newline at end of file
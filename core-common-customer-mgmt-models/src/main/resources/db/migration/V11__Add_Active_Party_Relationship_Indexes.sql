@@ -0,0 +1,14 @@
+-- ======================================================
+-- FLYWAY MIGRATION V11: ADD ACTIVE PARTY RELATIONSHIP INDEXES
+-- ======================================================
+-- This migration adds partial indexes covering only active relationships on both
+-- relationship ends, so that listing the active relationships of a party in either
+-- direction probes small indexes that skip ended and inactive rows entirely.
+
+CREATE INDEX idx_party_relationship_from_party_active
+    ON party_relationship(from_party_id)
+    WHERE active = true;
+
+CREATE INDEX idx_party_relationship_to_party_active
+    ON party_relationship(to_party_id)
+    WHERE active = true;
\ No newline at end of file
@@ -0,0 +1,54 @@
+-- ======================================================
+-- FLYWAY MIGRATION V12: ADD VALIDITY PERIODS
+-- ======================================================
+-- This migration adds a generated tstzrange column holding the validity period
+-- [start_date, end_date) to party relationships, party group memberships and party
+-- economic activities. A missing end date leaves the range open-ended (and a missing
+-- membership start date leaves it open towards the past), so "valid as of T" becomes
+-- a single containment test (valid_period @> T). Rows whose end date precedes their
+-- start date get an empty range, which is never valid, instead of failing the write.
+--
+-- GiST indexes pair the owning key with the range so that an as-of lookup for one
+-- party or group is a single index probe. btree_gist provides the GiST operator
+-- classes for the UUID key columns.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- ======================================================
+-- PARTY RELATIONSHIPS
+-- ======================================================
+ALTER TABLE party_relationship
+    ADD COLUMN valid_period TSTZRANGE
+        GENERATED ALWAYS AS (CASE WHEN end_date < start_date THEN 'empty'::tstzrange
+                                  ELSE tstzrange(start_date, end_date, '[)') END) STORED;
+
+CREATE INDEX idx_party_relationship_from_party_valid_period
+    ON party_relationship USING GIST (from_party_id, valid_period);
+
+CREATE INDEX idx_party_relationship_to_party_valid_period
+    ON party_relationship USING GIST (to_party_id, valid_period);
+
+-- ======================================================
+-- PARTY GROUP MEMBERSHIPS
+-- ======================================================
+ALTER TABLE party_group_membership
+    ADD COLUMN valid_period TSTZRANGE
+        GENERATED ALWAYS AS (CASE WHEN end_date < start_date THEN 'empty'::tstzrange
+                                  ELSE tstzrange(start_date, end_date, '[)') END) STORED;
+
+CREATE INDEX idx_party_group_membership_party_valid_period
+    ON party_group_membership USING GIST (party_id, valid_period);
+
+CREATE INDEX idx_party_group_membership_group_valid_period
+    ON party_group_membership USING GIST (group_id, valid_period);
+
+-- ======================================================
+-- PARTY ECONOMIC ACTIVITIES
+-- ======================================================
+ALTER TABLE party_economic_activity
+    ADD COLUMN valid_period TSTZRANGE
+        GENERATED ALWAYS AS (CASE WHEN end_date < start_date THEN 'empty'::tstzrange
+                                  ELSE tstzrange(start_date, end_date, '[)') END) STORED;
+
+CREATE INDEX idx_party_economic_activity_party_valid_period
+    ON party_economic_activity USING GIST (party_id, valid_period);
\ No newline at end of file
@@ -0,0 +1,35 @@
+-- ======================================================
+-- FLYWAY MIGRATION V13: ADD PARTY GROUP MEMBER COUNTS
+-- ======================================================
+-- This migration adds a composite index on (group_id, is_active, party_id) so that the
+-- active members of a group can be streamed in party order straight off the index and
+-- resumed after a given party, a (group_id, party_id, party_group_membership_id) index
+-- that does the same for all memberships of a group, and a per-group counter of active members that is
+-- adjusted by the application in the same transaction as every membership write, so
+-- that group sizes are a primary key lookup instead of a COUNT over the group.
+
+-- ======================================================
+-- INDEXES
+-- ======================================================
+CREATE INDEX idx_party_group_membership_group_active_party
+    ON party_group_membership(group_id, is_active, party_id);
+CREATE INDEX idx_party_group_membership_group_party
+    ON party_group_membership(group_id, party_id, party_group_membership_id);
+
+-- The single-column group index is a prefix of the composite indexes above.
+DROP INDEX IF EXISTS idx_party_group_membership_group_id;
+
+-- ======================================================
+-- PARTY GROUP MEMBER COUNT
+-- ======================================================
+CREATE TABLE party_group_member_count (
+    group_id UUID PRIMARY KEY,
+    active_members BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO party_group_member_count (group_id, active_members)
+SELECT group_id, COUNT(*)
+  FROM party_group_membership
+ WHERE is_active = true
+ GROUP BY group_id;
\ No newline at end of file
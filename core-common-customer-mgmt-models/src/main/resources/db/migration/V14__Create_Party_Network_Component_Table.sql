@@ -0,0 +1,333 @@
+-- ======================================================
+-- FLYWAY MIGRATION V14: CREATE PARTY NETWORK COMPONENT TABLE
+-- ======================================================
+-- This migration creates the party_network_component table, which assigns every party
+-- that takes part in a current relationship (active and not ended) to the connected
+-- component of the relationship graph it belongs to, ignoring relationship direction.
+-- The whole network of a party is then the rows sharing its component id, read through
+-- idx_party_network_component_component_id. Parties without current relationships have
+-- no row and form a network of their own.
+--
+-- The table is populated by a union-find build in the application and then maintained by
+-- link_party_network and unlink_party_network, which the relationship write paths call
+-- in the same transaction as the change. Links join components at once. Unlinks only
+-- queue a split check, which a background job runs later, because finding out whether a
+-- component fell apart walks all of it. Changes made while a build is running are
+-- recorded instead and replayed over the built assignments before the build completes.
+
+-- ======================================================
+-- PARTY NETWORK COMPONENT
+-- ======================================================
+CREATE TABLE party_network_component (
+    party_id UUID PRIMARY KEY,
+    component_id UUID NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (party_id) REFERENCES party(party_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_party_network_component_component_id ON party_network_component(component_id);
+
+-- Relationship ends whose component may have fallen apart, in the order they were unlinked
+CREATE TABLE party_network_split (
+    split_id BIGSERIAL PRIMARY KEY,
+    from_party_id UUID NOT NULL,
+    to_party_id UUID NOT NULL
+);
+
+-- ======================================================
+-- BUILD STATE
+-- ======================================================
+-- Holds at most one row, present once a build started. The build is complete only once
+-- completed_at is set, so a node that dies mid-way leaves a build that is started again.
+CREATE TABLE party_network_build (
+    build_id SMALLINT PRIMARY KEY DEFAULT 1 CHECK (build_id = 1),
+    started_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    heartbeat_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP WITH TIME ZONE
+);
+
+-- Links and unlinks made while a build is running, replayed once its assignments are written
+CREATE TABLE party_network_change (
+    change_id BIGSERIAL PRIMARY KEY,
+    from_party_id UUID NOT NULL,
+    to_party_id UUID NOT NULL,
+    linked BOOLEAN NOT NULL
+);
+
+-- ======================================================
+-- COMPONENT LOCKS
+-- ======================================================
+-- Every change to the parties of a component holds a transaction-scoped advisory lock on
+-- the component id, so changes to different components run concurrently.
+
+-- Locks the current components of two parties in id order and returns them; a NULL party
+-- or a party without a row is skipped. The assignments are read again after locking and the
+-- locks retaken if a concurrent change moved a party meanwhile, so the returned components
+-- stay stable until commit.
+CREATE OR REPLACE FUNCTION lock_party_network_components(p_from_party_id UUID, p_to_party_id UUID,
+                                                         OUT from_component UUID, OUT to_component UUID) AS $$
+DECLARE
+    v_from_locked UUID;
+    v_to_locked UUID;
+BEGIN
+    LOOP
+        SELECT component_id INTO from_component FROM party_network_component WHERE party_id = p_from_party_id;
+        SELECT component_id INTO to_component FROM party_network_component WHERE party_id = p_to_party_id;
+        PERFORM pg_advisory_xact_lock(hashtextextended(CAST(c.component_id AS TEXT), 0))
+           FROM (SELECT DISTINCT component_id
+                   FROM unnest(ARRAY[from_component, to_component]) AS u(component_id)
+                  WHERE component_id IS NOT NULL
+                  ORDER BY component_id) AS c;
+        SELECT component_id INTO v_from_locked FROM party_network_component WHERE party_id = p_from_party_id;
+        SELECT component_id INTO v_to_locked FROM party_network_component WHERE party_id = p_to_party_id;
+        IF v_from_locked IS NOT DISTINCT FROM from_component AND v_to_locked IS NOT DISTINCT FROM to_component THEN
+            RETURN;
+        END IF;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ======================================================
+-- MAINTENANCE FUNCTIONS
+-- ======================================================
+-- Records a link or unlink for replay instead of applying it while a build is running, and
+-- returns whether it did. The ROW SHARE lock is held until commit, so a build cannot start
+-- between this change and its commit without the change being recorded.
+CREATE OR REPLACE FUNCTION record_party_network_change(p_from_party_id UUID, p_to_party_id UUID,
+                                                       p_linked BOOLEAN) RETURNS BOOLEAN AS $$
+BEGIN
+    LOCK TABLE party_network_build IN ROW SHARE MODE;
+    IF NOT EXISTS (SELECT 1 FROM party_network_build WHERE completed_at IS NULL) THEN
+        RETURN FALSE;
+    END IF;
+    INSERT INTO party_network_change (from_party_id, to_party_id, linked)
+    VALUES (p_from_party_id, p_to_party_id, p_linked);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Joins the components of two parties. The smaller component takes the id of the larger one.
+CREATE OR REPLACE FUNCTION join_party_network_components(p_from_party_id UUID, p_to_party_id UUID) RETURNS VOID AS $$
+DECLARE
+    v_from_component UUID;
+    v_to_component UUID;
+    v_from_size BIGINT;
+    v_to_size BIGINT;
+BEGIN
+    INSERT INTO party_network_component (party_id, component_id)
+    VALUES (p_from_party_id, p_from_party_id), (p_to_party_id, p_to_party_id)
+    ON CONFLICT (party_id) DO NOTHING;
+
+    -- Locked even when already joined, so that a concurrent split check sees this relationship
+    SELECT from_component, to_component INTO v_from_component, v_to_component
+      FROM lock_party_network_components(p_from_party_id, p_to_party_id);
+    IF v_from_component = v_to_component THEN
+        RETURN;
+    END IF;
+
+    SELECT COUNT(*) INTO v_from_size FROM party_network_component WHERE component_id = v_from_component;
+    SELECT COUNT(*) INTO v_to_size FROM party_network_component WHERE component_id = v_to_component;
+
+    IF v_from_size < v_to_size THEN
+        UPDATE party_network_component
+           SET component_id = v_to_component, updated_at = CURRENT_TIMESTAMP
+         WHERE component_id = v_from_component;
+    ELSE
+        UPDATE party_network_component
+           SET component_id = v_from_component, updated_at = CURRENT_TIMESTAMP
+         WHERE component_id = v_to_component;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Joins the components of two parties after a current relationship between them was added
+CREATE OR REPLACE FUNCTION link_party_network(p_from_party_id UUID, p_to_party_id UUID) RETURNS VOID AS $$
+BEGIN
+    IF NOT record_party_network_change(p_from_party_id, p_to_party_id, TRUE) THEN
+        PERFORM join_party_network_components(p_from_party_id, p_to_party_id);
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Queues a split check after a current relationship between two parties was ended or
+-- deleted, unless another current relationship still links them directly.
+CREATE OR REPLACE FUNCTION unlink_party_network(p_from_party_id UUID, p_to_party_id UUID) RETURNS VOID AS $$
+BEGIN
+    IF record_party_network_change(p_from_party_id, p_to_party_id, FALSE) THEN
+        RETURN;
+    END IF;
+
+    IF EXISTS (SELECT 1 FROM party_relationship r
+                WHERE r.active = true
+                  AND (r.end_date IS NULL OR r.end_date > CURRENT_TIMESTAMP)
+                  AND ((r.from_party_id = p_from_party_id AND r.to_party_id = p_to_party_id)
+                    OR (r.from_party_id = p_to_party_id AND r.to_party_id = p_from_party_id))) THEN
+        RETURN;
+    END IF;
+
+    INSERT INTO party_network_split (from_party_id, to_party_id) VALUES (p_from_party_id, p_to_party_id);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Splits the component of two parties if no path of current relationships connects them
+-- any more. The parties still reachable from the first party move to a new component; the
+-- rest keep the old id.
+CREATE OR REPLACE FUNCTION split_party_network_component(p_from_party_id UUID, p_to_party_id UUID) RETURNS VOID AS $$
+DECLARE
+    v_from_component UUID;
+    v_to_component UUID;
+    v_reached UUID[];
+BEGIN
+    SELECT from_component, to_component INTO v_from_component, v_to_component
+      FROM lock_party_network_components(p_from_party_id, p_to_party_id);
+    IF v_from_component IS NULL OR v_from_component IS DISTINCT FROM v_to_component THEN
+        RETURN;
+    END IF;
+
+    WITH RECURSIVE reached(party_id) AS (
+        SELECT p_from_party_id
+        UNION
+        SELECT next.party_id
+          FROM reached
+          CROSS JOIN LATERAL (
+              SELECT r.to_party_id AS party_id
+                FROM party_relationship r
+               WHERE r.from_party_id = reached.party_id
+                 AND r.active = true
+                 AND (r.end_date IS NULL OR r.end_date > CURRENT_TIMESTAMP)
+              UNION ALL
+              SELECT r.from_party_id
+                FROM party_relationship r
+               WHERE r.to_party_id = reached.party_id
+                 AND r.active = true
+                 AND (r.end_date IS NULL OR r.end_date > CURRENT_TIMESTAMP)
+          ) AS next
+    )
+    SELECT array_agg(party_id) INTO v_reached FROM reached;
+
+    IF p_to_party_id = ANY(v_reached) THEN
+        RETURN;
+    END IF;
+
+    UPDATE party_network_component
+       SET component_id = gen_random_uuid(), updated_at = CURRENT_TIMESTAMP
+     WHERE party_id = ANY(v_reached);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Runs up to p_limit queued split checks, skipping checks another node is running, and
+-- returns how many were run. Nothing is run while a build is writing the assignments.
+CREATE OR REPLACE FUNCTION run_party_network_splits(p_limit INTEGER) RETURNS INTEGER AS $$
+DECLARE
+    v_split RECORD;
+    v_count INTEGER := 0;
+BEGIN
+    LOCK TABLE party_network_build IN ROW SHARE MODE;
+    IF EXISTS (SELECT 1 FROM party_network_build WHERE completed_at IS NULL) THEN
+        RETURN 0;
+    END IF;
+
+    FOR v_split IN
+        DELETE FROM party_network_split s
+         WHERE s.split_id IN (SELECT q.split_id FROM party_network_split q
+                               ORDER BY q.split_id
+                               LIMIT p_limit
+                                 FOR UPDATE SKIP LOCKED)
+        RETURNING s.from_party_id, s.to_party_id
+    LOOP
+        PERFORM split_party_network_component(v_split.from_party_id, v_split.to_party_id);
+        v_count := v_count + 1;
+    END LOOP;
+    RETURN v_count;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ======================================================
+-- BUILD STEPS
+-- ======================================================
+-- Starts a build unless one completed or another node is building, which it counts as
+-- doing while its heartbeat is younger than p_expire_after. A build that never completed
+-- leaves partial assignments, so they are cleared. The exclusive lock waits for every
+-- change made before the build became visible, so the build reads their relationships.
+CREATE OR REPLACE FUNCTION begin_party_network_build(p_expire_after INTERVAL) RETURNS BOOLEAN AS $$
+BEGIN
+    LOCK TABLE party_network_build IN EXCLUSIVE MODE;
+    IF EXISTS (SELECT 1 FROM party_network_build
+                WHERE completed_at IS NOT NULL
+                   OR heartbeat_at >= CURRENT_TIMESTAMP - p_expire_after) THEN
+        RETURN FALSE;
+    END IF;
+
+    DELETE FROM party_network_build;
+    INSERT INTO party_network_build DEFAULT VALUES;
+    DELETE FROM party_network_change;
+    DELETE FROM party_network_split;
+    DELETE FROM party_network_component;
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Writes a batch of the assignments computed by the build
+CREATE OR REPLACE FUNCTION fill_party_network_components(p_party_ids UUID[], p_component_ids UUID[]) RETURNS INTEGER AS $$
+DECLARE
+    v_count INTEGER;
+BEGIN
+    UPDATE party_network_build SET heartbeat_at = CURRENT_TIMESTAMP;
+
+    INSERT INTO party_network_component (party_id, component_id)
+    SELECT a.party_id, a.component_id
+      FROM unnest(p_party_ids, p_component_ids) AS a(party_id, component_id)
+      JOIN party p ON p.party_id = a.party_id
+    ON CONFLICT (party_id) DO UPDATE
+       SET component_id = EXCLUDED.component_id,
+           updated_at = CURRENT_TIMESTAMP;
+    GET DIAGNOSTICS v_count = ROW_COUNT;
+    RETURN v_count;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Replays up to p_limit of the oldest changes recorded during the build over the written
+-- assignments and returns how many were replayed
+CREATE OR REPLACE FUNCTION catch_up_party_network_build(p_limit INTEGER) RETURNS INTEGER AS $$
+DECLARE
+    v_change RECORD;
+    v_count INTEGER := 0;
+BEGIN
+    UPDATE party_network_build SET heartbeat_at = CURRENT_TIMESTAMP;
+
+    FOR v_change IN
+        DELETE FROM party_network_change c
+         WHERE c.change_id IN (SELECT ch.change_id FROM party_network_change ch
+                                ORDER BY ch.change_id
+                                LIMIT p_limit)
+        RETURNING c.change_id, c.from_party_id, c.to_party_id, c.linked
+    LOOP
+        IF v_change.linked THEN
+            PERFORM join_party_network_components(v_change.from_party_id, v_change.to_party_id);
+        ELSE
+            INSERT INTO party_network_split (from_party_id, to_party_id)
+            VALUES (v_change.from_party_id, v_change.to_party_id);
+        END IF;
+        v_count := v_count + 1;
+    END LOOP;
+    RETURN v_count;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Replays the remaining changes while blocking new ones and marks the build complete
+CREATE OR REPLACE FUNCTION finish_party_network_build() RETURNS VOID AS $$
+BEGIN
+    LOCK TABLE party_network_build IN EXCLUSIVE MODE;
+    WHILE catch_up_party_network_build(10000) > 0 LOOP
+    END LOOP;
+    UPDATE party_network_build SET completed_at = CURRENT_TIMESTAMP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Abandons a running build so that the next one starts at once
+CREATE OR REPLACE FUNCTION abort_party_network_build() RETURNS VOID AS $$
+BEGIN
+    DELETE FROM party_network_build WHERE completed_at IS NULL;
+    DELETE FROM party_network_change;
+END;
+$$ LANGUAGE plpgsql;
\ No newline at end of file
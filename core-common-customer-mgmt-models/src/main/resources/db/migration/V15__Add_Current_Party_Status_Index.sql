@@ -0,0 +1,26 @@
+-- ======================================================
+-- FLYWAY MIGRATION V15: ADD CURRENT PARTY STATUS INDEX
+-- ======================================================
+-- This migration makes the open status row (valid_to IS NULL) of a party its single
+-- latest status. Parties that have several open rows keep the most recent one open and
+-- get the older ones closed where the next one starts, after which a unique partial
+-- index over the open rows enforces one latest status per party. The latest status may
+-- only start in the future, so it is not necessarily the current one.
+
+WITH ranked AS (
+    SELECT party_status_id,
+           LEAD(valid_from) OVER (PARTITION BY party_id
+                                  ORDER BY valid_from, created_at, party_status_id) AS next_valid_from
+      FROM party_status
+     WHERE valid_to IS NULL
+)
+UPDATE party_status s
+   SET valid_to = r.next_valid_from,
+       updated_at = CURRENT_TIMESTAMP
+  FROM ranked r
+ WHERE s.party_status_id = r.party_status_id
+   AND r.next_valid_from IS NOT NULL;
+
+CREATE UNIQUE INDEX idx_party_status_current
+    ON party_status(party_id)
+    WHERE valid_to IS NULL;
\ No newline at end of file
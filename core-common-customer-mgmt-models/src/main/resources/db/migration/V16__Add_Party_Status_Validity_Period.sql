@@ -0,0 +1,39 @@
+-- ======================================================
+-- FLYWAY MIGRATION V16: ADD PARTY STATUS VALIDITY PERIOD
+-- ======================================================
+-- This migration models the validity of a party status as a half-open tstzrange and
+-- enforces that the statuses of a party never overlap in time, so that a point in time
+-- resolves to at most one status per party. Overlapping history is trimmed first: each
+-- status ends no later than the next one of the same party starts.
+-- Requires btree_gist, enabled in V12.
+
+WITH ordered AS (
+    SELECT party_status_id, valid_to,
+           LEAD(valid_from) OVER (PARTITION BY party_id
+                                  ORDER BY valid_from, created_at, party_status_id) AS next_valid_from
+      FROM party_status
+)
+UPDATE party_status s
+   SET valid_to = o.next_valid_from,
+       updated_at = CURRENT_TIMESTAMP
+  FROM ordered o
+ WHERE s.party_status_id = o.party_status_id
+   AND o.next_valid_from IS NOT NULL
+   AND (o.valid_to IS NULL OR o.valid_to > o.next_valid_from);
+
+ALTER TABLE party_status
+    ADD COLUMN valid_period TSTZRANGE GENERATED ALWAYS AS (
+        CASE WHEN valid_to < valid_from THEN 'empty'::tstzrange
+             ELSE tstzrange(valid_from, valid_to, '[)') END
+    ) STORED;
+
+ALTER TABLE party_status
+    ADD CONSTRAINT excl_party_status_valid_period
+    EXCLUDE USING GIST (party_id WITH =, valid_period WITH &&);
+
+-- Point-in-time reports across many parties probe the period alone
+CREATE INDEX idx_party_status_valid_period ON party_status USING GIST (valid_period);
+
+-- Superseded by the range indexes
+DROP INDEX IF EXISTS idx_party_status_valid_from;
+DROP INDEX IF EXISTS idx_party_status_valid_to;
\ No newline at end of file
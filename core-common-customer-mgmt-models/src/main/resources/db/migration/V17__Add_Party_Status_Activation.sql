@@ -0,0 +1,18 @@
+-- ======================================================
+-- FLYWAY MIGRATION V17: ADD PARTY STATUS ACTIVATION
+-- ======================================================
+-- This migration records when a party status was activated, that is when the status
+-- change event for it was published. Statuses that have already started are treated as
+-- activated. Marking a status activated is how a single node claims the right to publish
+-- its event, and the partial index over the statuses still waiting for activation lets
+-- the scheduler reload the upcoming ones by start time without scanning the history.
+
+ALTER TABLE party_status ADD COLUMN activated_at TIMESTAMP WITH TIME ZONE;
+
+UPDATE party_status
+   SET activated_at = valid_from
+ WHERE valid_from <= CURRENT_TIMESTAMP;
+
+CREATE INDEX idx_party_status_pending_activation
+    ON party_status(valid_from)
+    WHERE activated_at IS NULL;
\ No newline at end of file
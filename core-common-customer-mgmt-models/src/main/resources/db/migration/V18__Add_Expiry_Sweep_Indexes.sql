@@ -0,0 +1,32 @@
+-- ======================================================
+-- FLYWAY MIGRATION V18: ADD EXPIRY SWEEP INDEXES
+-- ======================================================
+-- This migration adds partial indexes on the end dates of rows whose flag still says
+-- they are in force: active relationships, active group memberships and PEP records still
+-- flagged as PEP. The expiry sweeper walks these in end date order to find rows that have
+-- just expired, and as it clears their flags the rows drop out of the indexes, which
+-- therefore only ever hold rows still to expire.
+--
+-- Identity documents keep their validated flag when they expire, since it records that the
+-- document was checked; readers compare the expiry date instead. The sweeper records the
+-- expiry date it handled in swept_expiry_date, which only the sweeper writes, and documents
+-- drop out of their index once swept. A document whose expiry date is changed afterwards
+-- is indexed again and swept at its new date.
+
+ALTER TABLE identity_document ADD COLUMN swept_expiry_date TIMESTAMP WITH TIME ZONE;
+
+CREATE INDEX idx_party_relationship_active_end_date
+    ON party_relationship(end_date)
+    WHERE active = true AND end_date IS NOT NULL;
+
+CREATE INDEX idx_party_group_membership_active_end_date
+    ON party_group_membership(end_date)
+    WHERE is_active = true AND end_date IS NOT NULL;
+
+CREATE INDEX idx_pep_active_end_date
+    ON politically_exposed_person(end_date)
+    WHERE pep = true AND end_date IS NOT NULL;
+
+CREATE INDEX idx_identity_document_unswept_expiry_date
+    ON identity_document(expiry_date)
+    WHERE expiry_date IS NOT NULL AND swept_expiry_date IS DISTINCT FROM expiry_date;
\ No newline at end of file
@@ -0,0 +1,60 @@
+-- ======================================================
+-- FLYWAY MIGRATION V19: SPLIT CONSENT CURRENT STATE FROM HISTORY
+-- ======================================================
+-- This migration turns the consent table into the current state of each consent, one
+-- row per party, consent type and channel, and moves the grant and revoke history into
+-- an append-only consent_history table. Channels are compared trimmed and in lower case,
+-- and a consent without a channel has the empty channel key. Every existing row is copied
+-- into the history first, then all but the latest row of each key are removed from the
+-- consent table so that the key can be made unique. The application writes the current
+-- state with an upsert on that key and appends the new state to the history in the same
+-- statement. Deleting a consent appends its last state to the history, marked as deleted,
+-- in the same way.
+
+-- ======================================================
+-- CONSENT HISTORY
+-- ======================================================
+CREATE TABLE consent_history (
+    consent_history_id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    consent_id UUID NOT NULL,
+    party_id UUID NOT NULL,
+    consent_type_id UUID NOT NULL,
+    granted BOOLEAN NOT NULL,
+    granted_at TIMESTAMP WITH TIME ZONE,
+    revoked_at TIMESTAMP WITH TIME ZONE,
+    channel VARCHAR(50),
+    deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    recorded_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (party_id) REFERENCES party(party_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_consent_history_party_type_recorded
+    ON consent_history(party_id, consent_type_id, recorded_at);
+
+INSERT INTO consent_history (consent_id, party_id, consent_type_id, granted, granted_at, revoked_at, channel, recorded_at)
+SELECT consent_id, party_id, consent_type_id, granted, granted_at, revoked_at, channel, updated_at
+  FROM consent;
+
+-- ======================================================
+-- CONSENT CURRENT STATE
+-- ======================================================
+ALTER TABLE consent
+    ADD COLUMN channel_key VARCHAR(50) GENERATED ALWAYS AS (COALESCE(lower(btrim(channel)), '')) STORED;
+
+DELETE FROM consent c
+ USING (
+        SELECT consent_id,
+               row_number() OVER (
+                   PARTITION BY party_id, consent_type_id, channel_key
+                   ORDER BY updated_at DESC, created_at DESC, consent_id
+               ) AS position
+          FROM consent
+       ) ranked
+ WHERE ranked.consent_id = c.consent_id
+   AND ranked.position > 1;
+
+ALTER TABLE consent
+    ADD CONSTRAINT uq_consent_party_type_channel UNIQUE (party_id, consent_type_id, channel_key);
+
+-- The party index is a prefix of the unique key above.
+DROP INDEX IF EXISTS idx_consent_party_id;
\ No newline at end of file
@@ -0,0 +1,27 @@
+-- ======================================================
+-- FLYWAY MIGRATION V20: ADD SCREENING HIT KEY
+-- ======================================================
+-- This migration records which PEP or sanctions list entry a politically_exposed_person
+-- row was created for when it comes from the in-process screening engine, and the review
+-- state of that row. A party is hit at most once per list entry, which lets a full rescreen
+-- write its hits in batches with ON CONFLICT DO NOTHING and be run again without
+-- duplicating them. Hits are recorded pending review and do not flag the party as PEP
+-- until a reviewer confirms them. Hits that are no longer found when a party is screened
+-- again are removed unless they were confirmed. Rows maintained by hand have no list entry
+-- and no review state and are not affected.
+
+CREATE TYPE screening_review_status_enum AS ENUM (
+    'PENDING_REVIEW',
+    'CONFIRMED',
+    'DISMISSED'
+);
+
+CREATE CAST (varchar AS screening_review_status_enum) WITH INOUT AS IMPLICIT;
+
+ALTER TABLE politically_exposed_person
+    ADD COLUMN screening_entry_id VARCHAR(100),
+    ADD COLUMN screening_status screening_review_status_enum;
+
+CREATE UNIQUE INDEX uq_pep_party_screening_entry
+    ON politically_exposed_person(party_id, screening_entry_id)
+    WHERE screening_entry_id IS NOT NULL;
\ No newline at end of file
@@ -0,0 +1,13 @@
+-- ======================================================
+-- FLYWAY MIGRATION V21: REPLACE PEP STATUS INDEX
+-- ======================================================
+-- This migration replaces the index on the pep boolean, which splits the table in two
+-- and is not selective enough to be used, with a partial index on the parties of the
+-- rows flagged as PEP. The in-memory PEP flag set is loaded from it at startup and on
+-- every rebuild, and batch lookups fall back to it until the set has been loaded.
+
+DROP INDEX IF EXISTS idx_pep_status;
+
+CREATE INDEX idx_pep_flagged_party_id
+    ON politically_exposed_person(party_id)
+    WHERE pep = true;
\ No newline at end of file
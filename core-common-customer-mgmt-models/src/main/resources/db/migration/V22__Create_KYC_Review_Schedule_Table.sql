@@ -0,0 +1,100 @@
+-- ======================================================
+-- FLYWAY MIGRATION V22: CREATE KYC REVIEW SCHEDULE TABLE
+-- ======================================================
+-- This migration creates the kyc_review_schedule table, which holds the date by which
+-- each party's KYC information must next be reviewed, along with the risk level it was
+-- derived from. Parties whose review is due are read in due date order through
+-- idx_kyc_review_schedule_next_review_date and handed out to case management in leased
+-- batches: a leased row is skipped by other lease requests until its lease ends, so
+-- several workers can pull work at once without rescanning the book.
+--
+-- The schedule is computed by schedule_kyc_reviews, which the party, PEP and identity
+-- document write paths and the screening hit recorder call in the same transaction as the
+-- change, and which the application runs once at startup for parties that have no
+-- schedule yet.
+
+-- ======================================================
+-- ENUMS
+-- ======================================================
+CREATE TYPE kyc_risk_level_enum AS ENUM (
+    'LOW',
+    'MEDIUM',
+    'HIGH'
+);
+
+CREATE CAST (varchar AS kyc_risk_level_enum) WITH INOUT AS IMPLICIT;
+
+-- ======================================================
+-- KYC REVIEW SCHEDULE
+-- ======================================================
+CREATE TABLE kyc_review_schedule (
+    party_id UUID PRIMARY KEY,
+    risk_level kyc_risk_level_enum NOT NULL,
+    next_review_date TIMESTAMP WITH TIME ZONE NOT NULL,
+    last_reviewed_at TIMESTAMP WITH TIME ZONE,
+    lease_id UUID,
+    leased_until TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (party_id) REFERENCES party(party_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_kyc_review_schedule_next_review_date ON kyc_review_schedule(next_review_date);
+
+CREATE INDEX idx_kyc_review_schedule_lease_id
+    ON kyc_review_schedule(lease_id)
+    WHERE lease_id IS NOT NULL;
+
+-- ======================================================
+-- MAINTENANCE FUNCTIONS
+-- ======================================================
+-- Computes the risk level and next review date of a set of parties. A party with a PEP
+-- record still flagged as PEP, or with a screening hit pending review, is high risk, an
+-- organization medium risk and any other party low risk. The review is due one risk-dependent interval after the last review,
+-- or after the party was created if it was never reviewed, but no later than the first
+-- identity document expiry since then. Returns the number of schedules that changed.
+CREATE OR REPLACE FUNCTION schedule_kyc_reviews(p_party_ids UUID[], p_high_risk_months INT,
+                                                p_medium_risk_months INT, p_low_risk_months INT)
+    RETURNS INTEGER AS $$
+DECLARE
+    v_changed INTEGER;
+BEGIN
+    INSERT INTO kyc_review_schedule (party_id, risk_level, next_review_date)
+    SELECT p.party_id,
+           r.risk_level,
+           LEAST(COALESCE(s.last_reviewed_at, p.created_at)
+                     + make_interval(months => CASE r.risk_level
+                                                   WHEN 'HIGH' THEN p_high_risk_months
+                                                   WHEN 'MEDIUM' THEN p_medium_risk_months
+                                                   ELSE p_low_risk_months
+                                               END),
+                 e.first_expiry_date)
+      FROM party p
+      LEFT JOIN kyc_review_schedule s ON s.party_id = p.party_id
+      CROSS JOIN LATERAL (
+          SELECT CASE
+                     WHEN EXISTS (SELECT 1 FROM politically_exposed_person pep
+                                   WHERE pep.party_id = p.party_id
+                                     AND (pep.pep = true OR pep.screening_status = 'PENDING_REVIEW')) THEN 'HIGH'
+                     WHEN p.party_kind = 'ORGANIZATION' THEN 'MEDIUM'
+                     ELSE 'LOW'
+                 END::kyc_risk_level_enum AS risk_level
+      ) r
+      LEFT JOIN LATERAL (
+          SELECT MIN(d.expiry_date) AS first_expiry_date
+            FROM identity_document d
+           WHERE d.party_id = p.party_id
+             AND d.expiry_date > COALESCE(s.last_reviewed_at, p.created_at)
+      ) e ON true
+     WHERE p.party_id = ANY(p_party_ids)
+    ON CONFLICT (party_id) DO UPDATE
+        SET risk_level = EXCLUDED.risk_level,
+            next_review_date = EXCLUDED.next_review_date,
+            updated_at = CURRENT_TIMESTAMP
+      WHERE kyc_review_schedule.risk_level IS DISTINCT FROM EXCLUDED.risk_level
+         OR kyc_review_schedule.next_review_date IS DISTINCT FROM EXCLUDED.next_review_date;
+
+    GET DIAGNOSTICS v_changed = ROW_COUNT;
+    RETURN v_changed;
+END;
+$$ LANGUAGE plpgsql;
\ No newline at end of file
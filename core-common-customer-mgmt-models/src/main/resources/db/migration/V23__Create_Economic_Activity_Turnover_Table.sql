@@ -0,0 +1,34 @@
+-- ======================================================
+-- FLYWAY MIGRATION V23: CREATE ECONOMIC ACTIVITY TURNOVER TABLE
+-- ======================================================
+-- This migration adds a rollup of the party economic activities of each tenant by economic
+-- activity and currency: how many activities there are, how many of them report an annual
+-- turnover, and the sum of those turnovers. The rollup is adjusted by the application in the
+-- same transaction as every party economic activity write, so that turnover dashboards read
+-- one row per group instead of aggregating every party economic activity.
+
+-- ======================================================
+-- ECONOMIC ACTIVITY TURNOVER
+-- ======================================================
+CREATE TABLE economic_activity_turnover (
+    tenant_id UUID NOT NULL,
+    economic_activity_id UUID NOT NULL,
+    currency_code VARCHAR(3),
+    activity_count BIGINT NOT NULL DEFAULT 0,
+    reported_count BIGINT NOT NULL DEFAULT 0,
+    turnover_total DECIMAL(20,2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Activities without a currency are rolled up together, so the key treats a missing currency as a value.
+-- A blank currency counts as missing and is stored as NULL.
+CREATE UNIQUE INDEX idx_economic_activity_turnover_key
+    ON economic_activity_turnover(tenant_id, economic_activity_id, COALESCE(currency_code, ''));
+
+INSERT INTO economic_activity_turnover (tenant_id, economic_activity_id, currency_code,
+                                        activity_count, reported_count, turnover_total)
+SELECT p.tenant_id, a.economic_activity_id, NULLIF(COALESCE(a.currency_code, ''), ''),
+       COUNT(*), COUNT(a.annual_turnover), COALESCE(SUM(a.annual_turnover), 0)
+  FROM party_economic_activity a
+  JOIN party p ON p.party_id = a.party_id
+ GROUP BY p.tenant_id, a.economic_activity_id, COALESCE(a.currency_code, '');
\ No newline at end of file
@@ -0,0 +1,37 @@
+-- ======================================================
+-- FLYWAY MIGRATION V24: ADD ACTIVE PARTY GROUP MEMBERSHIP UNIQUE INDEX
+-- ======================================================
+-- This migration makes the database enforce that a party has at most one active
+-- membership of a group, so that concurrent adds cannot both insert one. Bulk adds
+-- rely on the index through ON CONFLICT DO NOTHING.
+--
+-- Duplicate active memberships left by earlier races are ended first, keeping the
+-- one that started last, and the active member counters are reduced accordingly.
+
+WITH ranked AS (
+    SELECT party_group_membership_id, group_id,
+           row_number() OVER (PARTITION BY group_id, party_id
+                              ORDER BY start_date DESC NULLS LAST, created_at DESC,
+                                       party_group_membership_id) AS position
+      FROM party_group_membership
+     WHERE is_active = true
+),
+ended AS (
+    UPDATE party_group_membership m
+       SET is_active = false,
+           end_date = COALESCE(m.end_date, CURRENT_TIMESTAMP),
+           updated_at = CURRENT_TIMESTAMP
+      FROM ranked r
+     WHERE r.party_group_membership_id = m.party_group_membership_id
+       AND r.position > 1
+    RETURNING m.group_id
+)
+UPDATE party_group_member_count c
+   SET active_members = c.active_members - e.duplicates,
+       updated_at = CURRENT_TIMESTAMP
+  FROM (SELECT group_id, count(*) AS duplicates FROM ended GROUP BY group_id) e
+ WHERE c.group_id = e.group_id;
+
+CREATE UNIQUE INDEX idx_party_group_membership_active_unique
+    ON party_group_membership(group_id, party_id)
+    WHERE is_active = true;
\ No newline at end of file
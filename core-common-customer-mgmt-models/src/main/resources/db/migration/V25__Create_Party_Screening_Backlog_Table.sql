@@ -0,0 +1,26 @@
+-- ======================================================
+-- FLYWAY MIGRATION V25: CREATE PARTY SCREENING BACKLOG TABLE
+-- ======================================================
+-- This migration creates the backlog of parties whose names were written but not yet
+-- screened. The natural person and legal entity write paths add the party in their own
+-- transaction and hand it to the in-memory screening queue once that transaction has
+-- committed; the row is removed when the hits of the party have been recorded. Each write
+-- takes a new ticket, so screening older names never removes the row of a newer write.
+-- Rows left behind because the queue was full, the node stopped or the screening failed
+-- are claimed again once they are due. Each claim counts an attempt and pushes the row's
+-- due time back, further with every attempt, so no other node claims it meanwhile and
+-- failing rows do not keep others from being screened.
+
+CREATE SEQUENCE party_screening_ticket_seq;
+
+CREATE TABLE party_screening_backlog (
+    party_id UUID PRIMARY KEY,
+    ticket BIGINT NOT NULL DEFAULT nextval('party_screening_ticket_seq'),
+    enqueued_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    due_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    FOREIGN KEY (party_id) REFERENCES party(party_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_party_screening_backlog_due_at
+    ON party_screening_backlog(due_at);
\ No newline at end of file
@@ -0,0 +1,40 @@
+-- ======================================================
+-- FLYWAY MIGRATION V7: ADD PARTY PROVIDER REFERENCE INDEX
+-- ======================================================
+-- This migration adds a unique composite index on (provider_name, external_reference)
+-- so that external references can be resolved to a party with a single index probe.
+-- An external reference is only meaningful within its provider, so the pair must be unique.
+-- Existing duplicates cannot be resolved automatically, as each may map the reference to a
+-- different party, so the migration stops and lists them for manual clean-up instead.
+
+DO $$
+DECLARE
+    duplicate_count BIGINT;
+    examples TEXT;
+BEGIN
+    SELECT COUNT(*) INTO duplicate_count
+      FROM (SELECT 1
+              FROM party_provider
+             GROUP BY provider_name, external_reference
+            HAVING COUNT(*) > 1) d;
+
+    IF duplicate_count > 0 THEN
+        SELECT string_agg(provider_name || '/' || external_reference, ', ') INTO examples
+          FROM (SELECT provider_name, external_reference
+                  FROM party_provider
+                 GROUP BY provider_name, external_reference
+                HAVING COUNT(*) > 1
+                 ORDER BY provider_name, external_reference
+                 LIMIT 10) d;
+        RAISE EXCEPTION 'Cannot add uq_party_provider_provider_reference: % (provider_name, external_reference) '
+                        'pairs are mapped more than once, e.g. %. Remove the duplicate party_provider rows and rerun '
+                        'the migration.', duplicate_count, examples;
+    END IF;
+END $$;
+
+CREATE UNIQUE INDEX uq_party_provider_provider_reference
+    ON party_provider(provider_name, external_reference);
+
+-- The composite index has provider_name as its leading column and
+-- supersedes the single-column provider_name index
+DROP INDEX IF EXISTS idx_party_provider_name;
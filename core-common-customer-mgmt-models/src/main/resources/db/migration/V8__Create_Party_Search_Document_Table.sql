@@ -0,0 +1,88 @@
+-- ======================================================
+-- FLYWAY MIGRATION V8: CREATE PARTY SEARCH DOCUMENT TABLE
+-- ======================================================
+-- This migration creates a per-party search document combining names, legal names,
+-- trade names, emails, phone numbers, cities and postal codes into a single
+-- GIN-indexed tsvector, so that omnisearch is a single index probe instead of
+-- one filter per source table.
+--
+-- The document is refreshed by the service write paths through
+-- refresh_party_search_document(party_id).
+
+-- ======================================================
+-- PARTY SEARCH DOCUMENT
+-- ======================================================
+CREATE TABLE party_search_document (
+    party_id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    party_kind party_kind_enum NOT NULL,
+    display_name VARCHAR(500),
+    search_vector TSVECTOR NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (party_id) REFERENCES party(party_id) ON DELETE CASCADE
+);
+
+-- ======================================================
+-- INDEXES
+-- ======================================================
+-- Every search is scoped to one tenant, so the tenant leads the GIN index; btree_gin
+-- lets the index match only the tenant's postings instead of filtering all tenants' matches.
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+CREATE INDEX idx_party_search_document_vector ON party_search_document USING GIN (tenant_id, search_vector);
+CREATE INDEX idx_party_search_document_tenant_id ON party_search_document(tenant_id);
+
+-- ======================================================
+-- DOCUMENT BUILDER
+-- ======================================================
+-- Names carry weight A, contact points weight B and address data weight C.
+-- Phone numbers are indexed as digits only so that formatting does not matter.
+CREATE OR REPLACE FUNCTION refresh_party_search_document(p_party_id UUID) RETURNS VOID AS $$
+BEGIN
+    INSERT INTO party_search_document (party_id, tenant_id, party_kind, display_name, search_vector, updated_at)
+    SELECT p.party_id,
+           p.tenant_id,
+           p.party_kind,
+           COALESCE(
+               CASE WHEN np.party_id IS NOT NULL
+                    THEN concat_ws(' ', np.given_name, np.family_name1, np.family_name2) END,
+               le.legal_name),
+           setweight(to_tsvector('simple', CASE WHEN np.party_id IS NOT NULL
+               THEN concat_ws(' ', np.given_name, np.middle_name, np.family_name1, np.family_name2)
+               ELSE '' END), 'A') ||
+           setweight(to_tsvector('simple', CASE WHEN le.party_id IS NOT NULL
+               THEN concat_ws(' ', le.legal_name, le.trade_name)
+               ELSE '' END), 'A') ||
+           setweight(to_tsvector('simple', COALESCE(
+               (SELECT string_agg(ec.email, ' ')
+                  FROM email_contact ec WHERE ec.party_id = p.party_id), '')), 'B') ||
+           setweight(to_tsvector('simple', COALESCE(
+               (SELECT string_agg(regexp_replace(pc.phone_number, '[^0-9]', '', 'g'), ' ')
+                  FROM phone_contact pc WHERE pc.party_id = p.party_id), '')), 'B') ||
+           setweight(to_tsvector('simple', COALESCE(
+               (SELECT string_agg(concat_ws(' ', a.city, a.postal_code), ' ')
+                  FROM address a WHERE a.party_id = p.party_id), '')), 'C'),
+           CURRENT_TIMESTAMP
+      FROM party p
+      -- Picks one row deterministically, so the document can still be built should a party ever have several
+      LEFT JOIN LATERAL (SELECT * FROM natural_person
+                          WHERE natural_person.party_id = p.party_id
+                          ORDER BY natural_person.updated_at DESC, natural_person.natural_person_id
+                          LIMIT 1) np ON true
+      LEFT JOIN LATERAL (SELECT * FROM legal_entity
+                          WHERE legal_entity.party_id = p.party_id
+                          ORDER BY legal_entity.updated_at DESC, legal_entity.legal_entity_id
+                          LIMIT 1) le ON true
+     WHERE p.party_id = p_party_id
+    ON CONFLICT (party_id) DO UPDATE
+        SET tenant_id = EXCLUDED.tenant_id,
+            party_kind = EXCLUDED.party_kind,
+            display_name = EXCLUDED.display_name,
+            search_vector = EXCLUDED.search_vector,
+            updated_at = EXCLUDED.updated_at;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ======================================================
+-- BACKFILL
+-- ======================================================
+SELECT refresh_party_search_document(party_id) FROM party;
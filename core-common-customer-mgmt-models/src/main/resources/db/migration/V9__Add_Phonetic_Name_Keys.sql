@@ -0,0 +1,36 @@
+-- ======================================================
+-- FLYWAY MIGRATION V9: ADD PHONETIC NAME KEYS
+-- ======================================================
+-- This migration adds Double Metaphone keys for natural person and legal entity names
+-- so that approximate matches ("Jon Smyth" against "John Smith") can be found with an
+-- index lookup instead of computing phonetic codes over every row at query time.
+-- Each column holds the distinct primary and alternate codes of every word in the name.
+-- The keys are computed by the application on write; existing rows are left NULL here
+-- and backfilled by the application at startup.
+--
+-- The search document carries all keys of its party next to the tenant, so that a
+-- phonetic search probes only the tenant's entries and yields one row per party.
+
+ALTER TABLE natural_person
+    ADD COLUMN given_name_phonetic TEXT[],
+    ADD COLUMN family_name1_phonetic TEXT[],
+    ADD COLUMN family_name2_phonetic TEXT[];
+
+ALTER TABLE legal_entity
+    ADD COLUMN legal_name_phonetic TEXT[];
+
+ALTER TABLE party_search_document
+    ADD COLUMN name_phonetic TEXT[];
+
+CREATE INDEX idx_natural_person_given_name_phonetic ON natural_person USING GIN (given_name_phonetic);
+CREATE INDEX idx_natural_person_family_name1_phonetic ON natural_person USING GIN (family_name1_phonetic);
+CREATE INDEX idx_natural_person_family_name2_phonetic ON natural_person USING GIN (family_name2_phonetic);
+CREATE INDEX idx_legal_entity_legal_name_phonetic ON legal_entity USING GIN (legal_name_phonetic);
+CREATE INDEX idx_party_search_document_name_phonetic
+    ON party_search_document USING GIN (tenant_id, name_phonetic);
+
+-- Supports the startup backfill, which repeatedly picks rows without keys
+CREATE INDEX idx_natural_person_phonetic_pending ON natural_person(natural_person_id)
+    WHERE given_name_phonetic IS NULL;
+CREATE INDEX idx_legal_entity_phonetic_pending ON legal_entity(legal_entity_id)
+    WHERE legal_name_phonetic IS NULL;
\ No newline at end of file
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.web.controllers;
+
+import com.firefly.core.customer.core.services.ConsentAudienceService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/consent-audiences")
+@RequiredArgsConstructor
+@Validated
+@Tag(
+    name = "Consent Audiences",
+    description = "API for evaluating consents in bulk, such as building campaign audiences"
+)
+public class ConsentAudienceController {
+
+    private final ConsentAudienceService consentAudienceService;
+
+    @PostMapping(
+        value = "/evaluate",
+        consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+        produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE}
+    )
+    @Operation(
+        summary = "Evaluate an audience",
+        description = "Stream candidate party ids in and get back those that currently grant a consent type on a "
+                + "channel. Consents recorded without a channel grant every channel. Candidates are evaluated "
+                + "in chunks as they arrive against an in-memory index"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully streamed the eligible parties",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = UUID.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request",
+            content = @Content
+        )
+    })
+    public Flux<UUID> evaluateAudience(
+            @Parameter(description = "Unique identifier of the consent type", required = true)
+            @RequestParam UUID consentTypeId,
+            @Parameter(description = "Channel the parties would be contacted through; when omitted, only consents "
+                    + "without a channel count")
+            @RequestParam(required = false) String channel,
+            @Parameter(description = "Candidate party ids", required = true)
+            @RequestBody Flux<UUID> partyIds) {
+        return consentAudienceService.evaluateAudience(consentTypeId, channel, partyIds);
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+        summary = "Stream the audience of a tenant",
+        description = "Stream every party of a tenant that currently grants a consent type on a channel. "
+                + "Consents recorded without a channel grant every channel"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully streamed the eligible parties",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = UUID.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request",
+            content = @Content
+        )
+    })
+    public Flux<UUID> streamTenantAudience(
+            @Parameter(description = "Unique identifier of the tenant", required = true)
+            @RequestParam UUID tenantId,
+            @Parameter(description = "Unique identifier of the consent type", required = true)
+            @RequestParam UUID consentTypeId,
+            @Parameter(description = "Channel the parties would be contacted through; when omitted, only consents "
+                    + "without a channel count")
+            @RequestParam(required = false) String channel) {
+        return consentAudienceService.streamTenantAudience(tenantId, consentTypeId, channel);
+    }
+}
\ No newline at end of file
@@ -20,9 +20,12 @@ package com.firefly.core.customer.web.controllers;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.customer.core.services.ConsentService;
+import com.firefly.core.customer.interfaces.dtos.ConsentCheckDTO;
 import com.firefly.core.customer.interfaces.dtos.ConsentDTO;
+import com.firefly.core.customer.interfaces.dtos.ConsentHistoryDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -36,6 +39,7 @@ import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -84,7 +88,9 @@ public class ConsentController {
     @PostMapping
     @Operation(
         summary = "Create consent for a party",
-        description = "Create a new consent record associated with a specific party for data processing or privacy agreement"
+        description = "Record a consent of a specific party for data processing or privacy agreement. A party has one "
+                + "current consent per consent type and channel, which this replaces; the previous state is kept "
+                + "in the consent history"
     )
     @ApiResponses({
         @ApiResponse(
@@ -112,6 +118,92 @@ public class ConsentController {
                 .map(consent -> ResponseEntity.status(HttpStatus.CREATED).body(consent));
     }
 
+    @GetMapping("/check")
+    @Operation(
+        summary = "Check consent",
+        description = "Check whether a party currently grants a consent type, optionally for a specific channel. "
+                + "Consents recorded without a channel grant every channel. Answered from memory for parties "
+                + "checked recently"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Consent checked",
+            content = @Content(schema = @Schema(implementation = ConsentCheckDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<ConsentCheckDTO>> checkConsent(
+            @Parameter(description = "Unique identifier of the party", required = true)
+            @PathVariable UUID partyId,
+            @Parameter(description = "Unique identifier of the consent type", required = true)
+            @RequestParam UUID consentTypeId,
+            @Parameter(description = "Channel the party would be contacted through")
+            @RequestParam(required = false) String channel) {
+        return consentService.checkConsent(partyId, consentTypeId, channel)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/current")
+    @Operation(
+        summary = "Get current consent",
+        description = "Retrieve the current consent of a party for a consent type and channel"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Current consent found",
+            content = @Content(schema = @Schema(implementation = ConsentDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "No consent recorded for the consent type and channel",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<ConsentDTO>> getCurrentConsent(
+            @Parameter(description = "Unique identifier of the party", required = true)
+            @PathVariable UUID partyId,
+            @Parameter(description = "Unique identifier of the consent type", required = true)
+            @RequestParam UUID consentTypeId,
+            @Parameter(description = "Channel of the consent; when omitted, the consent without a channel")
+            @RequestParam(required = false) String channel) {
+        return consentService.getCurrentConsent(partyId, consentTypeId, channel)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/history")
+    @Operation(
+        summary = "Get consent history",
+        description = "List the states the consents of a party for a consent type have been in, across all "
+                + "channels, most recent first"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Consent history retrieved",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ConsentHistoryDTO.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<List<ConsentHistoryDTO>>> getConsentHistory(
+            @Parameter(description = "Unique identifier of the party", required = true)
+            @PathVariable UUID partyId,
+            @Parameter(description = "Unique identifier of the consent type", required = true)
+            @RequestParam UUID consentTypeId) {
+        return consentService.getConsentHistory(partyId, consentTypeId)
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
     @GetMapping("/{consentId}")
     @Operation(
         summary = "Get consent by ID",
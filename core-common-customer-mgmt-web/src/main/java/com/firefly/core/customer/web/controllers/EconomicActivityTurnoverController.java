@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.web.controllers;
+
+import com.firefly.core.customer.core.services.PartyEconomicActivityService;
+import com.firefly.core.customer.interfaces.dtos.EconomicActivityTurnoverDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/economic-activity-turnovers")
+@RequiredArgsConstructor
+@Validated
+@Tag(
+    name = "Economic Activity Turnovers",
+    description = "API for reporting the annual turnover of party economic activities per tenant"
+)
+public class EconomicActivityTurnoverController {
+
+    private final PartyEconomicActivityService partyEconomicActivityService;
+
+    @GetMapping
+    @Operation(
+        summary = "Get economic activity turnovers",
+        description = "Retrieve the number of party economic activities of a tenant and their total and average "
+                + "annual turnover, one entry per economic activity and currency, optionally only for a given "
+                + "economic activity or currency. Served from rollups kept up to date on every write"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Economic activity turnovers retrieved",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = EconomicActivityTurnoverDTO.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<List<EconomicActivityTurnoverDTO>>> getEconomicActivityTurnovers(
+            @Parameter(description = "Unique identifier of the tenant", required = true)
+            @RequestParam UUID tenantId,
+            @Parameter(description = "Report only this economic activity")
+            @RequestParam(required = false) UUID economicActivityId,
+            @Parameter(description = "Report only this currency (ISO 4217 code)")
+            @RequestParam(required = false) @Size(min = 3, max = 3) String currencyCode) {
+        return partyEconomicActivityService.getEconomicActivityTurnovers(tenantId, economicActivityId, currencyCode)
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+}
\ No newline at end of file
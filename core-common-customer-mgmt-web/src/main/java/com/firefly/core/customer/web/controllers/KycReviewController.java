@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.web.controllers;
+
+import com.firefly.core.customer.core.services.KycReviewService;
+import com.firefly.core.customer.interfaces.dtos.KycReviewDTO;
+import com.firefly.core.customer.interfaces.dtos.KycReviewLeaseDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/kyc-reviews")
+@RequiredArgsConstructor
+@Validated
+@Tag(
+    name = "KYC Reviews",
+    description = "API for the risk-based KYC refresh schedule and the leased queue of due reviews"
+)
+public class KycReviewController {
+
+    private final KycReviewService kycReviewService;
+
+    @GetMapping("/{partyId}")
+    @Operation(
+        summary = "Get the KYC review schedule of a party",
+        description = "Retrieve the risk level of a party, when its KYC information was last reviewed and when it "
+                + "must next be reviewed"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "KYC review schedule found",
+            content = @Content(schema = @Schema(implementation = KycReviewDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Party has no KYC review schedule",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<KycReviewDTO>> getKycReview(
+            @Parameter(description = "Unique identifier of the party", required = true)
+            @PathVariable UUID partyId) {
+        return kycReviewService.getKycReview(partyId)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/leases")
+    @Operation(
+        summary = "Lease due KYC reviews",
+        description = "Lease a batch of due reviews, earliest first. Leased reviews are not handed out again until "
+                + "they are completed, the lease is released or it ends, so several workers can pull work at once"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Due reviews leased; the batch is empty if none is due",
+            content = @Content(schema = @Schema(implementation = KycReviewLeaseDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<KycReviewLeaseDTO>> leaseDueReviews(
+            @Parameter(description = "Maximum number of reviews to lease")
+            @RequestParam(defaultValue = "100") @Min(1) @Max(1000) int limit,
+            @Parameter(description = "How long the reviews are held (ISO-8601 duration)")
+            @RequestParam(defaultValue = "PT30M") Duration leaseDuration) {
+        return kycReviewService.leaseDueReviews(limit, leaseDuration)
+                .map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/leases/{leaseId}")
+    @Operation(
+        summary = "Release a lease",
+        description = "End a lease early, so that the reviews it still holds can be leased again"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "204",
+            description = "Lease successfully released"
+        )
+    })
+    public Mono<ResponseEntity<Void>> releaseLease(
+            @Parameter(description = "Unique identifier of the lease", required = true)
+            @PathVariable UUID leaseId) {
+        return kycReviewService.releaseLease(leaseId)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    @PostMapping("/{partyId}/completions")
+    @Operation(
+        summary = "Complete a KYC review",
+        description = "Record the review of a party as done under the lease it was handed out with, and schedule "
+                + "its next review"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Review completed and rescheduled",
+            content = @Content(schema = @Schema(implementation = KycReviewDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "No review of the party is held under the lease",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<KycReviewDTO>> completeReview(
+            @Parameter(description = "Unique identifier of the party reviewed", required = true)
+            @PathVariable UUID partyId,
+            @Parameter(description = "Unique identifier of the lease the review was handed out with", required = true)
+            @RequestParam UUID leaseId) {
+        return kycReviewService.completeReview(partyId, leaseId)
+                .map(ResponseEntity::ok);
+    }
+}
\ No newline at end of file
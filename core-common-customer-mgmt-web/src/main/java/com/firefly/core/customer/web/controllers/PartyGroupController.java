@@ -0,0 +1,165 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.web.controllers;
+
+import com.firefly.core.customer.core.services.PartyGroupMembershipService;
+import com.firefly.core.customer.interfaces.dtos.PartyGroupMembersRequestDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyGroupMembershipDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyGroupMembershipResultDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyGroupSizeDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/party-groups/{groupId}")
+@RequiredArgsConstructor
+@Validated
+@Tag(
+    name = "Party Groups",
+    description = "API for working with party groups from the group's point of view - members, bulk membership changes and group sizes"
+)
+public class PartyGroupController {
+
+    private final PartyGroupMembershipService partyGroupMembershipService;
+
+    @GetMapping(value = "/members", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+        summary = "Stream group members",
+        description = "Stream the memberships of a group ordered by party, without pagination or counting. "
+                + "An interrupted stream can be resumed by passing the party and membership of the last membership "
+                + "received as afterPartyId and afterMembershipId"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully streamed the group members",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = PartyGroupMembershipDTO.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request",
+            content = @Content
+        )
+    })
+    public Flux<PartyGroupMembershipDTO> streamGroupMembers(
+            @Parameter(description = "Unique identifier of the group", required = true)
+            @PathVariable UUID groupId,
+            @Parameter(description = "Stream only active memberships")
+            @RequestParam(defaultValue = "true") boolean activeOnly,
+            @Parameter(description = "Resume the stream after this party")
+            @RequestParam(required = false) UUID afterPartyId,
+            @Parameter(description = "Resume the stream after this membership of afterPartyId; "
+                    + "when omitted, all memberships of afterPartyId are skipped")
+            @RequestParam(required = false) UUID afterMembershipId) {
+        return partyGroupMembershipService.streamGroupMembers(groupId, activeOnly, afterPartyId, afterMembershipId);
+    }
+
+    @GetMapping("/size")
+    @Operation(
+        summary = "Get group size",
+        description = "Retrieve the number of active members of a group from its incrementally maintained counter"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved the group size",
+            content = @Content(schema = @Schema(implementation = PartyGroupSizeDTO.class))
+        )
+    })
+    public Mono<ResponseEntity<PartyGroupSizeDTO>> getGroupSize(
+            @Parameter(description = "Unique identifier of the group", required = true)
+            @PathVariable UUID groupId) {
+        return partyGroupMembershipService.getGroupSize(groupId)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/members/bulk-add")
+    @Operation(
+        summary = "Add parties to a group",
+        description = "Add up to 10000 parties to a group in a single statement. Parties that already have an "
+                + "active membership of the group, or that do not exist, are skipped, so the request is idempotent. "
+                + "Returns the outcome for every requested party"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully processed the request",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = PartyGroupMembershipResultDTO.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<List<PartyGroupMembershipResultDTO>>> addGroupMembers(
+            @Parameter(description = "Unique identifier of the group", required = true)
+            @PathVariable UUID groupId,
+            @Parameter(description = "Parties to add, with an optional start date and notes", required = true)
+            @Valid @RequestBody PartyGroupMembersRequestDTO request) {
+        return partyGroupMembershipService.addGroupMembers(groupId, request)
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/members/bulk-end")
+    @Operation(
+        summary = "End group memberships",
+        description = "End the active memberships of up to 10000 parties in a group in a single statement, setting "
+                + "their end date and marking them inactive. Parties without an active membership are skipped, so "
+                + "the request is idempotent. Returns the outcome for every requested party"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully processed the request",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = PartyGroupMembershipResultDTO.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<List<PartyGroupMembershipResultDTO>>> endGroupMemberships(
+            @Parameter(description = "Unique identifier of the group", required = true)
+            @PathVariable UUID groupId,
+            @Parameter(description = "Parties whose memberships to end, with an optional end date", required = true)
+            @Valid @RequestBody PartyGroupMembersRequestDTO request) {
+        return partyGroupMembershipService.endGroupMemberships(groupId, request)
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+}
\ No newline at end of file
@@ -23,12 +23,14 @@ import com.firefly.core.customer.core.services.PartyGroupMembershipService;
 import com.firefly.core.customer.interfaces.dtos.PartyGroupMembershipDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -36,6 +38,8 @@ import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -81,6 +85,33 @@ public class PartyGroupMembershipController {
                 .map(ResponseEntity::ok);
     }
 
+    @GetMapping
+    @Operation(
+        summary = "List party group memberships of a party as of a point in time",
+        description = "Retrieve the party group memberships of a specific party that were valid at the given point in time"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved the party group memberships valid at the given time",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = PartyGroupMembershipDTO.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<List<PartyGroupMembershipDTO>>> getPartyGroupMembershipsAsOf(
+            @Parameter(description = "Unique identifier of the party", required = true)
+            @PathVariable UUID partyId,
+            @Parameter(description = "Point in time to evaluate the party group memberships at (ISO-8601)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime asOf) {
+        return partyGroupMembershipService.getPartyGroupMembershipsAsOf(partyId, asOf)
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
     @PostMapping
     @Operation(
         summary = "Create party group membership for a party",
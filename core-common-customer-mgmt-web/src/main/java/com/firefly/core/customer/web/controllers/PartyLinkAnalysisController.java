@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.web.controllers;
+
+import com.firefly.core.customer.core.services.PartyLinkAnalysisService;
+import com.firefly.core.customer.interfaces.dtos.SharedAttributeClusterDTO;
+import com.firefly.core.customer.interfaces.dtos.SharedAttributeLinkDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/parties/link-analysis")
+@RequiredArgsConstructor
+@Validated
+@Tag(
+    name = "Party Link Analysis",
+    description = "API for finding parties linked by shared e-mail addresses, phone numbers, addresses and identity documents"
+)
+public class PartyLinkAnalysisController {
+
+    private final PartyLinkAnalysisService partyLinkAnalysisService;
+
+    @GetMapping("/parties/{partyId}")
+    @Operation(
+        summary = "Get shared attributes of a party",
+        description = "List the contact details and identity documents of a party that are also recorded, after "
+                + "normalization, for other parties, with those parties. Answered from an in-memory index"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved the shared attributes",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = SharedAttributeLinkDTO.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<List<SharedAttributeLinkDTO>>> getSharedAttributeLinks(
+            @Parameter(description = "Unique identifier of the party", required = true)
+            @PathVariable UUID partyId,
+            @Parameter(description = "Maximum number of other parties to return per shared value (1 to 1000)")
+            @RequestParam(defaultValue = "100") @Min(1) @Max(1000) int limit) {
+        return partyLinkAnalysisService.getSharedAttributeLinks(partyId, limit)
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/clusters", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+        summary = "Report shared attribute clusters",
+        description = "Report the groups of parties connected, directly or through other parties, by shared contact "
+                + "details or identity documents, largest first. Values shared by very many parties are ignored"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully computed the clusters",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = SharedAttributeClusterDTO.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request",
+            content = @Content
+        )
+    })
+    public Flux<SharedAttributeClusterDTO> getSharedAttributeClusters(
+            @Parameter(description = "Minimum number of parties in a reported cluster")
+            @RequestParam(defaultValue = "3") @Min(2) int minSize,
+            @Parameter(description = "Maximum number of clusters to report (1 to 10000)")
+            @RequestParam(defaultValue = "100") @Min(1) @Max(10000) int limit) {
+        return partyLinkAnalysisService.getSharedAttributeClusters(minSize, limit);
+    }
+}
\ No newline at end of file
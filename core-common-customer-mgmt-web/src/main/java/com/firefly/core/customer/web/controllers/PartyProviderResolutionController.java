@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.web.controllers;
+
+import com.firefly.core.customer.core.services.PartyProviderService;
+import com.firefly.core.customer.interfaces.dtos.ExternalReferenceBatchRequestDTO;
+import com.firefly.core.customer.interfaces.dtos.ExternalReferenceResolutionDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import jakarta.validation.Valid;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/party-providers")
+@RequiredArgsConstructor
+@Validated
+@Tag(
+    name = "Party Providers",
+    description = "API for managing party providers associated with parties"
+)
+public class PartyProviderResolutionController {
+
+    private final PartyProviderService partyProviderService;
+
+    @GetMapping("/resolve")
+    @Operation(
+        summary = "Resolve external reference",
+        description = "Resolve an external provider reference to the party it is mapped to"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "External reference resolved",
+            content = @Content(schema = @Schema(implementation = ExternalReferenceResolutionDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "External reference is not mapped to any party",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<ExternalReferenceResolutionDTO>> resolveExternalReference(
+            @Parameter(description = "Name of the external provider", required = true)
+            @RequestParam String providerName,
+            @Parameter(description = "Reference of the party in the external provider", required = true)
+            @RequestParam String externalReference) {
+        return partyProviderService.resolveExternalReference(providerName, externalReference)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/resolve/batch")
+    @Operation(
+        summary = "Resolve external references in batch",
+        description = "Resolve many external references of a single provider in one request. "
+                + "References that are not mapped to any party are returned with resolved = false"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "External references resolved",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ExternalReferenceResolutionDTO.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid batch request",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<List<ExternalReferenceResolutionDTO>>> resolveExternalReferences(
+            @Parameter(description = "Provider name and the external references to resolve", required = true)
+            @Valid @RequestBody ExternalReferenceBatchRequestDTO batchRequest) {
+        return partyProviderService.resolveExternalReferences(batchRequest.getProviderName(), batchRequest.getExternalReferences())
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+}
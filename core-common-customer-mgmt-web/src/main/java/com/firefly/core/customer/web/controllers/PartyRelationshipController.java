@@ -20,9 +20,14 @@ package com.firefly.core.customer.web.controllers;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.customer.core.services.PartyRelationshipService;
+import com.firefly.core.customer.interfaces.dtos.PartyConnectionDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyNetworkDTO;
 import com.firefly.core.customer.interfaces.dtos.PartyRelationshipDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyRelationshipEdgeDTO;
+import com.firefly.core.customer.interfaces.enums.RelationshipDirection;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -30,12 +35,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -185,4 +195,126 @@ public class PartyRelationshipController {
         return partyRelationshipService.deletePartyRelationship(relationshipId)
                 .then(Mono.just(ResponseEntity.noContent().build()));
     }
+
+    @GetMapping(value = "/traversal", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+        summary = "Traverse party relationships",
+        description = "Walk the relationship graph from a party up to a maximum number of hops in a single query, "
+                + "for instance to find ultimate beneficial owners or group structures. Cycles are not followed and "
+                + "each relationship is streamed once, ordered by the number of hops from the starting party"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully traversed party relationships",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = PartyRelationshipEdgeDTO.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid traversal request",
+            content = @Content
+        )
+    })
+    public Flux<PartyRelationshipEdgeDTO> traversePartyRelationships(
+            @Parameter(description = "Unique identifier of the party to start from", required = true)
+            @RequestParam UUID partyId,
+            @Parameter(description = "Which way relationships are followed from each reached party")
+            @RequestParam(defaultValue = "BOTH") RelationshipDirection direction,
+            @Parameter(description = "Maximum number of hops (1 to 10)")
+            @RequestParam(defaultValue = "3") @Min(1) @Max(10) int maxDepth,
+            @Parameter(description = "Relationship types to follow; all types when omitted")
+            @RequestParam(required = false) List<UUID> relationshipTypeIds,
+            @Parameter(description = "Follow only active relationships that have not ended")
+            @RequestParam(defaultValue = "true") boolean activeOnly) {
+        return partyRelationshipService.traversePartyRelationships(
+                partyId, direction, maxDepth, relationshipTypeIds, activeOnly);
+    }
+
+    @GetMapping("/graph/connection")
+    @Operation(
+        summary = "Check party connection",
+        description = "Check whether two parties are connected through active relationships within a maximum number "
+                + "of hops, in either direction, and return a shortest path. Answered from an in-memory graph index "
+                + "that reflects writes within about a second"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully checked the connection",
+            content = @Content(schema = @Schema(implementation = PartyConnectionDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid connection request",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<PartyConnectionDTO>> findPartyConnection(
+            @Parameter(description = "Unique identifier of the party to start from", required = true)
+            @RequestParam UUID fromPartyId,
+            @Parameter(description = "Unique identifier of the party to reach", required = true)
+            @RequestParam UUID toPartyId,
+            @Parameter(description = "Maximum number of hops (1 to 6)")
+            @RequestParam(defaultValue = "3") @Min(1) @Max(6) int maxHops) {
+        return partyRelationshipService.findPartyConnection(fromPartyId, toPartyId, maxHops)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/graph/neighborhood")
+    @Operation(
+        summary = "Get party neighborhood",
+        description = "List the parties connected to a party through active relationships within a number of hops, "
+                + "nearest first. Answered from an in-memory graph index that reflects writes within about a second"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved the neighborhood",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = UUID.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid neighborhood request",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<List<UUID>>> getPartyNeighborhood(
+            @Parameter(description = "Unique identifier of the party to start from", required = true)
+            @RequestParam UUID partyId,
+            @Parameter(description = "Maximum number of hops (1 to 6)")
+            @RequestParam(defaultValue = "1") @Min(1) @Max(6) int hops,
+            @Parameter(description = "Maximum number of parties to return")
+            @RequestParam(defaultValue = "100") int limit) {
+        return partyRelationshipService.getPartyNeighborhood(partyId, hops, limit)
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/graph/network")
+    @Operation(
+        summary = "Get party network",
+        description = "Retrieve every party connected to a party through current relationships, directly or "
+                + "indirectly and in either direction. Read from precomputed connected components that are kept "
+                + "up to date by the relationship write paths"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved the network",
+            content = @Content(schema = @Schema(implementation = PartyNetworkDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid network request",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<PartyNetworkDTO>> getPartyNetwork(
+            @Parameter(description = "Unique identifier of the party", required = true)
+            @RequestParam UUID partyId,
+            @Parameter(description = "Maximum number of party ids to return (1 to 100000)")
+            @RequestParam(defaultValue = "10000") @Min(1) @Max(100000) int limit) {
+        return partyRelationshipService.getPartyNetwork(partyId, limit)
+                .map(ResponseEntity::ok);
+    }
 }
\ No newline at end of file
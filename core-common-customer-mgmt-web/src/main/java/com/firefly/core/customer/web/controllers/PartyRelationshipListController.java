@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.web.controllers;
+
+import com.firefly.core.customer.core.services.PartyRelationshipService;
+import com.firefly.core.customer.interfaces.dtos.PartyRelationshipSummaryDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/parties/{partyId}/relationships")
+@RequiredArgsConstructor
+@Validated
+@Tag(
+    name = "Party Relationships",
+    description = "API for managing relationships between parties - hierarchies, associations, and business connections"
+)
+public class PartyRelationshipListController {
+
+    private final PartyRelationshipService partyRelationshipService;
+
+    @GetMapping
+    @Operation(
+        summary = "List relationships of a party",
+        description = "Retrieve the relationships of a party in both directions in a single call, each with its "
+                + "direction from the party's point of view and a summary of the party on the other end. "
+                + "With asOf, returns the relationships that were valid at that point in time instead"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved the relationships of the party",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = PartyRelationshipSummaryDTO.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<List<PartyRelationshipSummaryDTO>>> getRelationshipsOfParty(
+            @Parameter(description = "Unique identifier of the party", required = true)
+            @PathVariable UUID partyId,
+            @Parameter(description = "Return only active relationships")
+            @RequestParam(defaultValue = "false") boolean activeOnly,
+            @Parameter(description = "Return the relationships valid at this point in time (ISO-8601); activeOnly is ignored when set")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime asOf) {
+        return (asOf != null
+                        ? partyRelationshipService.getRelationshipsOfPartyAsOf(partyId, asOf)
+                        : partyRelationshipService.getRelationshipsOfParty(partyId, activeOnly))
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.web.controllers;
+
+import com.firefly.core.customer.core.services.PartySearchService;
+import com.firefly.core.customer.interfaces.dtos.PartySearchResultDTO;
+import com.firefly.core.customer.interfaces.enums.PartySearchMode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/parties/search")
+@RequiredArgsConstructor
+@Validated
+@Tag(
+    name = "Party Search",
+    description = "API for searching parties across names, contacts and addresses"
+)
+public class PartySearchController {
+
+    private final PartySearchService partySearchService;
+
+    @GetMapping
+    @Operation(
+        summary = "Search parties",
+        description = "Search the parties of a tenant by names, legal and trade names, emails, phone numbers, "
+                + "cities and postal codes. In PREFIX mode every search term must match as a prefix; in PHONETIC mode "
+                + "person and legal names that sound like the search terms match. Results are ranked by relevance"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved matching parties",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = PartySearchResultDTO.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid search request",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<List<PartySearchResultDTO>>> searchParties(
+            @Parameter(description = "Unique identifier of the tenant whose parties are searched", required = true)
+            @RequestParam UUID tenantId,
+            @Parameter(description = "Free text search terms", required = true)
+            @RequestParam String query,
+            @Parameter(description = "Maximum number of results to return (at most 100)")
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "How search terms are matched")
+            @RequestParam(defaultValue = "PREFIX") PartySearchMode mode) {
+        return (mode == PartySearchMode.PHONETIC
+                        ? partySearchService.searchPartiesPhonetically(tenantId, query, limit)
+                        : partySearchService.searchParties(tenantId, query, limit))
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/typeahead")
+    @Operation(
+        summary = "Suggest parties by name prefix",
+        description = "Suggest the parties of a tenant whose person or legal entity name has a word starting with "
+                + "the given prefix. Suggestions are served from memory and are not ranked by relevance"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved suggested party identifiers",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = UUID.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid typeahead request",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<List<UUID>>> suggestParties(
+            @Parameter(description = "Unique identifier of the tenant whose parties are suggested", required = true)
+            @RequestParam UUID tenantId,
+            @Parameter(description = "Characters typed so far", required = true)
+            @RequestParam String prefix,
+            @Parameter(description = "Maximum number of suggestions to return (at most 50)")
+            @RequestParam(defaultValue = "10") int limit) {
+        return partySearchService.suggestParties(tenantId, prefix, limit)
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/rebuild")
+    @Operation(
+        summary = "Rebuild search documents",
+        description = "Start rebuilding every party search document in the background, for instance after "
+                + "normalization rules changed. Search keeps serving the current documents until the rebuilt ones "
+                + "are swapped in atomically"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "202",
+            description = "Rebuild started",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Another rebuild is already running",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<Void>> rebuildSearchDocuments() {
+        return partySearchService.rebuildSearchDocuments()
+                .map(started -> ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT).build());
+    }
+
+    @DeleteMapping("/rebuild")
+    @Operation(
+        summary = "Abort search document rebuild",
+        description = "Abandon a running search document rebuild, for instance one left behind by a node that "
+                + "stopped mid-way. The current search documents are left untouched"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "204",
+            description = "Rebuild abandoned",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<Void>> abortSearchDocumentRebuild() {
+        return partySearchService.abortSearchDocumentRebuild()
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+}
\ No newline at end of file
@@ -112,6 +112,62 @@ public class PartyStatusController {
                 .map(partyStatus -> ResponseEntity.status(HttpStatus.CREATED).body(partyStatus));
     }
 
+    @PostMapping("/transitions")
+    @Operation(
+        summary = "Transition party status",
+        description = "Move a party to a new status. The status in effect is closed where the new one takes effect "
+                + "and the new one is inserted in a single statement, ending where a later status starts"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "201",
+            description = "Party status successfully transitioned",
+            content = @Content(schema = @Schema(implementation = PartyStatusDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid party status data",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Party not found",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<PartyStatusDTO>> transitionPartyStatus(
+            @Parameter(description = "Unique identifier of the party", required = true)
+            @PathVariable UUID partyId,
+            @Parameter(description = "New party status; validFrom defaults to now", required = true)
+            @Valid @RequestBody PartyStatusDTO partyStatusDTO) {
+        return partyStatusService.transitionPartyStatus(partyId, partyStatusDTO)
+                .map(partyStatus -> ResponseEntity.status(HttpStatus.CREATED).body(partyStatus));
+    }
+
+    @GetMapping("/current")
+    @Operation(
+        summary = "Get current party status",
+        description = "Retrieve the current status of a party, that is its status in effect now"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Current party status found",
+            content = @Content(schema = @Schema(implementation = PartyStatusDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Party has no current status",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<PartyStatusDTO>> getCurrentPartyStatus(
+            @Parameter(description = "Unique identifier of the party", required = true)
+            @PathVariable UUID partyId) {
+        return partyStatusService.getCurrentPartyStatus(partyId)
+                .map(ResponseEntity::ok);
+    }
+
     @GetMapping("/{partyStatusId}")
     @Operation(
         summary = "Get party status by ID",
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.web.controllers;
+
+import com.firefly.core.customer.core.services.PartyStatusService;
+import com.firefly.core.customer.interfaces.dtos.PartyStatusBatchRequestDTO;
+import com.firefly.core.customer.interfaces.dtos.PartyStatusDTO;
+import com.firefly.core.customer.interfaces.enums.StatusCode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import jakarta.validation.Valid;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/party-statuses")
+@RequiredArgsConstructor
+@Validated
+@Tag(
+    name = "Party Statuses",
+    description = "API for managing party statuses associated with parties"
+)
+public class PartyStatusListController {
+
+    private final PartyStatusService partyStatusService;
+
+    @PostMapping("/current/batch")
+    @Operation(
+        summary = "Get current statuses in batch",
+        description = "Retrieve the current statuses of many parties in one request. "
+                + "Parties without a current status are left out of the response"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Current party statuses retrieved",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = PartyStatusDTO.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid batch request",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<List<PartyStatusDTO>>> getCurrentPartyStatuses(
+            @Parameter(description = "Parties whose current statuses to retrieve", required = true)
+            @Valid @RequestBody PartyStatusBatchRequestDTO batchRequest) {
+        return partyStatusService.getCurrentPartyStatuses(batchRequest.getPartyIds())
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/as-of", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+        summary = "Stream party statuses as of a point in time",
+        description = "Stream the status each party of a tenant had at a point in time, ordered by party, "
+                + "optionally only those with a given status code. An interrupted stream can be resumed by "
+                + "passing the last party received as afterPartyId"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully streamed the party statuses",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = PartyStatusDTO.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request",
+            content = @Content
+        )
+    })
+    public Flux<PartyStatusDTO> streamPartyStatusesAsOf(
+            @Parameter(description = "Unique identifier of the tenant", required = true)
+            @RequestParam UUID tenantId,
+            @Parameter(description = "Point in time to report the statuses at (ISO-8601 date-time)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime asOf,
+            @Parameter(description = "Report only parties with this status code")
+            @RequestParam(required = false) StatusCode statusCode,
+            @Parameter(description = "Resume the stream after this party")
+            @RequestParam(required = false) UUID afterPartyId) {
+        return partyStatusService.streamPartyStatusesAsOf(tenantId, asOf, statusCode, afterPartyId);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.web.controllers;
+
+import com.firefly.core.customer.core.services.PepFlagService;
+import com.firefly.core.customer.interfaces.dtos.PepFlagBatchRequestDTO;
+import com.firefly.core.customer.interfaces.dtos.PepFlagDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/pep-flags")
+@RequiredArgsConstructor
+@Validated
+@Tag(
+    name = "PEP Flags",
+    description = "API for checking whether parties are politically exposed persons on hot paths such as payments"
+)
+public class PepFlagController {
+
+    private final PepFlagService pepFlagService;
+
+    @GetMapping("/{partyId}")
+    @Operation(
+        summary = "Check the PEP flag of a party",
+        description = "Check whether a party has at least one PEP record flagged as PEP. Served from an in-memory "
+                + "flag set; unknown parties are reported as not flagged"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "PEP flag retrieved",
+            content = @Content(schema = @Schema(implementation = PepFlagDTO.class))
+        )
+    })
+    public Mono<ResponseEntity<PepFlagDTO>> getPepFlag(
+            @Parameter(description = "Unique identifier of the party", required = true)
+            @PathVariable UUID partyId) {
+        return pepFlagService.getPepFlag(partyId)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/batch")
+    @Operation(
+        summary = "Check PEP flags in batch",
+        description = "Check the PEP flags of many parties in one request. Each distinct party is reported once, "
+                + "in request order"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "PEP flags retrieved",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = PepFlagDTO.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid batch request",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<List<PepFlagDTO>>> getPepFlags(
+            @Parameter(description = "Parties whose PEP flags to check", required = true)
+            @Valid @RequestBody PepFlagBatchRequestDTO batchRequest) {
+        return pepFlagService.getPepFlags(batchRequest.getPartyIds())
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+}
\ No newline at end of file
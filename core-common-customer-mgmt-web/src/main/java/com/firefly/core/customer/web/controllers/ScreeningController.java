@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.customer.web.controllers;
+
+import com.firefly.core.customer.core.services.ScreeningService;
+import com.firefly.core.customer.interfaces.dtos.ScreeningHitDTO;
+import com.firefly.core.customer.interfaces.dtos.ScreeningRequestDTO;
+import com.firefly.core.customer.interfaces.dtos.ScreeningRunDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/screening")
+@RequiredArgsConstructor
+@Validated
+@Tag(
+    name = "Screening",
+    description = "API for screening names and parties against PEP and sanctions lists"
+)
+public class ScreeningController {
+
+    private final ScreeningService screeningService;
+
+    @PostMapping("/screen")
+    @Operation(
+        summary = "Screen a name",
+        description = "Screen a name against the PEP and sanctions lists without recording anything. A list "
+                + "name hits when it occurs as a whole sequence of words in the screened name, ignoring case "
+                + "and diacritics"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully screened the name",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ScreeningHitDTO.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid screening request",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<List<ScreeningHitDTO>>> screenName(
+            @Parameter(description = "Name to screen and the kind of party it belongs to", required = true)
+            @Valid @RequestBody ScreeningRequestDTO screeningRequestDTO) {
+        return screeningService.screenName(screeningRequestDTO)
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/rescreens")
+    @Operation(
+        summary = "Rescreen all parties",
+        description = "Start rescreening all natural persons and legal entities in the background. New hits are "
+                + "recorded as PEP records pending review, once per party and list entry, and unconfirmed hits "
+                + "that are no longer found are removed. If a rescreen is already running, "
+                + "its progress is returned instead"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "202",
+            description = "Rescreen started or already running",
+            content = @Content(schema = @Schema(implementation = ScreeningRunDTO.class))
+        )
+    })
+    public Mono<ResponseEntity<ScreeningRunDTO>> startRescreen() {
+        return screeningService.startRescreen()
+                .map(run -> ResponseEntity.accepted().body(run));
+    }
+
+    @GetMapping("/rescreens/latest")
+    @Operation(
+        summary = "Get the latest rescreen",
+        description = "Retrieve the progress of the last rescreen started on this instance"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Rescreen found",
+            content = @Content(schema = @Schema(implementation = ScreeningRunDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "No rescreen has been started",
+            content = @Content
+        )
+    })
+    public Mono<ResponseEntity<ScreeningRunDTO>> getLastRescreen() {
+        return screeningService.getLastRescreen()
+                .map(ResponseEntity::ok);
+    }
+}
\ No newline at end of file